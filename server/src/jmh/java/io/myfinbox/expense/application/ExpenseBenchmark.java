@@ -0,0 +1,81 @@
+package io.myfinbox.expense.application;
+
+import io.myfinbox.expense.domain.AccountIdentifier;
+import io.myfinbox.expense.domain.Category;
+import io.myfinbox.expense.domain.Expense;
+import io.myfinbox.shared.Failure.FieldViolation;
+import io.myfinbox.shared.PaymentType;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per request expense paths: expense construction, guarding the amount against zero, and command validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class ExpenseBenchmark {
+
+    private final ExpenseCommandValidator validator = new ExpenseCommandValidator();
+
+    private AccountIdentifier account;
+    private Category category;
+    private Money amount;
+    private LocalDate expenseDate;
+    private ExpenseCommand validCommand;
+    private ExpenseCommand invalidCommand;
+
+    @Setup
+    public void setup() {
+        account = new AccountIdentifier(UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca"));
+        category = new Category("Bills", account);
+        amount = Money.of(new BigDecimal("30.50"), "EUR");
+        expenseDate = LocalDate.parse("2024-03-23");
+        validCommand = ExpenseCommand.builder()
+                .accountId(account.id())
+                .categoryId(category.getId().id())
+                .paymentType("Cash")
+                .amount(new BigDecimal("30.50"))
+                .currencyCode("EUR")
+                .expenseDate(expenseDate)
+                .description("Books buying")
+                .build();
+        invalidCommand = ExpenseCommand.builder()
+                .paymentType("Crypto")
+                .amount(BigDecimal.ZERO)
+                .currencyCode("EURO")
+                .build();
+    }
+
+    @Benchmark
+    public Expense createExpense() {
+        return Expense.builder()
+                .account(account)
+                .amount(amount)
+                .paymentType(PaymentType.CASH)
+                .expenseDate(expenseDate)
+                .description("Books buying")
+                .category(category)
+                .build();
+    }
+
+    @Benchmark
+    public Validation<Seq<FieldViolation>, ExpenseCommand> validateValidCommand() {
+        return validator.validate(validCommand);
+    }
+
+    @Benchmark
+    public Validation<Seq<FieldViolation>, ExpenseCommand> validateInvalidCommand() {
+        return validator.validate(invalidCommand);
+    }
+}
@@ -0,0 +1,56 @@
+package io.myfinbox.income.application;
+
+import io.myfinbox.shared.Failure.FieldViolation;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per request income path: command validation, valid commands and commands failing every field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class IncomeBenchmark {
+
+    private final IncomeCommandValidator validator = new IncomeCommandValidator();
+
+    private IncomeCommand validCommand;
+    private IncomeCommand invalidCommand;
+
+    @Setup
+    public void setup() {
+        validCommand = IncomeCommand.builder()
+                .accountId(UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca"))
+                .incomeSourceId(UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d"))
+                .paymentType("Card")
+                .amount(new BigDecimal("1000.00"))
+                .currencyCode("EUR")
+                .incomeDate(LocalDate.parse("2024-03-23"))
+                .description("Salary")
+                .build();
+        invalidCommand = IncomeCommand.builder()
+                .paymentType("Crypto")
+                .amount(BigDecimal.ZERO)
+                .currencyCode("EURO")
+                .build();
+    }
+
+    @Benchmark
+    public Validation<Seq<FieldViolation>, IncomeCommand> validateValidCommand() {
+        return validator.validate(validCommand);
+    }
+
+    @Benchmark
+    public Validation<Seq<FieldViolation>, IncomeCommand> validateInvalidCommand() {
+        return validator.validate(invalidCommand);
+    }
+}
@@ -0,0 +1,97 @@
+package io.myfinbox.spendingplan.adapter.web.converters;
+
+import io.myfinbox.rest.PlanResource;
+import io.myfinbox.spendingplan.application.PlanViewQuery.JarView;
+import io.myfinbox.spendingplan.application.PlanViewQuery.PlanView;
+import io.myfinbox.spendingplan.domain.AccountIdentifier;
+import io.myfinbox.spendingplan.domain.Jar;
+import io.myfinbox.spendingplan.domain.Plan;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per request spending plan paths: jar amount calculation, jar percentage total and the plan resource conversion,
+ * over a classic plan of six jars. The plan listing is measured both from the aggregate and from its projected view,
+ * run with {@code -Djmh.args="-prof gc"} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class PlanBenchmark {
+
+    private static final int[] CLASSIC_PERCENTAGES = {55, 10, 10, 10, 10, 5};
+
+    private final PlanToResourceConverter converter = new PlanToResourceConverter(new JarToResourceConverter());
+    private final PlanViewToResourceConverter viewConverter = new PlanViewToResourceConverter();
+
+    private Plan plan;
+    private PlanView planView;
+    private Jar jar;
+
+    @Setup
+    public void setup() {
+        plan = Plan.builder()
+                .account(new AccountIdentifier(UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca")))
+                .amount(Money.of(new BigDecimal("1000.00"), "EUR"))
+                .name("My basic plan")
+                .description("Classic plan")
+                .build();
+
+        for (var i = 0; i < CLASSIC_PERCENTAGES.length; i++) {
+            plan.getJars().add(Jar.builder()
+                    .percentage(new Jar.Percentage(CLASSIC_PERCENTAGES[i]))
+                    .name("Jar " + i)
+                    .description("Jar " + i + " description")
+                    .plan(plan)
+                    .build());
+        }
+
+        jar = plan.getJars().getFirst();
+        planView = new PlanView(
+                plan.getId().id(),
+                plan.getAccount().id(),
+                plan.getCreationTimestamp(),
+                plan.getName(),
+                plan.getAmountAsNumber(),
+                plan.getCurrencyCode(),
+                plan.getDescription(),
+                plan.getJars().stream()
+                        .map(jar -> new JarView(
+                                jar.getId().id(),
+                                jar.getCreationTimestamp(),
+                                jar.getName(),
+                                jar.getAmountToReachAsNumber(),
+                                jar.getCurrencyCode(),
+                                jar.getPercentage().value(),
+                                jar.getDescription()))
+                        .toList());
+    }
+
+    @Benchmark
+    public Jar calculateAmountToReach() {
+        jar.calculateAmountToReach();
+        return jar;
+    }
+
+    @Benchmark
+    public int totalJarPercentage() {
+        return plan.totalJarPercentage();
+    }
+
+    @Benchmark
+    public PlanResource convertPlan() {
+        return converter.convert(plan);
+    }
+
+    @Benchmark
+    public PlanResource convertPlanView() {
+        return viewConverter.convert(planView);
+    }
+}
@@ -0,0 +1,29 @@
+package io.myfinbox;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+class CacheConfig {
+
+    /**
+     * Caffeine caches declared upfront by {@code spring.cache.cache-names}, so their statistics are bound to the meter
+     * registry at startup. Puts and evictions issued within a transaction are applied after commit, so a concurrent
+     * reader can't cache a value that is being modified.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
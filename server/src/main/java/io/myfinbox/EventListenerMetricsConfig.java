@@ -0,0 +1,41 @@
+package io.myfinbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.myfinbox.shared.EventListenerMetrics;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMethodMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Configuration
+class EventListenerMetricsConfig {
+
+    @Bean
+    public EventListenerMetrics eventListenerMetrics(MeterRegistry meterRegistry) {
+        return new EventListenerMetrics(meterRegistry, ServerApplication.class.getPackageName());
+    }
+
+    /**
+     * Instruments the transactional event listeners, {@code @ApplicationModuleListener} included. Applied by the
+     * infrastructure auto proxy creator, outside the listener transaction and within the asynchronous execution.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor eventListenerMetricsAdvisor(ObjectProvider<EventListenerMetrics> eventListenerMetrics) {
+        var pointcut = new ComposablePointcut(ClassFilter.TRUE,
+                new AnnotationMethodMatcher(TransactionalEventListener.class, true));
+        var advisor = new DefaultPointcutAdvisor(pointcut,
+                (MethodInterceptor) invocation -> eventListenerMetrics.getObject().invoke(invocation));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
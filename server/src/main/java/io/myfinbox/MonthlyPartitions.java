@@ -0,0 +1,45 @@
+package io.myfinbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of the tables partitioned by expense date created ahead of time,
+ * see {@code V1_18__partition_expenses_by_month.sql}. The partitions are created by a function running with the rights
+ * of the migration role, see {@code V1_23__monthly_partitions_security_definer.sql}.
+ */
+@Slf4j
+@Component
+class MonthlyPartitions {
+
+    static final String CREATE_PARTITIONS_QUERY = "SELECT create_monthly_partitions(?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<String> tables;
+    private final int monthsAhead;
+
+    MonthlyPartitions(JdbcTemplate jdbcTemplate,
+                      @Value("${partitioning.monthly.tables:expenses,jar_expense_record}") List<String> tables,
+                      @Value("${partitioning.monthly.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tables = tables;
+        this.monthsAhead = monthsAhead;
+    }
+
+    // runs shortly after the startup, a node restarted more often than the interval would never create them otherwise
+    @Scheduled(initialDelayString = "${partitioning.monthly.initial-delay:PT10S}", fixedDelayString = "${partitioning.monthly.interval:PT12H}")
+    void createAhead() {
+        var from = LocalDate.now().withDayOfMonth(1);
+        var to = from.plusMonths(monthsAhead);
+        for (var table : tables) {
+            var created = jdbcTemplate.queryForObject(CREATE_PARTITIONS_QUERY, Integer.class, table, from, to);
+            log.debug("Created {} monthly partitions of {} up to {}", created, table, to);
+        }
+    }
+}
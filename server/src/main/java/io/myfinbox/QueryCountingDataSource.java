@@ -0,0 +1,150 @@
+package io.myfinbox;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Reports every statement executed through the connections of the target data source to {@link QueryMetrics}.
+ * <p>
+ * The connections and statements are wrapped in plain JDK proxies, only the executions are intercepted. The target
+ * stays reachable through {@link DelegatingDataSource}, so the connection pool metrics are still bound.
+ */
+class QueryCountingDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<QueryMetrics> queryMetricsProvider;
+    private volatile QueryMetrics queryMetrics;
+
+    QueryCountingDataSource(DataSource targetDataSource, ObjectProvider<QueryMetrics> queryMetricsProvider) {
+        super(targetDataSource);
+        this.queryMetricsProvider = queryMetricsProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // resolved lazily, the data source is created and migrated before the meter registry is available
+    private QueryMetrics queryMetrics() {
+        var metrics = queryMetrics;
+        if (isNull(metrics)) {
+            metrics = queryMetricsProvider.getObject();
+            queryMetrics = metrics;
+        }
+
+        return metrics;
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "createStatement" -> statement(Statement.class,
+                        QueryCountingDataSource.invoke(target, method, args), (Connection) proxy, null);
+                case "prepareStatement" -> statement(PreparedStatement.class,
+                        QueryCountingDataSource.invoke(target, method, args), (Connection) proxy, (String) args[0]);
+                case "prepareCall" -> statement(CallableStatement.class,
+                        QueryCountingDataSource.invoke(target, method, args), (Connection) proxy, (String) args[0]);
+                default -> QueryCountingDataSource.invoke(target, method, args);
+            };
+        }
+
+        private Object statement(Class<? extends Statement> type, Object statement, Connection connection, String sql) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler((Statement) statement, connection, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final String preparedSql;
+        private int pendingBatchSize;
+
+        StatementHandler(Statement target, Connection connection, String preparedSql) {
+            this.target = target;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connection;
+                case "addBatch":
+                    pendingBatchSize++;
+                    return QueryCountingDataSource.invoke(target, method, args);
+                case "clearBatch":
+                    pendingBatchSize = 0;
+                    return QueryCountingDataSource.invoke(target, method, args);
+                case "executeBatch", "executeLargeBatch":
+                    var batchSize = pendingBatchSize;
+                    pendingBatchSize = 0;
+                    return timed(method, args, isNull(preparedSql) ? "<batch>" : preparedSql, batchSize);
+                default:
+                    if (name.startsWith("execute")) {
+                        var sql = isNull(args) || args.length == 0 ? preparedSql : (String) args[0];
+                        return timed(method, args, sql, 0);
+                    }
+
+                    return QueryCountingDataSource.invoke(target, method, args);
+            }
+        }
+
+        private Object timed(Method method, Object[] args, String sql, int batchSize) throws Throwable {
+            var start = System.nanoTime();
+            try {
+                return QueryCountingDataSource.invoke(target, method, args);
+            } finally {
+                queryMetrics().statementExecuted(sql, batchSize, System.nanoTime() - start);
+            }
+        }
+    }
+}
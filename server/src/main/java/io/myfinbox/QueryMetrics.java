@@ -0,0 +1,141 @@
+package io.myfinbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Counts the executed SQL statements, the rows of the JDBC batches and the loaded entities, in total and per served
+ * request, and logs the statements slower than the threshold.
+ * <p>
+ * Statements are reported by {@link QueryCountingDataSource}, so the JPA and the {@code JdbcTemplate} statements are
+ * both counted, a batch counts as one statement. Per request counts are recorded by {@link QueryMetricsConfig}, tagged
+ * by method and URI pattern, what runs off the request thread (event listeners, scheduled jobs, streamed responses)
+ * only contributes to the totals.
+ */
+@Slf4j
+@Component
+class QueryMetrics {
+
+    static final String STATEMENTS_COUNTER = "sql.statements";
+    static final String SLOW_STATEMENTS_COUNTER = "sql.statements.slow";
+    static final String BATCH_SIZE_SUMMARY = "sql.batch.size";
+    static final String ENTITY_LOADS_COUNTER = "hibernate.entities.loaded";
+    static final String REQUEST_STATEMENTS_SUMMARY = "http.server.requests.sql.statements";
+    static final String REQUEST_ENTITY_LOADS_SUMMARY = "http.server.requests.entities.loaded";
+
+    private static final ThreadLocal<RequestQueries> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter statements;
+    private final Counter batches;
+    private final Counter slowStatements;
+    private final DistributionSummary batchSizes;
+    private final long slowThresholdNanos;
+
+    QueryMetrics(MeterRegistry meterRegistry,
+                 @Value("${query-metrics.slow-statement-threshold:500ms}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.statements = Counter.builder(STATEMENTS_COUNTER)
+                .description("Number of executed SQL statements")
+                .tag("type", "single")
+                .register(meterRegistry);
+        this.batches = Counter.builder(STATEMENTS_COUNTER)
+                .description("Number of executed SQL statements")
+                .tag("type", "batch")
+                .register(meterRegistry);
+        this.slowStatements = Counter.builder(SLOW_STATEMENTS_COUNTER)
+                .description("Number of SQL statements slower than the slow statement threshold")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                .description("Number of rows sent per executed JDBC batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records an executed statement.
+     *
+     * @param sql          the executed SQL, logged when slow.
+     * @param batchSize    the number of rows of the executed batch, or 0 if the statement was not batched.
+     * @param elapsedNanos the execution time.
+     */
+    void statementExecuted(String sql, int batchSize, long elapsedNanos) {
+        if (batchSize > 0) {
+            batches.increment();
+            batchSizes.record(batchSize);
+        } else {
+            statements.increment();
+        }
+
+        var current = CURRENT.get();
+        if (nonNull(current)) {
+            current.statements++;
+        }
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            slowStatements.increment();
+            log.warn("Slow SQL statement took {} ms: {}", Duration.ofNanos(elapsedNanos).toMillis(), sql);
+        }
+    }
+
+    /**
+     * Records a loaded entity, whether found by id, by a query or lazily initialized.
+     *
+     * @param entityName the name of the loaded entity.
+     */
+    void entityLoaded(String entityName) {
+        meterRegistry.counter(ENTITY_LOADS_COUNTER, "entity", entityName).increment();
+
+        var current = CURRENT.get();
+        if (nonNull(current)) {
+            current.entityLoads++;
+        }
+    }
+
+    /**
+     * Starts counting the statements and entity loads of the request served by the current thread.
+     */
+    void requestStarted() {
+        CURRENT.set(new RequestQueries());
+    }
+
+    /**
+     * Stops counting and records the statements and entity loads of the request served by the current thread.
+     *
+     * @param method the HTTP method of the request.
+     * @param uri    the URI pattern of the handler of the request.
+     */
+    void requestCompleted(String method, String uri) {
+        var current = CURRENT.get();
+        CURRENT.remove();
+        if (isNull(current)) {
+            return;
+        }
+
+        DistributionSummary.builder(REQUEST_STATEMENTS_SUMMARY)
+                .description("Number of SQL statements executed per served request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(current.statements);
+        DistributionSummary.builder(REQUEST_ENTITY_LOADS_SUMMARY)
+                .description("Number of entities loaded per served request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(current.entityLoads);
+    }
+
+    private static final class RequestQueries {
+
+        private long statements;
+        private long entityLoads;
+    }
+}
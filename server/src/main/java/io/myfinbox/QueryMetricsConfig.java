@@ -0,0 +1,109 @@
+package io.myfinbox;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+@Configuration
+class QueryMetricsConfig {
+
+    /**
+     * Wraps the data sources, so every statement is reported to {@link QueryMetrics}, whatever issues it.
+     */
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor(ObjectProvider<QueryMetrics> queryMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource, queryMetrics);
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Reports the entities loaded by Hibernate to {@link QueryMetrics}.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityLoadMetricsCustomizer(QueryMetrics queryMetrics) {
+        return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new EntityLoadIntegrator(queryMetrics)));
+    }
+
+    /**
+     * Counts the statements and the entity loads per request, first in the chain so the other filters are counted too.
+     */
+    @Bean
+    public FilterRegistrationBean<QueryMetricsFilter> queryMetricsFilter(QueryMetrics queryMetrics) {
+        var registration = new FilterRegistrationBean<>(new QueryMetricsFilter(queryMetrics));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    static final class QueryMetricsFilter extends OncePerRequestFilter {
+
+        static final String UNKNOWN_URI = "UNKNOWN";
+
+        private final QueryMetrics queryMetrics;
+
+        QueryMetricsFilter(QueryMetrics queryMetrics) {
+            this.queryMetrics = queryMetrics;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            queryMetrics.requestStarted();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                queryMetrics.requestCompleted(request.getMethod(), isNull(pattern) ? UNKNOWN_URI : pattern.toString());
+            }
+        }
+    }
+
+    private record EntityLoadIntegrator(QueryMetrics queryMetrics) implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry()
+                    .requireService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event ->
+                            queryMetrics.entityLoaded(event.getPersister().getEntityName()));
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
@@ -24,7 +24,8 @@ public record ExpenseUpdated(UUID expenseId,
                              MonetaryAmount amount,
                              LocalDate expenseDate,
                              PaymentType paymentType,
-                             String categoryName) implements DomainEvent {
+                             String categoryName,
+                             long version) implements DomainEvent {
 
     /**
      * Constructor for the ExpenseUpdated record.
@@ -36,6 +37,7 @@ public record ExpenseUpdated(UUID expenseId,
      * @param expenseDate  The date of the expense.
      * @param paymentType  The payment type of the expense.
      * @param categoryName The category name associated with the expense.
+     * @param version      The version of the expense, increasing with every update.
      */
     public ExpenseUpdated {
         notNull(expenseId, "expenseId cannot be null.");
@@ -2,14 +2,17 @@ package io.myfinbox.expense.adapter.messaging;
 
 import io.myfinbox.account.AccountCreated;
 import io.myfinbox.expense.application.CategoryService;
+import io.myfinbox.expense.application.ExpenseViewTrackerUseCase;
 import io.myfinbox.expense.domain.AccountIdentifier;
+import io.myfinbox.shared.EventListenerMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.modulith.events.ApplicationModuleListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Listens for account events and handles account creation events by initializing default categories.
+ * Listens for account events and handles account creation events by initializing default categories and recording the
+ * account currency and zone of the expense views.
  */
 @Component(value = "expenseAccountEventsListener")
 @RequiredArgsConstructor
@@ -17,19 +20,24 @@ import org.springframework.stereotype.Component;
 class AccountEventsListener {
 
     private final CategoryService categoryService;
+    private final ExpenseViewTrackerUseCase expenseViewTrackerUseCase;
+    private final EventListenerMetrics eventListenerMetrics;
 
     /**
-     * Handles account creation events by initializing default categories.
+     * Handles account creation events by initializing default categories and recording the account currency and zone.
      *
      * @param event The account creation event.
      */
     @ApplicationModuleListener
     public void on(AccountCreated event) {
         log.debug("[Expense] Handle account create event {}", event);
+        expenseViewTrackerUseCase.recordAccountCreated(event.accountId(), event.currency(), event.zoneId());
+
         var either = categoryService.createDefault(new AccountIdentifier(event.accountId()));
 
         if (either.isLeft()) {
             log.error("[Expense] Failed to create default categories for account: {}, failure: {}", event, either.getLeft());
+            eventListenerMetrics.failed(event);
         }
     }
 }
@@ -0,0 +1,68 @@
+package io.myfinbox.expense.adapter.messaging;
+
+import io.myfinbox.expense.ExpenseCreated;
+import io.myfinbox.expense.ExpenseDeleted;
+import io.myfinbox.expense.ExpenseUpdated;
+import io.myfinbox.expense.application.ExpenseViewTrackerUseCase;
+import io.myfinbox.shared.EventListenerMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listens for the module own expense events and delegates the handling to the expense view tracker.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component(value = "expenseExpenseEventsListener")
+class ExpenseEventsListener {
+
+    private final ExpenseViewTrackerUseCase expenseViewTrackerUseCase;
+    private final EventListenerMetrics eventListenerMetrics;
+
+    /**
+     * Handles the ExpenseCreated event by viewing the expense.
+     *
+     * @param event The ExpenseCreated event to handle.
+     */
+    @ApplicationModuleListener
+    public void on(ExpenseCreated event) {
+        log.debug("[Expense] Received ExpenseCreated event: {}", event);
+
+        if (!expenseViewTrackerUseCase.recordModified(event.expenseId())) {
+            log.debug("[Expense] ExpenseCreated event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
+        }
+    }
+
+    /**
+     * Handles the ExpenseUpdated event by refreshing the expense view.
+     *
+     * @param event The ExpenseUpdated event to handle.
+     */
+    @ApplicationModuleListener
+    public void on(ExpenseUpdated event) {
+        log.debug("[Expense] Received ExpenseUpdated event: {}", event);
+
+        if (!expenseViewTrackerUseCase.recordModified(event.expenseId())) {
+            log.debug("[Expense] ExpenseUpdated event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
+        }
+    }
+
+    /**
+     * Handles the ExpenseDeleted event by removing the expense view.
+     *
+     * @param event The ExpenseDeleted event to handle.
+     */
+    @ApplicationModuleListener
+    public void on(ExpenseDeleted event) {
+        log.debug("[Expense] Received ExpenseDeleted event: {}", event);
+
+        if (!expenseViewTrackerUseCase.recordDeleted(event.expenseId())) {
+            log.debug("[Expense] ExpenseDeleted event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.myfinbox.expense.adapter.web;
+
+import io.myfinbox.expense.application.CreateExpenseUseCase;
+import io.myfinbox.expense.application.ExpenseCommand;
+import io.myfinbox.expense.domain.Expense;
+import io.myfinbox.rest.ExpenseBatchItemResource;
+import io.myfinbox.rest.ExpenseBatchResource;
+import io.myfinbox.rest.ExpenseBatchResultResource;
+import io.myfinbox.rest.ExpenseResource;
+import io.myfinbox.shared.ApiFailureHandler;
+import io.myfinbox.shared.Failure;
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.ok;
+
+@RestController
+@RequestMapping(path = "/v1/expenses:batch")
+@RequiredArgsConstructor
+final class ExpenseBatchController implements ExpenseBatchApi {
+
+    private final CreateExpenseUseCase createExpenseUseCase;
+    private final ApiFailureHandler apiFailureHandler;
+
+    @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> createAll(@RequestBody ExpenseBatchResource request) {
+        return createExpenseUseCase.createAll(toCommands(request))
+                .fold(apiFailureHandler::handle, results -> ok().body(toResource(results)));
+    }
+
+    private List<ExpenseCommand> toCommands(ExpenseBatchResource request) {
+        if (isNull(request.getExpenses())) {
+            return List.of();
+        }
+
+        return request.getExpenses().stream()
+                .map(resource -> ExpenseCommand.builder()
+                        .accountId(resource.getAccountId())
+                        .categoryId(resource.getCategoryId())
+                        .paymentType(resource.getPaymentType())
+                        .amount(resource.getAmount())
+                        .currencyCode(resource.getCurrencyCode())
+                        .expenseDate(resource.getExpenseDate())
+                        .description(resource.getDescription())
+                        .build())
+                .toList();
+    }
+
+    private ExpenseBatchResultResource toResource(List<Either<Failure, Expense>> results) {
+        return new ExpenseBatchResultResource()
+                .results(IntStream.range(0, results.size())
+                        .mapToObj(index -> toResource(index, results.get(index)))
+                        .toList());
+    }
+
+    private ExpenseBatchItemResource toResource(int index, Either<Failure, Expense> result) {
+        if (result.isRight()) {
+            return new ExpenseBatchItemResource()
+                    .index(index)
+                    .status(CREATED.value())
+                    .expense(toResource(result.get()));
+        }
+
+        var failure = apiFailureHandler.handle(result.getLeft());
+        return new ExpenseBatchItemResource()
+                .index(index)
+                .status(failure.getStatusCode().value())
+                .error(failure.getBody());
+    }
+
+    private ExpenseResource toResource(Expense expense) {
+        return new ExpenseResource()
+                .expenseId(expense.getId().id())
+                .creationTimestamp(expense.getCreationTimestamp().toString())
+                .accountId(expense.getAccount().id())
+                .categoryId(expense.getCategory().getId().id())
+                .paymentType(expense.getPaymentType().value())
+                .amount(expense.getAmountAsNumber())
+                .currencyCode(expense.getCurrencyCode())
+                .expenseDate(expense.getExpenseDate())
+                .description(expense.getDescription());
+    }
+}
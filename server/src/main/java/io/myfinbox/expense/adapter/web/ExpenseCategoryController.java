@@ -1,6 +1,7 @@
 package io.myfinbox.expense.adapter.web;
 
 import io.myfinbox.expense.application.CategoryQuery;
+import io.myfinbox.expense.application.CategoryQuery.CategoryRecord;
 import io.myfinbox.expense.application.CategoryService;
 import io.myfinbox.expense.domain.Category;
 import io.myfinbox.rest.ExpenseCategoryResource;
@@ -8,10 +9,12 @@ import io.myfinbox.shared.ApiFailureHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
 import static io.myfinbox.expense.application.CategoryService.CategoryCommand;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.*;
 import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
@@ -46,8 +49,13 @@ final class ExpenseCategoryController implements ExpensesCategoryApi {
     }
 
     @GetMapping
-    public ResponseEntity<?> list(@RequestParam(value = "accountId") UUID accountId) {
-        return ok(categoryQuery.search(accountId).stream()
+    public ResponseEntity<?> list(@RequestParam(value = "accountId") UUID accountId, WebRequest request) {
+        var versionTag = categoryQuery.versionTag(accountId);
+        if (request.checkNotModified(versionTag)) {
+            return status(NOT_MODIFIED).eTag(versionTag).build();
+        }
+
+        return ok().eTag(versionTag).body(categoryQuery.search(accountId).stream()
                 .map(this::toResource)
                 .toList());
     }
@@ -59,4 +67,12 @@ final class ExpenseCategoryController implements ExpensesCategoryApi {
                 .name(category.getName())
                 .creationTimestamp(category.getCreationTimestamp().toString());
     }
+
+    private ExpenseCategoryResource toResource(CategoryRecord category) {
+        return new ExpenseCategoryResource()
+                .categoryId(category.categoryId())
+                .accountId(category.accountId())
+                .name(category.name())
+                .creationTimestamp(category.creationTimestamp().toString());
+    }
 }
@@ -1,18 +1,31 @@
 package io.myfinbox.expense.adapter.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.myfinbox.expense.application.CreateExpenseUseCase;
 import io.myfinbox.expense.application.DeleteExpenseUseCase;
 import io.myfinbox.expense.application.ExpenseCommand;
+import io.myfinbox.expense.application.ExpenseExportQuery;
+import io.myfinbox.expense.application.ExpenseQuery;
+import io.myfinbox.expense.application.ExpenseQuery.ExpensePage;
 import io.myfinbox.expense.application.UpdateExpenseUseCase;
 import io.myfinbox.expense.domain.Expense;
+import io.myfinbox.expense.domain.ExpenseView;
+import io.myfinbox.rest.ExpensePageResource;
 import io.myfinbox.rest.ExpenseResource;
 import io.myfinbox.shared.ApiFailureHandler;
+import io.myfinbox.shared.Failure;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.*;
 import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
@@ -25,7 +38,10 @@ final class ExpenseController implements ExpensesApi {
     private final CreateExpenseUseCase createExpenseUseCase;
     private final UpdateExpenseUseCase updateExpenseUseCase;
     private final DeleteExpenseUseCase deleteExpenseUseCase;
+    private final ExpenseQuery expenseQuery;
+    private final ExpenseExportQuery expenseExportQuery;
     private final ApiFailureHandler apiFailureHandler;
+    private final ObjectMapper objectMapper;
 
     @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<?> create(@RequestBody ExpenseResource request) {
@@ -47,6 +63,45 @@ final class ExpenseController implements ExpensesApi {
                 .fold(apiFailureHandler::handle, ok -> noContent().build());
     }
 
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> list(@RequestParam(name = "accountId", required = false) UUID accountId,
+                                  @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                  @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                  @RequestParam(name = "limit", required = false) Integer limit) {
+        return expenseQuery.search()
+                .withAccountId(accountId)
+                .withinDates(from, to)
+                .after(cursor)
+                .limit(limit)
+                .page()
+                .fold(apiFailureHandler::handle, page -> ok().body(toResource(page)));
+    }
+
+    @GetMapping(path = "/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(name = "accountId", required = false) UUID accountId,
+                                                        @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                        @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                        @RequestParam(name = "format", required = false) String format) {
+        return expenseExportQuery.export(accountId, from, to, format)
+                .fold(this::toStreamingFailure,
+                        export -> ok()
+                                .contentType(MediaType.parseMediaType(export.format().mediaType()))
+                                .header(CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                        .filename("expenses." + export.format().value())
+                                        .build()
+                                        .toString())
+                                .body((StreamingResponseBody) export.writer()::writeTo));
+    }
+
+    // streamed responses can't be rendered by message converters, the failure is written as the streamed body
+    private ResponseEntity<StreamingResponseBody> toStreamingFailure(Failure failure) {
+        var response = apiFailureHandler.handle(failure);
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .body(outputStream -> objectMapper.writeValue(outputStream, response.getBody()));
+    }
+
     private ExpenseCommand toCommand(ExpenseResource request) {
         return ExpenseCommand.builder()
                 .accountId(request.getAccountId())
@@ -59,6 +114,14 @@ final class ExpenseController implements ExpensesApi {
                 .build();
     }
 
+    private ExpensePageResource toResource(ExpensePage page) {
+        return new ExpensePageResource()
+                .expenses(page.expenses().stream()
+                        .map(this::toResource)
+                        .toList())
+                .nextCursor(page.nextCursor());
+    }
+
     private ExpenseResource toResource(Expense expense) {
         return new ExpenseResource()
                 .expenseId(expense.getId().id())
@@ -71,4 +134,20 @@ final class ExpenseController implements ExpensesApi {
                 .expenseDate(expense.getExpenseDate())
                 .description(expense.getDescription());
     }
+
+    private ExpenseResource toResource(ExpenseView expense) {
+        return new ExpenseResource()
+                .expenseId(expense.getId())
+                .creationTimestamp(expense.getCreationTimestamp().toString())
+                .accountId(expense.getAccount().id())
+                .categoryId(expense.getCategoryId())
+                .paymentType(expense.getPaymentType().value())
+                .amount(expense.getAmountAsNumber())
+                .currencyCode(expense.getCurrencyCode())
+                .expenseDate(expense.getExpenseDate())
+                .description(expense.getDescription())
+                .categoryName(expense.getCategoryName())
+                .accountCurrencyCode(expense.getAccountCurrency())
+                .creationDate(expense.getCreationDate());
+    }
 }
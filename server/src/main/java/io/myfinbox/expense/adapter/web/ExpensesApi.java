@@ -1,5 +1,6 @@
 package io.myfinbox.expense.adapter.web;
 
+import io.myfinbox.rest.ExpensePageResource;
 import io.myfinbox.rest.ExpenseResource;
 import io.myfinbox.shared.ApiErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,11 +13,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.UUID;
 
 import static io.swagger.v3.oas.annotations.enums.ParameterIn.PATH;
+import static io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY;
 import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -75,4 +79,42 @@ public interface ExpensesApi {
     })
     ResponseEntity<?> delete(@Parameter(in = PATH, description = "ExpenseId to be deleted", required = true) UUID expenseId);
 
+    @Operation(summary = "List the expenses of an account in the MyFinBox",
+            description = "List the expenses of an account, latest expense date first, paginated with a cursor",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ExpensePageResource.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed JSON or Type Mismatch Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Request Schema Validation Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> list(@Parameter(in = QUERY, description = "AccountId to list expenses for", required = true) UUID accountId,
+                           @Parameter(in = QUERY, description = "First expense date to include (YYYY-MM-DD)") LocalDate from,
+                           @Parameter(in = QUERY, description = "Last expense date to include (YYYY-MM-DD)") LocalDate to,
+                           @Parameter(in = QUERY, description = "Cursor returned by the previous page") String cursor,
+                           @Parameter(in = QUERY, description = "Maximum number of expenses in the page, 1 to 100, defaults to 20") Integer limit);
+
+    @Operation(summary = "Export the expenses of an account in the MyFinBox",
+            description = "Streams the expenses of an account as CSV or newline delimited JSON, oldest expense date first",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson")}),
+            @ApiResponse(responseCode = "400", description = "Type Mismatch Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Request Schema Validation Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<StreamingResponseBody> export(@Parameter(in = QUERY, description = "AccountId to export the expenses of", required = true) UUID accountId,
+                                                 @Parameter(in = QUERY, description = "First expense date to include (YYYY-MM-DD)") LocalDate from,
+                                                 @Parameter(in = QUERY, description = "Last expense date to include (YYYY-MM-DD)") LocalDate to,
+                                                 @Parameter(in = QUERY, description = "Export format, csv (default) or ndjson") String format);
 }
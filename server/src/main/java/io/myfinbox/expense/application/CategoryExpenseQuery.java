@@ -0,0 +1,52 @@
+package io.myfinbox.expense.application;
+
+import io.myfinbox.expense.domain.Expense;
+import io.myfinbox.shared.PaymentType;
+
+import javax.money.MonetaryAmount;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents a query interface for paging through the expenses of a category, in (expense date, id) ascending order.
+ */
+public interface CategoryExpenseQuery {
+
+    /**
+     * Returns the expenses of a category following a position, oldest expense date first.
+     *
+     * @param categoryId the unique identifier of the category.
+     * @param after      the position of the last expense of the previous page, null for the first page.
+     * @param limit      the maximum page size.
+     * @return the page of expenses, shorter than the limit when it is the last one.
+     */
+    List<CategoryExpenseRecord> pageAfter(UUID categoryId, Position after, int limit);
+
+    /**
+     * Keyset position of an expense in the (expense date, id) ascending order.
+     */
+    record Position(LocalDate expenseDate, UUID expenseId) {
+    }
+
+    /**
+     * Immutable state of an expense of the category.
+     */
+    record CategoryExpenseRecord(UUID expenseId,
+                                 UUID accountId,
+                                 UUID categoryId,
+                                 MonetaryAmount amount,
+                                 LocalDate expenseDate,
+                                 PaymentType paymentType,
+                                 String categoryName) {
+
+        public static CategoryExpenseRecord of(Expense expense) {
+            return new CategoryExpenseRecord(expense.getId().id(), expense.getAccount().id(), expense.getCategory().getId().id(),
+                    expense.getAmount(), expense.getExpenseDate(), expense.getPaymentType(), expense.getCategory().getName());
+        }
+
+        public Position position() {
+            return new Position(expenseDate, expenseId);
+        }
+    }
+}
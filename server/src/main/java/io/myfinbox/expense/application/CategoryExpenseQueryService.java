@@ -0,0 +1,31 @@
+package io.myfinbox.expense.application;
+
+import io.myfinbox.expense.domain.Expenses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class CategoryExpenseQueryService implements CategoryExpenseQuery {
+
+    private final Expenses expenses;
+
+    @Override
+    public List<CategoryExpenseRecord> pageAfter(UUID categoryId, Position after, int limit) {
+        var page = isNull(after)
+                ? expenses.findCategoryPage(categoryId, Limit.of(limit))
+                : expenses.findCategoryPageAfter(categoryId, after.expenseDate(), after.expenseId(), Limit.of(limit));
+
+        return page.stream()
+                .map(CategoryExpenseRecord::of)
+                .toList();
+    }
+}
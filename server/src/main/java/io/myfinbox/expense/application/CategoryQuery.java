@@ -2,6 +2,7 @@ package io.myfinbox.expense.application;
 
 import io.myfinbox.expense.domain.Category;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,8 +15,29 @@ public interface CategoryQuery {
      * Searches for categories associated with a specific account.
      *
      * @param accountId the unique identifier of the account to search categories for
-     * @return a list of {@link Category} objects associated with the specified account
+     * @return a list of {@link CategoryRecord} objects associated with the specified account
      */
-    List<Category> search(UUID accountId);
+    List<CategoryRecord> search(UUID accountId);
+
+    /**
+     * Computes a tag of the versions of the categories associated with a specific account, the tag changes
+     * whenever a category is created, updated or deleted.
+     *
+     * @param accountId the unique identifier of the account
+     * @return the version tag of the account categories
+     */
+    String versionTag(UUID accountId);
+
+    /**
+     * Immutable state of a category, safe to be cached and shared across transactions, the category entity is
+     * resolved by its identifier within the transaction using it.
+     */
+    record CategoryRecord(UUID categoryId, UUID accountId, String name, Instant creationTimestamp) {
+
+        public static CategoryRecord of(Category category) {
+            return new CategoryRecord(category.getId().id(), category.getAccount().id(), category.getName(),
+                    category.getCreationTimestamp());
+        }
+    }
 }
 
@@ -2,8 +2,8 @@ package io.myfinbox.expense.application;
 
 import io.myfinbox.expense.domain.AccountIdentifier;
 import io.myfinbox.expense.domain.Categories;
-import io.myfinbox.expense.domain.Category;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +18,25 @@ import static java.util.Objects.isNull;
 @Transactional(readOnly = true)
 class CategoryQueryService implements CategoryQuery {
 
+    static final String CATEGORIES_CACHE = "expense-categories";
+
     private final Categories categories;
 
     @Override
-    public List<Category> search(UUID accountId) {
+    @Cacheable(cacheNames = CATEGORIES_CACHE, key = "#accountId", condition = "#accountId != null")
+    public List<CategoryRecord> search(UUID accountId) {
         if (isNull(accountId)) {
             return emptyList();
         }
 
-        return categories.findByAccount(new AccountIdentifier(accountId));
+        // cached, must stay unmodifiable and hold no managed entity
+        return categories.findByAccount(new AccountIdentifier(accountId)).stream()
+                .map(CategoryRecord::of)
+                .toList();
+    }
+
+    @Override
+    public String versionTag(UUID accountId) {
+        return categories.versionTagByAccount(accountId);
     }
 }
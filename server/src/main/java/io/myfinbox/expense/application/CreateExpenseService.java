@@ -2,18 +2,31 @@ package io.myfinbox.expense.application;
 
 import io.myfinbox.expense.domain.AccountIdentifier;
 import io.myfinbox.expense.domain.Categories;
+import io.myfinbox.expense.domain.Category;
 import io.myfinbox.expense.domain.Category.CategoryIdentifier;
 import io.myfinbox.expense.domain.Expense;
 import io.myfinbox.expense.domain.Expenses;
 import io.myfinbox.shared.Failure;
+import io.myfinbox.shared.Failure.FieldViolation;
 import io.myfinbox.shared.PaymentType;
+import io.vavr.collection.Seq;
 import io.vavr.control.Either;
+import io.vavr.control.Validation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.javamoney.moneta.Money;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,6 +35,7 @@ class CreateExpenseService implements CreateExpenseUseCase {
 
     static final String VALIDATION_FAILURE_MESSAGE = "Validation failed for the create expense request.";
     static final String CATEGORY_NOT_FOUND_MESSAGE = "Category not found for the provided account.";
+    static final String BATCH_VALIDATION_FAILURE_MESSAGE = "Validation failed for the create expenses batch request.";
 
     private final ExpenseCommandValidator validator = new ExpenseCommandValidator();
 
@@ -35,19 +49,12 @@ class CreateExpenseService implements CreateExpenseUseCase {
             return Either.left(Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, validation.getError().toJavaList()));
         }
 
-        var possibleCategory = categories.findByIdAndAccount(new CategoryIdentifier(command.categoryId()), new AccountIdentifier(command.accountId()));
-        if (possibleCategory.isEmpty()) {
+        // confirmed within this transaction, a cached category may have been deleted meanwhile by another instance
+        if (!categories.lockByIdAndAccount(command.categoryId(), command.accountId())) {
             return Either.left(Failure.ofNotFound(CATEGORY_NOT_FOUND_MESSAGE));
         }
 
-        var expense = Expense.builder()
-                .account(new AccountIdentifier(command.accountId()))
-                .amount(Money.of(command.amount(), command.currencyCode()))
-                .expenseDate(command.expenseDate())
-                .paymentType(PaymentType.fromValue(command.paymentType()))
-                .description(command.description())
-                .category(possibleCategory.get())
-                .build();
+        var expense = newExpense(command, categories.getReferenceById(new CategoryIdentifier(command.categoryId())));
 
         expenses.save(expense);
 
@@ -55,4 +62,75 @@ class CreateExpenseService implements CreateExpenseUseCase {
 
         return Either.right(expense);
     }
+
+    @Override
+    public Either<Failure, List<Either<Failure, Expense>>> createAll(List<ExpenseCommand> commands) {
+        if (isNull(commands) || commands.isEmpty() || commands.size() > MAX_BATCH_SIZE) {
+            return Either.left(Failure.ofValidation(BATCH_VALIDATION_FAILURE_MESSAGE, List.of(FieldViolation.builder()
+                    .field(FIELD_EXPENSES)
+                    .message("Expenses must contain between 1 and %d items.".formatted(MAX_BATCH_SIZE))
+                    .rejectedValue(isNull(commands) ? null : commands.size())
+                    .build())));
+        }
+
+        var validations = commands.stream()
+                .map(validator::validate)
+                .toList();
+
+        var categoriesById = categoriesOf(validations);
+
+        var results = new ArrayList<Either<Failure, Expense>>(commands.size());
+        for (var validation : validations) {
+            if (validation.isInvalid()) {
+                results.add(Either.left(Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, validation.getError().toJavaList())));
+                continue;
+            }
+
+            var command = validation.get();
+            var category = categoriesById.get(new CategoryIdentifier(command.categoryId()));
+            if (isNull(category) || !category.getAccount().equals(new AccountIdentifier(command.accountId()))) {
+                results.add(Either.left(Failure.ofNotFound(CATEGORY_NOT_FOUND_MESSAGE)));
+                continue;
+            }
+
+            results.add(Either.right(newExpense(command, category)));
+        }
+
+        var created = results.stream()
+                .filter(Either::isRight)
+                .map(Either::get)
+                .toList();
+
+        // inserted in jdbc batches, created events are published once for the whole batch
+        expenses.saveAll(created);
+
+        log.debug("{} of {} expenses were created in batch", created.size(), commands.size());
+
+        return Either.right(results);
+    }
+
+    private Map<CategoryIdentifier, Category> categoriesOf(List<Validation<Seq<FieldViolation>, ExpenseCommand>> validations) {
+        var categoryIds = validations.stream()
+                .filter(Validation::isValid)
+                .map(validation -> validation.get().categoryId())
+                .collect(toSet());
+
+        if (categoryIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return categories.lockByIdIn(categoryIds).stream()
+                .collect(toMap(Category::getId, identity()));
+    }
+
+    private Expense newExpense(ExpenseCommand command, Category category) {
+        return Expense.builder()
+                .account(new AccountIdentifier(command.accountId()))
+                .amount(Money.of(command.amount(), command.currencyCode()))
+                .expenseDate(command.expenseDate())
+                .paymentType(PaymentType.fromValue(command.paymentType()))
+                .description(command.description())
+                .category(category)
+                .build();
+    }
 }
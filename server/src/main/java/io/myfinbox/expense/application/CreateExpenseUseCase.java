@@ -4,11 +4,17 @@ import io.myfinbox.expense.domain.Expense;
 import io.myfinbox.shared.Failure;
 import io.vavr.control.Either;
 
+import java.util.List;
+
 /**
  * Interface for creating expenses.
  */
 public interface CreateExpenseUseCase {
 
+    String FIELD_EXPENSES = "expenses";
+
+    int MAX_BATCH_SIZE = 100;
+
     /**
      * Creates an expense based on the provided command.
      *
@@ -16,4 +22,13 @@ public interface CreateExpenseUseCase {
      * @return {@link Either} a {@link Failure} instance if the expense creation fails, or the created {@link Expense} instance.
      */
     Either<Failure, Expense> create(ExpenseCommand command);
+
+    /**
+     * Creates a batch of expenses in a single transaction, each command succeeding or failing on its own.
+     *
+     * @param commands The commands containing expense creation details, at most {@link #MAX_BATCH_SIZE}.
+     * @return {@link Either} a {@link Failure} instance if the batch is empty or too large, or the per command results
+     * in the order of the provided commands.
+     */
+    Either<Failure, List<Either<Failure, Expense>>> createAll(List<ExpenseCommand> commands);
 }
@@ -9,12 +9,14 @@ import io.vavr.control.Either;
 import io.vavr.control.Validation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
+import static io.myfinbox.expense.application.CategoryQueryService.CATEGORIES_CACHE;
 import static io.myfinbox.expense.application.CategoryService.CategoryCommand.FIELD_ACCOUNT_ID;
 import static io.myfinbox.expense.application.CategoryService.CategoryCommand.FIELD_NAME;
 import static io.vavr.API.Invalid;
@@ -39,6 +41,8 @@ class DefaultCategoryService implements CategoryService {
 
     private final Categories categories;
     private final Expenses expenses;
+    private final ExpenseViews expenseViews;
+    private final CacheManager cacheManager;
 
     @Override
     @Transactional
@@ -52,6 +56,7 @@ class DefaultCategoryService implements CategoryService {
                 .toList();
 
         categories.saveAll(values);
+        evictCategories(account);
 
         log.debug("Default expense categories {} were created", values);
 
@@ -72,6 +77,7 @@ class DefaultCategoryService implements CategoryService {
 
         var category = new Category(command.name(), new AccountIdentifier(command.accountId()));
         categories.save(category);
+        evictCategories(category.getAccount());
 
         log.debug("Expense category {} was created", category.getId());
 
@@ -105,6 +111,8 @@ class DefaultCategoryService implements CategoryService {
 
         possibleCategory.get().setName(command.name());
         categories.save(possibleCategory.get()); // FIXME: fix the save anti-pattern
+        expenseViews.renameCategory(categoryId, command.name()); // viewed expenses carry the name denormalized
+        evictCategories(possibleCategory.get().getAccount());
 
         log.debug("Expense category {} wes updated", possibleCategory.get().getId());
 
@@ -128,12 +136,20 @@ class DefaultCategoryService implements CategoryService {
         }
 
         categories.delete(possibleCategory.get());
+        evictCategories(possibleCategory.get().getAccount());
 
         log.debug("Expense category {} wes deleted", possibleCategory.get().getId());
 
         return Either.right(null);
     }
 
+    private void evictCategories(AccountIdentifier account) {
+        var cache = cacheManager.getCache(CATEGORIES_CACHE);
+        if (nonNull(cache)) {
+            cache.evict(account.id()); // applied once the transaction commits
+        }
+    }
+
     private static final class CategoryCommandValidator {
 
         Validation<Seq<FieldViolation>, CategoryCommand> validate(CategoryCommand command) {
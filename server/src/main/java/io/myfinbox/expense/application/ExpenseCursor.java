@@ -0,0 +1,45 @@
+package io.myfinbox.expense.application;
+
+import io.myfinbox.expense.domain.ExpenseView;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Keyset position of an expense in the (expense date, id) descending order, encoded as an opaque URL safe string.
+ */
+record ExpenseCursor(LocalDate expenseDate, UUID expenseId) {
+
+    private static final String SEPARATOR = "|";
+
+    static ExpenseCursor of(ExpenseView expense) {
+        return new ExpenseCursor(expense.getExpenseDate(), expense.getId());
+    }
+
+    static Optional<ExpenseCursor> decode(String cursor) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            var separatorIndex = value.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new ExpenseCursor(
+                    LocalDate.parse(value.substring(0, separatorIndex)),
+                    UUID.fromString(value.substring(separatorIndex + 1))));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((expenseDate + SEPARATOR + expenseId).getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+package io.myfinbox.expense.application;
+
+import io.myfinbox.shared.Failure;
+import io.vavr.control.Either;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Represents a query interface for exporting the expenses of an account as a stream of rows.
+ */
+public interface ExpenseExportQuery {
+
+    String FIELD_ACCOUNT_ID = "accountId";
+    String FIELD_FROM = "from";
+    String FIELD_FORMAT = "format";
+
+    /**
+     * Prepares the export of the expenses of an account, oldest expense date first.
+     *
+     * @param accountId the unique identifier of the account.
+     * @param from      the first expense date to include, optional.
+     * @param to        the last expense date to include, optional.
+     * @param format    the export format, 'csv' or 'ndjson', optional, defaults to 'csv'.
+     * @return either a failure if the export request is invalid or the export to be written.
+     */
+    Either<Failure, ExpenseExport> export(UUID accountId, LocalDate from, LocalDate to, String format);
+
+    /**
+     * An export ready to be streamed, rows are read from the database while being written.
+     *
+     * @param format the format of the written rows.
+     * @param writer writes the exported rows to an output stream.
+     */
+    record ExpenseExport(ExportFormat format, ExportWriter writer) {
+    }
+
+    @FunctionalInterface
+    interface ExportWriter {
+
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    enum ExportFormat {
+
+        CSV("csv", "text/csv"),
+        NDJSON("ndjson", "application/x-ndjson");
+
+        private final String value;
+        private final String mediaType;
+
+        ExportFormat(String value, String mediaType) {
+            this.value = value;
+            this.mediaType = mediaType;
+        }
+
+        public String value() {
+            return value;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        public static Optional<ExportFormat> fromValue(String value) {
+            return Arrays.stream(values())
+                    .filter(format -> format.value.equalsIgnoreCase(value))
+                    .findFirst();
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package io.myfinbox.expense.application;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.myfinbox.shared.Failure;
+import io.myfinbox.shared.Failure.FieldViolation;
+import io.myfinbox.shared.PaymentType;
+import io.vavr.control.Either;
+import io.vavr.control.Validation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+import static io.myfinbox.expense.application.ExpenseQueryService.MAX_EXPENSE_DATE;
+import static io.myfinbox.expense.application.ExpenseQueryService.MIN_EXPENSE_DATE;
+import static io.vavr.API.Invalid;
+import static io.vavr.API.Valid;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.sql.ResultSet.CONCUR_READ_ONLY;
+import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Streams the expenses of an account straight from a forward only JDBC cursor to the output,
+ * rows are written as they are fetched, no entity is materialized.
+ * <p>
+ * The cursor holds a connection while the client reads, so it is opened in a read-only transaction bounded by
+ * the export timeout, an export still streaming past the timeout is aborted. At most {@code maxConcurrent} exports
+ * run at once, the connections left serve the other requests, further exports are rejected until one finishes.
+ */
+@Slf4j
+@Service
+class ExpenseExportService implements ExpenseExportQuery {
+
+    static final String VALIDATION_FAILURE_MESSAGE = "Validation failed for the expense export request.";
+    static final String TOO_MANY_EXPORTS_MESSAGE = "Too many expense exports are running, retry later.";
+
+    static final int FETCH_SIZE = 1_000;
+
+    static final String EXPORT_QUERY = """
+            SELECT e.id, e.expense_date, e.amount, e.currency, e.payment_type, c.name, e.description, e.creation_timestamp
+              FROM expenses e
+              JOIN expense_category c ON c.id = e.category_id
+             WHERE e.account_id = ?
+               AND e.expense_date BETWEEN ? AND ?
+             ORDER BY e.expense_date, e.id
+            """;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeout;
+    private final Semaphore running;
+
+    ExpenseExportService(JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${expense.export.timeout:5m}") Duration timeout,
+                         @Value("${expense.export.max-concurrent:2}") int maxConcurrent) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.timeout = timeout;
+        this.running = new Semaphore(maxConcurrent);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setTimeout((int) timeout.toSeconds());
+    }
+
+    @Override
+    public Either<Failure, ExpenseExport> export(UUID accountId, LocalDate from, LocalDate to, String format) {
+        var validation = Validation.combine(
+                validateAccountId(accountId),
+                validateDates(from, to),
+                validateFormat(format)
+        ).ap((account, dates, exportFormat) -> exportFormat);
+
+        if (validation.isInvalid()) {
+            return Either.left(Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, validation.getError().toJavaList()));
+        }
+
+        if (!running.tryAcquire()) {
+            return Either.left(Failure.ofTooManyRequests(TOO_MANY_EXPORTS_MESSAGE));
+        }
+
+        var exportFormat = validation.get();
+        var lowerBound = isNull(from) ? MIN_EXPENSE_DATE : from;
+        var upperBound = isNull(to) ? MAX_EXPENSE_DATE : to;
+
+        // the permit is held until the export is written, whether it completes or fails
+        return Either.right(new ExpenseExport(exportFormat, outputStream -> {
+            try {
+                write(accountId, lowerBound, upperBound, exportFormat, outputStream);
+            } finally {
+                running.release();
+            }
+        }));
+    }
+
+    private void write(UUID accountId, LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException {
+        var rowWriter = switch (format) {
+            case CSV -> new CsvRowWriter(outputStream);
+            case NDJSON -> new NdjsonRowWriter(outputStream);
+        };
+
+        // the transaction timeout bounds the query execution, the deadline bounds the fetches paced by the client
+        var deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            rowWriter.start();
+            // postgres only opens a cursor honoring the fetch size within a transaction
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(EXPORT_QUERY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setObject(1, accountId);
+                statement.setObject(2, from);
+                statement.setObject(3, to);
+                return statement;
+            }, (RowCallbackHandler) resultSet -> {
+                if (System.nanoTime() - deadline > 0) {
+                    throw new TransactionTimedOutException("Expense export exceeded the timeout of " + timeout);
+                }
+
+                try {
+                    rowWriter.write(resultSet);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            rowWriter.finish();
+        } catch (UncheckedIOException e) {
+            log.debug("Expense export of account {} was interrupted", accountId);
+            throw e.getCause();
+        }
+    }
+
+    private Validation<FieldViolation, UUID> validateAccountId(UUID accountId) {
+        if (nonNull(accountId)) {
+            return Valid(accountId);
+        }
+
+        return Invalid(FieldViolation.builder()
+                .field(FIELD_ACCOUNT_ID)
+                .message("AccountId cannot be null.")
+                .build());
+    }
+
+    private Validation<FieldViolation, LocalDate> validateDates(LocalDate from, LocalDate to) {
+        if (isNull(from) || isNull(to) || !from.isAfter(to)) {
+            return Valid(from);
+        }
+
+        return Invalid(FieldViolation.builder()
+                .field(FIELD_FROM)
+                .message("From date must be before or equal to the to date.")
+                .rejectedValue(from)
+                .build());
+    }
+
+    private Validation<FieldViolation, ExportFormat> validateFormat(String format) {
+        if (isNull(format)) {
+            return Valid(ExportFormat.CSV);
+        }
+
+        var exportFormat = ExportFormat.fromValue(format);
+        if (exportFormat.isPresent()) {
+            return Valid(exportFormat.get());
+        }
+
+        return Invalid(FieldViolation.builder()
+                .field(FIELD_FORMAT)
+                .message("Format must be 'csv' or 'ndjson'.")
+                .rejectedValue(format)
+                .build());
+    }
+
+    private interface RowWriter {
+
+        void start() throws IOException;
+
+        void write(ResultSet resultSet) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private static final String HEADER = "expenseId,expenseDate,amount,currencyCode,paymentType,category,description,creationTimestamp";
+        private static final String FORMULA_CHARACTERS = "=+-@\t\r";
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream outputStream) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            writer.write(resultSet.getString(1));
+            writer.write(',');
+            writer.write(resultSet.getObject(2, LocalDate.class).toString());
+            writer.write(',');
+            writer.write(resultSet.getBigDecimal(3).stripTrailingZeros().toPlainString());
+            writer.write(',');
+            writer.write(resultSet.getString(4));
+            writer.write(',');
+            writer.write(PaymentType.valueOf(resultSet.getString(5)).value());
+            writer.write(',');
+            writeEscaped(resultSet.getString(6));
+            writer.write(',');
+            writeEscaped(resultSet.getString(7));
+            writer.write(',');
+            writer.write(resultSet.getTimestamp(8).toInstant().toString());
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeEscaped(String value) throws IOException {
+            if (isNull(value)) {
+                return;
+            }
+
+            // spreadsheets evaluate cells starting with a formula character, they are prefixed to be read as text
+            var formula = !value.isEmpty() && FORMULA_CHARACTERS.indexOf(value.charAt(0)) >= 0;
+            if (!formula && value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream outputStream) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeStringField("expenseId", resultSet.getString(1));
+            generator.writeStringField("expenseDate", resultSet.getObject(2, LocalDate.class).toString());
+            generator.writeFieldName("amount");
+            generator.writeNumber(resultSet.getBigDecimal(3).stripTrailingZeros().toPlainString());
+            generator.writeStringField("currencyCode", resultSet.getString(4));
+            generator.writeStringField("paymentType", PaymentType.valueOf(resultSet.getString(5)).value());
+            generator.writeStringField("category", resultSet.getString(6));
+            if (nonNull(resultSet.getString(7))) {
+                generator.writeStringField("description", resultSet.getString(7));
+            }
+            generator.writeStringField("creationTimestamp", resultSet.getTimestamp(8).toInstant().toString());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.myfinbox.expense.application;
+
+import io.myfinbox.expense.domain.ExpenseView;
+import io.myfinbox.shared.Failure;
+import io.vavr.control.Either;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents a query interface for paging through the expenses of an account.
+ */
+public interface ExpenseQuery {
+
+    String FIELD_ACCOUNT_ID = "accountId";
+    String FIELD_FROM = "from";
+    String FIELD_TO = "to";
+    String FIELD_CURSOR = "cursor";
+    String FIELD_LIMIT = "limit";
+
+    int DEFAULT_LIMIT = 20;
+    int MAX_LIMIT = 100;
+
+    /**
+     * Initiates a search for expenses.
+     *
+     * @return a builder to further customize the expense search.
+     */
+    ExpenseQueryBuilder search();
+
+    /**
+     * Builder interface for constructing and executing an expense query.
+     */
+    interface ExpenseQueryBuilder {
+
+        /**
+         * Filters the expenses by the specified account ID.
+         *
+         * @param accountId the unique identifier of the account.
+         * @return the updated query builder.
+         */
+        ExpenseQueryBuilder withAccountId(UUID accountId);
+
+        /**
+         * Filters the expenses by expense date, both bounds inclusive and optional.
+         *
+         * @param from the first expense date to include.
+         * @param to   the last expense date to include.
+         * @return the updated query builder.
+         */
+        ExpenseQueryBuilder withinDates(LocalDate from, LocalDate to);
+
+        /**
+         * Continues the search after the position returned by a previous page.
+         *
+         * @param cursor the opaque cursor of the previous page, optional.
+         * @return the updated query builder.
+         */
+        ExpenseQueryBuilder after(String cursor);
+
+        /**
+         * Limits the number of expenses returned in a page.
+         *
+         * @param limit the maximum page size, optional.
+         * @return the updated query builder.
+         */
+        ExpenseQueryBuilder limit(Integer limit);
+
+        /**
+         * Executes the query and returns a page of expenses, latest expense date first, served from the expense views.
+         *
+         * @return either a failure if the query is invalid or the page of expenses.
+         */
+        Either<Failure, ExpensePage> page();
+    }
+
+    /**
+     * A page of expenses together with the cursor of the next page.
+     *
+     * @param expenses   the views of the expenses of the page.
+     * @param nextCursor the cursor to request the next page, or null if this is the last page.
+     */
+    record ExpensePage(List<ExpenseView> expenses, String nextCursor) {
+    }
+}
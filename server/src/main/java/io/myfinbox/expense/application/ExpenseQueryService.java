@@ -0,0 +1,174 @@
+package io.myfinbox.expense.application;
+
+import io.myfinbox.expense.domain.AccountIdentifier;
+import io.myfinbox.expense.domain.ExpenseView;
+import io.myfinbox.expense.domain.ExpenseViews;
+import io.myfinbox.shared.Failure;
+import io.myfinbox.shared.Failure.FieldViolation;
+import io.vavr.control.Either;
+import io.vavr.control.Validation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.vavr.API.Invalid;
+import static io.vavr.API.Valid;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class ExpenseQueryService implements ExpenseQuery {
+
+    static final String VALIDATION_FAILURE_MESSAGE = "Validation failed for the expense search request.";
+
+    // bounds applied when the date range is open, within the range supported by the database
+    static final LocalDate MIN_EXPENSE_DATE = LocalDate.of(1900, 1, 1);
+    static final LocalDate MAX_EXPENSE_DATE = LocalDate.of(9999, 12, 31);
+
+    private final ExpenseViews expenseViews;
+
+    @Override
+    public ExpenseQueryBuilder search() {
+        return new DefaultExpenseQueryBuilder(expenseViews);
+    }
+
+    @RequiredArgsConstructor
+    private static class DefaultExpenseQueryBuilder implements ExpenseQueryBuilder {
+
+        private final ExpenseViews expenseViews;
+
+        private UUID accountId;
+        private LocalDate from;
+        private LocalDate to;
+        private String cursor;
+        private Integer limit;
+
+        @Override
+        public ExpenseQueryBuilder withAccountId(UUID accountId) {
+            this.accountId = accountId;
+            return this;
+        }
+
+        @Override
+        public ExpenseQueryBuilder withinDates(LocalDate from, LocalDate to) {
+            this.from = from;
+            this.to = to;
+            return this;
+        }
+
+        @Override
+        public ExpenseQueryBuilder after(String cursor) {
+            this.cursor = cursor;
+            return this;
+        }
+
+        @Override
+        public ExpenseQueryBuilder limit(Integer limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        @Override
+        public Either<Failure, ExpensePage> page() {
+            var validation = Validation.combine(
+                    validateAccountId(),
+                    validateDates(),
+                    validateCursor(),
+                    validateLimit()
+            ).ap((account, dates, position, size) -> new PageRequest(position, size));
+
+            if (validation.isInvalid()) {
+                return Either.left(Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, validation.getError().toJavaList()));
+            }
+
+            var request = validation.get();
+            var account = new AccountIdentifier(accountId);
+            var lowerBound = isNull(from) ? MIN_EXPENSE_DATE : from;
+            var upperBound = isNull(to) ? MAX_EXPENSE_DATE : to;
+            var fetchLimit = Limit.of(request.size() + 1); // one extra row tells whether a next page exists
+
+            var found = request.position()
+                    .map(position -> expenseViews.findPageAfter(accountId, lowerBound, upperBound,
+                            position.expenseDate(), position.expenseId(), fetchLimit))
+                    .orElseGet(() -> expenseViews.findPage(account, lowerBound, upperBound, fetchLimit));
+
+            return Either.right(toPage(found, request.size()));
+        }
+
+        private ExpensePage toPage(List<ExpenseView> found, int pageSize) {
+            if (found.size() <= pageSize) {
+                return new ExpensePage(found, null);
+            }
+
+            var page = found.subList(0, pageSize);
+            return new ExpensePage(page, ExpenseCursor.of(page.getLast()).encode());
+        }
+
+        private Validation<FieldViolation, UUID> validateAccountId() {
+            if (nonNull(accountId)) {
+                return Valid(accountId);
+            }
+
+            return Invalid(FieldViolation.builder()
+                    .field(FIELD_ACCOUNT_ID)
+                    .message("AccountId cannot be null.")
+                    .build());
+        }
+
+        private Validation<FieldViolation, LocalDate> validateDates() {
+            if (isNull(from) || isNull(to) || !from.isAfter(to)) {
+                return Valid(from);
+            }
+
+            return Invalid(FieldViolation.builder()
+                    .field(FIELD_FROM)
+                    .message("From date must be before or equal to the to date.")
+                    .rejectedValue(from)
+                    .build());
+        }
+
+        private Validation<FieldViolation, Optional<ExpenseCursor>> validateCursor() {
+            if (isNull(cursor)) {
+                return Valid(Optional.empty());
+            }
+
+            var position = ExpenseCursor.decode(cursor);
+            if (position.isPresent()) {
+                return Valid(position);
+            }
+
+            return Invalid(FieldViolation.builder()
+                    .field(FIELD_CURSOR)
+                    .message("Cursor is invalid.")
+                    .rejectedValue(cursor)
+                    .build());
+        }
+
+        private Validation<FieldViolation, Integer> validateLimit() {
+            if (isNull(limit)) {
+                return Valid(DEFAULT_LIMIT);
+            }
+
+            if (limit > 0 && limit <= MAX_LIMIT) {
+                return Valid(limit);
+            }
+
+            return Invalid(FieldViolation.builder()
+                    .field(FIELD_LIMIT)
+                    .message("Limit must be between 1 and %d.".formatted(MAX_LIMIT))
+                    .rejectedValue(limit)
+                    .build());
+        }
+    }
+
+    private record PageRequest(Optional<ExpenseCursor> position, int size) {
+    }
+}
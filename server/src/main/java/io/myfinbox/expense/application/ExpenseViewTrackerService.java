@@ -0,0 +1,50 @@
+package io.myfinbox.expense.application;
+
+import io.myfinbox.expense.domain.ExpenseViews;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Service class maintaining the expense views, every view is rebuilt from the current state of its expense, so events
+ * delivered late, twice or out of order converge to the same row.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+class ExpenseViewTrackerService implements ExpenseViewTrackerUseCase {
+
+    private final ExpenseViews expenseViews;
+
+    @Override
+    public boolean recordModified(UUID expenseId) {
+        var refreshed = expenseViews.refresh(expenseId) > 0;
+
+        log.debug("Expense view {} was {}", expenseId, refreshed ? "refreshed" : "skipped, expense not found");
+
+        return refreshed;
+    }
+
+    @Override
+    public boolean recordDeleted(UUID expenseId) {
+        var removed = expenseViews.remove(expenseId) > 0;
+
+        log.debug("Expense view {} was {}", expenseId, removed ? "removed" : "skipped, not found");
+
+        return removed;
+    }
+
+    @Override
+    public void recordAccountCreated(UUID accountId, Currency currency, ZoneId zoneId) {
+        expenseViews.saveAccount(accountId, currency.getCurrencyCode(), zoneId.getId());
+        var refreshed = expenseViews.refreshAccount(accountId);
+
+        log.debug("Expense account {} was recorded, {} expense views refreshed", accountId, refreshed);
+    }
+}
@@ -0,0 +1,36 @@
+package io.myfinbox.expense.application;
+
+import java.time.ZoneId;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Use case interface for keeping the listed expenses read model in sync with created, updated, and deleted expenses.
+ */
+public interface ExpenseViewTrackerUseCase {
+
+    /**
+     * Records the creation or the update of an expense, replacing its view with the current state of the expense.
+     *
+     * @param expenseId The identifier of the created or updated expense.
+     * @return true if the view was written, false if the expense no longer exists.
+     */
+    boolean recordModified(UUID expenseId);
+
+    /**
+     * Records the deletion of an expense, removing its view.
+     *
+     * @param expenseId The identifier of the deleted expense.
+     * @return true if the view was removed, false if the expense was not viewed.
+     */
+    boolean recordDeleted(UUID expenseId);
+
+    /**
+     * Records the currency and the zone of a created account, refreshing the views of its expenses.
+     *
+     * @param accountId The identifier of the created account.
+     * @param currency  The currency of the account.
+     * @param zoneId    The zone of the account.
+     */
+    void recordAccountCreated(UUID accountId, Currency currency, ZoneId zoneId);
+}
@@ -71,11 +71,11 @@ class UpdateExpenseService implements UpdateExpenseUseCase {
 
     private Either<Failure, Category> fetchCategoryOrFailure(Category category, UUID categoryId, UUID accountId) {
         if (!category.matches(new CategoryIdentifier(categoryId))) {
-            var possibleCategory = categories.findByIdAndAccount(new CategoryIdentifier(categoryId), new AccountIdentifier(accountId));
-            if (possibleCategory.isEmpty()) {
+            // confirmed within this transaction, a cached category may have been deleted meanwhile by another instance
+            if (!categories.lockByIdAndAccount(categoryId, accountId)) {
                 return Either.left(Failure.ofNotFound(CATEGORY_NOT_FOUND_MESSAGE));
             }
-            category = possibleCategory.get();
+            category = categories.getReferenceById(new CategoryIdentifier(categoryId));
         }
 
         return Either.right(category);
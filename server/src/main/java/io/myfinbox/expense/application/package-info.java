@@ -0,0 +1,7 @@
+/**
+ * Expense use cases and queries, exposed to the other modules.
+ */
+@NamedInterface("application")
+package io.myfinbox.expense.application;
+
+import org.springframework.modulith.NamedInterface;
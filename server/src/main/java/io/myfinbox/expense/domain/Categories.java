@@ -2,10 +2,13 @@ package io.myfinbox.expense.domain;
 
 import io.myfinbox.expense.domain.Category.CategoryIdentifier;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface Categories extends JpaRepository<Category, CategoryIdentifier> {
@@ -16,4 +19,32 @@ public interface Categories extends JpaRepository<Category, CategoryIdentifier>
 
     boolean existsByNameAndAccount(String name, AccountIdentifier accountId);
 
+    /**
+     * Confirms the category of the account exists and locks it in key share mode, the lock the expense foreign key takes,
+     * so it can't be deleted before the transaction ends.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT EXISTS (SELECT 1
+                             FROM expense_category
+                            WHERE id = :categoryId
+                              AND account_id = :accountId
+                              FOR KEY SHARE)
+            """)
+    boolean lockByIdAndAccount(UUID categoryId, UUID accountId);
+
+    /**
+     * Loads the categories and locks them in key share mode, they can't be deleted before the transaction ends.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT c.* FROM expense_category c WHERE c.id IN (:categoryIds) FOR KEY SHARE
+            """)
+    List<Category> lockByIdIn(Collection<UUID> categoryIds);
+
+    @Query(nativeQuery = true, value = """
+            SELECT md5(COALESCE(string_agg(id || ':' || version, ',' ORDER BY id), ''))
+              FROM expense_category
+             WHERE account_id = :accountId
+            """)
+    String versionTagByAccount(UUID accountId);
+
 }
@@ -36,6 +36,10 @@ public final class Category {
 
     private String name;
 
+    @Version
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
     public Category(String name, AccountIdentifier account) {
         this.id = new CategoryIdentifier(UUID.randomUUID());
         this.account = notNull(account, "account cannot be null");
@@ -9,6 +9,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CompositeType;
 import org.springframework.data.domain.AbstractAggregateRoot;
+import org.springframework.data.domain.Persistable;
 
 import javax.money.MonetaryAmount;
 import java.io.Serializable;
@@ -28,7 +29,7 @@ import static lombok.AccessLevel.PRIVATE;
 @ToString
 @EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor(access = PRIVATE, force = true)
-public class Expense extends AbstractAggregateRoot<Expense> {
+public class Expense extends AbstractAggregateRoot<Expense> implements Persistable<Expense.ExpenseIdentifier> {
 
     @EmbeddedId
     private final ExpenseIdentifier id;
@@ -50,9 +51,21 @@ public class Expense extends AbstractAggregateRoot<Expense> {
     private LocalDate expenseDate;
     private String description;
 
+    // published with the events, so the consumers apply them in order
+    @Version
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Category category;
 
+    // identifiers are assigned upfront, tracked to persist new expenses without a select before insert
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private boolean newExpense = true;
+
     @Builder
     public Expense(AccountIdentifier account,
                    MonetaryAmount amount,
@@ -71,6 +84,7 @@ public class Expense extends AbstractAggregateRoot<Expense> {
 
         registerEvent(ExpenseCreated.builder()
                 .expenseId(this.id.id())
+                .version(currentVersion())
                 .accountId(this.account.id())
                 .categoryId(this.category.getId().id())
                 .amount(this.amount)
@@ -90,6 +104,7 @@ public class Expense extends AbstractAggregateRoot<Expense> {
 
         registerEvent(ExpenseUpdated.builder()
                 .expenseId(this.id.id())
+                .version(currentVersion() + 1) // incremented on flush
                 .accountId(this.account.id())
                 .categoryId(this.category.getId().id())
                 .amount(this.amount)
@@ -99,6 +114,21 @@ public class Expense extends AbstractAggregateRoot<Expense> {
                 .build());
     }
 
+    @Override
+    public boolean isNew() {
+        return newExpense;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newExpense = false;
+    }
+
+    private long currentVersion() {
+        return isNull(version) ? 0 : version; // seeded on persist
+    }
+
     public BigDecimal getAmountAsNumber() {
         return amount.getNumber().numberValue(BigDecimal.class);
     }
@@ -110,6 +140,7 @@ public class Expense extends AbstractAggregateRoot<Expense> {
     public void delete() {
         registerEvent(ExpenseDeleted.builder()
                 .expenseId(this.id.id())
+                .version(currentVersion())
                 .accountId(this.account.id())
                 .categoryId(this.category.getId().id())
                 .amount(this.amount)
@@ -0,0 +1,65 @@
+package io.myfinbox.expense.domain;
+
+import io.hypersistence.utils.hibernate.type.money.MonetaryAmountType;
+import io.myfinbox.shared.PaymentType;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CompositeType;
+import org.hibernate.annotations.Immutable;
+
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Read model of an expense as listed, denormalized with its category name, the account currency and the creation date
+ * local to the account zone. Maintained by {@link ExpenseViews} from the expense events, never written through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "expense_view")
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = PRIVATE, force = true)
+public class ExpenseView {
+
+    @Id
+    private final UUID id;
+
+    @Embedded
+    @AttributeOverride(name = "id", column = @Column(name = "account_id"))
+    private final AccountIdentifier account;
+
+    private final UUID categoryId;
+    private final String categoryName;
+
+    @Enumerated(EnumType.STRING)
+    private final PaymentType paymentType;
+
+    @AttributeOverride(name = "amount", column = @Column(name = "amount"))
+    @AttributeOverride(name = "currency", column = @Column(name = "currency"))
+    @CompositeType(MonetaryAmountType.class)
+    private final MonetaryAmount amount;
+
+    private final String accountCurrency;
+    private final LocalDate expenseDate;
+    private final LocalDate creationDate;
+    private final String description;
+    private final Instant creationTimestamp;
+
+    public BigDecimal getAmountAsNumber() {
+        return amount.getNumber().numberValue(BigDecimal.class);
+    }
+
+    public String getCurrencyCode() {
+        return amount.getCurrency().getCurrencyCode();
+    }
+}
@@ -0,0 +1,120 @@
+package io.myfinbox.expense.domain;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ExpenseViews extends JpaRepository<ExpenseView, UUID> {
+
+    @Query(value = """
+            SELECT v FROM ExpenseView v
+            WHERE v.account = :account
+              AND v.expenseDate BETWEEN :from AND :to
+            ORDER BY v.expenseDate DESC, v.id DESC
+            """)
+    List<ExpenseView> findPage(AccountIdentifier account, LocalDate from, LocalDate to, Limit limit);
+
+    /**
+     * The row value comparison seeks the position on the (account_id, expense_date, id) index, so a deep page costs the
+     * same as the first one.
+     */
+    String PAGE_AFTER_QUERY = """
+            SELECT v.* FROM expense_view v
+            WHERE v.account_id = :accountId
+              AND v.expense_date BETWEEN :from AND :to
+              AND (v.expense_date, v.id) < (:expenseDate, :expenseId)
+            ORDER BY v.expense_date DESC, v.id DESC
+            """;
+
+    @Query(nativeQuery = true, value = PAGE_AFTER_QUERY)
+    List<ExpenseView> findPageAfter(UUID accountId,
+                                    LocalDate from,
+                                    LocalDate to,
+                                    LocalDate expenseDate,
+                                    UUID expenseId,
+                                    Limit limit);
+
+    /**
+     * Upserts the view of the expense from its current state, a no-op once the expense is deleted.
+     * The account currency and zone are read from the accounts known to the module, UTC is assumed while the account is
+     * unknown. Creation timestamps are stored in UTC, see {@code hibernate.jdbc.time_zone}.
+     *
+     * @return the number of upserted rows, 0 or 1.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO expense_view AS v (id, account_id, category_id, category_name, payment_type, amount, currency,
+                                           account_currency, expense_date, creation_date, description, creation_timestamp)
+            SELECT e.id,
+                   e.account_id,
+                   e.category_id,
+                   c.name,
+                   e.payment_type,
+                   e.amount,
+                   e.currency,
+                   a.currency,
+                   e.expense_date,
+                   CAST((e.creation_timestamp AT TIME ZONE 'UTC') AT TIME ZONE COALESCE(a.zone_id, 'UTC') AS DATE),
+                   e.description,
+                   e.creation_timestamp
+            FROM expenses e
+                     JOIN expense_category c ON c.id = e.category_id
+                     LEFT JOIN expense_account a ON a.id = e.account_id
+            WHERE e.id = :expenseId
+            ON CONFLICT (id)
+            DO UPDATE SET category_id      = EXCLUDED.category_id,
+                          category_name    = EXCLUDED.category_name,
+                          payment_type     = EXCLUDED.payment_type,
+                          amount           = EXCLUDED.amount,
+                          currency         = EXCLUDED.currency,
+                          account_currency = EXCLUDED.account_currency,
+                          expense_date     = EXCLUDED.expense_date,
+                          creation_date    = EXCLUDED.creation_date,
+                          description      = EXCLUDED.description
+            """)
+    int refresh(UUID expenseId);
+
+    /**
+     * Upserts the currency and the zone of an account, as published by the account module.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO expense_account AS a (id, currency, zone_id)
+            VALUES (:accountId, :currency, :zoneId)
+            ON CONFLICT (id)
+            DO UPDATE SET currency = EXCLUDED.currency,
+                          zone_id  = EXCLUDED.zone_id
+            """)
+    int saveAccount(UUID accountId, String currency, String zoneId);
+
+    /**
+     * Refreshes the account currency and the local creation date of the expenses viewed before the account was known.
+     *
+     * @return the number of refreshed views.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE expense_view v
+               SET account_currency = a.currency,
+                   creation_date    = CAST((v.creation_timestamp AT TIME ZONE 'UTC') AT TIME ZONE a.zone_id AS DATE)
+              FROM expense_account a
+             WHERE a.id = v.account_id
+               AND v.account_id = :accountId
+            """)
+    int refreshAccount(UUID accountId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM expense_view WHERE id = :expenseId")
+    int remove(UUID expenseId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE expense_view SET category_name = :name WHERE category_id = :categoryId")
+    int renameCategory(UUID categoryId, String name);
+}
@@ -1,10 +1,16 @@
 package io.myfinbox.expense.domain;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static io.myfinbox.expense.domain.Expense.ExpenseIdentifier;
 
@@ -22,4 +28,27 @@ public interface Expenses extends JpaRepository<Expense, ExpenseIdentifier> {
 
     Optional<Expense> findByIdAndAccount(ExpenseIdentifier id, AccountIdentifier account);
 
+    /**
+     * The row value comparison seeks the position on the (category_id, expense_date, id) index, so the last page of a
+     * category costs the same as the first one.
+     */
+    String CATEGORY_PAGE_AFTER_QUERY = """
+            SELECT e.* FROM expenses e
+            WHERE e.category_id = :categoryId
+              AND (e.expense_date, e.id) > (:expenseDate, :expenseId)
+            ORDER BY e.expense_date, e.id
+            """;
+
+    @Query(nativeQuery = true, value = """
+            SELECT e.* FROM expenses e
+            WHERE e.category_id = :categoryId
+            ORDER BY e.expense_date, e.id
+            """)
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<Expense> findCategoryPage(UUID categoryId, Limit limit);
+
+    @Query(nativeQuery = true, value = CATEGORY_PAGE_AFTER_QUERY)
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<Expense> findCategoryPageAfter(UUID categoryId, LocalDate expenseDate, UUID expenseId, Limit limit);
+
 }
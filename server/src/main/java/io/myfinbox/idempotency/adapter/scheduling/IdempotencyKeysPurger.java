@@ -0,0 +1,18 @@
+package io.myfinbox.idempotency.adapter.scheduling;
+
+import io.myfinbox.idempotency.application.IdempotencyUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+class IdempotencyKeysPurger {
+
+    private final IdempotencyUseCase idempotencyUseCase;
+
+    @Scheduled(initialDelayString = "${idempotency.purge.interval:PT10M}", fixedDelayString = "${idempotency.purge.interval:PT10M}")
+    void purgeExpired() {
+        idempotencyUseCase.purgeExpired();
+    }
+}
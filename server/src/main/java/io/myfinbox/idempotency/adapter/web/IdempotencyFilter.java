@@ -0,0 +1,227 @@
+package io.myfinbox.idempotency.adapter.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.myfinbox.idempotency.application.IdempotencyUseCase;
+import io.myfinbox.idempotency.application.IdempotencyUseCase.IdempotentRequest;
+import io.myfinbox.idempotency.application.IdempotencyUseCase.StoredResponse;
+import io.myfinbox.shared.ApiErrorResponse;
+import io.myfinbox.shared.ApiFailureHandler;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+import static io.myfinbox.shared.Guards.notNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Replays the stored response of a write request retried with the same Idempotency-Key header,
+ * the request reaches the controller only once per key. Requests without the header are not affected.
+ * <p>
+ * The body is buffered to fingerprint the request, bodies larger than {@code maxRequestSize} are rejected.
+ */
+@Slf4j
+@RequiredArgsConstructor
+final class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String REQUEST_TOO_LARGE_MESSAGE = "Request body of an idempotent request cannot exceed %d bytes.";
+
+    private final IdempotencyUseCase idempotencyUseCase;
+    private final ApiFailureHandler apiFailureHandler;
+    private final ObjectMapper objectMapper;
+    private final long maxRequestSize;
+    private final long maxResponseSize;
+    private final Duration requestTimeout;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !POST.matches(request.getMethod()) || isNull(request.getHeader(IDEMPOTENCY_KEY_HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (request.getContentLengthLong() > maxRequestSize) {
+            writeError(response, ApiErrorResponse.payloadTooLarge(REQUEST_TOO_LARGE_MESSAGE.formatted(maxRequestSize)));
+            return;
+        }
+
+        // the content length is optional, chunked bodies are bounded while being read
+        var body = request.getInputStream().readNBytes(Math.toIntExact(maxRequestSize + 1));
+        if (body.length > maxRequestSize) {
+            writeError(response, ApiErrorResponse.payloadTooLarge(REQUEST_TOO_LARGE_MESSAGE.formatted(maxRequestSize)));
+            return;
+        }
+
+        var idempotentRequest = new IdempotentRequest(
+                request.getRequestURI(),
+                request.getHeader(IDEMPOTENCY_KEY_HEADER),
+                fingerprint(request, body));
+
+        var reservation = idempotencyUseCase.reserve(idempotentRequest);
+        if (reservation.isLeft()) {
+            writeError(response, apiFailureHandler.handle(reservation.getLeft()));
+            return;
+        }
+
+        if (reservation.get().isPresent()) {
+            replay(response, reservation.get().get());
+            return;
+        }
+
+        var responseWrapper = new ContentCachingResponseWrapper(response);
+        var startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyUseCase.release(idempotentRequest);
+            throw e;
+        }
+
+        var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        if (elapsed.compareTo(requestTimeout) > 0) {
+            // the reservation outlives the request timeout only, a retry may take it over once it expires
+            log.warn("Idempotent request {} with key {} took {}, longer than the request timeout {}",
+                    idempotentRequest.requestPath(), idempotentRequest.key(), elapsed, requestTimeout);
+        }
+
+        store(idempotentRequest, responseWrapper);
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void store(IdempotentRequest request, ContentCachingResponseWrapper response) {
+        // server errors are transient, the client must be able to retry them
+        if (response.getStatus() >= 500) {
+            idempotencyUseCase.release(request);
+            return;
+        }
+
+        // the request was processed, retries must not process it again, an oversized body is replayed as status and location only
+        var oversized = response.getContentSize() > maxResponseSize;
+        idempotencyUseCase.complete(request, new StoredResponse(
+                response.getStatus(),
+                oversized ? null : response.getContentType(),
+                response.getHeader(LOCATION),
+                oversized ? null : response.getContentAsByteArray()));
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse storedResponse) throws IOException {
+        response.setStatus(storedResponse.status());
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+        if (nonNull(storedResponse.contentType())) {
+            response.setContentType(storedResponse.contentType());
+        }
+        if (nonNull(storedResponse.location())) {
+            response.setHeader(LOCATION, storedResponse.location());
+        }
+        if (nonNull(storedResponse.body())) {
+            response.setContentLength(storedResponse.body().length);
+            response.getOutputStream().write(storedResponse.body());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ResponseEntity<ApiErrorResponse> errorResponse) throws IOException {
+        response.setStatus(errorResponse.getStatusCode().value());
+        response.setContentType(APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse.getBody());
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getRequestURI().getBytes(UTF_8));
+            if (nonNull(request.getQueryString())) {
+                digest.update(request.getQueryString().getBytes(UTF_8));
+            }
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Request whose body was already read to compute its fingerprint.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    notNull(readListener, "readListener cannot be null.");
+                    // the body is fully buffered, it is available and read at once
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            var encoding = isNull(getCharacterEncoding()) ? UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.myfinbox.idempotency.adapter.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.myfinbox.idempotency.application.IdempotencyUseCase;
+import io.myfinbox.shared.ApiFailureHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+class IdempotencyWebConfig {
+
+    /**
+     * Applies the idempotency filter to the create endpoints listed by {@code idempotency.paths}, relative to the
+     * servlet context path.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyUseCase idempotencyUseCase,
+                                                                       ApiFailureHandler apiFailureHandler,
+                                                                       ObjectMapper objectMapper,
+                                                                       @Value("${idempotency.paths}") String[] paths,
+                                                                       @Value("${idempotency.max-request-size:1MB}") DataSize maxRequestSize,
+                                                                       @Value("${idempotency.max-response-size:64KB}") DataSize maxResponseSize,
+                                                                       @Value("${idempotency.request-timeout:60s}") Duration requestTimeout) {
+        var registration = new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyUseCase, apiFailureHandler,
+                objectMapper, maxRequestSize.toBytes(), maxResponseSize.toBytes(), requestTimeout));
+        registration.addUrlPatterns(paths);
+        return registration;
+    }
+}
@@ -0,0 +1,229 @@
+package io.myfinbox.idempotency.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.myfinbox.shared.Failure;
+import io.myfinbox.shared.Failure.FieldViolation;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Keeps the idempotency keys in the database, shared by all the server instances, completed responses are
+ * additionally held in a weight bounded in-memory cache, so most replays don't hit the database.
+ */
+@Slf4j
+@Service
+class IdempotencyService implements IdempotencyUseCase {
+
+    static final String VALIDATION_FAILURE_MESSAGE = "Validation failed for the idempotent request.";
+    static final String KEY_REUSED_MESSAGE = "Idempotency-Key was already used for a different request.";
+    static final String IN_PROGRESS_MESSAGE = "A request with the same Idempotency-Key is being processed.";
+
+    static final int PURGE_CHUNK_SIZE = 1_000;
+
+    // an expired key, or a reservation left behind by a crashed request, is taken over by the next request
+    static final String RESERVE_QUERY = """
+            INSERT INTO idempotency_keys (request_path, idempotency_key, fingerprint, creation_timestamp, expires_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (request_path, idempotency_key) DO UPDATE
+               SET fingerprint        = EXCLUDED.fingerprint,
+                   creation_timestamp = EXCLUDED.creation_timestamp,
+                   expires_at         = EXCLUDED.expires_at,
+                   status_code        = NULL,
+                   content_type       = NULL,
+                   location           = NULL,
+                   response_body      = NULL
+             WHERE idempotency_keys.expires_at < EXCLUDED.creation_timestamp
+                OR (idempotency_keys.status_code IS NULL AND idempotency_keys.creation_timestamp < ?)
+            """;
+
+    static final String FIND_QUERY = """
+            SELECT fingerprint, status_code, content_type, location, response_body
+              FROM idempotency_keys
+             WHERE request_path = ?
+               AND idempotency_key = ?
+            """;
+
+    static final String COMPLETE_QUERY = """
+            UPDATE idempotency_keys
+               SET status_code = ?, content_type = ?, location = ?, response_body = ?
+             WHERE request_path = ?
+               AND idempotency_key = ?
+               AND fingerprint = ?
+               AND status_code IS NULL
+            """;
+
+    static final String RELEASE_QUERY = """
+            DELETE FROM idempotency_keys
+             WHERE request_path = ?
+               AND idempotency_key = ?
+               AND fingerprint = ?
+               AND status_code IS NULL
+            """;
+
+    static final String PURGE_QUERY = """
+            DELETE FROM idempotency_keys
+             WHERE ctid = ANY (ARRAY(SELECT ctid FROM idempotency_keys WHERE expires_at < ? LIMIT ?))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration reservationTimeout;
+    private final Cache<RequestKey, CompletedRequest> completedRequests;
+
+    IdempotencyService(JdbcTemplate jdbcTemplate,
+                       @Value("${idempotency.ttl:24h}") Duration ttl,
+                       @Value("${idempotency.reservation-timeout:5m}") Duration reservationTimeout,
+                       @Value("${idempotency.request-timeout:60s}") Duration requestTimeout,
+                       @Value("${idempotency.cache.max-size:16MB}") DataSize cacheMaxSize) {
+        // a reservation taken over while its request is still processed would let the request run twice
+        if (reservationTimeout.compareTo(requestTimeout) <= 0) {
+            throw new IllegalArgumentException("idempotency.reservation-timeout %s must exceed the request timeout %s."
+                    .formatted(reservationTimeout, requestTimeout));
+        }
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.reservationTimeout = reservationTimeout;
+        this.completedRequests = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxSize.toBytes())
+                .weigher((RequestKey key, CompletedRequest completed) -> completed.weight())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Either<Failure, Optional<StoredResponse>> reserve(IdempotentRequest request) {
+        if (isNull(request.key()) || request.key().isBlank() || request.key().length() > MAX_KEY_LENGTH) {
+            return Either.left(Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, List.of(FieldViolation.builder()
+                    .field(FIELD_IDEMPOTENCY_KEY)
+                    .message("Idempotency-Key length must be between 1 and %d.".formatted(MAX_KEY_LENGTH))
+                    .rejectedValue(request.key())
+                    .build())));
+        }
+
+        var cached = completedRequests.getIfPresent(RequestKey.of(request));
+        if (nonNull(cached)) {
+            return replay(request, cached);
+        }
+
+        var now = Instant.now();
+        var reserved = jdbcTemplate.update(RESERVE_QUERY,
+                request.requestPath(),
+                request.key(),
+                request.fingerprint(),
+                Timestamp.from(now),
+                Timestamp.from(now.plus(ttl)),
+                Timestamp.from(now.minus(reservationTimeout)));
+
+        if (reserved == 1) {
+            return Either.right(Optional.empty());
+        }
+
+        var existing = jdbcTemplate.query(FIND_QUERY, this::toCompletedRequest, request.requestPath(), request.key());
+        if (existing.isEmpty() || isNull(existing.getFirst().response())) {
+            return Either.left(Failure.ofConflict(IN_PROGRESS_MESSAGE));
+        }
+
+        var completed = existing.getFirst();
+        if (completed.fingerprint().equals(request.fingerprint())) {
+            completedRequests.put(RequestKey.of(request), completed);
+        }
+
+        return replay(request, completed);
+    }
+
+    @Override
+    public void complete(IdempotentRequest request, StoredResponse response) {
+        var completed = jdbcTemplate.update(COMPLETE_QUERY,
+                response.status(),
+                response.contentType(),
+                response.location(),
+                response.body(),
+                request.requestPath(),
+                request.key(),
+                request.fingerprint());
+
+        if (completed != 1) {
+            // the reservation was released, purged or taken over meanwhile, the stored response is not this one
+            log.warn("Idempotency key {} of {} was no longer reserved, the response was not stored",
+                    request.key(), request.requestPath());
+            return;
+        }
+
+        completedRequests.put(RequestKey.of(request), new CompletedRequest(request.fingerprint(), response));
+    }
+
+    @Override
+    public void release(IdempotentRequest request) {
+        jdbcTemplate.update(RELEASE_QUERY, request.requestPath(), request.key(), request.fingerprint());
+    }
+
+    @Override
+    public int purgeExpired() {
+        var now = Timestamp.from(Instant.now());
+        var purged = 0;
+        int deleted;
+        do {
+            // bounded chunks keep the delete transactions and their locks short
+            deleted = jdbcTemplate.update(PURGE_QUERY, now, PURGE_CHUNK_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE);
+
+        log.debug("Purged {} expired idempotency keys", purged);
+        return purged;
+    }
+
+    private Either<Failure, Optional<StoredResponse>> replay(IdempotentRequest request, CompletedRequest completed) {
+        if (!completed.fingerprint().equals(request.fingerprint())) {
+            return Either.left(Failure.ofValidation(KEY_REUSED_MESSAGE, List.of(FieldViolation.builder()
+                    .field(FIELD_IDEMPOTENCY_KEY)
+                    .message(KEY_REUSED_MESSAGE)
+                    .rejectedValue(request.key())
+                    .build())));
+        }
+
+        return Either.right(Optional.of(completed.response()));
+    }
+
+    private CompletedRequest toCompletedRequest(ResultSet resultSet, int rowNum) throws SQLException {
+        var status = resultSet.getObject("status_code", Integer.class);
+        var response = isNull(status) ? null : new StoredResponse(
+                status,
+                resultSet.getString("content_type"),
+                resultSet.getString("location"),
+                resultSet.getBytes("response_body"));
+
+        return new CompletedRequest(resultSet.getString("fingerprint"), response);
+    }
+
+    private record RequestKey(String requestPath, String key) {
+
+        static RequestKey of(IdempotentRequest request) {
+            return new RequestKey(request.requestPath(), request.key());
+        }
+    }
+
+    private record CompletedRequest(String fingerprint, StoredResponse response) {
+
+        int weight() {
+            var body = response.body();
+            return 256 + (isNull(body) ? 0 : body.length);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.myfinbox.idempotency.application;
+
+import io.myfinbox.shared.Failure;
+import io.vavr.control.Either;
+
+import java.util.Optional;
+
+/**
+ * Use case interface for replaying the responses of retried write requests carrying an idempotency key.
+ */
+public interface IdempotencyUseCase {
+
+    String FIELD_IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    int MAX_KEY_LENGTH = 255;
+
+    /**
+     * Reserves the idempotency key of the request, a request can only be processed by the holder of its reservation.
+     *
+     * @param request The request to reserve.
+     * @return {@link Either} a {@link Failure} instance if the key is invalid, reused with a different request
+     * or currently reserved, an empty {@link Optional} if the reservation was acquired,
+     * or the stored response if the request was already processed.
+     */
+    Either<Failure, Optional<StoredResponse>> reserve(IdempotentRequest request);
+
+    /**
+     * Stores the response of a reserved request, to be replayed until the key expires.
+     *
+     * @param request  The reserved request.
+     * @param response The response to replay.
+     */
+    void complete(IdempotentRequest request, StoredResponse response);
+
+    /**
+     * Releases the reservation of a request that was not processed, so it can be retried.
+     *
+     * @param request The reserved request.
+     */
+    void release(IdempotentRequest request);
+
+    /**
+     * Deletes the expired idempotency keys.
+     *
+     * @return the number of deleted keys.
+     */
+    int purgeExpired();
+
+    /**
+     * A write request identified by its idempotency key.
+     *
+     * @param requestPath The path of the request, keys are scoped by path.
+     * @param key         The idempotency key provided by the client.
+     * @param fingerprint Hash of the request, detects a key reused for a different request.
+     */
+    record IdempotentRequest(String requestPath, String key, String fingerprint) {
+    }
+
+    /**
+     * The response of a processed request, the body is null when it was not stored.
+     */
+    record StoredResponse(int status, String contentType, String location, byte[] body) {
+    }
+}
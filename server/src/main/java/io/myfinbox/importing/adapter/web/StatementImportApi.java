@@ -0,0 +1,44 @@
+package io.myfinbox.importing.adapter.web;
+
+import io.myfinbox.rest.StatementImportResource;
+import io.myfinbox.shared.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+public interface StatementImportApi {
+
+    String TAG = "imports";
+
+    @Operation(summary = "Import a bank statement in the MyFinBox",
+            description = "Import a CSV or OFX bank statement, debits are added as expenses and credits as incomes. " +
+                    "The statement is read and committed in batches, each transaction is imported or rejected on its own",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statement processed, see the failures of the rejected transactions",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StatementImportResource.class))),
+            @ApiResponse(responseCode = "400", description = "Type Mismatch Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Invalid import request or statement header",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Import interrupted, the report counts the batches committed before the interruption",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StatementImportResource.class)))
+    })
+    ResponseEntity<?> importStatement(@Parameter(description = "Account the statement belongs to", required = true) UUID accountId,
+                                      @Parameter(description = "Expense category of debits without their own category") UUID categoryId,
+                                      @Parameter(description = "Income source of credits without their own income source") UUID incomeSourceId,
+                                      @Parameter(description = "Currency of transactions without their own currency") String currencyCode,
+                                      @Parameter(description = "Statement format, 'csv' or 'ofx'", required = true) String format,
+                                      @Parameter(description = "Statement content", required = true) InputStream statement);
+}
@@ -0,0 +1,99 @@
+package io.myfinbox.importing.adapter.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.myfinbox.importing.application.StatementImportUseCase;
+import io.myfinbox.importing.application.StatementImportUseCase.ImportCommand;
+import io.myfinbox.importing.application.StatementImportUseCase.ImportProgress;
+import io.myfinbox.importing.application.StatementImportUseCase.ImportReport;
+import io.myfinbox.importing.application.StatementImportUseCase.LineFailure;
+import io.myfinbox.rest.StatementImportFailureResource;
+import io.myfinbox.rest.StatementImportResource;
+import io.myfinbox.shared.ApiFailureHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.internalServerError;
+import static org.springframework.http.ResponseEntity.ok;
+
+@Slf4j
+@RestController
+@RequestMapping(path = "/v1/imports/statements")
+@RequiredArgsConstructor
+final class StatementImportController implements StatementImportApi {
+
+    static final String BATCHES_COUNTER = "importing.statement.batches";
+    static final String LINES_COUNTER = "importing.statement.lines";
+
+    private final StatementImportUseCase statementImportUseCase;
+    private final ApiFailureHandler apiFailureHandler;
+    private final MeterRegistry meterRegistry;
+
+    @PostMapping(produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importStatement(@RequestParam(required = false) UUID accountId,
+                                             @RequestParam(required = false) UUID categoryId,
+                                             @RequestParam(required = false) UUID incomeSourceId,
+                                             @RequestParam(required = false) String currencyCode,
+                                             @RequestParam(required = false) String format,
+                                             InputStream statement) {
+        var command = ImportCommand.builder()
+                .accountId(accountId)
+                .categoryId(categoryId)
+                .incomeSourceId(incomeSourceId)
+                .currencyCode(currencyCode)
+                .format(format)
+                .build();
+
+        return statementImportUseCase.importStatement(command, statement, progressListener(accountId))
+                .fold(apiFailureHandler::handle, report -> report.interrupted()
+                        ? internalServerError().body(toResource(report))
+                        : ok().body(toResource(report)));
+    }
+
+    /**
+     * Counts the lines and batches committed by the imports as they progress, the counters advance with every
+     * committed batch rather than once the statement is read.
+     */
+    private Consumer<ImportProgress> progressListener(UUID accountId) {
+        var committed = new AtomicReference<>(new ImportProgress(0, 0, 0, 0, 0));
+        return progress -> {
+            var previous = committed.getAndSet(progress);
+            meterRegistry.counter(BATCHES_COUNTER).increment(progress.committedBatches() - previous.committedBatches());
+            meterRegistry.counter(LINES_COUNTER, "outcome", "imported").increment(
+                    progress.importedExpenses() + progress.importedIncomes() - previous.importedExpenses() - previous.importedIncomes());
+            meterRegistry.counter(LINES_COUNTER, "outcome", "failed").increment(progress.failedLines() - previous.failedLines());
+            log.debug("Statement import of account {} progressed: {}", accountId, progress);
+        };
+    }
+
+    private StatementImportResource toResource(ImportReport report) {
+        return new StatementImportResource()
+                .processedLines(report.totals().processedLines())
+                .importedExpenses(report.totals().importedExpenses())
+                .importedIncomes(report.totals().importedIncomes())
+                .failedLines(report.totals().failedLines())
+                .committedBatches(report.totals().committedBatches())
+                .interrupted(report.interrupted())
+                .failures(report.failures().stream()
+                        .map(this::toResource)
+                        .toList());
+    }
+
+    private StatementImportFailureResource toResource(LineFailure lineFailure) {
+        var failure = apiFailureHandler.handle(lineFailure.failure());
+        return new StatementImportFailureResource()
+                .line(lineFailure.line())
+                .status(failure.getStatusCode().value())
+                .error(failure.getBody());
+    }
+}
@@ -0,0 +1,210 @@
+package io.myfinbox.importing.application;
+
+import io.myfinbox.shared.Failure;
+import io.myfinbox.shared.Failure.FieldViolation;
+import io.vavr.control.Either;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+import static io.myfinbox.importing.application.StatementImportUseCase.FIELD_STATEMENT;
+import static io.myfinbox.importing.application.StatementLine.PARSE_FAILURE_MESSAGE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Reads RFC 4180 CSV statements with a header row, the 'date' and 'amount' columns are required,
+ * 'currency', 'paymentType', 'description', 'categoryId' and 'incomeSourceId' are optional.
+ */
+final class CsvStatementReader implements StatementReader {
+
+    static final String COLUMN_DATE = "date";
+    static final String COLUMN_AMOUNT = "amount";
+    static final String COLUMN_CURRENCY = "currency";
+    static final String COLUMN_PAYMENT_TYPE = "paymenttype";
+    static final String COLUMN_DESCRIPTION = "description";
+    static final String COLUMN_CATEGORY_ID = "categoryid";
+    static final String COLUMN_INCOME_SOURCE_ID = "incomesourceid";
+
+    // guards against unterminated quotes swallowing the rest of the statement
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns;
+    private int lineNumber;
+
+    private CsvStatementReader(BufferedReader reader, Map<String, Integer> columns, int lineNumber) {
+        this.reader = reader;
+        this.columns = columns;
+        this.lineNumber = lineNumber;
+    }
+
+    static Either<Failure, StatementReader> open(BufferedReader reader) throws IOException {
+        var header = new CsvStatementReader(reader, Map.of(), 0);
+        var names = header.readRecord();
+        var columns = new HashMap<String, Integer>();
+        if (nonNull(names)) {
+            for (var i = 0; i < names.size(); i++) {
+                columns.putIfAbsent(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        if (!columns.containsKey(COLUMN_DATE) || !columns.containsKey(COLUMN_AMOUNT)) {
+            return Either.left(Failure.ofValidation(StatementImportService.VALIDATION_FAILURE_MESSAGE, List.of(
+                    FieldViolation.builder()
+                            .field(FIELD_STATEMENT)
+                            .message("Statement header must contain 'date' and 'amount' columns.")
+                            .rejectedValue(isNull(names) ? null : String.join(",", names))
+                            .build())));
+        }
+
+        return Either.right(new CsvStatementReader(reader, columns, header.lineNumber));
+    }
+
+    @Override
+    public Optional<StatementLine.Parsed> next() throws IOException {
+        List<String> fields;
+        int recordLine;
+        do {
+            recordLine = lineNumber + 1;
+            fields = readRecord();
+            if (isNull(fields)) {
+                return Optional.empty();
+            }
+        } while (fields.size() == 1 && fields.getFirst().isBlank());
+
+        return Optional.of(new StatementLine.Parsed(recordLine, parse(fields)));
+    }
+
+    private Either<Failure, StatementLine> parse(List<String> fields) {
+        var violations = new ArrayList<FieldViolation>();
+
+        var date = valueOf(fields, COLUMN_DATE);
+        LocalDate parsedDate = null;
+        if (nonNull(date)) {
+            try {
+                parsedDate = LocalDate.parse(date);
+            } catch (DateTimeParseException e) {
+                violations.add(violation(COLUMN_DATE, "Date must be in ISO 8601 format (YYYY-MM-DD).", date));
+            }
+        }
+
+        var amount = valueOf(fields, COLUMN_AMOUNT);
+        BigDecimal parsedAmount = null;
+        if (isNull(amount)) {
+            violations.add(violation(COLUMN_AMOUNT, "Amount cannot be empty.", null));
+        } else {
+            try {
+                parsedAmount = new BigDecimal(amount);
+            } catch (NumberFormatException e) {
+                violations.add(violation(COLUMN_AMOUNT, "Amount must be a number.", amount));
+            }
+        }
+
+        var categoryId = uuidOf(fields, COLUMN_CATEGORY_ID, "categoryId", violations);
+        var incomeSourceId = uuidOf(fields, COLUMN_INCOME_SOURCE_ID, "incomeSourceId", violations);
+
+        if (!violations.isEmpty()) {
+            return Either.left(Failure.ofValidation(PARSE_FAILURE_MESSAGE, violations));
+        }
+
+        return Either.right(new StatementLine(
+                parsedDate,
+                parsedAmount,
+                valueOf(fields, COLUMN_CURRENCY),
+                valueOf(fields, COLUMN_PAYMENT_TYPE),
+                valueOf(fields, COLUMN_DESCRIPTION),
+                categoryId,
+                incomeSourceId));
+    }
+
+    private UUID uuidOf(List<String> fields, String column, String field, List<FieldViolation> violations) {
+        var value = valueOf(fields, column);
+        if (isNull(value)) {
+            return null;
+        }
+
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            violations.add(violation(field, "%s must be a valid UUID.".formatted(Character.toUpperCase(field.charAt(0)) + field.substring(1)), value));
+            return null;
+        }
+    }
+
+    private String valueOf(List<String> fields, String column) {
+        var index = columns.get(column);
+        if (isNull(index) || index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+
+        return fields.get(index).trim();
+    }
+
+    private FieldViolation violation(String field, String message, Object rejectedValue) {
+        return FieldViolation.builder()
+                .field(field)
+                .message(message)
+                .rejectedValue(rejectedValue)
+                .build();
+    }
+
+    private List<String> readRecord() throws IOException {
+        var line = reader.readLine();
+        if (isNull(line)) {
+            return null;
+        }
+        lineNumber++;
+
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        var quoted = false;
+        var length = 0;
+        while (true) {
+            length += line.length();
+            if (length > MAX_RECORD_LENGTH) {
+                throw new IOException("Statement line %d exceeds %d characters.".formatted(lineNumber, MAX_RECORD_LENGTH));
+            }
+
+            for (var i = 0; i < line.length(); i++) {
+                var c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+
+            if (!quoted) {
+                break;
+            }
+
+            // quoted field spanning lines
+            line = reader.readLine();
+            if (isNull(line)) {
+                break;
+            }
+            lineNumber++;
+            field.append('\n');
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+}
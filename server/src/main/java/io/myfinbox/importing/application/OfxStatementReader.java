@@ -0,0 +1,176 @@
+package io.myfinbox.importing.application;
+
+import io.myfinbox.shared.Failure;
+import io.myfinbox.shared.Failure.FieldViolation;
+import io.vavr.control.Either;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.myfinbox.importing.application.StatementLine.PARSE_FAILURE_MESSAGE;
+import static java.time.format.DateTimeFormatter.BASIC_ISO_DATE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Reads OFX statements, both the SGML (1.x) and the XML (2.x) flavours, tag by tag.
+ * Each STMTTRN aggregate is a transaction, numbered by its position in the statement.
+ */
+final class OfxStatementReader implements StatementReader {
+
+    static final String TAG_CURRENCY = "CURDEF";
+    static final String TAG_TRANSACTION = "STMTTRN";
+    static final String TAG_AMOUNT = "TRNAMT";
+    static final String TAG_DATE_POSTED = "DTPOSTED";
+    static final String TAG_NAME = "NAME";
+    static final String TAG_MEMO = "MEMO";
+
+    // guards against malformed statements swallowing the rest of the input in a single token
+    static final int MAX_TOKEN_LENGTH = 4 * 1024;
+
+    private final BufferedReader reader;
+    private final Map<String, String> transaction = new HashMap<>();
+    private String currencyCode;
+    private int transactionNumber;
+
+    OfxStatementReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Optional<StatementLine.Parsed> next() throws IOException {
+        var inTransaction = false;
+        String tag;
+        while (nonNull(tag = nextTag())) {
+            if (tag.equals(TAG_TRANSACTION)) {
+                inTransaction = true;
+                transactionNumber++;
+                transaction.clear();
+            } else if (tag.equals("/" + TAG_TRANSACTION) && inTransaction) {
+                return Optional.of(new StatementLine.Parsed(transactionNumber, parse()));
+            } else if (tag.equals(TAG_CURRENCY)) {
+                currencyCode = blankToNull(nextValue());
+            } else if (inTransaction && !tag.startsWith("/")) {
+                transaction.put(tag, nextValue());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private Either<Failure, StatementLine> parse() {
+        var violations = new ArrayList<FieldViolation>();
+
+        var datePosted = blankToNull(transaction.get(TAG_DATE_POSTED));
+        LocalDate date = null;
+        if (nonNull(datePosted)) {
+            try {
+                // YYYYMMDD optionally followed by time and time zone
+                date = LocalDate.parse(datePosted.substring(0, Math.min(8, datePosted.length())), BASIC_ISO_DATE);
+            } catch (DateTimeParseException e) {
+                violations.add(violation(TAG_DATE_POSTED, "Date must be in OFX format (YYYYMMDD).", datePosted));
+            }
+        }
+
+        var transactionAmount = blankToNull(transaction.get(TAG_AMOUNT));
+        BigDecimal amount = null;
+        if (isNull(transactionAmount)) {
+            violations.add(violation(TAG_AMOUNT, "Amount cannot be empty.", null));
+        } else {
+            try {
+                // some institutions use a comma as decimal separator
+                amount = new BigDecimal(transactionAmount.replace(',', '.'));
+            } catch (NumberFormatException e) {
+                violations.add(violation(TAG_AMOUNT, "Amount must be a number.", transactionAmount));
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            return Either.left(Failure.ofValidation(PARSE_FAILURE_MESSAGE, violations));
+        }
+
+        var name = blankToNull(transaction.get(TAG_NAME));
+        return Either.right(new StatementLine(
+                date,
+                amount,
+                currencyCode,
+                null,
+                nonNull(name) ? name : blankToNull(transaction.get(TAG_MEMO)),
+                null,
+                null));
+    }
+
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            // skips the SGML header and the text between tags
+        }
+
+        if (c == -1) {
+            return null;
+        }
+
+        var tag = new StringBuilder();
+        while ((c = reader.read()) != -1 && c != '>') {
+            append(tag, c);
+        }
+
+        return tag.toString().trim().toUpperCase(Locale.ROOT);
+    }
+
+    private String nextValue() throws IOException {
+        var value = new StringBuilder();
+        int c;
+        reader.mark(1);
+        while ((c = reader.read()) != -1 && c != '<') {
+            append(value, c);
+            reader.mark(1);
+        }
+
+        if (c == '<') {
+            reader.reset();
+        }
+
+        return unescape(value.toString().trim());
+    }
+
+    private void append(StringBuilder token, int c) throws IOException {
+        if (token.length() == MAX_TOKEN_LENGTH) {
+            throw new IOException("Statement transaction %d has a token exceeding %d characters.".formatted(transactionNumber, MAX_TOKEN_LENGTH));
+        }
+
+        token.append((char) c);
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+
+        return value.replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private static String blankToNull(String value) {
+        return isNull(value) || value.isBlank() ? null : value;
+    }
+
+    private static FieldViolation violation(String field, String message, Object rejectedValue) {
+        return FieldViolation.builder()
+                .field(field)
+                .message(message)
+                .rejectedValue(rejectedValue)
+                .build();
+    }
+}
@@ -0,0 +1,260 @@
+package io.myfinbox.importing.application;
+
+import io.myfinbox.expense.application.CreateExpenseUseCase;
+import io.myfinbox.expense.application.ExpenseCommand;
+import io.myfinbox.importing.application.StatementReader.StatementFormat;
+import io.myfinbox.income.application.CreateIncomeUseCase;
+import io.myfinbox.income.application.IncomeCommand;
+import io.myfinbox.shared.Failure;
+import io.myfinbox.shared.Failure.FieldViolation;
+import io.vavr.control.Either;
+import io.vavr.control.Validation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static io.myfinbox.shared.PaymentType.CARD;
+import static io.vavr.API.Invalid;
+import static io.vavr.API.Valid;
+import static java.util.Objects.nonNull;
+
+/**
+ * Imports statements by pulling one transaction at a time from the reader, debits and credits are buffered
+ * separately and committed through the batch create use cases once a buffer is full. Reading is paused while
+ * a batch is written, so at most one batch per kind is held in memory regardless of the statement size.
+ * <p>
+ * Committed batches are kept when a later read or commit fails, the import is reported as interrupted after them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class StatementImportService implements StatementImportUseCase {
+
+    static final String VALIDATION_FAILURE_MESSAGE = "Validation failed for the statement import request.";
+
+    static final int BATCH_SIZE = 100;
+
+    private final CreateExpenseUseCase createExpenseUseCase;
+    private final CreateIncomeUseCase createIncomeUseCase;
+
+    @Override
+    public Either<Failure, ImportReport> importStatement(ImportCommand command, InputStream statement, Consumer<ImportProgress> progressListener) {
+        var validation = Validation.combine(
+                validateAccountId(command.accountId()),
+                validateFormat(command.format())
+        ).ap((accountId, format) -> format);
+
+        if (validation.isInvalid()) {
+            return Either.left(Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, validation.getError().toJavaList()));
+        }
+
+        try {
+            var possibleReader = StatementReader.open(validation.get(), statement);
+            if (possibleReader.isLeft()) {
+                return Either.left(possibleReader.getLeft());
+            }
+
+            return Either.right(new StatementImport(command, progressListener).run(possibleReader.get()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Validation<FieldViolation, UUID> validateAccountId(UUID accountId) {
+        if (nonNull(accountId)) {
+            return Valid(accountId);
+        }
+
+        return Invalid(FieldViolation.builder()
+                .field(FIELD_ACCOUNT_ID)
+                .message("AccountId cannot be null.")
+                .build());
+    }
+
+    private Validation<FieldViolation, StatementFormat> validateFormat(String format) {
+        var statementFormat = StatementFormat.fromValue(format);
+        if (statementFormat.isPresent()) {
+            return Valid(statementFormat.get());
+        }
+
+        return Invalid(FieldViolation.builder()
+                .field(FIELD_FORMAT)
+                .message("Format must be 'csv' or 'ofx'.")
+                .rejectedValue(format)
+                .build());
+    }
+
+    /**
+     * State of a single import run.
+     */
+    @RequiredArgsConstructor
+    private final class StatementImport {
+
+        private final ImportCommand command;
+        private final Consumer<ImportProgress> progressListener;
+
+        private final Batch<ExpenseCommand> expenses = new Batch<>();
+        private final Batch<IncomeCommand> incomes = new Batch<>();
+        private final List<LineFailure> failures = new ArrayList<>();
+
+        private int processedLines;
+        private int importedExpenses;
+        private int importedIncomes;
+        private int failedLines;
+        private int committedBatches;
+
+        ImportReport run(StatementReader reader) {
+            try {
+                for (var parsed = reader.next(); parsed.isPresent(); parsed = reader.next()) {
+                    processedLines++;
+                    var line = parsed.get().line();
+                    parsed.get().statementLine().fold(
+                            failure -> fail(line, failure),
+                            statementLine -> add(line, statementLine)
+                    );
+                }
+
+                flushExpenses();
+                flushIncomes();
+            } catch (IOException | RuntimeException e) {
+                log.error("Statement import of account {} interrupted after {} committed batches",
+                        command.accountId(), committedBatches, e);
+                return new ImportReport(progress(), List.copyOf(failures), true);
+            }
+
+            return new ImportReport(progress(), List.copyOf(failures), false);
+        }
+
+        private Void add(int line, StatementLine statementLine) {
+            if (statementLine.isDebit()) {
+                expenses.add(line, toExpenseCommand(statementLine));
+                if (expenses.isFull()) {
+                    flushExpenses();
+                }
+            } else {
+                incomes.add(line, toIncomeCommand(statementLine));
+                if (incomes.isFull()) {
+                    flushIncomes();
+                }
+            }
+
+            return null;
+        }
+
+        private void flushExpenses() {
+            if (!expenses.isEmpty()) {
+                importedExpenses += expenses.flush(createExpenseUseCase::createAll);
+                progressListener.accept(progress());
+            }
+        }
+
+        private void flushIncomes() {
+            if (!incomes.isEmpty()) {
+                importedIncomes += incomes.flush(createIncomeUseCase::createAll);
+                progressListener.accept(progress());
+            }
+        }
+
+        private Void fail(int line, Failure failure) {
+            failedLines++;
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(new LineFailure(line, failure));
+            }
+
+            return null;
+        }
+
+        private ImportProgress progress() {
+            return new ImportProgress(processedLines, importedExpenses, importedIncomes, failedLines, committedBatches);
+        }
+
+        private ExpenseCommand toExpenseCommand(StatementLine statementLine) {
+            return ExpenseCommand.builder()
+                    .accountId(command.accountId())
+                    .categoryId(nonNull(statementLine.categoryId()) ? statementLine.categoryId() : command.categoryId())
+                    .paymentType(paymentTypeOf(statementLine))
+                    .amount(statementLine.amount().negate())
+                    .currencyCode(currencyCodeOf(statementLine))
+                    .expenseDate(statementLine.date())
+                    .description(statementLine.description())
+                    .build();
+        }
+
+        private IncomeCommand toIncomeCommand(StatementLine statementLine) {
+            return IncomeCommand.builder()
+                    .accountId(command.accountId())
+                    .incomeSourceId(nonNull(statementLine.incomeSourceId()) ? statementLine.incomeSourceId() : command.incomeSourceId())
+                    .paymentType(paymentTypeOf(statementLine))
+                    .amount(statementLine.amount())
+                    .currencyCode(currencyCodeOf(statementLine))
+                    .incomeDate(statementLine.date())
+                    .description(statementLine.description())
+                    .build();
+        }
+
+        private String paymentTypeOf(StatementLine statementLine) {
+            return nonNull(statementLine.paymentType()) ? statementLine.paymentType() : CARD.value();
+        }
+
+        private String currencyCodeOf(StatementLine statementLine) {
+            return nonNull(statementLine.currencyCode()) ? statementLine.currencyCode() : command.currencyCode();
+        }
+
+        /**
+         * Pending commands of one kind together with the statement lines they were read from.
+         */
+        private final class Batch<C> {
+
+            private final List<Integer> lines = new ArrayList<>(BATCH_SIZE);
+            private final List<C> commands = new ArrayList<>(BATCH_SIZE);
+
+            void add(int line, C command) {
+                lines.add(line);
+                commands.add(command);
+            }
+
+            boolean isEmpty() {
+                return commands.isEmpty();
+            }
+
+            boolean isFull() {
+                return commands.size() == BATCH_SIZE;
+            }
+
+            /**
+             * Commits the pending commands, failures are reported against their statement lines.
+             * A batch failing unexpectedly is not committed and interrupts the import.
+             *
+             * @return the number of committed commands.
+             */
+            int flush(Function<List<C>, Either<Failure, ? extends List<? extends Either<Failure, ?>>>> createAll) {
+                var created = 0;
+                var result = createAll.apply(List.copyOf(commands));
+                if (result.isRight()) { // a rejected batch commits nothing
+                    committedBatches++;
+                }
+                for (var i = 0; i < lines.size(); i++) {
+                    var outcome = result.isLeft() ? Either.left(result.getLeft()) : result.get().get(i);
+                    if (outcome.isLeft()) {
+                        fail(lines.get(i), outcome.getLeft());
+                    } else {
+                        created++;
+                    }
+                }
+
+                lines.clear();
+                commands.clear();
+                return created;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.myfinbox.importing.application;
+
+import io.myfinbox.shared.Failure;
+import io.vavr.control.Either;
+import lombok.Builder;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Use case interface for importing bank statements into expenses and incomes.
+ * <p>
+ * Debits (negative amounts) are imported as expenses and credits (positive amounts) as incomes.
+ */
+public interface StatementImportUseCase {
+
+    String FIELD_ACCOUNT_ID = "accountId";
+    String FIELD_CATEGORY_ID = "categoryId";
+    String FIELD_INCOME_SOURCE_ID = "incomeSourceId";
+    String FIELD_FORMAT = "format";
+    String FIELD_STATEMENT = "statement";
+
+    int MAX_REPORTED_FAILURES = 100;
+
+    /**
+     * Imports the statement read incrementally from the provided input, committing the lines in batches.
+     *
+     * @param command          The command containing the import details.
+     * @param statement        The statement content, read once and not closed.
+     * @param progressListener Notified after each committed batch.
+     * @return {@link Either} a {@link Failure} instance if the import can't start, or the report of the imported lines,
+     * interrupted when reading the statement or committing a batch failed unexpectedly.
+     */
+    Either<Failure, ImportReport> importStatement(ImportCommand command, InputStream statement, Consumer<ImportProgress> progressListener);
+
+    /**
+     * Command describing a statement import.
+     *
+     * @param accountId      The account the statement belongs to.
+     * @param categoryId     The expense category of debit lines without their own category.
+     * @param incomeSourceId The income source of credit lines without their own income source.
+     * @param currencyCode   The currency of lines without their own currency, optional.
+     * @param format         The statement format, 'csv' or 'ofx'.
+     */
+    @Builder
+    record ImportCommand(UUID accountId,
+                         UUID categoryId,
+                         UUID incomeSourceId,
+                         String currencyCode,
+                         String format) {
+    }
+
+    /**
+     * Progress of an import, counted over the committed batches.
+     *
+     * @param processedLines   The number of lines read from the statement, committed or not.
+     * @param importedExpenses The number of committed expenses.
+     * @param importedIncomes  The number of committed incomes.
+     * @param failedLines      The number of lines that were not imported.
+     * @param committedBatches The number of committed batches of expenses and incomes.
+     */
+    record ImportProgress(int processedLines,
+                          int importedExpenses,
+                          int importedIncomes,
+                          int failedLines,
+                          int committedBatches) {
+    }
+
+    /**
+     * Report of an import, failures are kept for the first {@link #MAX_REPORTED_FAILURES} failed lines.
+     * <p>
+     * An interrupted import keeps the batches committed before the interruption, counted by the totals,
+     * the lines read but not committed yet are neither imported nor failed.
+     */
+    record ImportReport(ImportProgress totals, List<LineFailure> failures, boolean interrupted) {
+    }
+
+    /**
+     * A statement line that could not be imported.
+     *
+     * @param line    The line number in the statement, or the transaction number for OFX statements.
+     * @param failure The reason the line was not imported.
+     */
+    record LineFailure(int line, Failure failure) {
+    }
+}
@@ -0,0 +1,32 @@
+package io.myfinbox.importing.application;
+
+import io.myfinbox.shared.Failure;
+import io.vavr.control.Either;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A transaction parsed from a statement, fields missing from the statement are null.
+ */
+record StatementLine(LocalDate date,
+                     BigDecimal amount,
+                     String currencyCode,
+                     String paymentType,
+                     String description,
+                     UUID categoryId,
+                     UUID incomeSourceId) {
+
+    static final String PARSE_FAILURE_MESSAGE = "Statement line could not be parsed.";
+
+    boolean isDebit() {
+        return amount.signum() < 0;
+    }
+
+    /**
+     * A parsed line, or the failure to parse it, together with its position in the statement.
+     */
+    record Parsed(int line, Either<Failure, StatementLine> statementLine) {
+    }
+}
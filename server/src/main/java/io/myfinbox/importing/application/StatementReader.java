@@ -0,0 +1,46 @@
+package io.myfinbox.importing.application;
+
+import io.myfinbox.shared.Failure;
+import io.vavr.control.Either;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads a statement incrementally, one transaction per call, holding only the current transaction in memory.
+ */
+interface StatementReader {
+
+    /**
+     * Reads the next transaction of the statement.
+     *
+     * @return the next parsed transaction, or empty once the statement is exhausted.
+     * @throws IOException if the statement can't be read.
+     */
+    Optional<StatementLine.Parsed> next() throws IOException;
+
+    static Either<Failure, StatementReader> open(StatementFormat format, InputStream statement) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(statement, UTF_8));
+        return switch (format) {
+            case CSV -> CsvStatementReader.open(reader);
+            case OFX -> Either.right(new OfxStatementReader(reader));
+        };
+    }
+
+    enum StatementFormat {
+
+        CSV, OFX;
+
+        static Optional<StatementFormat> fromValue(String value) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equalsIgnoreCase(value))
+                    .findFirst();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import javax.money.MonetaryAmount;
 import java.time.LocalDate;
 import java.util.UUID;
 
+import static io.myfinbox.shared.Guards.notBlank;
 import static io.myfinbox.shared.Guards.notNull;
 
 /**
@@ -22,17 +23,21 @@ public record IncomeDeleted(UUID incomeId,
                             UUID incomeSourceId,
                             MonetaryAmount amount,
                             LocalDate incomeDate,
-                            PaymentType paymentType) implements DomainEvent {
+                            PaymentType paymentType,
+                            String incomeSourceName,
+                            long version) implements DomainEvent {
 
     /**
      * Constructor for the IncomeDeleted record.
      *
-     * @param incomeId       The unique identifier of the income.
-     * @param accountId      The identifier of the account associated with the income.
-     * @param incomeSourceId The identifier of the income source associated with the income.
-     * @param amount         The amount of the income.
-     * @param incomeDate     The date of the income.
-     * @param paymentType    The payment type of the income.
+     * @param incomeId         The unique identifier of the income.
+     * @param accountId        The identifier of the account associated with the income.
+     * @param incomeSourceId   The identifier of the income source associated with the income.
+     * @param amount           The amount of the income.
+     * @param incomeDate       The date of the income.
+     * @param paymentType      The payment type of the income.
+     * @param incomeSourceName The income source name associated with the income.
+     * @param version          The version of the income, increasing with every update.
      */
     public IncomeDeleted {
         notNull(incomeId, "incomeId cannot be null.");
@@ -41,5 +46,6 @@ public record IncomeDeleted(UUID incomeId,
         notNull(amount, "amount cannot be null.");
         notNull(incomeDate, "incomeDate cannot be null.");
         notNull(paymentType, "paymentType cannot be null.");
+        notBlank(incomeSourceName, "incomeSourceName cannot be blank.");
     }
 }
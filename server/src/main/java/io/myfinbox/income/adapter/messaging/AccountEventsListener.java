@@ -3,6 +3,7 @@ package io.myfinbox.income.adapter.messaging;
 import io.myfinbox.account.AccountCreated;
 import io.myfinbox.income.application.IncomeSourceService;
 import io.myfinbox.income.domain.AccountIdentifier;
+import io.myfinbox.shared.EventListenerMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.modulith.events.ApplicationModuleListener;
@@ -20,6 +21,7 @@ import static org.springframework.transaction.annotation.Propagation.REQUIRES_NE
 class AccountEventsListener {
 
     private final IncomeSourceService incomeSourceService;
+    private final EventListenerMetrics eventListenerMetrics;
 
     /**
      * Handles account creation events by initializing default income sources.
@@ -34,6 +36,7 @@ class AccountEventsListener {
 
         if (either.isLeft()) {
             log.error("[Income] Failed to create default income sources for account: {}, failure: {}", event, either.getLeft());
+            eventListenerMetrics.failed(event);
         }
     }
 }
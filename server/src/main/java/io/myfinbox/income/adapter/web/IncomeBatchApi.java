@@ -0,0 +1,36 @@
+package io.myfinbox.income.adapter.web;
+
+import io.myfinbox.rest.IncomeBatchResource;
+import io.myfinbox.rest.IncomeBatchResultResource;
+import io.myfinbox.shared.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+public interface IncomeBatchApi {
+
+    String TAG = "incomes";
+
+    @Operation(summary = "Add a batch of incomes in the MyFinBox",
+            description = "Add up to 500 incomes in the MyFinBox, each income is created or rejected on its own",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each income",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = IncomeBatchResultResource.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed JSON or Type Mismatch Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Batch is empty or exceeds the maximum size",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> createAll(@RequestBody(description = "Incomes to be created", required = true) IncomeBatchResource resource);
+}
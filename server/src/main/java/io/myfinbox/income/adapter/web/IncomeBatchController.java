@@ -0,0 +1,94 @@
+package io.myfinbox.income.adapter.web;
+
+import io.myfinbox.income.application.CreateIncomeUseCase;
+import io.myfinbox.income.application.IncomeCommand;
+import io.myfinbox.income.domain.Income;
+import io.myfinbox.rest.IncomeBatchItemResource;
+import io.myfinbox.rest.IncomeBatchResource;
+import io.myfinbox.rest.IncomeBatchResultResource;
+import io.myfinbox.rest.IncomeResource;
+import io.myfinbox.shared.ApiFailureHandler;
+import io.myfinbox.shared.Failure;
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.ok;
+
+@RestController
+@RequestMapping(path = "/v1/incomes:batch")
+@RequiredArgsConstructor
+final class IncomeBatchController implements IncomeBatchApi {
+
+    private final CreateIncomeUseCase createIncomeUseCase;
+    private final ApiFailureHandler apiFailureHandler;
+
+    @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> createAll(@RequestBody IncomeBatchResource resource) {
+        return createIncomeUseCase.createAll(toCommands(resource))
+                .fold(apiFailureHandler::handle, results -> ok().body(toResource(results)));
+    }
+
+    private List<IncomeCommand> toCommands(IncomeBatchResource resource) {
+        if (isNull(resource.getIncomes())) {
+            return List.of();
+        }
+
+        return resource.getIncomes().stream()
+                .map(income -> IncomeCommand.builder()
+                        .accountId(income.getAccountId())
+                        .incomeSourceId(income.getIncomeSourceId())
+                        .amount(income.getAmount())
+                        .currencyCode(income.getCurrencyCode())
+                        .paymentType(income.getPaymentType())
+                        .incomeDate(income.getIncomeDate())
+                        .description(income.getDescription())
+                        .build())
+                .toList();
+    }
+
+    private IncomeBatchResultResource toResource(List<Either<Failure, Income>> results) {
+        return new IncomeBatchResultResource()
+                .results(IntStream.range(0, results.size())
+                        .mapToObj(index -> toResource(index, results.get(index)))
+                        .toList());
+    }
+
+    private IncomeBatchItemResource toResource(int index, Either<Failure, Income> result) {
+        if (result.isRight()) {
+            return new IncomeBatchItemResource()
+                    .index(index)
+                    .status(CREATED.value())
+                    .income(toResource(result.get()));
+        }
+
+        var failure = apiFailureHandler.handle(result.getLeft());
+        return new IncomeBatchItemResource()
+                .index(index)
+                .status(failure.getStatusCode().value())
+                .error(failure.getBody());
+    }
+
+    private IncomeResource toResource(Income income) {
+        return new IncomeResource()
+                .incomeId(income.getId().id())
+                .accountId(income.getAccount().id())
+                .incomeSourceId(income.getIncomeSource().getId().id())
+                .amount(income.getAmountAsNumber())
+                .currencyCode(income.getCurrencyCode())
+                .incomeDate(income.getIncomeDate())
+                .creationTimestamp(income.getCreationTimestamp().toString())
+                .paymentType(income.getPaymentType().value())
+                .description(income.getDescription());
+    }
+}
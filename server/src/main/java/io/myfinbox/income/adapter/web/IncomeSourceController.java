@@ -1,6 +1,7 @@
 package io.myfinbox.income.adapter.web;
 
 import io.myfinbox.income.application.IncomeSourceQuery;
+import io.myfinbox.income.application.IncomeSourceQuery.IncomeSourceRecord;
 import io.myfinbox.income.application.IncomeSourceService;
 import io.myfinbox.income.domain.IncomeSource;
 import io.myfinbox.rest.IncomeSourceResource;
@@ -8,10 +9,12 @@ import io.myfinbox.shared.ApiFailureHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
 import static io.myfinbox.income.application.IncomeSourceService.IncomeSourceCommand;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.*;
 import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
@@ -46,8 +49,13 @@ final class IncomeSourceController implements IncomesSourceApi {
     }
 
     @GetMapping
-    public ResponseEntity<?> list(@RequestParam(value = "accountId") UUID accountId) {
-        return ok(incomeSourceQuery.search(accountId).stream()
+    public ResponseEntity<?> list(@RequestParam(value = "accountId") UUID accountId, WebRequest request) {
+        var versionTag = incomeSourceQuery.versionTag(accountId);
+        if (request.checkNotModified(versionTag)) {
+            return status(NOT_MODIFIED).eTag(versionTag).build();
+        }
+
+        return ok().eTag(versionTag).body(incomeSourceQuery.search(accountId).stream()
                 .map(this::toResource)
                 .toList());
     }
@@ -59,4 +67,12 @@ final class IncomeSourceController implements IncomesSourceApi {
                 .name(incomeSource.getName())
                 .creationTimestamp(incomeSource.getCreationTimestamp().toString());
     }
+
+    private IncomeSourceResource toResource(IncomeSourceRecord incomeSource) {
+        return new IncomeSourceResource()
+                .incomeSourceId(incomeSource.incomeSourceId())
+                .accountId(incomeSource.accountId())
+                .name(incomeSource.name())
+                .creationTimestamp(incomeSource.creationTimestamp().toString());
+    }
 }
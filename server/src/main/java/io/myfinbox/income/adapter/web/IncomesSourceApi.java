@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.UUID;
@@ -91,10 +92,12 @@ public interface IncomesSourceApi {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful Operation",
                     content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = IncomeSourceResource.class)))),
+            @ApiResponse(responseCode = "304", description = "Not Modified, the resources did not change since the provided ETag"),
             @ApiResponse(responseCode = "400", description = "Malformed JSON or Type Mismatch Failure",
                     content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal Server Error",
                     content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
     })
-    ResponseEntity<?> list(@Parameter(in = QUERY, description = "Account to be used for selecting income sources", required = true) UUID accountId);
+    ResponseEntity<?> list(@Parameter(in = QUERY, description = "Account to be used for selecting income sources", required = true) UUID accountId,
+                           @Parameter(hidden = true) WebRequest request);
 }
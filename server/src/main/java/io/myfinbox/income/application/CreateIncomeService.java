@@ -2,18 +2,31 @@ package io.myfinbox.income.application;
 
 import io.myfinbox.income.domain.AccountIdentifier;
 import io.myfinbox.income.domain.Income;
+import io.myfinbox.income.domain.IncomeSource;
 import io.myfinbox.income.domain.IncomeSource.IncomeSourceIdentifier;
 import io.myfinbox.income.domain.IncomeSources;
 import io.myfinbox.income.domain.Incomes;
 import io.myfinbox.shared.Failure;
+import io.myfinbox.shared.Failure.FieldViolation;
 import io.myfinbox.shared.PaymentType;
+import io.vavr.collection.Seq;
 import io.vavr.control.Either;
+import io.vavr.control.Validation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.javamoney.moneta.Money;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
 @Slf4j
 @Service
 @Transactional
@@ -22,6 +35,7 @@ class CreateIncomeService implements CreateIncomeUseCase {
 
     static final String VALIDATION_FAILURE_MESSAGE = "Validation failed for the create income request.";
     static final String INCOME_SOURCE_NOT_FOUND_MESSAGE = "Income source not found for the provided account.";
+    static final String BATCH_VALIDATION_FAILURE_MESSAGE = "Validation failed for the create incomes batch request.";
 
     private final IncomeCommandValidator validator = new IncomeCommandValidator();
 
@@ -36,19 +50,12 @@ class CreateIncomeService implements CreateIncomeUseCase {
             return Either.left(Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, validation.getError().toJavaList()));
         }
 
-        var possibleIncomeSource = incomeSources.findByIdAndAccount(new IncomeSourceIdentifier(command.incomeSourceId()), new AccountIdentifier(command.accountId()));
-        if (possibleIncomeSource.isEmpty()) {
+        // confirmed within this transaction, a cached income source may have been deleted meanwhile by another instance
+        if (!incomeSources.lockByIdAndAccount(command.incomeSourceId(), command.accountId())) {
             return Either.left(Failure.ofNotFound(INCOME_SOURCE_NOT_FOUND_MESSAGE));
         }
 
-        var income = Income.builder()
-                .account(new AccountIdentifier(command.accountId()))
-                .amount(Money.of(command.amount(), command.currencyCode()))
-                .paymentType(PaymentType.fromValue(command.paymentType()))
-                .incomeDate(command.incomeDate())
-                .description(command.description())
-                .incomeSource(possibleIncomeSource.get())
-                .build();
+        var income = newIncome(command, incomeSources.getReferenceById(new IncomeSourceIdentifier(command.incomeSourceId())));
 
         incomes.save(income);
 
@@ -56,4 +63,75 @@ class CreateIncomeService implements CreateIncomeUseCase {
 
         return Either.right(income);
     }
+
+    @Override
+    public Either<Failure, List<Either<Failure, Income>>> createAll(List<IncomeCommand> commands) {
+        if (isNull(commands) || commands.isEmpty() || commands.size() > MAX_BATCH_SIZE) {
+            return Either.left(Failure.ofValidation(BATCH_VALIDATION_FAILURE_MESSAGE, List.of(FieldViolation.builder()
+                    .field(FIELD_INCOMES)
+                    .message("Incomes must contain between 1 and %d items.".formatted(MAX_BATCH_SIZE))
+                    .rejectedValue(isNull(commands) ? null : commands.size())
+                    .build())));
+        }
+
+        var validations = commands.stream()
+                .map(validator::validate)
+                .toList();
+
+        var incomeSourcesById = incomeSourcesOf(validations);
+
+        var results = new ArrayList<Either<Failure, Income>>(commands.size());
+        for (var validation : validations) {
+            if (validation.isInvalid()) {
+                results.add(Either.left(Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, validation.getError().toJavaList())));
+                continue;
+            }
+
+            var command = validation.get();
+            var incomeSource = incomeSourcesById.get(new IncomeSourceIdentifier(command.incomeSourceId()));
+            if (isNull(incomeSource) || !incomeSource.getAccount().equals(new AccountIdentifier(command.accountId()))) {
+                results.add(Either.left(Failure.ofNotFound(INCOME_SOURCE_NOT_FOUND_MESSAGE)));
+                continue;
+            }
+
+            results.add(Either.right(newIncome(command, incomeSource)));
+        }
+
+        var created = results.stream()
+                .filter(Either::isRight)
+                .map(Either::get)
+                .toList();
+
+        // inserted in jdbc batches, created events are published once for the whole batch
+        incomes.saveAll(created);
+
+        log.debug("{} of {} incomes were created in batch", created.size(), commands.size());
+
+        return Either.right(results);
+    }
+
+    private Map<IncomeSourceIdentifier, IncomeSource> incomeSourcesOf(List<Validation<Seq<FieldViolation>, IncomeCommand>> validations) {
+        var incomeSourceIds = validations.stream()
+                .filter(Validation::isValid)
+                .map(validation -> validation.get().incomeSourceId())
+                .collect(toSet());
+
+        if (incomeSourceIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return incomeSources.lockByIdIn(incomeSourceIds).stream()
+                .collect(toMap(IncomeSource::getId, identity()));
+    }
+
+    private Income newIncome(IncomeCommand command, IncomeSource incomeSource) {
+        return Income.builder()
+                .account(new AccountIdentifier(command.accountId()))
+                .amount(Money.of(command.amount(), command.currencyCode()))
+                .paymentType(PaymentType.fromValue(command.paymentType()))
+                .incomeDate(command.incomeDate())
+                .description(command.description())
+                .incomeSource(incomeSource)
+                .build();
+    }
 }
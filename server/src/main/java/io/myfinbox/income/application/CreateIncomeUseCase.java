@@ -4,11 +4,17 @@ import io.myfinbox.income.domain.Income;
 import io.myfinbox.shared.Failure;
 import io.vavr.control.Either;
 
+import java.util.List;
+
 /**
  * Interface for creating incomes.
  */
 public interface CreateIncomeUseCase {
 
+    String FIELD_INCOMES = "incomes";
+
+    int MAX_BATCH_SIZE = 500;
+
     /**
      * Creates an income based on the provided command.
      *
@@ -17,4 +23,13 @@ public interface CreateIncomeUseCase {
      */
     Either<Failure, Income> create(IncomeCommand command);
 
+    /**
+     * Creates a batch of incomes in a single transaction, each command succeeding or failing on its own.
+     *
+     * @param commands The commands containing income creation details, at most {@link #MAX_BATCH_SIZE}.
+     * @return {@link Either} a {@link Failure} instance if the batch is empty or too large, or the per command results
+     * in the order of the provided commands.
+     */
+    Either<Failure, List<Either<Failure, Income>>> createAll(List<IncomeCommand> commands);
+
 }
@@ -9,6 +9,7 @@ import io.vavr.control.Either;
 import io.vavr.control.Validation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static io.myfinbox.income.application.IncomeSourceService.IncomeSourceCommand.FIELD_ACCOUNT_ID;
+import static io.myfinbox.income.application.IncomeSourceQueryService.INCOME_SOURCES_CACHE;
 import static io.myfinbox.income.application.IncomeSourceService.IncomeSourceCommand.FIELD_NAME;
 import static io.vavr.API.Invalid;
 import static io.vavr.API.Valid;
@@ -39,6 +41,7 @@ class DefaultIncomeSourceService implements IncomeSourceService {
 
     private final IncomeSources incomeSources;
     private final Incomes incomes;
+    private final CacheManager cacheManager;
 
     @Override
     @Transactional
@@ -52,6 +55,7 @@ class DefaultIncomeSourceService implements IncomeSourceService {
                 .toList();
 
         incomeSources.saveAll(values);
+        evictIncomeSources(account);
         log.debug("Default Income Sources {} were created", values);
 
         return Either.right(values);
@@ -71,6 +75,7 @@ class DefaultIncomeSourceService implements IncomeSourceService {
 
         var incomeSource = new IncomeSource(command.name(), new AccountIdentifier(command.accountId()));
         incomeSources.save(incomeSource);
+        evictIncomeSources(incomeSource.getAccount());
 
         log.debug("Income Source {} was created", incomeSource.getId());
 
@@ -104,6 +109,7 @@ class DefaultIncomeSourceService implements IncomeSourceService {
 
         possibleIncomeSource.get().setName(command.name());
         incomeSources.save(possibleIncomeSource.get()); // FIXME: fix the save anti-pattern
+        evictIncomeSources(possibleIncomeSource.get().getAccount());
         log.debug("Income Source {} was updated", possibleIncomeSource.get().getId());
 
         return Either.right(possibleIncomeSource.get());
@@ -126,11 +132,19 @@ class DefaultIncomeSourceService implements IncomeSourceService {
         }
 
         incomeSources.delete(possibleIncomeSource.get());
+        evictIncomeSources(possibleIncomeSource.get().getAccount());
         log.debug("Income Source {} was deleted", possibleIncomeSource.get().getId());
 
         return Either.right(null);
     }
 
+    private void evictIncomeSources(AccountIdentifier account) {
+        var cache = cacheManager.getCache(INCOME_SOURCES_CACHE);
+        if (nonNull(cache)) {
+            cache.evict(account.id()); // applied once the transaction commits
+        }
+    }
+
     private static final class IncomeSourceCommandValidator {
 
         Validation<Seq<FieldViolation>, IncomeSourceCommand> validate(IncomeSourceCommand command) {
@@ -2,6 +2,7 @@ package io.myfinbox.income.application;
 
 import io.myfinbox.income.domain.IncomeSource;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,8 +15,28 @@ public interface IncomeSourceQuery {
      * Searches for income sources associated with a specific account.
      *
      * @param accountId the unique identifier of the account to search income sources for
-     * @return a list of {@link IncomeSource} objects associated with the specified account
+     * @return a list of {@link IncomeSourceRecord} objects associated with the specified account
      */
-    List<IncomeSource> search(UUID accountId);
+    List<IncomeSourceRecord> search(UUID accountId);
 
+    /**
+     * Computes a tag of the versions of the income sources associated with a specific account, the tag changes
+     * whenever an income source is created, updated or deleted.
+     *
+     * @param accountId the unique identifier of the account
+     * @return the version tag of the account income sources
+     */
+    String versionTag(UUID accountId);
+
+    /**
+     * Immutable state of an income source, safe to be cached and shared across transactions, the income source
+     * entity is resolved by its identifier within the transaction using it.
+     */
+    record IncomeSourceRecord(UUID incomeSourceId, UUID accountId, String name, Instant creationTimestamp) {
+
+        public static IncomeSourceRecord of(IncomeSource incomeSource) {
+            return new IncomeSourceRecord(incomeSource.getId().id(), incomeSource.getAccount().id(),
+                    incomeSource.getName(), incomeSource.getCreationTimestamp());
+        }
+    }
 }
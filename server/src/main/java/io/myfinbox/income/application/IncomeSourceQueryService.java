@@ -1,9 +1,9 @@
 package io.myfinbox.income.application;
 
 import io.myfinbox.income.domain.AccountIdentifier;
-import io.myfinbox.income.domain.IncomeSource;
 import io.myfinbox.income.domain.IncomeSources;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +18,25 @@ import static java.util.Objects.isNull;
 @Transactional(readOnly = true)
 class IncomeSourceQueryService implements IncomeSourceQuery {
 
+    static final String INCOME_SOURCES_CACHE = "income-sources";
+
     private final IncomeSources incomeSources;
 
     @Override
-    public List<IncomeSource> search(UUID accountId) {
+    @Cacheable(cacheNames = INCOME_SOURCES_CACHE, key = "#accountId", condition = "#accountId != null")
+    public List<IncomeSourceRecord> search(UUID accountId) {
         if (isNull(accountId)) {
             return emptyList();
         }
 
-        return incomeSources.findByAccount(new AccountIdentifier(accountId));
+        // cached, must stay unmodifiable and hold no managed entity
+        return incomeSources.findByAccount(new AccountIdentifier(accountId)).stream()
+                .map(IncomeSourceRecord::of)
+                .toList();
+    }
+
+    @Override
+    public String versionTag(UUID accountId) {
+        return incomeSources.versionTagByAccount(accountId);
     }
 }
@@ -70,11 +70,11 @@ class UpdateIncomeService implements UpdateIncomeUseCase {
 
     private Either<Failure, IncomeSource> fetchIncomeSourceOrFailure(IncomeSource incomeSource, UUID incomeSourceId, UUID accountId) {
         if (!incomeSource.matches(new IncomeSourceIdentifier(incomeSourceId))) {
-            var possibleIncome = incomeSources.findByIdAndAccount(new IncomeSourceIdentifier(incomeSourceId), new AccountIdentifier(accountId));
-            if (possibleIncome.isEmpty()) {
+            // confirmed within this transaction, a cached income source may have been deleted meanwhile by another instance
+            if (!incomeSources.lockByIdAndAccount(incomeSourceId, accountId)) {
                 return Either.left(Failure.ofNotFound(INCOME_SOURCE_NOT_FOUND_MESSAGE));
             }
-            incomeSource = possibleIncome.get();
+            incomeSource = incomeSources.getReferenceById(new IncomeSourceIdentifier(incomeSourceId));
         }
 
         return Either.right(incomeSource);
@@ -0,0 +1,7 @@
+/**
+ * Income use cases and queries, exposed to the other modules.
+ */
+@NamedInterface("application")
+package io.myfinbox.income.application;
+
+import org.springframework.modulith.NamedInterface;
@@ -15,9 +15,11 @@ public enum DefaultIncomeSources {
         this.text = text;
     }
 
+    private static final List<String> TEXTS = Arrays.stream(values())
+            .map(v -> v.text)
+            .toList();
+
     public static List<String> asList() {
-        return Arrays.stream(values())
-                .map(v -> v.text)
-                .toList();
+        return TEXTS; // unmodifiable, built once
     }
 }
@@ -9,6 +9,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CompositeType;
 import org.springframework.data.domain.AbstractAggregateRoot;
+import org.springframework.data.domain.Persistable;
 
 import javax.money.MonetaryAmount;
 import java.io.Serializable;
@@ -31,7 +32,7 @@ import static lombok.AccessLevel.PRIVATE;
 @ToString
 @EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor(access = PRIVATE, force = true) // JPA compliant
-public class Income extends AbstractAggregateRoot<Income> {
+public class Income extends AbstractAggregateRoot<Income> implements Persistable<Income.IncomeIdentifier> {
 
     @EmbeddedId
     private final IncomeIdentifier id;
@@ -52,9 +53,21 @@ public class Income extends AbstractAggregateRoot<Income> {
     private LocalDate incomeDate;
     private String description;
 
+    // published with the events, so the consumers apply them in order
+    @Version
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private IncomeSource incomeSource;
 
+    // identifiers are assigned upfront, tracked to persist new incomes without a select before insert
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private boolean newIncome = true;
+
     @Builder
     public Income(AccountIdentifier account,
                   MonetaryAmount amount,
@@ -73,14 +86,31 @@ public class Income extends AbstractAggregateRoot<Income> {
 
         registerEvent(IncomeCreated.builder()
                 .incomeId(this.id.id())
+                .version(currentVersion())
                 .accountId(this.account.id())
                 .amount(this.amount)
                 .incomeSourceId(this.incomeSource.getId().id())
+                .incomeSourceName(this.incomeSource.getName())
                 .paymentType(this.paymentType)
                 .incomeDate(this.incomeDate)
                 .build());
     }
 
+    @Override
+    public boolean isNew() {
+        return newIncome;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newIncome = false;
+    }
+
+    private long currentVersion() {
+        return version == null ? 0 : version; // seeded on persist
+    }
+
     public BigDecimal getAmountAsNumber() {
         return amount.getNumber().numberValue(BigDecimal.class);
     }
@@ -99,9 +129,11 @@ public class Income extends AbstractAggregateRoot<Income> {
 
         registerEvent(IncomeUpdated.builder()
                 .incomeId(this.id.id())
+                .version(currentVersion() + 1) // incremented on flush
                 .accountId(this.account.id())
                 .amount(this.amount)
                 .incomeSourceId(this.incomeSource.getId().id())
+                .incomeSourceName(this.incomeSource.getName())
                 .paymentType(this.paymentType)
                 .incomeDate(this.incomeDate)
                 .build());
@@ -110,9 +142,11 @@ public class Income extends AbstractAggregateRoot<Income> {
     public void delete() {
         registerEvent(IncomeDeleted.builder()
                 .incomeId(this.id.id())
+                .version(currentVersion())
                 .accountId(this.account.id())
                 .amount(this.amount)
                 .incomeSourceId(this.incomeSource.getId().id())
+                .incomeSourceName(this.incomeSource.getName())
                 .paymentType(this.paymentType)
                 .incomeDate(this.incomeDate)
                 .build());
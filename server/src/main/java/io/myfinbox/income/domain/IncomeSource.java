@@ -36,6 +36,10 @@ public final class IncomeSource {
 
     private String name;
 
+    @Version
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
     public IncomeSource(String name, AccountIdentifier account) {
         this.id = new IncomeSourceIdentifier(UUID.randomUUID());
         this.account = notNull(account, "account cannot be null");
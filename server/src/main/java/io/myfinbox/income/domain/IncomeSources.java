@@ -2,10 +2,13 @@ package io.myfinbox.income.domain;
 
 import io.myfinbox.income.domain.IncomeSource.IncomeSourceIdentifier;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repository interface for managing income sources.
@@ -19,5 +22,33 @@ public interface IncomeSources extends JpaRepository<IncomeSource, IncomeSourceI
 
     boolean existsByNameAndAccount(String name, AccountIdentifier accountId);
 
+    /**
+     * Confirms the income source of the account exists and locks it in key share mode, the lock the income foreign key takes,
+     * so it can't be deleted before the transaction ends.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT EXISTS (SELECT 1
+                             FROM income_source
+                            WHERE id = :incomeSourceId
+                              AND account_id = :accountId
+                              FOR KEY SHARE)
+            """)
+    boolean lockByIdAndAccount(UUID incomeSourceId, UUID accountId);
+
+    /**
+     * Loads the income sources and locks them in key share mode, they can't be deleted before the transaction ends.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT s.* FROM income_source s WHERE s.id IN (:incomeSourceIds) FOR KEY SHARE
+            """)
+    List<IncomeSource> lockByIdIn(Collection<UUID> incomeSourceIds);
+
+    @Query(nativeQuery = true, value = """
+            SELECT md5(COALESCE(string_agg(id || ':' || version, ',' ORDER BY id), ''))
+              FROM income_source
+             WHERE account_id = :accountId
+            """)
+    String versionTagByAccount(UUID accountId);
+
 }
 
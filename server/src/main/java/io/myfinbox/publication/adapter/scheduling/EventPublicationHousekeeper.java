@@ -0,0 +1,61 @@
+package io.myfinbox.publication.adapter.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.myfinbox.publication.application.EventPublicationHousekeepingUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the event publication housekeeping and samples the incomplete publications backlog into gauges
+ * on every run, metric scrapes don't query the database.
+ */
+@Component
+class EventPublicationHousekeeper {
+
+    static final String BACKLOG_GAUGE = "event.publication.incomplete";
+    static final String LAG_GAUGE = "event.publication.incomplete.lag";
+    static final String PURGED_COUNTER = "event.publication.purged";
+    static final String RESUBMITTED_COUNTER = "event.publication.resubmitted";
+
+    private final EventPublicationHousekeepingUseCase housekeepingUseCase;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter purged;
+    private final Counter resubmitted;
+
+    EventPublicationHousekeeper(EventPublicationHousekeepingUseCase housekeepingUseCase, MeterRegistry meterRegistry) {
+        this.housekeepingUseCase = housekeepingUseCase;
+        Gauge.builder(BACKLOG_GAUGE, backlog, AtomicLong::get)
+                .description("Number of incomplete event publications")
+                .register(meterRegistry);
+        TimeGauge.builder(LAG_GAUGE, lagSeconds, TimeUnit.SECONDS, AtomicLong::get)
+                .description("Age of the oldest incomplete event publication")
+                .register(meterRegistry);
+        this.purged = Counter.builder(PURGED_COUNTER)
+                .description("Number of completed event publications purged")
+                .register(meterRegistry);
+        this.resubmitted = Counter.builder(RESUBMITTED_COUNTER)
+                .description("Number of stale incomplete event publications resubmitted")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${event-publication.backlog.interval:PT1M}", fixedDelayString = "${event-publication.backlog.interval:PT1M}")
+    void sampleBacklog() {
+        var current = housekeepingUseCase.backlog();
+        backlog.set(current.incomplete());
+        lagSeconds.set(current.lag().toSeconds());
+    }
+
+    @Scheduled(initialDelayString = "${event-publication.housekeeping.interval:PT10M}", fixedDelayString = "${event-publication.housekeeping.interval:PT10M}")
+    void housekeep() {
+        resubmitted.increment(housekeepingUseCase.resubmitStale());
+        purged.increment(housekeepingUseCase.purgeCompleted());
+    }
+}
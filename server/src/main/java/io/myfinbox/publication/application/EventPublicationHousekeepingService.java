@@ -0,0 +1,135 @@
+package io.myfinbox.publication.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.IntSupplier;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Purges and resubmits the event publications shared by all the server instances, each task runs on a single instance
+ * at a time, the others skip it while its advisory lock is held.
+ */
+@Slf4j
+@Service
+class EventPublicationHousekeepingService implements EventPublicationHousekeepingUseCase {
+
+    static final int PURGE_CHUNK_SIZE = 1_000;
+
+    static final String PURGE_QUERY = """
+            DELETE FROM event_publication
+             WHERE id = ANY (ARRAY(SELECT id FROM event_publication WHERE completion_date < ? LIMIT ?))
+            """;
+
+    static final String STALE_COUNT_QUERY = """
+            SELECT count(*) FROM event_publication WHERE completion_date IS NULL AND publication_date < ?
+            """;
+
+    static final String PURGE_LOCK = "event-publication.purge";
+    static final String RESUBMIT_LOCK = "event-publication.resubmit";
+
+    // session level locks, the purge chunks commit on their own while the lock is held
+    static final String TRY_LOCK_QUERY = """
+            SELECT pg_try_advisory_lock(hashtextextended(?, 0))
+            """;
+
+    static final String UNLOCK_QUERY = """
+            SELECT pg_advisory_unlock(hashtextextended(?, 0))
+            """;
+
+    static final String BACKLOG_QUERY = """
+            SELECT count(*), min(publication_date) FROM event_publication WHERE completion_date IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IncompleteEventPublications incompleteEventPublications;
+    private final Duration retention;
+    private final Duration resubmitOlderThan;
+
+    EventPublicationHousekeepingService(JdbcTemplate jdbcTemplate,
+                                        IncompleteEventPublications incompleteEventPublications,
+                                        @Value("${event-publication.completed.retention:7d}") Duration retention,
+                                        @Value("${event-publication.incomplete.resubmit-older-than:1h}") Duration resubmitOlderThan) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.incompleteEventPublications = incompleteEventPublications;
+        this.retention = retention;
+        this.resubmitOlderThan = resubmitOlderThan;
+    }
+
+    @Override
+    public int purgeCompleted() {
+        return exclusively(PURGE_LOCK, this::purge);
+    }
+
+    @Override
+    public int resubmitStale() {
+        return exclusively(RESUBMIT_LOCK, this::resubmit);
+    }
+
+    private int purge() {
+        var completedBefore = Timestamp.from(Instant.now().minus(retention));
+        var purged = 0;
+        int deleted;
+        do {
+            // bounded chunks keep the delete transactions and their locks short
+            deleted = jdbcTemplate.update(PURGE_QUERY, completedBefore, PURGE_CHUNK_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE);
+
+        log.debug("Purged {} completed event publications", purged);
+        return purged;
+    }
+
+    private int resubmit() {
+        var stale = jdbcTemplate.queryForObject(STALE_COUNT_QUERY, Integer.class, Timestamp.from(Instant.now().minus(resubmitOlderThan)));
+        if (isNull(stale) || stale == 0) { // the registry loads every incomplete publication, skip when nothing is stale
+            return 0;
+        }
+
+        incompleteEventPublications.resubmitIncompletePublicationsOlderThan(resubmitOlderThan);
+
+        log.warn("Resubmitted {} event publications incomplete for more than {}", stale, resubmitOlderThan);
+        return stale;
+    }
+
+    private int exclusively(String lock, IntSupplier task) {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (var tryLock = connection.prepareStatement(TRY_LOCK_QUERY)) {
+                tryLock.setString(1, lock);
+                try (var resultSet = tryLock.executeQuery()) {
+                    if (!resultSet.next() || !resultSet.getBoolean(1)) {
+                        log.debug("Skipped {}, running on another instance", lock);
+                        return 0;
+                    }
+                }
+            }
+
+            try {
+                return task.getAsInt();
+            } finally {
+                try (var unlock = connection.prepareStatement(UNLOCK_QUERY)) {
+                    unlock.setString(1, lock);
+                    unlock.execute();
+                }
+            }
+        });
+    }
+
+    @Override
+    public Backlog backlog() {
+        return jdbcTemplate.queryForObject(BACKLOG_QUERY, (resultSet, rowNum) -> {
+            var oldest = resultSet.getTimestamp(2);
+            return new Backlog(
+                    resultSet.getLong(1),
+                    isNull(oldest) ? Duration.ZERO : Duration.between(oldest.toInstant(), Instant.now()));
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package io.myfinbox.publication.application;
+
+import java.time.Duration;
+
+/**
+ * Use case interface for keeping the event publication registry small: completed publications are purged
+ * once their retention elapsed and stale incomplete publications are resubmitted to their listeners.
+ */
+public interface EventPublicationHousekeepingUseCase {
+
+    /**
+     * Purges the publications completed before the retention period, in bounded chunks.
+     *
+     * @return The number of purged publications.
+     */
+    int purgeCompleted();
+
+    /**
+     * Resubmits the incomplete publications older than the resubmission threshold to their listeners.
+     *
+     * @return The number of resubmitted publications.
+     */
+    int resubmitStale();
+
+    /**
+     * Computes the backlog of incomplete publications.
+     *
+     * @return The number of incomplete publications and the age of the oldest one.
+     */
+    Backlog backlog();
+
+    /**
+     * Incomplete publications, {@code lag} is {@link Duration#ZERO} when there are none.
+     */
+    record Backlog(long incomplete, Duration lag) {
+    }
+}
@@ -0,0 +1,104 @@
+package io.myfinbox.reporting.adapter.messaging;
+
+import io.myfinbox.expense.ExpenseCreated;
+import io.myfinbox.expense.ExpenseDeleted;
+import io.myfinbox.expense.ExpenseUpdated;
+import io.myfinbox.reporting.application.CashFlowTrackerUseCase;
+import io.myfinbox.shared.EventListenerMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+import static io.myfinbox.reporting.application.CashFlowTrackerUseCase.CashFlowRecord;
+import static io.myfinbox.reporting.domain.FlowType.EXPENSE;
+
+/**
+ * Listens for expense-related events and delegates the handling to the cash flow tracker.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component(value = "reportingExpenseEventsListener")
+class ExpenseEventsListener {
+
+    private final CashFlowTrackerUseCase cashFlowTrackerUseCase;
+    private final EventListenerMetrics eventListenerMetrics;
+
+    /**
+     * Handles the ExpenseCreated event by recording it.
+     *
+     * @param event The ExpenseCreated event to handle.
+     */
+    @ApplicationModuleListener
+    public void on(ExpenseCreated event) {
+        log.debug("[Reporting] Received ExpenseCreated event: {}", event);
+
+        var entry = cashFlowTrackerUseCase.recordModified(CashFlowRecord.builder()
+                .transactionId(event.expenseId())
+                .flowType(EXPENSE)
+                .accountId(event.accountId())
+                .sourceId(event.categoryId())
+                .sourceName(event.categoryName())
+                .amount(event.amount())
+                .date(event.expenseDate())
+                .version(event.version())
+                .build());
+
+        if (entry.isEmpty()) {
+            log.debug("[Reporting] ExpenseCreated event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
+        }
+    }
+
+    /**
+     * Handles the ExpenseUpdated event by recording it.
+     *
+     * @param event The ExpenseUpdated event to handle.
+     */
+    @ApplicationModuleListener
+    public void on(ExpenseUpdated event) {
+        log.debug("[Reporting] Received ExpenseUpdated event: {}", event);
+
+        var entry = cashFlowTrackerUseCase.recordModified(CashFlowRecord.builder()
+                .transactionId(event.expenseId())
+                .flowType(EXPENSE)
+                .accountId(event.accountId())
+                .sourceId(event.categoryId())
+                .sourceName(event.categoryName())
+                .amount(event.amount())
+                .date(event.expenseDate())
+                .version(event.version())
+                .build());
+
+        if (entry.isEmpty()) {
+            log.debug("[Reporting] ExpenseUpdated event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
+        }
+    }
+
+    /**
+     * Handles the ExpenseDeleted event by recording it.
+     *
+     * @param event The ExpenseDeleted event to handle.
+     */
+    @ApplicationModuleListener
+    public void on(ExpenseDeleted event) {
+        log.debug("[Reporting] Received ExpenseDeleted event: {}", event);
+
+        var entry = cashFlowTrackerUseCase.recordDeleted(CashFlowRecord.builder()
+                .transactionId(event.expenseId())
+                .flowType(EXPENSE)
+                .accountId(event.accountId())
+                .sourceId(event.categoryId())
+                .sourceName(event.categoryName())
+                .amount(event.amount())
+                .date(event.expenseDate())
+                .version(event.version())
+                .build());
+
+        if (entry.isEmpty()) {
+            log.debug("[Reporting] ExpenseDeleted event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.myfinbox.reporting.adapter.messaging;
+
+import io.myfinbox.income.IncomeCreated;
+import io.myfinbox.income.IncomeDeleted;
+import io.myfinbox.income.IncomeUpdated;
+import io.myfinbox.reporting.application.CashFlowTrackerUseCase;
+import io.myfinbox.shared.EventListenerMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+import static io.myfinbox.reporting.application.CashFlowTrackerUseCase.CashFlowRecord;
+import static io.myfinbox.reporting.domain.FlowType.INCOME;
+
+/**
+ * Listens for income-related events and delegates the handling to the cash flow tracker.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component(value = "reportingIncomeEventsListener")
+class IncomeEventsListener {
+
+    private final CashFlowTrackerUseCase cashFlowTrackerUseCase;
+    private final EventListenerMetrics eventListenerMetrics;
+
+    /**
+     * Handles the IncomeCreated event by recording it.
+     *
+     * @param event The IncomeCreated event to handle.
+     */
+    @ApplicationModuleListener
+    public void on(IncomeCreated event) {
+        log.debug("[Reporting] Received IncomeCreated event: {}", event);
+
+        var entry = cashFlowTrackerUseCase.recordModified(CashFlowRecord.builder()
+                .transactionId(event.incomeId())
+                .flowType(INCOME)
+                .accountId(event.accountId())
+                .sourceId(event.incomeSourceId())
+                .sourceName(event.incomeSourceName())
+                .amount(event.amount())
+                .date(event.incomeDate())
+                .version(event.version())
+                .build());
+
+        if (entry.isEmpty()) {
+            log.debug("[Reporting] IncomeCreated event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
+        }
+    }
+
+    /**
+     * Handles the IncomeUpdated event by recording it.
+     *
+     * @param event The IncomeUpdated event to handle.
+     */
+    @ApplicationModuleListener
+    public void on(IncomeUpdated event) {
+        log.debug("[Reporting] Received IncomeUpdated event: {}", event);
+
+        var entry = cashFlowTrackerUseCase.recordModified(CashFlowRecord.builder()
+                .transactionId(event.incomeId())
+                .flowType(INCOME)
+                .accountId(event.accountId())
+                .sourceId(event.incomeSourceId())
+                .sourceName(event.incomeSourceName())
+                .amount(event.amount())
+                .date(event.incomeDate())
+                .version(event.version())
+                .build());
+
+        if (entry.isEmpty()) {
+            log.debug("[Reporting] IncomeUpdated event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
+        }
+    }
+
+    /**
+     * Handles the IncomeDeleted event by recording it.
+     *
+     * @param event The IncomeDeleted event to handle.
+     */
+    @ApplicationModuleListener
+    public void on(IncomeDeleted event) {
+        log.debug("[Reporting] Received IncomeDeleted event: {}", event);
+
+        var entry = cashFlowTrackerUseCase.recordDeleted(CashFlowRecord.builder()
+                .transactionId(event.incomeId())
+                .flowType(INCOME)
+                .accountId(event.accountId())
+                .sourceId(event.incomeSourceId())
+                .sourceName(event.incomeSourceName())
+                .amount(event.amount())
+                .date(event.incomeDate())
+                .version(event.version())
+                .build());
+
+        if (entry.isEmpty()) {
+            log.debug("[Reporting] IncomeDeleted event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
+        }
+    }
+}
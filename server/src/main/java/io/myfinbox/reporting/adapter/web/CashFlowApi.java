@@ -0,0 +1,43 @@
+package io.myfinbox.reporting.adapter.web;
+
+import io.myfinbox.rest.MonthlyCashFlowResource;
+import io.myfinbox.shared.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+public interface CashFlowApi {
+
+    String TAG = "reports";
+
+    @Operation(summary = "Query the monthly cash flow of an account in the MyFinBox",
+            description = "Query the income, expense and net totals of an account within a month, one entry per currency, " +
+                    "broken down by expense category and income source",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = MonthlyCashFlowResource.class)))),
+            @ApiResponse(responseCode = "400", description = "Malformed JSON or Type Mismatch Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Request Schema Validation Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> monthly(@Parameter(in = QUERY, description = "AccountId to query the cash flow for", required = true) UUID accountId,
+                              @Parameter(in = QUERY, description = "Month of the cash flow in yyyy-MM format, defaults to the current month",
+                                      schema = @Schema(type = "string", example = "2024-03")) YearMonth period);
+}
@@ -0,0 +1,70 @@
+package io.myfinbox.reporting.adapter.web;
+
+import io.myfinbox.reporting.application.MonthlyCashFlowQuery;
+import io.myfinbox.reporting.application.MonthlyCashFlowQuery.MonthlyCashFlowOverview;
+import io.myfinbox.reporting.domain.MonthlyCashFlowBreakdown;
+import io.myfinbox.rest.CashFlowBreakdownResource;
+import io.myfinbox.rest.MonthlyCashFlowResource;
+import io.myfinbox.shared.ApiFailureHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.UUID;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.ok;
+
+@RestController
+@RequestMapping(path = "/v1/reports")
+@RequiredArgsConstructor
+final class CashFlowController implements CashFlowApi {
+
+    private final MonthlyCashFlowQuery monthlyCashFlowQuery;
+    private final ApiFailureHandler apiFailureHandler;
+
+    @GetMapping(path = "/cash-flow", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> monthly(@RequestParam(name = "accountId", required = false) UUID accountId,
+                                     @RequestParam(name = "period", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth period) {
+        return monthlyCashFlowQuery.overview(accountId, Objects.requireNonNullElseGet(period, YearMonth::now))
+                .fold(apiFailureHandler::handle, overviews -> ok().body(overviews.stream()
+                        .map(this::toResource)
+                        .toList()));
+    }
+
+    private MonthlyCashFlowResource toResource(MonthlyCashFlowOverview overview) {
+        var cashFlow = overview.cashFlow();
+        return new MonthlyCashFlowResource()
+                .accountId(cashFlow.getId().accountId())
+                .period(cashFlow.getId().yearMonth().toString())
+                .currencyCode(cashFlow.getId().currency())
+                .totalIncome(toNumber(cashFlow.getIncome()))
+                .totalExpense(toNumber(cashFlow.getExpense()))
+                .netAmount(toNumber(cashFlow.getNet()))
+                .incomeCount(cashFlow.getIncomeCount())
+                .expenseCount(cashFlow.getExpenseCount())
+                .expenseCategories(overview.expenseCategories().stream().map(this::toResource).toList())
+                .incomeSources(overview.incomeSources().stream().map(this::toResource).toList());
+    }
+
+    private CashFlowBreakdownResource toResource(MonthlyCashFlowBreakdown breakdown) {
+        return new CashFlowBreakdownResource()
+                .sourceId(breakdown.getId().sourceId())
+                .name(breakdown.getSourceName())
+                .totalAmount(toNumber(breakdown.getTotal()))
+                .count(breakdown.getEntryCount());
+    }
+
+    private BigDecimal toNumber(MonetaryAmount amount) {
+        return amount.getNumber().numberValue(BigDecimal.class).setScale(2, HALF_UP);
+    }
+}
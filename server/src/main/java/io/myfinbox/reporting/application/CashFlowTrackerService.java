@@ -0,0 +1,107 @@
+package io.myfinbox.reporting.application;
+
+import io.myfinbox.reporting.domain.AccountIdentifier;
+import io.myfinbox.reporting.domain.CashFlowEntries;
+import io.myfinbox.reporting.domain.CashFlowEntry;
+import io.myfinbox.reporting.domain.CashFlowEntry.TransactionIdentifier;
+import io.myfinbox.reporting.domain.MonthlyCashFlowBreakdowns;
+import io.myfinbox.reporting.domain.MonthlyCashFlows;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static io.myfinbox.reporting.domain.FlowType.INCOME;
+import static io.myfinbox.reporting.domain.MonthlyCashFlow.CashFlowIdentifier;
+import static io.myfinbox.reporting.domain.MonthlyCashFlowBreakdown.BreakdownIdentifier;
+
+/**
+ * Service class keeping monthly cash flows and their breakdowns in sync with incomes and expenses.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+class CashFlowTrackerService implements CashFlowTrackerUseCase {
+
+    private final CashFlowEntries cashFlowEntries;
+    private final MonthlyCashFlows monthlyCashFlows;
+    private final MonthlyCashFlowBreakdowns monthlyCashFlowBreakdowns;
+
+    @Override
+    public Optional<CashFlowEntry> recordModified(CashFlowRecord modifiedRecord) {
+        cashFlowEntries.lock(modifiedRecord.transactionId());
+
+        var builder = toEntry(modifiedRecord);
+        var tracked = cashFlowEntries.findById(new TransactionIdentifier(modifiedRecord.transactionId()));
+        if (tracked.isPresent() && tracked.get().outdates(modifiedRecord.version())) {
+            log.debug("Cash flow entry {} was skipped, version {} is outdated", modifiedRecord.transactionId(), modifiedRecord.version());
+            return Optional.empty();
+        }
+
+        var entry = tracked
+                .map(existing -> {
+                    apply(existing, -1); // withdraw the previous values before updating
+                    existing.update(builder);
+                    return existing;
+                })
+                .orElseGet(builder::build);
+
+        cashFlowEntries.save(entry);
+        apply(entry, 1);
+        log.debug("Cash flow entry {} was recorded", entry);
+
+        return Optional.of(entry);
+    }
+
+    @Override
+    public Optional<CashFlowEntry> recordDeleted(CashFlowRecord deletedRecord) {
+        cashFlowEntries.lock(deletedRecord.transactionId());
+
+        var tracked = cashFlowEntries.findById(new TransactionIdentifier(deletedRecord.transactionId()));
+        if (tracked.isPresent() && tracked.get().isDeleted()) {
+            log.debug("Cash flow entry {} was skipped, withdrawn already", deletedRecord.transactionId());
+            return Optional.empty();
+        }
+
+        // the entry is kept deleted, so created or updated events delivered after the deletion are ignored
+        var entry = tracked.orElseGet(() -> toEntry(deletedRecord).build());
+        tracked.ifPresent(existing -> apply(existing, -1));
+        entry.delete();
+        cashFlowEntries.save(entry);
+
+        log.debug("Cash flow entry {} was {}", entry.getId(), tracked.isPresent() ? "withdrawn" : "skipped, not tracked");
+
+        return tracked;
+    }
+
+    private CashFlowEntry.CashFlowEntryBuilder toEntry(CashFlowRecord record) {
+        return CashFlowEntry.builder()
+                .id(new TransactionIdentifier(record.transactionId()))
+                .flowType(record.flowType())
+                .accountId(new AccountIdentifier(record.accountId()))
+                .sourceId(record.sourceId())
+                .sourceName(record.sourceName())
+                .amount(record.amount())
+                .entryDate(record.date())
+                .version(record.version());
+    }
+
+    private void apply(CashFlowEntry entry, int sign) {
+        var amount = entry.getAmount().getNumber().numberValue(BigDecimal.class);
+        var delta = sign < 0 ? amount.negate() : amount;
+        var income = entry.getFlowType() == INCOME;
+
+        var cashFlowId = CashFlowIdentifier.of(entry);
+        monthlyCashFlows.apply(cashFlowId.accountId(), cashFlowId.period(), cashFlowId.currency(),
+                income ? delta : BigDecimal.ZERO, income ? sign : 0,
+                income ? BigDecimal.ZERO : delta, income ? 0 : sign);
+
+        var breakdownId = BreakdownIdentifier.of(entry);
+        monthlyCashFlowBreakdowns.apply(breakdownId.accountId(), breakdownId.period(), breakdownId.currency(),
+                breakdownId.flowType().name(), breakdownId.sourceId(), entry.getSourceName(), delta, sign);
+    }
+}
@@ -0,0 +1,58 @@
+package io.myfinbox.reporting.application;
+
+import io.myfinbox.reporting.domain.CashFlowEntry;
+import io.myfinbox.reporting.domain.FlowType;
+import lombok.Builder;
+
+import javax.money.MonetaryAmount;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.myfinbox.shared.Guards.notNull;
+
+/**
+ * Use case interface for tracking created, updated, and deleted incomes and expenses into monthly cash flows.
+ */
+public interface CashFlowTrackerUseCase {
+
+    /**
+     * Records the creation or the update of an income or expense, replacing its previous contribution if any.
+     *
+     * @param modifiedRecord The record of the created or updated transaction.
+     * @return The recorded cash flow entry, or empty if a later version of the transaction was recorded already.
+     */
+    Optional<CashFlowEntry> recordModified(CashFlowRecord modifiedRecord);
+
+    /**
+     * Records the deletion of an income or expense, withdrawing its contribution.
+     *
+     * @param deletedRecord The record of the deleted transaction.
+     * @return The withdrawn cash flow entry, or empty if the transaction was not tracked or was withdrawn already.
+     */
+    Optional<CashFlowEntry> recordDeleted(CashFlowRecord deletedRecord);
+
+    /**
+     * Record representing an income or expense modification (creation, update, or deletion), as published by its
+     * module.
+     */
+    @Builder
+    record CashFlowRecord(UUID transactionId,
+                          FlowType flowType,
+                          UUID accountId,
+                          UUID sourceId,
+                          String sourceName,
+                          MonetaryAmount amount,
+                          LocalDate date,
+                          long version) {
+        public CashFlowRecord {
+            // Validate non-null fields, source name is optional
+            notNull(transactionId, "transactionId cannot be null.");
+            notNull(flowType, "flowType cannot be null.");
+            notNull(accountId, "accountId cannot be null.");
+            notNull(sourceId, "sourceId cannot be null.");
+            notNull(amount, "amount cannot be null.");
+            notNull(date, "date cannot be null.");
+        }
+    }
+}
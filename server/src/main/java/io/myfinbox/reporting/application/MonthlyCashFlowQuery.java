@@ -0,0 +1,37 @@
+package io.myfinbox.reporting.application;
+
+import io.myfinbox.reporting.domain.MonthlyCashFlow;
+import io.myfinbox.reporting.domain.MonthlyCashFlowBreakdown;
+import io.myfinbox.shared.Failure;
+import io.vavr.control.Either;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents a query interface for retrieving the monthly cash flow overview of an account.
+ */
+public interface MonthlyCashFlowQuery {
+
+    String FIELD_ACCOUNT_ID = "accountId";
+    String FIELD_PERIOD = "period";
+
+    /**
+     * Retrieves the income, expense and net totals of an account within a month, one overview per currency.
+     * Read from the maintained rollups only.
+     *
+     * @param accountId the unique identifier of the account.
+     * @param period    the month to retrieve the overview for.
+     * @return either a failure if the query is invalid or the overviews, empty when nothing was recorded.
+     */
+    Either<Failure, List<MonthlyCashFlowOverview>> overview(UUID accountId, YearMonth period);
+
+    /**
+     * Cash flow of an account within a month in a single currency, broken down by expense category and income source.
+     */
+    record MonthlyCashFlowOverview(MonthlyCashFlow cashFlow,
+                                   List<MonthlyCashFlowBreakdown> expenseCategories,
+                                   List<MonthlyCashFlowBreakdown> incomeSources) {
+    }
+}
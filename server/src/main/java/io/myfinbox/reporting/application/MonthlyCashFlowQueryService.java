@@ -0,0 +1,72 @@
+package io.myfinbox.reporting.application;
+
+import io.myfinbox.reporting.domain.MonthlyCashFlowBreakdowns;
+import io.myfinbox.reporting.domain.MonthlyCashFlows;
+import io.myfinbox.shared.Failure;
+import io.myfinbox.shared.Failure.FieldViolation;
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static io.myfinbox.reporting.domain.FlowType.EXPENSE;
+import static io.myfinbox.reporting.domain.FlowType.INCOME;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.groupingBy;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class MonthlyCashFlowQueryService implements MonthlyCashFlowQuery {
+
+    static final String VALIDATION_FAILURE_MESSAGE = "Validation failed for the monthly cash flow request.";
+
+    private final MonthlyCashFlows monthlyCashFlows;
+    private final MonthlyCashFlowBreakdowns monthlyCashFlowBreakdowns;
+
+    @Override
+    public Either<Failure, List<MonthlyCashFlowOverview>> overview(UUID accountId, YearMonth period) {
+        var violations = new ArrayList<FieldViolation>();
+        if (isNull(accountId)) {
+            violations.add(FieldViolation.builder()
+                    .field(FIELD_ACCOUNT_ID)
+                    .message("AccountId cannot be null.")
+                    .build());
+        }
+
+        if (isNull(period)) {
+            violations.add(FieldViolation.builder()
+                    .field(FIELD_PERIOD)
+                    .message("Period cannot be null.")
+                    .build());
+        }
+
+        if (!violations.isEmpty()) {
+            return Either.left(Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, violations));
+        }
+
+        var cashFlows = monthlyCashFlows.findByAccountIdAndPeriod(accountId, period.atDay(1));
+        if (cashFlows.isEmpty()) {
+            return Either.right(List.of());
+        }
+
+        var breakdownsByCurrency = monthlyCashFlowBreakdowns.findByAccountIdAndPeriod(accountId, period.atDay(1))
+                .stream()
+                .collect(groupingBy(breakdown -> breakdown.getId().currency()));
+
+        return Either.right(cashFlows.stream()
+                .map(cashFlow -> {
+                    var breakdowns = breakdownsByCurrency.getOrDefault(cashFlow.getId().currency(), List.of());
+                    return new MonthlyCashFlowOverview(
+                            cashFlow,
+                            breakdowns.stream().filter(breakdown -> breakdown.getId().flowType() == EXPENSE).toList(),
+                            breakdowns.stream().filter(breakdown -> breakdown.getId().flowType() == INCOME).toList());
+                })
+                .toList());
+    }
+}
@@ -0,0 +1,22 @@
+package io.myfinbox.reporting.domain;
+
+import io.myfinbox.reporting.domain.CashFlowEntry.TransactionIdentifier;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface CashFlowEntries extends CrudRepository<CashFlowEntry, TransactionIdentifier> {
+
+    /**
+     * Locks the transaction until the end of the current transaction, so its events are applied to the rollups one at
+     * a time, also while it has no entry to lock yet.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT count(*) FROM pg_advisory_xact_lock(hashtextextended(CAST(:transactionId AS TEXT), 0))
+            """)
+    long lock(UUID transactionId);
+
+}
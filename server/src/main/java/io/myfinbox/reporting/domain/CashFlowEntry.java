@@ -0,0 +1,109 @@
+package io.myfinbox.reporting.domain;
+
+import io.hypersistence.utils.hibernate.type.money.MonetaryAmountType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CompositeType;
+
+import javax.money.MonetaryAmount;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static io.myfinbox.shared.Guards.notNull;
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * Rolled up state of an expense or income, kept to withdraw its contribution from the monthly rollups when it is
+ * updated or deleted. Entries hold the version of the last applied event, and are kept once deleted, so events
+ * delivered late, twice or out of order are ignored.
+ */
+@Entity
+@Getter
+@ToString
+@Table(name = "cash_flow_entry")
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = PACKAGE, force = true)
+public class CashFlowEntry {
+
+    @EmbeddedId
+    private final TransactionIdentifier id;
+
+    private final Instant creationTimestamp;
+
+    @Enumerated(EnumType.STRING)
+    private final FlowType flowType;
+
+    @Embedded
+    @AttributeOverride(name = "id", column = @Column(name = "account_id"))
+    private final AccountIdentifier accountId;
+
+    private UUID sourceId;
+    private String sourceName;
+
+    @AttributeOverride(name = "amount", column = @Column(name = "amount"))
+    @AttributeOverride(name = "currency", column = @Column(name = "currency"))
+    @CompositeType(MonetaryAmountType.class)
+    private MonetaryAmount amount;
+
+    private LocalDate entryDate;
+    private long version;
+    private boolean deleted;
+
+    @Builder
+    public CashFlowEntry(TransactionIdentifier id,
+                         FlowType flowType,
+                         AccountIdentifier accountId,
+                         UUID sourceId,
+                         String sourceName,
+                         MonetaryAmount amount,
+                         LocalDate entryDate,
+                         long version) {
+        this.id = notNull(id, "id cannot be null.");
+        this.flowType = notNull(flowType, "flowType cannot be null.");
+        this.accountId = notNull(accountId, "accountId cannot be null.");
+        this.sourceId = notNull(sourceId, "sourceId cannot be null.");
+        this.sourceName = sourceName;
+        this.amount = notNull(amount, "amount cannot be null.");
+        this.entryDate = notNull(entryDate, "entryDate cannot be null.");
+        this.version = version;
+        this.creationTimestamp = Instant.now();
+    }
+
+    /**
+     * Checks whether the entry already reflects the given version of its transaction, or a later state.
+     *
+     * @param version the version of the transaction carried by an event.
+     * @return true if the event is outdated and must be ignored.
+     */
+    public boolean outdates(long version) {
+        return deleted || this.version >= version;
+    }
+
+    public void update(CashFlowEntryBuilder builder) {
+        notNull(builder, "builder cannot be null.");
+        this.sourceId = notNull(builder.sourceId, "sourceId cannot be null.");
+        this.sourceName = builder.sourceName;
+        this.amount = notNull(builder.amount, "amount cannot be null.");
+        this.entryDate = notNull(builder.entryDate, "entryDate cannot be null.");
+        this.version = builder.version;
+    }
+
+    public void delete() {
+        this.deleted = true;
+    }
+
+    @Embeddable
+    public record TransactionIdentifier(UUID id) implements Serializable {
+
+        public TransactionIdentifier {
+            notNull(id, "id cannot be null.");
+        }
+
+        @Override
+        public String toString() {
+            return id.toString();
+        }
+    }
+}
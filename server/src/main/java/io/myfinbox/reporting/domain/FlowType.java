@@ -0,0 +1,8 @@
+package io.myfinbox.reporting.domain;
+
+/**
+ * Direction of a cash flow entry.
+ */
+public enum FlowType {
+    INCOME, EXPENSE
+}
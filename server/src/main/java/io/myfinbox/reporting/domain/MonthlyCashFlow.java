@@ -0,0 +1,83 @@
+package io.myfinbox.reporting.domain;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.javamoney.moneta.Money;
+
+import javax.money.MonetaryAmount;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static io.myfinbox.shared.Guards.notBlank;
+import static io.myfinbox.shared.Guards.notNull;
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * Income and expense totals of an account within a monthly period, per currency.
+ * Maintained incrementally by applying deltas, see {@link MonthlyCashFlows#apply}.
+ */
+@Entity
+@Getter
+@ToString
+@Table(name = "monthly_cash_flow")
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = PACKAGE, force = true)
+public class MonthlyCashFlow {
+
+    @EmbeddedId
+    private final CashFlowIdentifier id;
+
+    private final BigDecimal totalIncome;
+    private final long incomeCount;
+    private final BigDecimal totalExpense;
+    private final long expenseCount;
+
+    public MonetaryAmount getIncome() {
+        return Money.of(totalIncome, id.currency());
+    }
+
+    public MonetaryAmount getExpense() {
+        return Money.of(totalExpense, id.currency());
+    }
+
+    public MonetaryAmount getNet() {
+        return getIncome().subtract(getExpense());
+    }
+
+    @Embeddable
+    public record CashFlowIdentifier(UUID accountId, LocalDate period, String currency) implements Serializable {
+
+        public CashFlowIdentifier {
+            notNull(accountId, "accountId cannot be null.");
+            notNull(period, "period cannot be null.");
+            notBlank(currency, "currency cannot be blank.");
+        }
+
+        public static CashFlowIdentifier of(CashFlowEntry entry) {
+            return new CashFlowIdentifier(
+                    entry.getAccountId().id(),
+                    periodOf(entry.getEntryDate()),
+                    entry.getAmount().getCurrency().getCurrencyCode());
+        }
+
+        public YearMonth yearMonth() {
+            return YearMonth.from(period);
+        }
+    }
+
+    /**
+     * Returns the period of a date, the first day of its month.
+     */
+    public static LocalDate periodOf(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+}
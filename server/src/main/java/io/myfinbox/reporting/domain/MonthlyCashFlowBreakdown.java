@@ -0,0 +1,68 @@
+package io.myfinbox.reporting.domain;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.javamoney.moneta.Money;
+
+import javax.money.MonetaryAmount;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static io.myfinbox.reporting.domain.MonthlyCashFlow.periodOf;
+import static io.myfinbox.shared.Guards.notBlank;
+import static io.myfinbox.shared.Guards.notNull;
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * Share of a monthly cash flow coming from a single expense category or income source.
+ * Maintained incrementally by applying deltas, see {@link MonthlyCashFlowBreakdowns#apply}.
+ */
+@Entity
+@Getter
+@ToString
+@Table(name = "monthly_cash_flow_breakdown")
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = PACKAGE, force = true)
+public class MonthlyCashFlowBreakdown {
+
+    @EmbeddedId
+    private final BreakdownIdentifier id;
+
+    private final String sourceName;
+    private final BigDecimal totalAmount;
+    private final long entryCount;
+
+    public MonetaryAmount getTotal() {
+        return Money.of(totalAmount, id.currency());
+    }
+
+    @Embeddable
+    public record BreakdownIdentifier(UUID accountId,
+                                      LocalDate period,
+                                      String currency,
+                                      @Enumerated(EnumType.STRING) FlowType flowType,
+                                      UUID sourceId) implements Serializable {
+
+        public BreakdownIdentifier {
+            notNull(accountId, "accountId cannot be null.");
+            notNull(period, "period cannot be null.");
+            notBlank(currency, "currency cannot be blank.");
+            notNull(flowType, "flowType cannot be null.");
+            notNull(sourceId, "sourceId cannot be null.");
+        }
+
+        public static BreakdownIdentifier of(CashFlowEntry entry) {
+            return new BreakdownIdentifier(
+                    entry.getAccountId().id(),
+                    periodOf(entry.getEntryDate()),
+                    entry.getAmount().getCurrency().getCurrencyCode(),
+                    entry.getFlowType(),
+                    entry.getSourceId());
+        }
+    }
+}
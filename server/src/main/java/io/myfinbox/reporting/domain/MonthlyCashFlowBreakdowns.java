@@ -0,0 +1,39 @@
+package io.myfinbox.reporting.domain;
+
+import io.myfinbox.reporting.domain.MonthlyCashFlowBreakdown.BreakdownIdentifier;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MonthlyCashFlowBreakdowns extends CrudRepository<MonthlyCashFlowBreakdown, BreakdownIdentifier> {
+
+    /**
+     * Atomically adds the deltas to the breakdown, creating it when missing. The latest known source name is kept.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO monthly_cash_flow_breakdown AS b (account_id, period, currency, flow_type, source_id, source_name, total_amount, entry_count)
+            VALUES (:accountId, :period, :currency, :flowType, :sourceId, :sourceName, :amount, :count)
+            ON CONFLICT (account_id, period, currency, flow_type, source_id)
+            DO UPDATE SET total_amount = b.total_amount + EXCLUDED.total_amount,
+                          entry_count  = b.entry_count + EXCLUDED.entry_count,
+                          source_name  = COALESCE(EXCLUDED.source_name, b.source_name)
+            """)
+    void apply(UUID accountId, LocalDate period, String currency, String flowType,
+               UUID sourceId, String sourceName, BigDecimal amount, long count);
+
+    @Query(value = """
+            SELECT b FROM MonthlyCashFlowBreakdown b
+            WHERE b.id.accountId = :accountId AND b.id.period = :period AND b.entryCount > 0
+            ORDER BY b.id.currency, b.id.flowType, b.totalAmount DESC
+            """)
+    List<MonthlyCashFlowBreakdown> findByAccountIdAndPeriod(UUID accountId, LocalDate period);
+
+}
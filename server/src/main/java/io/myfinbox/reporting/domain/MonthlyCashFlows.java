@@ -0,0 +1,41 @@
+package io.myfinbox.reporting.domain;
+
+import io.myfinbox.reporting.domain.MonthlyCashFlow.CashFlowIdentifier;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MonthlyCashFlows extends CrudRepository<MonthlyCashFlow, CashFlowIdentifier> {
+
+    /**
+     * Atomically adds the deltas to the monthly cash flow, creating it when missing.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO monthly_cash_flow AS f (account_id, period, currency, total_income, income_count, total_expense, expense_count)
+            VALUES (:accountId, :period, :currency, :income, :incomeCount, :expense, :expenseCount)
+            ON CONFLICT (account_id, period, currency)
+            DO UPDATE SET total_income  = f.total_income + EXCLUDED.total_income,
+                          income_count  = f.income_count + EXCLUDED.income_count,
+                          total_expense = f.total_expense + EXCLUDED.total_expense,
+                          expense_count = f.expense_count + EXCLUDED.expense_count
+            """)
+    void apply(UUID accountId, LocalDate period, String currency,
+               BigDecimal income, long incomeCount, BigDecimal expense, long expenseCount);
+
+    @Query(value = """
+            SELECT f FROM MonthlyCashFlow f
+            WHERE f.id.accountId = :accountId AND f.id.period = :period
+              AND (f.incomeCount > 0 OR f.expenseCount > 0)
+            ORDER BY f.id.currency
+            """)
+    List<MonthlyCashFlow> findByAccountIdAndPeriod(UUID accountId, LocalDate period);
+
+}
@@ -79,6 +79,15 @@ public record ApiErrorResponse(Instant timestamp,
 
     }
 
+    public static ResponseEntity<ApiErrorResponse> payloadTooLarge(String message) {
+        return ResponseEntity.status(PAYLOAD_TOO_LARGE)
+                .contentType(APPLICATION_JSON)
+                .body(ApiErrorResponse.builder()
+                        .httpStatus(PAYLOAD_TOO_LARGE)
+                        .message(message)
+                        .build());
+    }
+
     public static ResponseEntity<ApiErrorResponse> unsupportedMediaType(HttpHeaders headers, String message) {
         return ResponseEntity.status(UNSUPPORTED_MEDIA_TYPE)
                 .headers(headers)
@@ -99,6 +108,15 @@ public record ApiErrorResponse(Instant timestamp,
                         .build());
     }
 
+    public static ResponseEntity<ApiErrorResponse> tooManyRequests(String message) {
+        return ResponseEntity.status(TOO_MANY_REQUESTS)
+                .contentType(APPLICATION_JSON)
+                .body(ApiErrorResponse.builder()
+                        .httpStatus(TOO_MANY_REQUESTS)
+                        .message(message)
+                        .build());
+    }
+
     public static ResponseEntity<ApiErrorResponse> internalServerError(String message) {
         return ResponseEntity.status(INTERNAL_SERVER_ERROR)
                 .contentType(APPLICATION_JSON)
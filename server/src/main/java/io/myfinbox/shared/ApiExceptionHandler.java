@@ -2,6 +2,7 @@ package io.myfinbox.shared;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -90,6 +91,16 @@ public final class ApiExceptionHandler extends ResponseEntityExceptionHandler {
         return unsupportedMediaType(headers, "Content type '" + ex.getContentType() + "' is not supported");
     }
 
+    /**
+     * Handles the update of a versioned entity modified concurrently, the client has to reload it and retry.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.debug("Concurrent update rejected", ex);
+
+        return conflict("The resource was modified concurrently, reload it and retry");
+    }
+
     /**
      * Handles unexpected exception, internal server error response.
      */
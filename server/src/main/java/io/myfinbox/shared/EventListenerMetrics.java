@@ -0,0 +1,205 @@
+package io.myfinbox.shared;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Instruments the event listeners of the application modules, per listening module and event type:
+ * <ul>
+ *     <li>{@value #DURATION_TIMER} - handling duration, tagged by outcome, success, skipped or failure</li>
+ *     <li>{@value #LAG_GAUGE} - time from the publication of the last handled event to its handling completion</li>
+ *     <li>{@value #SKIPPED_COUNTER} - events acknowledged without effect, see {@link #skipped(Object)}</li>
+ *     <li>{@value #FAILED_COUNTER} - events whose handling threw, or reported a failure, see {@link #failed(Object)}</li>
+ * </ul>
+ * The handling is intercepted around the listener transaction, so the duration includes the commit. The lag is known
+ * for events published by this instance only, events resubmitted from the publication registry are not measured.
+ */
+public class EventListenerMetrics implements MethodInterceptor {
+
+    public static final String DURATION_TIMER = "modulith.listener.duration";
+    public static final String LAG_GAUGE = "modulith.listener.lag";
+    public static final String SKIPPED_COUNTER = "modulith.listener.skipped";
+    public static final String FAILED_COUNTER = "modulith.listener.failed";
+
+    static final String UNKNOWN_MODULE = "unknown";
+    static final String NO_EXCEPTION = "none";
+
+    private static final ThreadLocal<Handling> CURRENT = new ThreadLocal<>();
+
+    // identity keyed, an event is tracked while referenced by its pending listeners
+    private final Cache<Object, Instant> publications = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(100_000)
+            .build();
+    private final Map<LagKey, AtomicLong> lags = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final String rootPackage;
+
+    public EventListenerMetrics(MeterRegistry meterRegistry, String rootPackage) {
+        this.meterRegistry = meterRegistry;
+        this.rootPackage = rootPackage;
+    }
+
+    /**
+     * Marks the event being handled as skipped, the handling completed without effect.
+     *
+     * @param event the handled event.
+     */
+    public void skipped(Object event) {
+        var handling = CURRENT.get();
+        if (nonNull(handling)) {
+            handling.outcome = Outcome.SKIPPED;
+        }
+
+        Counter.builder(SKIPPED_COUNTER)
+                .description("Number of events handled without effect")
+                .tags("module", moduleOf(handling), "event", event.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Marks the event being handled as failed, for failures handled by the listener instead of thrown.
+     *
+     * @param event the handled event.
+     */
+    public void failed(Object event) {
+        var handling = CURRENT.get();
+        if (nonNull(handling)) {
+            handling.outcome = Outcome.FAILURE;
+        }
+
+        countFailure(moduleOf(handling), event.getClass().getSimpleName(), NO_EXCEPTION);
+    }
+
+    /**
+     * Records the publication instant of the domain events, listened synchronously while they are published.
+     */
+    @EventListener
+    public void published(DomainEvent event) {
+        publications.put(event, Instant.now());
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var arguments = invocation.getArguments();
+        if (arguments.length != 1) {
+            return invocation.proceed();
+        }
+
+        var event = arguments[0];
+        var module = moduleOf(invocation.getMethod().getDeclaringClass());
+        var eventType = event.getClass().getSimpleName();
+        var handling = new Handling(module);
+
+        var previous = CURRENT.get();
+        CURRENT.set(handling);
+        var start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            handling.outcome = Outcome.FAILURE;
+            countFailure(module, eventType, e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            var elapsed = System.nanoTime() - start;
+            restore(previous);
+
+            Timer.builder(DURATION_TIMER)
+                    .description("Duration of the handling of an event by a module listener")
+                    .tags("module", module, "event", eventType, "outcome", handling.outcome.value)
+                    .register(meterRegistry)
+                    .record(elapsed, NANOSECONDS);
+
+            var publishedOn = publications.getIfPresent(event);
+            if (nonNull(publishedOn)) {
+                lagOf(module, eventType).set(Duration.between(publishedOn, Instant.now()).toMillis());
+            }
+        }
+    }
+
+    private AtomicLong lagOf(String module, String eventType) {
+        return lags.computeIfAbsent(new LagKey(module, eventType), key -> {
+            var lag = new AtomicLong();
+            Gauge.builder(LAG_GAUGE, lag, value -> value.get() / 1_000.0)
+                    .description("Time from the publication of the last handled event to its handling completion")
+                    .tags("module", key.module(), "event", key.eventType())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            return lag;
+        });
+    }
+
+    private void countFailure(String module, String eventType, String exception) {
+        Counter.builder(FAILED_COUNTER)
+                .description("Number of events whose handling failed")
+                .tags("module", module, "event", eventType, "exception", exception)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String moduleOf(Class<?> listenerType) {
+        var packageName = listenerType.getPackageName();
+        if (!packageName.startsWith(rootPackage + ".")) {
+            return UNKNOWN_MODULE;
+        }
+
+        var modulePath = packageName.substring(rootPackage.length() + 1);
+        var separator = modulePath.indexOf('.');
+        return separator < 0 ? modulePath : modulePath.substring(0, separator);
+    }
+
+    private static String moduleOf(Handling handling) {
+        return isNull(handling) ? UNKNOWN_MODULE : handling.module;
+    }
+
+    private static void restore(Handling previous) {
+        if (isNull(previous)) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    private enum Outcome {
+
+        SUCCESS("success"), SKIPPED("skipped"), FAILURE("failure");
+
+        private final String value;
+
+        Outcome(String value) {
+            this.value = value;
+        }
+    }
+
+    private static final class Handling {
+
+        private final String module;
+        private Outcome outcome = Outcome.SUCCESS;
+
+        Handling(String module) {
+            this.module = module;
+        }
+    }
+
+    private record LagKey(String module, String eventType) {
+    }
+}
@@ -53,6 +53,16 @@ public interface Failure {
         return new ForbiddenFailure(message);
     }
 
+    /**
+     * Creates a {@link TooManyRequestsFailure} instance with the provided message.
+     *
+     * @param message The message describing the too many requests failure.
+     * @return A {@link TooManyRequestsFailure} instance.
+     */
+    static Failure ofTooManyRequests(String message) {
+        return new TooManyRequestsFailure(message);
+    }
+
     record ValidationFailure(String message, Collection<FieldViolation> fieldViolations) implements Failure {
 
         public ValidationFailure {
@@ -69,6 +79,9 @@ public interface Failure {
     record ForbiddenFailure(String message) implements Failure {
     }
 
+    record TooManyRequestsFailure(String message) implements Failure {
+    }
+
     @Builder
     record FieldViolation(String field, String message, Object rejectedValue) {
     }
@@ -2,7 +2,6 @@ package io.myfinbox.shared;
 
 import lombok.Generated;
 import org.apache.commons.lang3.StringUtils;
-import org.javamoney.moneta.Money;
 import org.springframework.util.CollectionUtils;
 
 import javax.money.MonetaryAmount;
@@ -46,7 +45,7 @@ public final class Guards {
 
     public static MonetaryAmount greaterThanZero(MonetaryAmount amount, String message) {
         notNull(amount, "amount cannot be null.");
-        if (amount.isLessThanOrEqualTo(Money.of(BigDecimal.ZERO, amount.getCurrency()))) {
+        if (amount.signum() <= 0) {
             throw new IllegalArgumentException(message);
         }
 
@@ -0,0 +1,203 @@
+package io.myfinbox.spendingplan.adapter.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.myfinbox.spendingplan.application.ExpenseRecordTrackerUseCase;
+import io.myfinbox.spendingplan.application.ExpenseRecordTrackerUseCase.ExpenseModificationRecord;
+import io.myfinbox.spendingplan.domain.ExpenseRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Groups concurrently received expense creations into micro-batches (group commit).
+ * <p>
+ * Every caller enqueues its record and waits for the flush lock. The lock holder drains everything queued so far
+ * and records it through a single use case call, so batches grow with the number of in-flight listener invocations
+ * without a dedicated flushing thread. A caller returns only after its own record was flushed, which keeps the
+ * event publication incomplete until the records are committed. A failed batch is retried record by record,
+ * so one faulty event doesn't fail its neighbours.
+ * <p>
+ * Waiting callers keep their {@code @Async} listener threads, so a batch can't exceed the number of listener invocations
+ * running concurrently: the application task executor size ({@code spring.task.execution.pool.core-size}), or its
+ * concurrency limit with virtual threads. The {@code spendingplan.expense-events.batch.max-size} bound only applies when
+ * the executor allows more concurrent listeners than that. A dedicated flushing thread wouldn't lift the cap, since the
+ * listener has to wait for its record anyway to keep the event publication incomplete until it's committed.
+ */
+@Slf4j
+@Component
+class ExpenseCreatedBatcher {
+
+    static final String FLUSH_TIMER = "spendingplan.expense.records.flush";
+    static final String BATCH_SIZE_SUMMARY = "spendingplan.expense.records.batch.size";
+    static final String RECORDED_COUNTER = "spendingplan.expense.events.recorded";
+
+    private final Queue<PendingRecord> pendingRecords = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final ExpenseRecordTrackerUseCase expenseRecordTrackerUseCase;
+    private final boolean batchEnabled;
+    private final int maxBatchSize;
+
+    private final Timer batchFlushTimer;
+    private final Timer singleFlushTimer;
+    private final DistributionSummary batchSize;
+    private final Counter batchRecorded;
+    private final Counter singleRecorded;
+
+    ExpenseCreatedBatcher(ExpenseRecordTrackerUseCase expenseRecordTrackerUseCase,
+                          MeterRegistry meterRegistry,
+                          @Value("${spendingplan.expense-events.batch.enabled:true}") boolean batchEnabled,
+                          @Value("${spendingplan.expense-events.batch.max-size:100}") int maxBatchSize) {
+        this.expenseRecordTrackerUseCase = expenseRecordTrackerUseCase;
+        this.batchEnabled = batchEnabled;
+        this.maxBatchSize = maxBatchSize;
+        this.batchFlushTimer = Timer.builder(FLUSH_TIMER)
+                .description("Time spent recording created expenses")
+                .tag("mode", "batch")
+                .register(meterRegistry);
+        this.singleFlushTimer = Timer.builder(FLUSH_TIMER)
+                .description("Time spent recording created expenses")
+                .tag("mode", "single")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                .description("Number of created expenses recorded per batch")
+                .register(meterRegistry);
+        this.batchRecorded = Counter.builder(RECORDED_COUNTER)
+                .description("Number of created expense events recorded")
+                .tag("mode", "batch")
+                .register(meterRegistry);
+        this.singleRecorded = Counter.builder(RECORDED_COUNTER)
+                .description("Number of created expense events recorded")
+                .tag("mode", "single")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the created expense, possibly together with other concurrently created expenses.
+     *
+     * @param createdRecord The record of the created expense.
+     * @return A list of expense records created for the given expense.
+     */
+    List<ExpenseRecord> record(ExpenseModificationRecord createdRecord) {
+        if (!batchEnabled) {
+            return recordSingle(createdRecord);
+        }
+
+        var pending = new PendingRecord(createdRecord);
+        pendingRecords.add(pending);
+
+        flushLock.lock();
+        try {
+            while (!pending.isDone()) {
+                flush(drain());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+
+        return pending.result();
+    }
+
+    /**
+     * @return The number of created expenses waiting for the next flush.
+     */
+    int queued() {
+        return pendingRecords.size();
+    }
+
+    private List<PendingRecord> drain() {
+        var batch = new ArrayList<PendingRecord>();
+        PendingRecord pending;
+        while (batch.size() < maxBatchSize && (pending = pendingRecords.poll()) != null) {
+            batch.add(pending);
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        batchSize.record(batch.size());
+        try {
+            var records = batchFlushTimer.record(() -> expenseRecordTrackerUseCase.recordCreated(
+                    batch.stream().map(PendingRecord::createdRecord).toList()));
+
+            var recordsByExpense = records.stream()
+                    .collect(groupingBy(record -> record.getExpenseId().id()));
+            batch.forEach(pending -> pending.complete(recordsByExpense.getOrDefault(pending.expenseId(), List.of())));
+            batchRecorded.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("[Plan] Recording batch of {} created expenses failed, retrying one by one", batch.size(), e);
+            batch.forEach(this::flushSingle);
+        }
+    }
+
+    private void flushSingle(PendingRecord pending) {
+        try {
+            pending.complete(recordSingle(pending.createdRecord()));
+        } catch (RuntimeException e) {
+            pending.fail(e);
+        }
+    }
+
+    private List<ExpenseRecord> recordSingle(ExpenseModificationRecord createdRecord) {
+        var records = singleFlushTimer.record(() -> expenseRecordTrackerUseCase.recordCreated(createdRecord));
+        singleRecorded.increment();
+        return records;
+    }
+
+    /**
+     * Created expense waiting to be flushed, guarded by the flush lock.
+     */
+    private static final class PendingRecord {
+
+        private final ExpenseModificationRecord createdRecord;
+        private List<ExpenseRecord> records;
+        private RuntimeException failure;
+
+        PendingRecord(ExpenseModificationRecord createdRecord) {
+            this.createdRecord = createdRecord;
+        }
+
+        ExpenseModificationRecord createdRecord() {
+            return createdRecord;
+        }
+
+        UUID expenseId() {
+            return createdRecord.expenseId();
+        }
+
+        boolean isDone() {
+            return records != null || failure != null;
+        }
+
+        void complete(List<ExpenseRecord> records) {
+            this.records = records;
+        }
+
+        void fail(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        List<ExpenseRecord> result() {
+            if (failure != null) {
+                throw failure;
+            }
+            return records;
+        }
+    }
+}
@@ -3,12 +3,15 @@ package io.myfinbox.spendingplan.adapter.messaging;
 import io.myfinbox.expense.ExpenseCreated;
 import io.myfinbox.expense.ExpenseDeleted;
 import io.myfinbox.expense.ExpenseUpdated;
+import io.myfinbox.shared.EventListenerMetrics;
 import io.myfinbox.spendingplan.application.ExpenseRecordTrackerUseCase;
 import io.myfinbox.spendingplan.application.ExpenseRecordTrackerUseCase.ExpenseModificationRecord;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Listens for expense-related events and delegates the handling to the appropriate use case.
@@ -19,18 +22,24 @@ import org.springframework.stereotype.Component;
 class ExpenseEventsListener {
 
     private final ExpenseRecordTrackerUseCase expenseRecordTrackerUseCase;
+    private final ExpenseCreatedBatcher expenseCreatedBatcher;
+    private final EventListenerMetrics eventListenerMetrics;
 
     /**
-     * Handles the ExpenseCreated event by recording it.
+     * Handles the ExpenseCreated event by recording it, batched with concurrently received events.
+     * <p>
+     * Unlike {@link ApplicationModuleListener}, no transaction is opened around the listener: the batcher flushes
+     * within its own transaction, so callers waiting for a batch don't hold a database connection.
      *
      * @param event The ExpenseCreated event to handle.
      */
-    @ApplicationModuleListener
+    @Async
+    @TransactionalEventListener
     public void on(ExpenseCreated event) {
         log.debug("[Plan] Received ExpenseCreated event: {}", event);
 
         // Record the created expense
-        var expenseRecord = expenseRecordTrackerUseCase.recordCreated(ExpenseModificationRecord.builder()
+        var expenseRecord = expenseCreatedBatcher.record(ExpenseModificationRecord.builder()
                 .expenseId(event.expenseId())
                 .accountId(event.accountId())
                 .categoryId(event.categoryId())
@@ -42,6 +51,7 @@ class ExpenseEventsListener {
 
         if (expenseRecord.isEmpty()) {
             log.debug("[Plan] ExpenseCreated event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
         }
     }
 
@@ -67,6 +77,7 @@ class ExpenseEventsListener {
 
         if (expenseRecord.isEmpty()) {
             log.debug("[Plan] ExpenseUpdated event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
         }
     }
 
@@ -92,6 +103,7 @@ class ExpenseEventsListener {
 
         if (expenseRecord.isEmpty()) {
             log.debug("[Plan] ExpenseDeleted event: {} skipped", event);
+            eventListenerMetrics.skipped(event);
         }
     }
 }
@@ -0,0 +1,55 @@
+package io.myfinbox.spendingplan.adapter.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.myfinbox.spendingplan.application.JarCategoryBackfillUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Backfills the categories added to jars chunk by chunk until none is pending, off the request threads.
+ * The progress is reported by the pending categories gauge, the recorded expenses counter and a log per completed category.
+ */
+@Slf4j
+@Component
+class JarCategoryBackfiller {
+
+    static final String PENDING_GAUGE = "spendingplan.jar.category.backfill.pending";
+    static final String RECORDED_COUNTER = "spendingplan.jar.category.backfill.recorded";
+
+    private final JarCategoryBackfillUseCase backfillUseCase;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter recorded;
+
+    JarCategoryBackfiller(JarCategoryBackfillUseCase backfillUseCase, MeterRegistry meterRegistry) {
+        this.backfillUseCase = backfillUseCase;
+        Gauge.builder(PENDING_GAUGE, pending, AtomicLong::get)
+                .description("Number of jar categories whose existing expenses are not recorded yet")
+                .register(meterRegistry);
+        this.recorded = Counter.builder(RECORDED_COUNTER)
+                .description("Number of existing expenses recorded by jar category backfills")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${spendingplan.jar-category-backfill.interval:PT5S}", fixedDelayString = "${spendingplan.jar-category-backfill.interval:PT5S}")
+    void backfill() {
+        pending.set(backfillUseCase.pending());
+
+        var progress = backfillUseCase.backfillNextChunk();
+        while (progress.isPresent()) {
+            var current = progress.get();
+            recorded.increment(current.recorded());
+            if (current.completed()) {
+                pending.updateAndGet(value -> Math.max(0, value - 1));
+                log.info("Jar {} category {} backfilled with {} expenses", current.jarId(), current.categoryId(), current.backfilled());
+            }
+
+            progress = backfillUseCase.backfillNextChunk();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.myfinbox.spendingplan.adapter.web;
 
 import io.myfinbox.rest.JarCategoryModificationResource;
 import io.myfinbox.rest.JarExpenseCategoryResource;
+import io.myfinbox.rest.JarProgressResource;
 import io.myfinbox.rest.JarResource;
 import io.myfinbox.shared.ApiFailureHandler;
 import io.myfinbox.shared.Failure;
@@ -9,16 +10,23 @@ import io.myfinbox.spendingplan.application.*;
 import io.myfinbox.spendingplan.application.AddOrRemoveJarCategoryUseCase.JarCategoryToAddOrRemove;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.YearMonth;
 import java.util.Objects;
 import java.util.UUID;
 
 import static io.myfinbox.spendingplan.application.AddOrRemoveJarCategoryUseCase.JarCategoriesCommand;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.http.ResponseEntity.status;
 import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
 
 @RestController
@@ -30,6 +38,9 @@ final class JarController implements JarsApi {
     private final AddOrRemoveJarCategoryUseCase addOrRemoveJarCategoryUseCase;
     private final JarQuery jarQuery;
     private final JarExpenseCategoryQuery jarExpenseCategoryQuery;
+    private final JarProgressQuery jarProgressQuery;
+    private final PlanQuery planQuery;
+    private final JarProgressStreams jarProgressStreams;
     private final ApiFailureHandler apiFailureHandler;
     private final ConversionService conversionService;
 
@@ -63,12 +74,16 @@ final class JarController implements JarsApi {
     }
 
     @GetMapping(path = "/{planId}/jars", produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> list(@PathVariable("planId") UUID planId) {
-        var jars = jarQuery.search()
-                .withPlanId(planId)
-                .list();
+    public ResponseEntity<?> list(@PathVariable("planId") UUID planId, WebRequest request) {
+        var query = jarQuery.search()
+                .withPlanId(planId);
 
-        return ok().body(jars.stream()
+        var versionTag = query.versionTag().orElseThrow();
+        if (request.checkNotModified(versionTag)) {
+            return status(NOT_MODIFIED).eTag(versionTag).build();
+        }
+
+        return ok().eTag(versionTag).body(query.list().stream()
                 .map(jar -> conversionService.convert(jar, JarResource.class))
                 .toList());
     }
@@ -80,6 +95,28 @@ final class JarController implements JarsApi {
                 .toList());
     }
 
+    @GetMapping(path = "/{planId}/jars/{jarId}/progress", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> progress(@PathVariable UUID planId,
+                                      @PathVariable UUID jarId,
+                                      @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth period) {
+        return jarProgressQuery.progress(planId, jarId, Objects.requireNonNullElseGet(period, YearMonth::now))
+                .fold(apiFailureHandler::handle, progress -> ok().body(conversionService.convert(progress, JarProgressResource.class)));
+    }
+
+    @GetMapping(path = "/{planId}/jars/progress", produces = {TEXT_EVENT_STREAM_VALUE, APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> progressStream(@PathVariable UUID planId) {
+        var planExists = planQuery.search()
+                .withPlanId(planId)
+                .exists();
+
+        if (!planExists) {
+            var failure = apiFailureHandler.handle(Failure.ofNotFound("Plan with ID '%s' was not found.".formatted(planId)));
+            return status(failure.getStatusCode()).contentType(APPLICATION_JSON).body(failure.getBody()); // not an event stream
+        }
+
+        return ok().body(jarProgressStreams.subscribe(planId));
+    }
+
     private JarCommand toCommand(JarResource resource) {
         return JarCommand.builder()
                 .name(resource.getName())
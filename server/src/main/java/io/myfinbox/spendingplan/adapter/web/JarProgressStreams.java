@@ -0,0 +1,190 @@
+package io.myfinbox.spendingplan.adapter.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.myfinbox.rest.JarProgressResource;
+import io.myfinbox.spendingplan.application.JarProgressQuery;
+import io.myfinbox.spendingplan.application.JarSpendingChanged;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.Objects.isNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Pushes the progress of the jars of a plan to its server-sent events subscribers.
+ * <p>
+ * Changed jar spending is pushed once the recording transaction commits, the progress is queried and converted once
+ * per change, whatever the number of subscribers of the plan. Every subscriber owns a bounded buffer drained by its
+ * own virtual thread, a slow subscriber drops its oldest updates instead of delaying the others or the recording.
+ * Nothing is queried while nobody is subscribed.
+ */
+@Slf4j
+@Component
+class JarProgressStreams {
+
+    static final String EVENT_NAME = "jar-progress";
+    static final String DROPPED_COUNTER = "spendingplan.jar.progress.stream.dropped";
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jar-progress-", 0).factory());
+
+    private final JarProgressQuery jarProgressQuery;
+    private final ConversionService conversionService;
+    private final Counter dropped;
+    private final int bufferSize;
+    private final Duration timeout;
+
+    JarProgressStreams(JarProgressQuery jarProgressQuery,
+                       ConversionService conversionService,
+                       MeterRegistry meterRegistry,
+                       @Value("${spendingplan.jar-progress.stream.buffer-size:32}") int bufferSize,
+                       @Value("${spendingplan.jar-progress.stream.timeout:30m}") Duration timeout) {
+        this.jarProgressQuery = jarProgressQuery;
+        this.conversionService = conversionService;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.dropped = Counter.builder(DROPPED_COUNTER)
+                .description("Number of jar progress updates dropped by slow subscribers")
+                .register(meterRegistry);
+    }
+
+    SseEmitter subscribe(UUID planId) {
+        var subscriber = new Subscriber(planId, new SseEmitter(timeout.toMillis()));
+        subscribers.computeIfAbsent(planId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(error -> unsubscribe(subscriber));
+
+        log.debug("Jar progress of plan {} subscribed", planId);
+
+        return subscriber.emitter;
+    }
+
+    /**
+     * A plain listener, not a transactional one: the event is transient, it must not be stored as an event publication.
+     * The push is deferred after commit by hand and runs off the recording thread.
+     */
+    @EventListener
+    void on(JarSpendingChanged event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            executor.execute(() -> push(event));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                executor.execute(() -> push(event));
+            }
+        });
+    }
+
+    @PreDestroy
+    void close() {
+        subscribers.values().forEach(planSubscribers -> planSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        executor.shutdownNow();
+    }
+
+    private void push(JarSpendingChanged event) {
+        var progress = jarProgressQuery.progress(event.jarId(), event.period());
+        if (progress.isLeft()) { // jar deleted meanwhile
+            return;
+        }
+
+        var planSubscribers = subscribers.get(progress.get().jar().getPlan().getId().id());
+        if (isNull(planSubscribers) || planSubscribers.isEmpty()) {
+            return;
+        }
+
+        var resource = conversionService.convert(progress.get(), JarProgressResource.class);
+        planSubscribers.forEach(subscriber -> subscriber.offer(resource));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.planId, (planId, planSubscribers) -> {
+            planSubscribers.remove(subscriber);
+            return planSubscribers.isEmpty() ? null : planSubscribers;
+        });
+
+        log.debug("Jar progress of plan {} unsubscribed", subscriber.planId);
+    }
+
+    private final class Subscriber {
+
+        private final UUID planId;
+        private final SseEmitter emitter;
+        private final Queue<JarProgressResource> buffer = new ArrayDeque<>(bufferSize);
+        private boolean draining;
+
+        Subscriber(UUID planId, SseEmitter emitter) {
+            this.planId = planId;
+            this.emitter = emitter;
+        }
+
+        void offer(JarProgressResource resource) {
+            synchronized (this) {
+                if (buffer.size() == bufferSize) {
+                    buffer.poll(); // drop oldest
+                    dropped.increment();
+                }
+
+                buffer.add(resource);
+                if (draining) {
+                    return;
+                }
+
+                draining = true;
+            }
+
+            executor.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                JarProgressResource resource;
+                synchronized (this) {
+                    resource = buffer.poll();
+                    if (isNull(resource)) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    emitter.send(SseEmitter.event()
+                            .name(EVENT_NAME)
+                            .data(resource, APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) { // disconnected or already completed
+                    log.debug("Jar progress of plan {} not sent, subscriber gone", planId);
+                    unsubscribe(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.myfinbox.spendingplan.adapter.web;
 
 import io.myfinbox.rest.JarCategoryModificationResource;
+import io.myfinbox.rest.JarProgressResource;
 import io.myfinbox.rest.JarResource;
 import io.myfinbox.shared.ApiErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,13 +15,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.time.YearMonth;
 import java.util.UUID;
 
 import static io.swagger.v3.oas.annotations.enums.ParameterIn.PATH;
+import static io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY;
 import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
 public interface JarsApi {
 
@@ -79,12 +84,14 @@ public interface JarsApi {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful Operation",
                     content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = JarResource.class)))),
+            @ApiResponse(responseCode = "304", description = "Not Modified, the resources did not change since the provided ETag"),
             @ApiResponse(responseCode = "400", description = "Malformed JSON or Type Mismatch Failure",
                     content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal Server Error",
                     content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
     })
-    ResponseEntity<?> list(@Parameter(in = PATH, description = "Plan Id to be used for selecting spending jars", required = true) UUID planId);
+    ResponseEntity<?> list(@Parameter(in = PATH, description = "Plan Id to be used for selecting spending jars", required = true) UUID planId,
+                           @Parameter(hidden = true) WebRequest request);
 
     @Operation(summary = "Query a spending jar for a specified jar ID and plan ID in the MyFinBox",
             description = "Query a spending jar for a specified jar ID and plan ID in the MyFinBox",
@@ -118,4 +125,40 @@ public interface JarsApi {
     ResponseEntity<?> list(@Parameter(in = PATH, description = "Plan Id to be used for searching", required = true) UUID planId,
                            @Parameter(in = PATH, description = "Jar Id to be used for searching", required = true) UUID jarId);
 
+    @Operation(summary = "Query the spending progress of a jar within a month in the MyFinBox",
+            description = "Query the amount spent and remaining for a jar within a month, computed from the tracked expenses of the jar",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = JarProgressResource.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed JSON or Type Mismatch Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Jar not found Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> progress(@Parameter(in = PATH, description = "Plan Id to be used for searching", required = true) UUID planId,
+                               @Parameter(in = PATH, description = "Jar Id to be used for searching", required = true) UUID jarId,
+                               @Parameter(in = QUERY, description = "Month of the progress in yyyy-MM format, defaults to the current month",
+                                       schema = @Schema(type = "string", example = "2024-03")) YearMonth period);
+
+    @Operation(summary = "Subscribe to the spending progress of the jars of a plan in the MyFinBox",
+            description = "Server-sent events stream of 'jar-progress' events, pushed whenever an expense tracked by a jar " +
+                    "of the plan is created, updated or deleted. A slow subscriber drops its oldest pending updates",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation, events are streamed",
+                    content = @Content(mediaType = TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = JarProgressResource.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed JSON or Type Mismatch Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Plan not found Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> progressStream(@Parameter(in = PATH, description = "Plan Id of the streamed jars", required = true) UUID planId);
+
 }
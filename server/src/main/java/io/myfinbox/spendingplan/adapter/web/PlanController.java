@@ -10,12 +10,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.http.ResponseEntity.status;
 import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
 
 @RestController
@@ -27,6 +30,7 @@ final class PlanController implements PlansApi {
     private final ClassicPlanBuilderUseCase classicPlanBuilderUseCase;
     private final UpdatePlanUseCase updatePlanUseCase;
     private final PlanQuery planQuery;
+    private final PlanViewQuery planViewQuery;
     private final ApiFailureHandler apiFailureHandler;
     private final ConversionService conversionService;
 
@@ -51,25 +55,35 @@ final class PlanController implements PlansApi {
     }
 
     @GetMapping(path = "/{planId}", produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> one(@PathVariable UUID planId) {
-        var plans = planQuery.search()
-                .withPlanId(planId)
-                .list();
+    public ResponseEntity<?> one(@PathVariable UUID planId, WebRequest request) {
+        var query = planQuery.search()
+                .withPlanId(planId);
 
+        var versionTag = query.versionTag();
+        if (versionTag.isPresent() && request.checkNotModified(versionTag.get())) {
+            return status(NOT_MODIFIED).eTag(versionTag.get()).build();
+        }
+
+        var plans = query.list();
         if (plans.isEmpty()) {
             return apiFailureHandler.handle(Failure.ofNotFound("Plan with ID '%s' was not found.".formatted(planId)));
         }
 
-        return ok().body(conversionService.convert(plans.getFirst(), PlanResource.class));
+        return ok().eTag(versionTag.orElse(null)).body(conversionService.convert(plans.getFirst(), PlanResource.class));
     }
 
     @GetMapping(produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> list(@RequestParam("accountId") UUID accountId) {
-        var plans = planQuery.search()
+    public ResponseEntity<?> list(@RequestParam("accountId") UUID accountId, WebRequest request) {
+        var versionTag = planQuery.search()
                 .withAccountId(accountId)
-                .list();
+                .versionTag()
+                .orElseThrow();
+
+        if (request.checkNotModified(versionTag)) {
+            return status(NOT_MODIFIED).eTag(versionTag).build();
+        }
 
-        return ok().body(plans.stream()
+        return ok().eTag(versionTag).body(planViewQuery.listByAccount(accountId).stream()
                 .map(plan -> conversionService.convert(plan, PlanResource.class))
                 .toList());
     }
@@ -0,0 +1,31 @@
+package io.myfinbox.spendingplan.adapter.web.converters;
+
+import io.myfinbox.rest.JarProgressResource;
+import io.myfinbox.spendingplan.application.JarProgressQuery.JarProgress;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+
+import static java.math.RoundingMode.HALF_UP;
+
+@Component
+final class JarProgressToResourceConverter implements Converter<JarProgress, JarProgressResource> {
+
+    @Override
+    public JarProgressResource convert(JarProgress progress) {
+        return new JarProgressResource()
+                .jarId(progress.jar().getId().id())
+                .period(progress.period().toString())
+                .amountToReach(progress.jar().getAmountToReachAsNumber())
+                .spentAmount(toNumber(progress.spent()))
+                .remainingAmount(toNumber(progress.remaining()))
+                .expenseCount(progress.expenseCount())
+                .currencyCode(progress.jar().getCurrencyCode());
+    }
+
+    private BigDecimal toNumber(MonetaryAmount amount) {
+        return amount.getNumber().numberValue(BigDecimal.class).setScale(2, HALF_UP);
+    }
+}
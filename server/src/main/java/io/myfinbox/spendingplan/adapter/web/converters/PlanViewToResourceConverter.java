@@ -0,0 +1,38 @@
+package io.myfinbox.spendingplan.adapter.web.converters;
+
+import io.myfinbox.rest.JarResource;
+import io.myfinbox.rest.PlanResource;
+import io.myfinbox.spendingplan.application.PlanViewQuery.JarView;
+import io.myfinbox.spendingplan.application.PlanViewQuery.PlanView;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+final class PlanViewToResourceConverter implements Converter<PlanView, PlanResource> {
+
+    @Override
+    public PlanResource convert(PlanView plan) {
+        return new PlanResource()
+                .planId(plan.planId())
+                .name(plan.name())
+                .creationTimestamp(plan.creationTimestamp().toString())
+                .amount(plan.amount())
+                .currencyCode(plan.currencyCode())
+                .accountId(plan.accountId())
+                .description(plan.description())
+                .jars(plan.jars().stream()
+                        .map(this::convert)
+                        .toList());
+    }
+
+    private JarResource convert(JarView jar) {
+        return new JarResource()
+                .jarId(jar.jarId())
+                .creationTimestamp(jar.creationTimestamp().toString())
+                .amountToReach(jar.amountToReach())
+                .currencyCode(jar.currencyCode())
+                .name(jar.name())
+                .percentage(jar.percentage())
+                .description(jar.description());
+    }
+}
@@ -5,15 +5,27 @@ import io.myfinbox.spendingplan.domain.*;
 import io.vavr.control.Either;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static io.myfinbox.spendingplan.domain.Plan.PlanIdentifier;
 import static java.util.Objects.isNull;
-
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Adds and removes the categories of a jar with set based statements, whatever the number of categories.
+ * The expense records of removed categories are withdrawn from the jar spending summaries, a
+ * {@link JarSpendingChanged} is published for every summary changed. The existing expenses of added categories
+ * are recorded in the background, see {@link JarCategoryBackfillService}.
+ */
 @Slf4j
 @Service
 @Transactional
@@ -25,10 +37,53 @@ class AddOrRemoveJarCategoryService implements AddOrRemoveJarCategoryUseCase {
     static final String JAR_NOT_FOUND_MESSAGE = "Spending jar was not found.";
     static final String PLAN_JAR_NOT_FOUND_MESSAGE = "Spending plan jar was not found.";
 
+    static final String WITHDRAW_RECORDS_QUERY = """
+            WITH removed AS (
+                DELETE FROM jar_expense_record
+                 WHERE category_id IN (:categoryIds)
+                   AND jar_expense_category_id IN (SELECT id
+                                                     FROM spending_jar_expense_category
+                                                    WHERE jar_id = :jarId
+                                                      AND category_id IN (:categoryIds))
+                RETURNING expense_date, currency, amount
+            )
+            INSERT INTO jar_spending_summary AS s (jar_id, period, currency, total_amount, expense_count)
+            SELECT :jarId, date_trunc('month', expense_date)::DATE, currency, -SUM(amount), -COUNT(*)
+              FROM removed
+             GROUP BY date_trunc('month', expense_date)::DATE, currency
+            ON CONFLICT (jar_id, period, currency)
+            DO UPDATE SET total_amount  = s.total_amount + EXCLUDED.total_amount,
+                          expense_count = s.expense_count + EXCLUDED.expense_count
+            RETURNING period
+            """;
+
+    static final String DELETE_CATEGORIES_QUERY = """
+            DELETE FROM spending_jar_expense_category
+             WHERE jar_id = :jarId
+               AND category_id IN (:categoryIds)
+            """;
+
+    static final String LOCK_CATEGORIES_QUERY = """
+            SELECT id
+              FROM spending_jar_expense_category
+             WHERE jar_id = :jarId
+               AND category_id IN (:categoryIds)
+               FOR UPDATE
+            """;
+
+    static final String ADD_CATEGORIES_QUERY = """
+            INSERT INTO spending_jar_expense_category (jar_id, category_id, category_name, backfilled)
+            SELECT :jarId, CAST(category.id AS UUID), CAST(category.name AS VARCHAR(100)), FALSE
+              FROM (VALUES :categories) AS category (id, name)
+            ON CONFLICT (jar_id, category_id) DO NOTHING
+            """;
+
     private final CategoriesJarCommandValidator validator = new CategoriesJarCommandValidator();
 
     private final Jars jars;
     private final JarExpenseCategories jarExpenseCategories;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Either<Failure, List<JarExpenseCategory>> addOrRemove(UUID planId, UUID jarId, JarCategoriesCommand command) {
@@ -49,13 +104,23 @@ class AddOrRemoveJarCategoryService implements AddOrRemoveJarCategoryUseCase {
                 .map(JarCategoryToAddOrRemove::categoryId)
                 .toList();
 
-        toDeleteCategories.forEach(category ->
-                jarExpenseCategories.deleteByJarIdAndCategoryId(new JarIdentifier(jarId), new CategoryIdentifier(category)));
+        if (!toDeleteCategories.isEmpty()) {
+            var parameters = Map.of("jarId", jarId, "categoryIds", toDeleteCategories);
+            jdbcTemplate.queryForList(LOCK_CATEGORIES_QUERY, parameters, Long.class); // waits for a running backfill chunk
+            var periods = jdbcTemplate.queryForList(WITHDRAW_RECORDS_QUERY, parameters, LocalDate.class);
+            jdbcTemplate.update(DELETE_CATEGORIES_QUERY, parameters);
+            publishChanged(jarId, periods);
+        }
 
-        // select checked and create if not exists
+        // select checked and create if not exists, concurrently added ones are skipped on conflict
         var toCreateCategories = filterToCreate(possibleJar.get(), command);
 
-        jarExpenseCategories.saveAll(toCreateCategories);
+        if (!toCreateCategories.isEmpty()) {
+            var categories = toCreateCategories.stream()
+                    .map(category -> new Object[]{category.getCategoryId().id(), category.getCategoryName()})
+                    .toList();
+            jdbcTemplate.update(ADD_CATEGORIES_QUERY, Map.of("jarId", jarId, "categories", categories));
+        }
 
         log.debug("Jar expense category {} were created", toCreateCategories);
         log.debug("Jar expense category {} were deleted", toDeleteCategories);
@@ -84,18 +149,34 @@ class AddOrRemoveJarCategoryService implements AddOrRemoveJarCategoryUseCase {
     }
 
     private List<JarExpenseCategory> filterToCreate(Jar jar, JarCategoriesCommand command) {
-        return command.categories().stream()
+        var toAddCategories = command.categories().stream()
                 .filter(JarCategoryToAddOrRemove::toAdd)
-                .filter(category -> !existsByJarIdAndCategoryId(jar.getId(), category.categoryId()))
                 .map(category -> JarExpenseCategory.builder()
                         .categoryId(new CategoryIdentifier(category.categoryId()))
                         .categoryName(category.categoryName())
                         .jar(jar)
                         .build())
                 .toList();
+
+        if (toAddCategories.isEmpty()) {
+            return List.of();
+        }
+
+        // one lookup for all the checked categories
+        var existingCategories = jarExpenseCategories.findByJarIdAndCategoryIdIn(jar.getId(),
+                        toAddCategories.stream().map(JarExpenseCategory::getCategoryId).toList()).stream()
+                .map(JarExpenseCategory::getCategoryId)
+                .collect(toSet());
+
+        return toAddCategories.stream()
+                .filter(category -> !existingCategories.contains(category.getCategoryId()))
+                .toList();
     }
 
-    private boolean existsByJarIdAndCategoryId(JarIdentifier jarId, UUID category) {
-        return jarExpenseCategories.existsByJarIdAndCategoryId(jarId, new CategoryIdentifier(category));
+    private void publishChanged(UUID jarId, List<LocalDate> periods) {
+        periods.stream()
+                .map(YearMonth::from)
+                .distinct()
+                .forEach(period -> eventPublisher.publishEvent(new JarSpendingChanged(jarId, period)));
     }
 }
@@ -4,17 +4,33 @@ import io.myfinbox.spendingplan.domain.CategoryIdentifier;
 import io.myfinbox.spendingplan.domain.ExpenseRecord;
 import io.myfinbox.spendingplan.domain.ExpenseRecords;
 import io.myfinbox.spendingplan.domain.JarExpenseCategories;
+import io.myfinbox.spendingplan.domain.JarExpenseCategory;
+import io.myfinbox.spendingplan.domain.JarSpendingSummaries;
+import io.myfinbox.spendingplan.domain.JarSpendingSummary.SummaryIdentifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.reducing;
+import static java.util.stream.Collectors.toSet;
 
 import static io.myfinbox.spendingplan.domain.ExpenseRecord.ExpenseIdentifier;
 
 /**
- * Service class for tracking expense records.
+ * Service class for tracking expense records, keeping jar spending summaries in sync with them.
+ * A {@link JarSpendingChanged} is published for every summary changed.
+ * <p>
+ * Expenses of categories still being backfilled are tracked under their backfill lock, see
+ * {@link JarCategoryBackfillService}, an expense is recorded once whichever path records it first.
  */
 @Slf4j
 @Service
@@ -24,6 +40,8 @@ class ExpenseRecordTrackerService implements ExpenseRecordTrackerUseCase {
 
     private final JarExpenseCategories jarExpenseCategories;
     private final ExpenseRecords expenseRecords;
+    private final JarSpendingSummaries jarSpendingSummaries;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<ExpenseRecord> recordCreated(ExpenseModificationRecord createdRecord) {
@@ -45,14 +63,54 @@ class ExpenseRecordTrackerService implements ExpenseRecordTrackerUseCase {
                         .build())
                 .toList();
 
+        records = withoutBackfilled(records);
         expenseRecords.saveAll(records);
+        summarize(records, Delta::of);
         log.debug("Expense records {} were created", records);
 
         return records;
     }
 
+    @Override
+    public List<ExpenseRecord> recordCreated(List<ExpenseModificationRecord> createdRecords) {
+        if (createdRecords.isEmpty()) {
+            return List.of();
+        }
+
+        // resolve tracked categories once for the whole batch
+        var categoryIds = createdRecords.stream()
+                .map(record -> new CategoryIdentifier(record.categoryId()))
+                .collect(toSet());
+        var expenseCategories = jarExpenseCategories.findByCategoryIdIn(categoryIds).stream()
+                .collect(groupingBy(JarExpenseCategory::getCategoryId));
+        if (expenseCategories.isEmpty()) { // skip untracked
+            return List.of();
+        }
+
+        var records = createdRecords.stream()
+                .flatMap(createdRecord -> expenseCategories.getOrDefault(new CategoryIdentifier(createdRecord.categoryId()), List.of()).stream()
+                        .map(category -> ExpenseRecord.builder()
+                                .expenseId(new ExpenseIdentifier(createdRecord.expenseId()))
+                                .categoryId(new CategoryIdentifier(createdRecord.categoryId()))
+                                .amount(createdRecord.amount())
+                                .paymentType(createdRecord.paymentType())
+                                .expenseDate(createdRecord.expenseDate())
+                                .categoryName(createdRecord.categoryName())
+                                .jarExpenseCategory(category)
+                                .build()))
+                .toList();
+
+        records = withoutBackfilled(records);
+        expenseRecords.saveAll(records);
+        summarize(records, Delta::of);
+        log.debug("Expense records batch of {} created from {} expenses", records.size(), createdRecords.size());
+
+        return records;
+    }
+
     @Override
     public List<ExpenseRecord> recordUpdated(ExpenseModificationRecord updatedRecord) {
+        lockBackfilling(updatedRecord.categoryId());
         var records = expenseRecords.findByExpenseId(new ExpenseIdentifier(updatedRecord.expenseId()));
         if (records.isEmpty()) {
             return List.of();
@@ -65,6 +123,8 @@ class ExpenseRecordTrackerService implements ExpenseRecordTrackerUseCase {
             return recordCreated(updatedRecord); // try creating if new category tracked
         }
 
+        summarize(records, Delta::reverted); // withdraw previous values before updating
+
         var updated = records.stream()
                 .peek(record -> record.update(ExpenseRecord.builder()
                         .amount(updatedRecord.amount())
@@ -73,6 +133,7 @@ class ExpenseRecordTrackerService implements ExpenseRecordTrackerUseCase {
                 .toList();
 
         expenseRecords.saveAll(updated); // FIXME fix save anti-pattern
+        summarize(updated, Delta::of);
         log.debug("Expense records {} were updated", updated);
 
         return updated;
@@ -80,15 +141,75 @@ class ExpenseRecordTrackerService implements ExpenseRecordTrackerUseCase {
 
     @Override
     public List<ExpenseRecord> recordDeleted(ExpenseModificationRecord deleteRecord) {
+        lockBackfilling(deleteRecord.categoryId());
         var records = expenseRecords.findByExpenseId(new ExpenseIdentifier(deleteRecord.expenseId()));
         if (records.isEmpty()) {
             return List.of();
         }
 
+        summarize(records, Delta::reverted);
         expenseRecords.deleteAll(records);
 
         log.debug("Expense records {} were deleted", records);
 
         return records;
     }
+
+    private List<ExpenseRecord> withoutBackfilled(List<ExpenseRecord> records) {
+        var backfillingCategories = records.stream()
+                .map(ExpenseRecord::getJarExpenseCategory)
+                .filter(category -> !category.isBackfilled())
+                .map(category -> category.getCategoryId().id())
+                .collect(toSet());
+        if (backfillingCategories.isEmpty()) {
+            return records;
+        }
+
+        // waits for the running backfill chunk, the records it created are visible afterward
+        jarExpenseCategories.lockBackfilling(backfillingCategories);
+        var recorded = expenseRecords.findByExpenseIdIn(records.stream().map(ExpenseRecord::getExpenseId).collect(toSet())).stream()
+                .map(RecordKey::of)
+                .collect(toSet());
+
+        return records.stream()
+                .filter(record -> !recorded.contains(RecordKey.of(record)))
+                .toList();
+    }
+
+    private void lockBackfilling(UUID categoryId) {
+        jarExpenseCategories.lockBackfilling(List.of(categoryId));
+    }
+
+    private void summarize(List<ExpenseRecord> records, Function<ExpenseRecord, Delta> toDelta) {
+        records.stream()
+                .collect(groupingBy(SummaryIdentifier::of, reducing(Delta.NONE, toDelta, Delta::plus)))
+                .forEach((id, delta) -> {
+                    jarSpendingSummaries.apply(id.jarId(), id.period(), id.currency(), delta.amount(), delta.count());
+                    eventPublisher.publishEvent(new JarSpendingChanged(id.jarId(), YearMonth.from(id.period())));
+                });
+    }
+
+    private record RecordKey(ExpenseIdentifier expenseId, Long jarExpenseCategoryId) {
+
+        static RecordKey of(ExpenseRecord record) {
+            return new RecordKey(record.getExpenseId(), record.getJarExpenseCategory().getId());
+        }
+    }
+
+    private record Delta(BigDecimal amount, long count) {
+
+        static final Delta NONE = new Delta(BigDecimal.ZERO, 0);
+
+        static Delta of(ExpenseRecord record) {
+            return new Delta(record.getAmount().getNumber().numberValue(BigDecimal.class), 1);
+        }
+
+        static Delta reverted(ExpenseRecord record) {
+            return new Delta(record.getAmount().getNumber().numberValue(BigDecimal.class).negate(), -1);
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(amount.add(other.amount), count + other.count);
+        }
+    }
 }
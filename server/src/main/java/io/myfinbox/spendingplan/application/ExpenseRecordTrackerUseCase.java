@@ -25,6 +25,15 @@ public interface ExpenseRecordTrackerUseCase {
      */
     List<ExpenseRecord> recordCreated(ExpenseModificationRecord createdRecord);
 
+    /**
+     * Records the creation of a batch of expenses within a single transaction.
+     * Tracked jar categories are resolved once for the whole batch.
+     *
+     * @param createdRecords The records of the created expenses.
+     * @return A list of recorded expense records.
+     */
+    List<ExpenseRecord> recordCreated(List<ExpenseModificationRecord> createdRecords);
+
     /**
      * Records the update of an expense.
      *
@@ -0,0 +1,203 @@
+package io.myfinbox.spendingplan.application;
+
+import io.myfinbox.expense.application.CategoryExpenseQuery;
+import io.myfinbox.expense.application.CategoryExpenseQuery.CategoryExpenseRecord;
+import io.myfinbox.expense.application.CategoryExpenseQuery.Position;
+import io.myfinbox.spendingplan.domain.CategoryIdentifier;
+import io.myfinbox.spendingplan.domain.ExpenseRecord;
+import io.myfinbox.spendingplan.domain.ExpenseRecords;
+import io.myfinbox.spendingplan.domain.JarExpenseCategories;
+import io.myfinbox.spendingplan.domain.JarExpenseCategory;
+import io.myfinbox.spendingplan.domain.JarSpendingSummaries;
+import io.myfinbox.spendingplan.domain.JarSpendingSummary.SummaryIdentifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.myfinbox.spendingplan.domain.ExpenseRecord.ExpenseIdentifier;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.reducing;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Records the existing expenses of the categories added to a jar chunk by chunk, in (expense date, id) order.
+ * Chunks are paged through the {@link CategoryExpenseQuery} of the expense module and recorded locally, the cursor of
+ * the category advances in the same transaction, an interrupted backfill resumes after the last recorded expense.
+ * <p>
+ * A chunk holds an exclusive lock on its expense category while the expense record tracker holds a shared one,
+ * see {@link ExpenseRecordTrackerService}, expenses created, updated or deleted meanwhile are recorded once.
+ * A {@link JarSpendingChanged} is published for every summary changed.
+ */
+@Slf4j
+@Service
+class JarCategoryBackfillService implements JarCategoryBackfillUseCase {
+
+    static final String NEXT_PENDING_QUERY = """
+            SELECT id, category_id, NULLIF(backfill_cursor_date, '-infinity') AS cursor_date, backfill_cursor_id AS cursor_id
+              FROM spending_jar_expense_category
+             WHERE NOT backfilled
+             ORDER BY id
+             LIMIT 1
+               FOR NO KEY UPDATE SKIP LOCKED
+            """;
+
+    static final String LOCK_CATEGORY_QUERY = """
+            SELECT count(*) FROM pg_advisory_xact_lock(hashtextextended(CAST(:categoryId AS TEXT), 0))
+            """;
+
+    static final String ADVANCE_CURSOR_QUERY = """
+            UPDATE spending_jar_expense_category
+               SET backfill_cursor_date = COALESCE(CAST(:cursorDate AS DATE), backfill_cursor_date),
+                   backfill_cursor_id   = COALESCE(CAST(:cursorId AS UUID), backfill_cursor_id),
+                   backfilled_count     = backfilled_count + :recorded,
+                   backfilled           = :completed
+             WHERE id = :id
+            RETURNING backfilled_count
+            """;
+
+    static final String PENDING_COUNT_QUERY = """
+            SELECT count(*) FROM spending_jar_expense_category WHERE NOT backfilled
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CategoryExpenseQuery categoryExpenseQuery;
+    private final JarExpenseCategories jarExpenseCategories;
+    private final ExpenseRecords expenseRecords;
+    private final JarSpendingSummaries jarSpendingSummaries;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    JarCategoryBackfillService(NamedParameterJdbcTemplate jdbcTemplate,
+                               CategoryExpenseQuery categoryExpenseQuery,
+                               JarExpenseCategories jarExpenseCategories,
+                               ExpenseRecords expenseRecords,
+                               JarSpendingSummaries jarSpendingSummaries,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${spendingplan.jar-category-backfill.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.categoryExpenseQuery = categoryExpenseQuery;
+        this.jarExpenseCategories = jarExpenseCategories;
+        this.expenseRecords = expenseRecords;
+        this.jarSpendingSummaries = jarSpendingSummaries;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional
+    public Optional<BackfillProgress> backfillNextChunk() {
+        var pending = jdbcTemplate.query(NEXT_PENDING_QUERY, Map.of(), (resultSet, rowNum) -> PendingCategory.of(resultSet));
+        if (pending.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var pendingCategory = pending.getFirst();
+        // waits for the expense records being tracked, the chunk skips the expenses they recorded
+        jdbcTemplate.queryForObject(LOCK_CATEGORY_QUERY, Map.of("categoryId", pendingCategory.categoryId()), Long.class);
+
+        var chunk = categoryExpenseQuery.pageAfter(pendingCategory.categoryId(), pendingCategory.cursor(), chunkSize);
+        var jarCategory = jarExpenseCategories.findById(pendingCategory.id()).orElseThrow();
+        var records = withoutRecorded(chunk.stream()
+                .map(expense -> toRecord(expense, jarCategory))
+                .toList());
+
+        expenseRecords.saveAll(records);
+        summarize(records);
+
+        var cursor = chunk.isEmpty() ? pendingCategory.cursor() : chunk.getLast().position();
+        var completed = chunk.size() < chunkSize;
+        var backfilled = jdbcTemplate.queryForObject(ADVANCE_CURSOR_QUERY, new MapSqlParameterSource()
+                .addValue("id", pendingCategory.id())
+                .addValue("cursorDate", isNull(cursor) ? null : cursor.expenseDate())
+                .addValue("cursorId", isNull(cursor) ? null : cursor.expenseId())
+                .addValue("recorded", records.size())
+                .addValue("completed", completed), Long.class);
+
+        var progress = new BackfillProgress(jarCategory.getJar().getId().id(), pendingCategory.categoryId(),
+                records.size(), backfilled, completed);
+        log.debug("Jar category backfill chunk recorded: {}", progress);
+
+        return Optional.of(progress);
+    }
+
+    @Override
+    public long pending() {
+        return jdbcTemplate.getJdbcTemplate().queryForObject(PENDING_COUNT_QUERY, Long.class);
+    }
+
+    private ExpenseRecord toRecord(CategoryExpenseRecord expense, JarExpenseCategory jarCategory) {
+        return ExpenseRecord.builder()
+                .expenseId(new ExpenseIdentifier(expense.expenseId()))
+                .categoryId(new CategoryIdentifier(expense.categoryId()))
+                .amount(expense.amount())
+                .paymentType(expense.paymentType())
+                .expenseDate(expense.expenseDate())
+                .categoryName(expense.categoryName())
+                .jarExpenseCategory(jarCategory)
+                .build();
+    }
+
+    private List<ExpenseRecord> withoutRecorded(List<ExpenseRecord> records) {
+        if (records.isEmpty()) {
+            return records;
+        }
+
+        // expenses of the chunk already recorded by the expense events before the category lock was taken
+        var jarCategoryId = records.getFirst().getJarExpenseCategory().getId();
+        var recorded = expenseRecords.findByExpenseIdIn(records.stream().map(ExpenseRecord::getExpenseId).collect(toSet())).stream()
+                .filter(record -> jarCategoryId.equals(record.getJarExpenseCategory().getId()))
+                .map(ExpenseRecord::getExpenseId)
+                .collect(toSet());
+
+        return records.stream()
+                .filter(record -> !recorded.contains(record.getExpenseId()))
+                .toList();
+    }
+
+    private void summarize(List<ExpenseRecord> records) {
+        records.stream()
+                .collect(groupingBy(SummaryIdentifier::of, reducing(Delta.NONE, Delta::of, Delta::plus)))
+                .forEach((id, delta) -> {
+                    jarSpendingSummaries.apply(id.jarId(), id.period(), id.currency(), delta.amount(), delta.count());
+                    eventPublisher.publishEvent(new JarSpendingChanged(id.jarId(), YearMonth.from(id.period())));
+                });
+    }
+
+    private record PendingCategory(long id, UUID categoryId, Position cursor) {
+
+        static PendingCategory of(ResultSet resultSet) throws SQLException {
+            var cursorDate = resultSet.getObject("cursor_date", LocalDate.class);
+            var cursor = isNull(cursorDate) ? null : new Position(cursorDate, resultSet.getObject("cursor_id", UUID.class));
+
+            return new PendingCategory(resultSet.getLong("id"), resultSet.getObject("category_id", UUID.class), cursor);
+        }
+    }
+
+    private record Delta(BigDecimal amount, long count) {
+
+        static final Delta NONE = new Delta(BigDecimal.ZERO, 0);
+
+        static Delta of(ExpenseRecord record) {
+            return new Delta(record.getAmount().getNumber().numberValue(BigDecimal.class), 1);
+        }
+
+        Delta plus(Delta other) {
+            return new Delta(amount.add(other.amount), count + other.count);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.myfinbox.spendingplan.application;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Use case interface for recording the existing expenses of the categories added to a jar, in resumable chunks.
+ */
+public interface JarCategoryBackfillUseCase {
+
+    /**
+     * Records the next chunk of existing expenses of a category pending backfill, within its own transaction.
+     * Categories whose chunk is being recorded by another instance are skipped.
+     *
+     * @return The progress of the backfilled category, empty when no category is pending backfill.
+     */
+    Optional<BackfillProgress> backfillNextChunk();
+
+    /**
+     * Counts the categories pending backfill.
+     *
+     * @return The number of categories whose existing expenses are not recorded yet.
+     */
+    long pending();
+
+    /**
+     * Progress of the backfill of a jar category, {@code recorded} by the last chunk and {@code backfilled} overall.
+     */
+    record BackfillProgress(UUID jarId, UUID categoryId, long recorded, long backfilled, boolean completed) {
+    }
+}
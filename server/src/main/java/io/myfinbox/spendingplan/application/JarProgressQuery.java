@@ -0,0 +1,44 @@
+package io.myfinbox.spendingplan.application;
+
+import io.myfinbox.shared.Failure;
+import io.myfinbox.spendingplan.domain.Jar;
+import io.vavr.control.Either;
+
+import javax.money.MonetaryAmount;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Represents a query interface for retrieving how much was spent against a jar.
+ */
+public interface JarProgressQuery {
+
+    /**
+     * Retrieves the spending progress of a jar within a monthly period, in the jar currency.
+     *
+     * @param planId the unique identifier of the plan.
+     * @param jarId  the unique identifier of the jar.
+     * @param period the month to retrieve the progress for.
+     * @return either a failure if the jar is not found or the jar progress.
+     */
+    Either<Failure, JarProgress> progress(UUID planId, UUID jarId, YearMonth period);
+
+    /**
+     * Retrieves the spending progress of a jar within a monthly period, in the jar currency, whatever plan it belongs to.
+     *
+     * @param jarId  the unique identifier of the jar.
+     * @param period the month to retrieve the progress for.
+     * @return either a failure if the jar is not found or the jar progress.
+     */
+    Either<Failure, JarProgress> progress(UUID jarId, YearMonth period);
+
+    /**
+     * Spending of a jar within a monthly period.
+     */
+    record JarProgress(Jar jar, YearMonth period, MonetaryAmount spent, long expenseCount) {
+
+        public MonetaryAmount remaining() {
+            return jar.getAmountToReach().subtract(spent);
+        }
+    }
+}
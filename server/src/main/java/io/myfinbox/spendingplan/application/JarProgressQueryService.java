@@ -0,0 +1,71 @@
+package io.myfinbox.spendingplan.application;
+
+import io.myfinbox.shared.Failure;
+import io.myfinbox.spendingplan.domain.Jar;
+import io.myfinbox.spendingplan.domain.JarIdentifier;
+import io.myfinbox.spendingplan.domain.JarSpendingSummaries;
+import io.myfinbox.spendingplan.domain.JarSpendingSummary;
+import io.myfinbox.spendingplan.domain.Jars;
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+import org.javamoney.moneta.Money;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static io.myfinbox.spendingplan.domain.JarSpendingSummary.SummaryIdentifier;
+import static io.myfinbox.spendingplan.domain.Plan.PlanIdentifier;
+import static java.util.Objects.isNull;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class JarProgressQueryService implements JarProgressQuery {
+
+    static final String JAR_NOT_FOUND_MESSAGE = "Jar with ID '%s' for plan ID '%s' was not found.";
+    static final String JAR_ID_NOT_FOUND_MESSAGE = "Jar with ID '%s' was not found.";
+
+    private final Jars jars;
+    private final JarSpendingSummaries jarSpendingSummaries;
+
+    @Override
+    public Either<Failure, JarProgress> progress(UUID planId, UUID jarId, YearMonth period) {
+        if (isNull(planId) || isNull(jarId) || isNull(period)) {
+            return Either.left(Failure.ofNotFound(JAR_NOT_FOUND_MESSAGE.formatted(jarId, planId)));
+        }
+
+        var possibleJar = jars.findByIdAndPlanId(new JarIdentifier(jarId), new PlanIdentifier(planId));
+        if (possibleJar.isEmpty()) {
+            return Either.left(Failure.ofNotFound(JAR_NOT_FOUND_MESSAGE.formatted(jarId, planId)));
+        }
+
+        return Either.right(progress(possibleJar.get(), period));
+    }
+
+    @Override
+    public Either<Failure, JarProgress> progress(UUID jarId, YearMonth period) {
+        if (isNull(jarId) || isNull(period)) {
+            return Either.left(Failure.ofNotFound(JAR_ID_NOT_FOUND_MESSAGE.formatted(jarId)));
+        }
+
+        var possibleJar = jars.findById(new JarIdentifier(jarId));
+        if (possibleJar.isEmpty()) {
+            return Either.left(Failure.ofNotFound(JAR_ID_NOT_FOUND_MESSAGE.formatted(jarId)));
+        }
+
+        return Either.right(progress(possibleJar.get(), period));
+    }
+
+    private JarProgress progress(Jar jar, YearMonth period) {
+        var summary = jarSpendingSummaries.findById(SummaryIdentifier.of(jar.getId(), period, jar.getCurrencyCode()));
+
+        return new JarProgress(
+                jar,
+                period,
+                summary.map(JarSpendingSummary::getTotal).orElseGet(() -> Money.zero(jar.getAmountToReach().getCurrency())),
+                summary.map(JarSpendingSummary::getExpenseCount).orElse(0L)
+        );
+    }
+}
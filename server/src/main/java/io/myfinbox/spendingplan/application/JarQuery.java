@@ -3,6 +3,7 @@ package io.myfinbox.spendingplan.application;
 import io.myfinbox.spendingplan.domain.Jar;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -44,6 +45,13 @@ public interface JarQuery {
          * @return a list of jars matching the query criteria.
          */
         List<Jar> list();
+
+        /**
+         * Computes a tag of the versions of the jars of the plan, the tag changes whenever one of them is created or updated.
+         *
+         * @return the version tag, or empty if no plan ID is provided.
+         */
+        Optional<String> versionTag();
     }
 }
 
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static io.myfinbox.spendingplan.domain.Plan.*;
@@ -66,5 +67,14 @@ class JarQueryService implements JarQuery {
 
             return emptyList();
         }
+
+        @Override
+        public Optional<String> versionTag() {
+            if (nonNull(planId)) {
+                return Optional.of(jars.versionTagByPlanId(planId));
+            }
+
+            return Optional.empty();
+        }
     }
 }
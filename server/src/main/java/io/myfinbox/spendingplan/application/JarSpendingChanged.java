@@ -0,0 +1,17 @@
+package io.myfinbox.spendingplan.application;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static io.myfinbox.shared.Guards.notNull;
+
+/**
+ * Published within the transaction recording expenses, once per jar and monthly period whose spending changed.
+ */
+public record JarSpendingChanged(UUID jarId, YearMonth period) {
+
+    public JarSpendingChanged {
+        notNull(jarId, "jarId cannot be null.");
+        notNull(period, "period cannot be null.");
+    }
+}
@@ -3,6 +3,7 @@ package io.myfinbox.spendingplan.application;
 import io.myfinbox.spendingplan.domain.Plan;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -44,5 +45,20 @@ public interface PlanQuery {
          * @return a list of plans matching the query criteria.
          */
         List<Plan> list();
+
+        /**
+         * Checks whether a plan matching the criteria exists, without loading it.
+         *
+         * @return true if a plan searched by ID exists, false otherwise.
+         */
+        boolean exists();
+
+        /**
+         * Computes a tag of the versions of the plans matching the criteria and of their jars, the tag changes
+         * whenever one of them is created or updated.
+         *
+         * @return the version tag, or empty if a plan searched by ID doesn't exist.
+         */
+        Optional<String> versionTag();
     }
 }
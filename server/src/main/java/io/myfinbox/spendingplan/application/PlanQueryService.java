@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static io.myfinbox.spendingplan.domain.Plan.PlanIdentifier;
@@ -66,5 +67,31 @@ class PlanQueryService implements PlanQuery {
 
             return emptyList();
         }
+
+        @Override
+        public boolean exists() {
+            if (nonNull(planId) && nonNull(accountId)) {
+                return plans.existsByIdAndAccount(new PlanIdentifier(planId), new AccountIdentifier(accountId));
+            }
+
+            if (nonNull(planId)) {
+                return plans.existsById(new PlanIdentifier(planId));
+            }
+
+            return false;
+        }
+
+        @Override
+        public Optional<String> versionTag() {
+            if (nonNull(planId)) {
+                return plans.versionTagById(planId);
+            }
+
+            if (nonNull(accountId)) {
+                return Optional.of(plans.versionTagByAccount(accountId));
+            }
+
+            return Optional.empty();
+        }
     }
 }
@@ -0,0 +1,40 @@
+package io.myfinbox.spendingplan.application;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read only query for listing plans as flat views, selected straight from the database without loading
+ * the plan aggregates.
+ */
+public interface PlanViewQuery {
+
+    /**
+     * Lists the plans of the account with their jars, oldest plan first.
+     *
+     * @param accountId the unique identifier of the account.
+     * @return the plans of the account, or an empty list if the account has no plans.
+     */
+    List<PlanView> listByAccount(UUID accountId);
+
+    record PlanView(UUID planId,
+                    UUID accountId,
+                    Instant creationTimestamp,
+                    String name,
+                    BigDecimal amount,
+                    String currencyCode,
+                    String description,
+                    List<JarView> jars) {
+    }
+
+    record JarView(UUID jarId,
+                   Instant creationTimestamp,
+                   String name,
+                   BigDecimal amountToReach,
+                   String currencyCode,
+                   int percentage,
+                   String description) {
+    }
+}
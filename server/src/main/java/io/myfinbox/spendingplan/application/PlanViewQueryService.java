@@ -0,0 +1,89 @@
+package io.myfinbox.spendingplan.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static java.math.RoundingMode.HALF_UP;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Lists plans with a single plan and jar join projected on the needed columns, rows are assembled into views
+ * as they are read, no entity is managed and no monetary amount is allocated.
+ */
+@Service
+@RequiredArgsConstructor
+class PlanViewQueryService implements PlanViewQuery {
+
+    static final String LIST_BY_ACCOUNT_QUERY = """
+            SELECT p.id, p.account_id, p.creation_timestamp, p.name, p.amount, p.currency, p.description,
+                   j.id AS jar_id, j.creation_timestamp AS jar_creation_timestamp, j.name AS jar_name,
+                   j.amount_to_reach, j.currency AS jar_currency, j.percentage, j.description AS jar_description
+              FROM spending_plans p
+              LEFT JOIN spending_jars j ON j.plan_id = p.id
+             WHERE p.account_id = :accountId
+             ORDER BY p.creation_timestamp, p.id, j.creation_timestamp, j.id
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    @Override
+    public List<PlanView> listByAccount(UUID accountId) {
+        var plans = new LinkedHashMap<UUID, PlanView>();
+        jdbcClient.sql(LIST_BY_ACCOUNT_QUERY)
+                .param("accountId", accountId)
+                .query((RowCallbackHandler) resultSet -> {
+                    var planId = resultSet.getObject("id", UUID.class);
+                    var plan = plans.get(planId);
+                    if (isNull(plan)) {
+                        plan = toPlanView(planId, resultSet);
+                        plans.put(planId, plan);
+                    }
+
+                    var jarId = resultSet.getObject("jar_id", UUID.class);
+                    if (nonNull(jarId)) {
+                        plan.jars().add(toJarView(jarId, resultSet));
+                    }
+                });
+
+        return List.copyOf(plans.values());
+    }
+
+    private PlanView toPlanView(UUID planId, ResultSet resultSet) throws SQLException {
+        return new PlanView(
+                planId,
+                resultSet.getObject("account_id", UUID.class),
+                resultSet.getTimestamp("creation_timestamp").toInstant(),
+                resultSet.getString("name"),
+                scaled(resultSet.getBigDecimal("amount")),
+                resultSet.getString("currency"),
+                resultSet.getString("description"),
+                new ArrayList<>());
+    }
+
+    private JarView toJarView(UUID jarId, ResultSet resultSet) throws SQLException {
+        return new JarView(
+                jarId,
+                resultSet.getTimestamp("jar_creation_timestamp").toInstant(),
+                resultSet.getString("jar_name"),
+                scaled(resultSet.getBigDecimal("amount_to_reach")),
+                resultSet.getString("jar_currency"),
+                resultSet.getInt("percentage"),
+                resultSet.getString("jar_description"));
+    }
+
+    // same scale as the amounts of the plan aggregate
+    private BigDecimal scaled(BigDecimal amount) {
+        return amount.setScale(2, HALF_UP);
+    }
+}
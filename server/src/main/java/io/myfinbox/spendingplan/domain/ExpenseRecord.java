@@ -26,7 +26,7 @@ public class ExpenseRecord {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jer_seq_id")
-    @SequenceGenerator(name = "jer_seq_id", sequenceName = "jer_seq_id", allocationSize = 1)
+    @SequenceGenerator(name = "jer_seq_id", sequenceName = "jer_seq_id", allocationSize = 50)
     // https://vladmihalcea.com/migrate-hilo-hibernate-pooled/
     private Long id;
 
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,6 +14,8 @@ public interface ExpenseRecords extends CrudRepository<ExpenseRecord, Long> {
     @Query(value = "SELECT er FROM ExpenseRecord er WHERE er.expenseId = :expenseId")
     List<ExpenseRecord> findByExpenseId(ExpenseIdentifier expenseId);
 
+    List<ExpenseRecord> findByExpenseIdIn(Collection<ExpenseIdentifier> expenseIds);
+
     @Query(value = "SELECT er FROM ExpenseRecord er WHERE er.expenseId = :expenseId AND er.categoryId = :categoryId")
     List<ExpenseRecord> findByExpenseIdAndCategoryId(ExpenseIdentifier expenseId, CategoryIdentifier categoryId);
 
@@ -9,7 +9,6 @@ import org.javamoney.moneta.Money;
 import javax.money.MonetaryAmount;
 import java.io.Serializable;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -17,12 +16,13 @@ import java.util.UUID;
 import static io.myfinbox.shared.Guards.*;
 import static jakarta.persistence.CascadeType.ALL;
 import static java.math.RoundingMode.HALF_UP;
+import static java.util.Objects.isNull;
 import static lombok.AccessLevel.PACKAGE;
 
 @Entity
 @Table(name = "spending_jars")
 @Getter
-@ToString(exclude = {"plan", "jarExpenseCategories"})
+@ToString(exclude = {"plan", "jarExpenseCategories", "amountToReachAsNumber"})
 @EqualsAndHashCode(of = {"id", "name"})
 @NoArgsConstructor(access = PACKAGE, force = true)
 public class Jar {
@@ -37,6 +37,9 @@ public class Jar {
     private String name;
     private String description;
 
+    @Version
+    private Long version;
+
     @Embedded
     @AttributeOverride(name = "value", column = @Column(name = "percentage"))
     private Percentage percentage;
@@ -46,6 +49,9 @@ public class Jar {
     @CompositeType(MonetaryAmountType.class)
     private MonetaryAmount amountToReach;
 
+    @Transient
+    private BigDecimal amountToReachAsNumber;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "plan_id", referencedColumnName = "id", nullable = false)
     private Plan plan;
@@ -77,15 +83,19 @@ public class Jar {
     }
 
     public void calculateAmountToReach() {
-        BigDecimal percentageDecimal = BigDecimal.valueOf(percentage.value());
-        BigDecimal planAmountDecimal = plan.getAmountAsNumber();
-        BigDecimal result = planAmountDecimal.multiply(percentageDecimal.divide(BigDecimal.valueOf(100), 2, HALF_UP));
-        this.amountToReach = Money.of(result, plan.getCurrencyCode());
+        // the percentage is a whole number between 1 and 100, as hundredths it is exact at scale 2
+        BigDecimal result = plan.getAmountAsNumber().multiply(BigDecimal.valueOf(percentage.value(), 2));
+        this.amountToReach = Money.of(result, plan.getAmount().getCurrency());
+        this.amountToReachAsNumber = result.setScale(2, HALF_UP);
     }
 
     public BigDecimal getAmountToReachAsNumber() {
-        return amountToReach.getNumber().numberValue(BigDecimal.class)
-                .setScale(2, RoundingMode.HALF_UP);
+        if (isNull(amountToReachAsNumber)) {
+            amountToReachAsNumber = amountToReach.getNumber().numberValue(BigDecimal.class)
+                    .setScale(2, HALF_UP);
+        }
+
+        return amountToReachAsNumber;
     }
 
     public String getCurrencyCode() {
@@ -1,9 +1,12 @@
 package io.myfinbox.spendingplan.domain;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
 public interface JarExpenseCategories extends CrudRepository<JarExpenseCategory, Long> {
@@ -12,8 +15,24 @@ public interface JarExpenseCategories extends CrudRepository<JarExpenseCategory,
 
     boolean existsByJarIdAndCategoryId(JarIdentifier jarId, CategoryIdentifier categoryId);
 
-    void deleteByJarIdAndCategoryId(JarIdentifier jarId, CategoryIdentifier categoryId);
+    List<JarExpenseCategory> findByJarIdAndCategoryIdIn(JarIdentifier jarId, Collection<CategoryIdentifier> categoryIds);
 
     List<JarExpenseCategory> findByCategoryId(CategoryIdentifier categoryId);
 
+    List<JarExpenseCategory> findByCategoryIdIn(Collection<CategoryIdentifier> categoryIds);
+
+    /**
+     * Takes a shared transaction lock on every category still being backfilled, waits for their running backfill chunk.
+     *
+     * @return the number of categories locked.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT count(*)
+              FROM spending_jar_expense_category c
+             CROSS JOIN LATERAL pg_advisory_xact_lock_shared(hashtextextended(CAST(c.category_id AS TEXT), 0)) AS locked
+             WHERE c.category_id IN (:categoryIds)
+               AND NOT c.backfilled
+            """)
+    long lockBackfilling(Collection<UUID> categoryIds);
+
 }
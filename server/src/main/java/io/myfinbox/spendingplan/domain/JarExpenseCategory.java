@@ -23,7 +23,7 @@ public class JarExpenseCategory {
 
     @Id
     @GeneratedValue(strategy = SEQUENCE, generator = "sjec_seq_id")
-    @SequenceGenerator(name = "sjec_seq_id", sequenceName = "sjec_seq_id", allocationSize = 1)
+    @SequenceGenerator(name = "sjec_seq_id", sequenceName = "sjec_seq_id", allocationSize = 50)
     // https://vladmihalcea.com/migrate-hilo-hibernate-pooled/
     private Long id;
 
@@ -36,6 +36,9 @@ public class JarExpenseCategory {
     @Column(name = "category_name")
     private String categoryName;
 
+    @Column(insertable = false, updatable = false)
+    private boolean backfilled; // false while existing expenses of the category are being recorded
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "jar_id", referencedColumnName = "id", nullable = false)
     private final Jar jar;
@@ -0,0 +1,29 @@
+package io.myfinbox.spendingplan.domain;
+
+import io.myfinbox.spendingplan.domain.JarSpendingSummary.SummaryIdentifier;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Repository
+public interface JarSpendingSummaries extends CrudRepository<JarSpendingSummary, SummaryIdentifier> {
+
+    /**
+     * Atomically adds the deltas to the summary, creating it when missing.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO jar_spending_summary AS s (jar_id, period, currency, total_amount, expense_count)
+            VALUES (:jarId, :period, :currency, :amount, :count)
+            ON CONFLICT (jar_id, period, currency)
+            DO UPDATE SET total_amount  = s.total_amount + EXCLUDED.total_amount,
+                          expense_count = s.expense_count + EXCLUDED.expense_count
+            """)
+    void apply(UUID jarId, LocalDate period, String currency, BigDecimal amount, long count);
+
+}
@@ -0,0 +1,66 @@
+package io.myfinbox.spendingplan.domain;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.javamoney.moneta.Money;
+
+import javax.money.MonetaryAmount;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static io.myfinbox.shared.Guards.notBlank;
+import static io.myfinbox.shared.Guards.notNull;
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * Spending accumulated against a jar within a monthly period, per currency.
+ * Maintained incrementally by applying deltas, see {@link JarSpendingSummaries#apply}.
+ */
+@Entity
+@Getter
+@ToString
+@Table(name = "jar_spending_summary")
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = PACKAGE, force = true)
+public class JarSpendingSummary {
+
+    @EmbeddedId
+    private final SummaryIdentifier id;
+
+    private final BigDecimal totalAmount;
+    private final long expenseCount;
+
+    public MonetaryAmount getTotal() {
+        return Money.of(totalAmount, id.currency());
+    }
+
+    @Embeddable
+    public record SummaryIdentifier(UUID jarId, LocalDate period, String currency) implements Serializable {
+
+        public SummaryIdentifier {
+            notNull(jarId, "jarId cannot be null.");
+            notNull(period, "period cannot be null.");
+            notBlank(currency, "currency cannot be blank.");
+        }
+
+        public static SummaryIdentifier of(JarIdentifier jarId, YearMonth period, String currency) {
+            return new SummaryIdentifier(jarId.id(), period.atDay(1), currency);
+        }
+
+        public static SummaryIdentifier of(ExpenseRecord record) {
+            return new SummaryIdentifier(
+                    record.getJarExpenseCategory().getJar().getId().id(), // proxy identifier, doesn't load the jar
+                    record.getExpenseDate().withDayOfMonth(1),
+                    record.getAmount().getCurrency().getCurrencyCode());
+        }
+    }
+}
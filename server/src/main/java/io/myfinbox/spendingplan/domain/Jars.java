@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface Jars extends JpaRepository<Jar, JarIdentifier> {
@@ -30,4 +31,11 @@ public interface Jars extends JpaRepository<Jar, JarIdentifier> {
             WHERE j.id = :jarId AND j.plan.id = :planId
             """)
     boolean existsByIdAndPlan(PlanIdentifier planId, JarIdentifier jarId);
+
+    @Query(nativeQuery = true, value = """
+            SELECT md5(COALESCE(string_agg(id || ':' || version, ',' ORDER BY id), ''))
+              FROM spending_jars
+             WHERE plan_id = :planId
+            """)
+    String versionTagByPlanId(UUID planId);
 }
@@ -26,7 +26,7 @@ import static lombok.AccessLevel.PACKAGE;
 @Entity
 @Table(name = "spending_plans")
 @Getter
-@ToString(exclude = "jars")
+@ToString(exclude = {"jars", "amountAsNumber"})
 @EqualsAndHashCode(callSuper = false, of = {"id", "name", "account"})
 @NoArgsConstructor(access = PACKAGE, force = true)
 public class Plan extends AbstractAggregateRoot<Plan> {
@@ -41,6 +41,9 @@ public class Plan extends AbstractAggregateRoot<Plan> {
     private String name;
     private String description;
 
+    @Version
+    private Long version;
+
     @Embedded
     @AttributeOverride(name = "id", column = @Column(name = "account_id"))
     private final AccountIdentifier account;
@@ -50,6 +53,9 @@ public class Plan extends AbstractAggregateRoot<Plan> {
     @CompositeType(MonetaryAmountType.class)
     private MonetaryAmount amount;
 
+    @Transient
+    private BigDecimal amountAsNumber; // scaled once, read by every jar and resource conversion
+
     @OneToMany(mappedBy = "plan", cascade = ALL, orphanRemoval = true)
     private List<Jar> jars = new ArrayList<>();
 
@@ -75,11 +81,16 @@ public class Plan extends AbstractAggregateRoot<Plan> {
 
     private void setAmount(MonetaryAmount amount) {
         this.amount = greaterThanZero(amount, "amount must be greater than 0.");
+        this.amountAsNumber = null;
     }
 
     public BigDecimal getAmountAsNumber() {
-        return amount.getNumber().numberValue(BigDecimal.class)
-                .setScale(2, HALF_UP);
+        if (isNull(amountAsNumber)) {
+            amountAsNumber = amount.getNumber().numberValue(BigDecimal.class)
+                    .setScale(2, HALF_UP);
+        }
+
+        return amountAsNumber;
     }
 
     public String getCurrencyCode() {
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface Plans extends JpaRepository<Plan, PlanIdentifier> {
@@ -33,4 +34,24 @@ public interface Plans extends JpaRepository<Plan, PlanIdentifier> {
     List<Plan> findByAccountIdEagerJars(AccountIdentifier account);
 
     boolean existsByNameAndAccount(String name, AccountIdentifier accountId);
+
+    boolean existsByIdAndAccount(PlanIdentifier id, AccountIdentifier account);
+
+    @Query(nativeQuery = true, value = """
+            SELECT md5(string_agg(v.id || ':' || v.version, ',' ORDER BY v.id))
+              FROM (SELECT p.id, p.version FROM spending_plans p WHERE p.id = :planId
+                    UNION ALL
+                    SELECT j.id, j.version FROM spending_jars j WHERE j.plan_id = :planId) v
+            """)
+    Optional<String> versionTagById(UUID planId);
+
+    @Query(nativeQuery = true, value = """
+            SELECT md5(COALESCE(string_agg(v.id || ':' || v.version, ',' ORDER BY v.id), ''))
+              FROM (SELECT p.id, p.version FROM spending_plans p WHERE p.account_id = :accountId
+                    UNION ALL
+                    SELECT j.id, j.version FROM spending_jars j
+                      JOIN spending_plans p ON p.id = j.plan_id
+                     WHERE p.account_id = :accountId) v
+            """)
+    String versionTagByAccount(UUID accountId);
 }
@@ -0,0 +1,4 @@
+-- ids are allocated in blocks by the pooled-lo optimizer, sequence increment must match the entity allocationSize
+ALTER SEQUENCE IF EXISTS jer_seq_id INCREMENT BY 50;
+
+ALTER SEQUENCE IF EXISTS sjec_seq_id INCREMENT BY 50;
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS search_expenses_account_id_expense_date_id_idx ON expenses (account_id, expense_date, id);
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS jar_spending_summary
+(
+    jar_id        UUID           NOT NULL,
+    period        DATE           NOT NULL,
+    currency      VARCHAR(3)     NOT NULL,
+    total_amount  DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    expense_count BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (jar_id, period, currency),
+    FOREIGN KEY (jar_id) REFERENCES spending_jars (id)
+)
+;
+
+-- summarize already tracked expenses, period is the first day of the expense month
+INSERT INTO jar_spending_summary (jar_id, period, currency, total_amount, expense_count)
+SELECT sjec.jar_id, date_trunc('month', jer.expense_date)::DATE, jer.currency, SUM(jer.amount), COUNT(*)
+FROM jar_expense_record jer
+         JOIN spending_jar_expense_category sjec ON sjec.id = jer.jar_expense_category_id
+GROUP BY sjec.jar_id, date_trunc('month', jer.expense_date)::DATE, jer.currency
+ON CONFLICT DO NOTHING;
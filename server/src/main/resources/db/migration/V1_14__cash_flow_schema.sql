@@ -0,0 +1,71 @@
+CREATE TABLE IF NOT EXISTS cash_flow_entry
+(
+    id                 UUID PRIMARY KEY,
+    creation_timestamp TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    flow_type          VARCHAR(20)    NOT NULL,
+    account_id         UUID           NOT NULL,
+    source_id          UUID           NOT NULL,
+    source_name        VARCHAR(100),
+    amount             DECIMAL(19, 4) NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    entry_date         DATE           NOT NULL
+)
+;
+
+CREATE TABLE IF NOT EXISTS monthly_cash_flow
+(
+    account_id    UUID           NOT NULL,
+    period        DATE           NOT NULL,
+    currency      VARCHAR(3)     NOT NULL,
+    total_income  DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    income_count  BIGINT         NOT NULL DEFAULT 0,
+    total_expense DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    expense_count BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (account_id, period, currency)
+)
+;
+
+CREATE TABLE IF NOT EXISTS monthly_cash_flow_breakdown
+(
+    account_id   UUID           NOT NULL,
+    period       DATE           NOT NULL,
+    currency     VARCHAR(3)     NOT NULL,
+    flow_type    VARCHAR(20)    NOT NULL,
+    source_id    UUID           NOT NULL,
+    source_name  VARCHAR(100),
+    total_amount DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    entry_count  BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (account_id, period, currency, flow_type, source_id)
+)
+;
+
+-- track already existing incomes and expenses
+INSERT INTO cash_flow_entry (id, flow_type, account_id, source_id, source_name, amount, currency, entry_date)
+SELECT e.id, 'EXPENSE', e.account_id, e.category_id, c.name, e.amount, e.currency, e.expense_date
+FROM expenses e
+         JOIN expense_category c ON c.id = e.category_id
+;
+
+INSERT INTO cash_flow_entry (id, flow_type, account_id, source_id, source_name, amount, currency, entry_date)
+SELECT i.id, 'INCOME', i.account_id, i.income_source_id, NULL, i.amount, i.currency, i.income_date
+FROM incomes i
+;
+
+-- roll them up, period is the first day of the entry month
+INSERT INTO monthly_cash_flow (account_id, period, currency, total_income, income_count, total_expense, expense_count)
+SELECT account_id,
+       date_trunc('month', entry_date)::DATE,
+       currency,
+       COALESCE(SUM(amount) FILTER (WHERE flow_type = 'INCOME'), 0),
+       COUNT(*) FILTER (WHERE flow_type = 'INCOME'),
+       COALESCE(SUM(amount) FILTER (WHERE flow_type = 'EXPENSE'), 0),
+       COUNT(*) FILTER (WHERE flow_type = 'EXPENSE')
+FROM cash_flow_entry
+GROUP BY account_id, date_trunc('month', entry_date)::DATE, currency
+;
+
+INSERT INTO monthly_cash_flow_breakdown (account_id, period, currency, flow_type, source_id, source_name, total_amount, entry_count)
+SELECT account_id, date_trunc('month', entry_date)::DATE, currency, flow_type, source_id, MAX(source_name), SUM(amount), COUNT(*)
+FROM cash_flow_entry
+GROUP BY account_id, date_trunc('month', entry_date)::DATE, currency, flow_type, source_id
+;
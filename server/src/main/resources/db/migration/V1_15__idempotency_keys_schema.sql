@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS idempotency_keys
+(
+    request_path       VARCHAR(255)  NOT NULL,
+    idempotency_key    VARCHAR(255)  NOT NULL,
+    fingerprint        VARCHAR(64)   NOT NULL,
+    creation_timestamp TIMESTAMP     NOT NULL,
+    expires_at         TIMESTAMP     NOT NULL,
+    status_code        INTEGER,
+    content_type       VARCHAR(255),
+    location           VARCHAR(2048),
+    response_body      BYTEA,
+    PRIMARY KEY (request_path, idempotency_key)
+)
+;
+
+CREATE INDEX IF NOT EXISTS idempotency_keys_expires_at_idx ON idempotency_keys (expires_at);
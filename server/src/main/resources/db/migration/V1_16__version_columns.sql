@@ -0,0 +1,12 @@
+-- optimistic locking versions, also tag the conditional GET responses
+ALTER TABLE expense_category
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE income_source
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE spending_plans
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE spending_jars
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
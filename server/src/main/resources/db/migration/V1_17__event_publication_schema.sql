@@ -0,0 +1,20 @@
+-- Event publication registry of spring modulith, owned by flyway to index it
+CREATE TABLE IF NOT EXISTS event_publication
+(
+    id               UUID                     NOT NULL,
+    listener_id      TEXT                     NOT NULL,
+    event_type       TEXT                     NOT NULL,
+    serialized_event TEXT                     NOT NULL,
+    publication_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    completion_date  TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (id)
+);
+
+-- publications are completed by listener and serialized event, equality only, unbounded text fits a hash index
+CREATE INDEX IF NOT EXISTS event_publication_serialized_event_idx ON event_publication USING hash (serialized_event);
+
+-- incomplete publications lookups (resubmission, backlog) only read the few incomplete rows
+CREATE INDEX IF NOT EXISTS event_publication_incomplete_idx ON event_publication (publication_date) WHERE completion_date IS NULL;
+
+-- purge of the completed publications past retention
+CREATE INDEX IF NOT EXISTS event_publication_completion_date_idx ON event_publication (completion_date) WHERE completion_date IS NOT NULL;
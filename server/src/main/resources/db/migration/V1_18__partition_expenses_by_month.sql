@@ -0,0 +1,113 @@
+-- Monthly range partitions on expense_date for expenses and jar_expense_record, period scoped queries prune to
+-- the partitions of their months. Rows outside the created partitions land in the default partition, they are moved
+-- into their own partition once it is created.
+
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent_table TEXT, from_date DATE, to_date DATE)
+    RETURNS INTEGER
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    month_start    DATE    := date_trunc('month', from_date)::DATE;
+    month_end      DATE;
+    partition_name TEXT;
+    created        INTEGER := 0;
+BEGIN
+    WHILE month_start <= to_date
+        LOOP
+            month_end := (month_start + INTERVAL '1 month')::DATE;
+            partition_name := format('%s_p%s', parent_table, to_char(month_start, 'YYYY_MM'));
+
+            IF to_regclass(partition_name) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name, parent_table);
+                -- a partition can't be attached while the default partition holds rows of its range
+                EXECUTE format('WITH moved AS (DELETE FROM %I WHERE expense_date >= %L AND expense_date < %L RETURNING *) '
+                                   'INSERT INTO %I SELECT * FROM moved',
+                               parent_table || '_default', month_start, month_end, partition_name);
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                               parent_table, partition_name, month_start, month_end);
+                created := created + 1;
+            END IF;
+
+            month_start := month_end;
+        END LOOP;
+
+    RETURN created;
+END;
+$$;
+
+-- expenses, the primary key of a partitioned table must include the partition key
+ALTER TABLE expenses RENAME TO expenses_unpartitioned;
+ALTER TABLE expenses_unpartitioned RENAME CONSTRAINT expenses_pkey TO expenses_unpartitioned_pkey;
+DROP INDEX IF EXISTS search_expenses_account_id_expense_date_id_idx;
+
+CREATE TABLE expenses
+(
+    id                 UUID           NOT NULL DEFAULT gen_random_uuid(),
+    account_id         UUID           NOT NULL,
+    creation_timestamp TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    payment_type       VARCHAR(20)    NOT NULL,
+    amount             DECIMAL(19, 4) NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    expense_date       DATE           NOT NULL,
+    description        TEXT,
+    category_id        UUID           NOT NULL,
+    PRIMARY KEY (id, expense_date),
+    FOREIGN KEY (category_id) REFERENCES expense_category (id)
+) PARTITION BY RANGE (expense_date);
+
+CREATE INDEX IF NOT EXISTS search_expenses_account_id_expense_date_id_idx ON expenses (account_id, expense_date, id);
+
+CREATE TABLE expenses_default PARTITION OF expenses DEFAULT;
+
+-- at most ten years back are partitioned, older expenses stay in the default partition
+SELECT create_monthly_partitions('expenses',
+                                 GREATEST(COALESCE((SELECT min(expense_date) FROM expenses_unpartitioned), CURRENT_DATE),
+                                          (date_trunc('month', CURRENT_DATE) - INTERVAL '10 years')::DATE),
+                                 (CURRENT_DATE + INTERVAL '3 months')::DATE);
+
+INSERT INTO expenses (id, account_id, creation_timestamp, payment_type, amount, currency, expense_date, description, category_id)
+SELECT id, account_id, creation_timestamp, payment_type, amount, currency, expense_date, description, category_id
+FROM expenses_unpartitioned;
+
+DROP TABLE expenses_unpartitioned;
+
+-- jar_expense_record
+ALTER TABLE jar_expense_record RENAME TO jar_expense_record_unpartitioned;
+ALTER TABLE jar_expense_record_unpartitioned RENAME CONSTRAINT jar_expense_record_pkey TO jar_expense_record_unpartitioned_pkey;
+DROP INDEX IF EXISTS search_jar_expense_category_jar_id_idx;
+
+CREATE TABLE jar_expense_record
+(
+    id                      BIGINT         NOT NULL DEFAULT nextval('jer_seq_id'),
+    expense_id              UUID           NOT NULL,
+    creation_timestamp      TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    category_id             UUID           NOT NULL,
+    payment_type            VARCHAR(20)    NOT NULL,
+    amount                  DECIMAL(19, 4) NOT NULL,
+    currency                VARCHAR(3)     NOT NULL,
+    expense_date            DATE           NOT NULL,
+    category_name           VARCHAR(100)   NOT NULL,
+    jar_expense_category_id BIGINT         NOT NULL,
+    PRIMARY KEY (id, expense_date),
+    FOREIGN KEY (jar_expense_category_id) REFERENCES spending_jar_expense_category (id)
+) PARTITION BY RANGE (expense_date);
+
+CREATE INDEX IF NOT EXISTS search_jar_expense_category_jar_id_idx ON jar_expense_record (category_id, expense_date, jar_expense_category_id);
+-- records are looked up by expense on expense updates and deletes, without their date
+CREATE INDEX IF NOT EXISTS search_jar_expense_record_expense_id_idx ON jar_expense_record (expense_id);
+
+CREATE TABLE jar_expense_record_default PARTITION OF jar_expense_record DEFAULT;
+
+SELECT create_monthly_partitions('jar_expense_record',
+                                 GREATEST(COALESCE((SELECT min(expense_date) FROM jar_expense_record_unpartitioned), CURRENT_DATE),
+                                          (date_trunc('month', CURRENT_DATE) - INTERVAL '10 years')::DATE),
+                                 (CURRENT_DATE + INTERVAL '3 months')::DATE);
+
+INSERT INTO jar_expense_record (id, expense_id, creation_timestamp, category_id, payment_type, amount, currency,
+                                expense_date, category_name, jar_expense_category_id)
+SELECT id, expense_id, creation_timestamp, category_id, payment_type, amount, currency,
+       expense_date, category_name, jar_expense_category_id
+FROM jar_expense_record_unpartitioned;
+
+DROP TABLE jar_expense_record_unpartitioned;
@@ -0,0 +1,2 @@
+-- backfill of the expenses of a category newly added to a jar
+CREATE INDEX IF NOT EXISTS search_expenses_category_id_idx ON expenses (category_id);
@@ -0,0 +1,13 @@
+-- Existing expenses of a category added to a jar are recorded in the background, chunk by chunk in
+-- (expense_date, id) order. The cursor of the last recorded expense makes the backfill resumable.
+ALTER TABLE spending_jar_expense_category
+    ADD COLUMN IF NOT EXISTS backfilled           BOOLEAN NOT NULL DEFAULT TRUE,
+    ADD COLUMN IF NOT EXISTS backfill_cursor_date DATE    NOT NULL DEFAULT '-infinity',
+    ADD COLUMN IF NOT EXISTS backfill_cursor_id   UUID    NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',
+    ADD COLUMN IF NOT EXISTS backfilled_count     BIGINT  NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS search_spending_jar_expense_category_backfill_idx ON spending_jar_expense_category (category_id) WHERE NOT backfilled;
+
+-- chunks are read in cursor order
+DROP INDEX IF EXISTS search_expenses_category_id_idx;
+CREATE INDEX IF NOT EXISTS search_expenses_category_id_expense_date_id_idx ON expenses (category_id, expense_date, id);
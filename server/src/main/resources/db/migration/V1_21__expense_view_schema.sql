@@ -0,0 +1,42 @@
+-- Read model of the expenses listed by account, denormalized with the category name, the account currency and the
+-- creation date local to the account zone. Pages are served by a single index scan, without joins.
+CREATE TABLE IF NOT EXISTS expense_view
+(
+    id                 UUID PRIMARY KEY,
+    account_id         UUID           NOT NULL,
+    category_id        UUID           NOT NULL,
+    category_name      VARCHAR(100)   NOT NULL,
+    payment_type       VARCHAR(20)    NOT NULL,
+    amount             DECIMAL(19, 4) NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    account_currency   VARCHAR(3),
+    expense_date       DATE           NOT NULL,
+    creation_date      DATE           NOT NULL,
+    description        TEXT,
+    creation_timestamp TIMESTAMP      NOT NULL
+)
+;
+
+CREATE INDEX IF NOT EXISTS search_expense_view_account_id_expense_date_id_idx ON expense_view (account_id, expense_date, id);
+
+CREATE INDEX IF NOT EXISTS search_expense_view_category_id_idx ON expense_view (category_id);
+
+-- view already existing expenses
+INSERT INTO expense_view (id, account_id, category_id, category_name, payment_type, amount, currency, account_currency,
+                          expense_date, creation_date, description, creation_timestamp)
+SELECT e.id,
+       e.account_id,
+       e.category_id,
+       c.name,
+       e.payment_type,
+       e.amount,
+       e.currency,
+       a.currency,
+       e.expense_date,
+       CAST((e.creation_timestamp AT TIME ZONE 'UTC') AT TIME ZONE COALESCE(a.zone_id, 'UTC') AS DATE),
+       e.description,
+       e.creation_timestamp
+FROM expenses e
+         JOIN expense_category c ON c.id = e.category_id
+         LEFT JOIN accounts a ON a.id = e.account_id
+ON CONFLICT DO NOTHING;
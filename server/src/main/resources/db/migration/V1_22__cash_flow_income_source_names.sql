@@ -0,0 +1,17 @@
+-- income entries were tracked without their source name, fill it from the income sources
+UPDATE cash_flow_entry f
+SET source_name = s.name
+FROM incomes i
+         JOIN income_source s ON s.id = i.income_source_id
+WHERE f.id = i.id
+  AND f.flow_type = 'INCOME'
+  AND f.source_name IS NULL
+;
+
+UPDATE monthly_cash_flow_breakdown b
+SET source_name = s.name
+FROM income_source s
+WHERE b.source_id = s.id
+  AND b.flow_type = 'INCOME'
+  AND b.source_name IS NULL
+;
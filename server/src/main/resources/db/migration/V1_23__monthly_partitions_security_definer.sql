@@ -0,0 +1,49 @@
+-- Partitions are created ahead by the application at runtime, the function runs with the rights of its owner, the
+-- migration role, so the application role needs no DDL rights. The search path is pinned, so no object of another
+-- schema is resolved with those rights, and only the tables partitioned by month are accepted.
+
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent_table TEXT, from_date DATE, to_date DATE)
+    RETURNS INTEGER
+    LANGUAGE plpgsql
+    SECURITY DEFINER
+    SET search_path = ${flyway:defaultSchema}, pg_temp
+    SET lock_timeout = '10s'
+AS
+$$
+DECLARE
+    month_start    DATE    := date_trunc('month', from_date)::DATE;
+    month_end      DATE;
+    partition_name TEXT;
+    created        INTEGER := 0;
+BEGIN
+    IF parent_table NOT IN ('expenses', 'jar_expense_record') THEN
+        RAISE EXCEPTION 'Table % is not partitioned by month', parent_table;
+    END IF;
+
+    WHILE month_start <= to_date
+        LOOP
+            month_end := (month_start + INTERVAL '1 month')::DATE;
+            partition_name := format('%s_p%s', parent_table, to_char(month_start, 'YYYY_MM'));
+
+            IF to_regclass(partition_name) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name, parent_table);
+                -- no row of the range may be written to the default partition until the partition is attached,
+                -- the attach locks it exclusively anyway, taking that lock first also avoids a lock upgrade
+                EXECUTE format('LOCK TABLE %I IN ACCESS EXCLUSIVE MODE', parent_table || '_default');
+                -- a partition can't be attached while the default partition holds rows of its range
+                EXECUTE format('WITH moved AS (DELETE FROM %I WHERE expense_date >= %L AND expense_date < %L RETURNING *) '
+                                   'INSERT INTO %I SELECT * FROM moved',
+                               parent_table || '_default', month_start, month_end, partition_name);
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                               parent_table, partition_name, month_start, month_end);
+                created := created + 1;
+            END IF;
+
+            month_start := month_end;
+        END LOOP;
+
+    RETURN created;
+END;
+$$;
+
+ALTER FUNCTION create_monthly_partitions(TEXT, DATE, DATE) OWNER TO CURRENT_USER;
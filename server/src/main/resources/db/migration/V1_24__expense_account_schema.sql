@@ -0,0 +1,15 @@
+-- Currency and zone of the accounts as published by the account module in its AccountCreated events, so the expense
+-- views are denormalized without reading the account module tables.
+CREATE TABLE IF NOT EXISTS expense_account
+(
+    id       UUID PRIMARY KEY,
+    currency VARCHAR(3)   NOT NULL,
+    zone_id  VARCHAR(100) NOT NULL
+)
+;
+
+-- one time copy of the accounts created before the expense module tracked them, their events are no longer delivered
+INSERT INTO expense_account (id, currency, zone_id)
+SELECT a.id, a.currency, a.zone_id
+FROM accounts a
+ON CONFLICT DO NOTHING;
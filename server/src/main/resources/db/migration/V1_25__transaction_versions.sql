@@ -0,0 +1,13 @@
+-- optimistic locking versions of expenses and incomes, published with their events so the consumers apply them in order
+ALTER TABLE expenses
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE incomes
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- version of the last applied event, deleted entries are kept so late events of their transaction are ignored
+ALTER TABLE cash_flow_entry
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE cash_flow_entry
+    ADD COLUMN IF NOT EXISTS deleted BOOLEAN NOT NULL DEFAULT FALSE;
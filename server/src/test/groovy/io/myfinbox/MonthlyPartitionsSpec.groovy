@@ -0,0 +1,117 @@
+package io.myfinbox
+
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.dao.DataAccessException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.LocalDate
+import java.time.format.DateTimeFormatter
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@TestPropertySource(locations = "/application-test.properties")
+class MonthlyPartitionsSpec extends Specification {
+
+    static final MONTH = DateTimeFormatter.ofPattern('yyyy_MM')
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    MonthlyPartitions monthlyPartitions
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'expenses', 'expense_category')
+    }
+
+    def "should create the monthly partitions ahead of the current month"() {
+        when: 'partitions are created ahead'
+        monthlyPartitions.createAhead()
+
+        then: 'expenses and jar expense records are partitioned up to three months ahead'
+        def month = LocalDate.now().plusMonths(3).format(MONTH)
+        assert partitionsOf('expenses').contains("expenses_p${month}".toString())
+        assert partitionsOf('jar_expense_record').contains("jar_expense_record_p${month}".toString())
+    }
+
+    @Sql('/expense/web/expensecategory-create.sql')
+    def "should move the expenses of a new partition out of the default partition"() {
+        given: 'an expense far ahead, stored in the default partition'
+        def expenseDate = LocalDate.now().plusYears(2).withDayOfMonth(15)
+        insertExpense(expenseDate)
+        assert count('expenses_default') == 1
+
+        when: 'the partition of its month is created'
+        jdbcTemplate.queryForObject(MonthlyPartitions.CREATE_PARTITIONS_QUERY, Integer.class, 'expenses', expenseDate, expenseDate)
+
+        then: 'the expense is moved into its partition'
+        assert count('expenses_default') == 0
+        assert count("expenses_p${expenseDate.format(MONTH)}") == 1
+    }
+
+    @Sql('/expense/web/expensecategory-create.sql')
+    def "should prune partitions for period scoped expense queries"() {
+        given: 'partitions created ahead'
+        monthlyPartitions.createAhead()
+
+        when: 'expenses of the current month are explained'
+        def from = LocalDate.now().withDayOfMonth(1)
+        def plan = jdbcTemplate.queryForList('''
+                EXPLAIN SELECT * FROM expenses
+                 WHERE account_id = 'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca' AND expense_date BETWEEN ? AND ?
+                ''', String.class, from, from.plusMonths(1).minusDays(1)).join('\n')
+
+        then: 'only the partition of the current month is scanned'
+        assert plan.contains("expenses_p${from.format(MONTH)}")
+        assert !plan.contains("expenses_p${from.plusMonths(1).format(MONTH)}")
+        assert !plan.contains('expenses_default')
+    }
+
+    def "should create the partitions with the rights of the migration role only for the partitioned tables"() {
+        when: 'the partition function is inspected'
+        def function = jdbcTemplate.queryForMap('''
+                SELECT p.prosecdef, array_to_string(p.proconfig, ',') AS config
+                  FROM pg_proc p
+                 WHERE p.proname = 'create_monthly_partitions'
+                ''')
+
+        then: 'it runs as its owner with a pinned search path'
+        assert function.prosecdef
+        assert function.config.contains('search_path=server, pg_temp')
+
+        when: 'partitions of another table are requested'
+        jdbcTemplate.queryForObject(MonthlyPartitions.CREATE_PARTITIONS_QUERY, Integer.class, 'accounts',
+                LocalDate.now(), LocalDate.now())
+
+        then: 'the table is rejected'
+        thrown(DataAccessException)
+    }
+
+    private List<String> partitionsOf(String table) {
+        jdbcTemplate.queryForList('''
+                SELECT c.relname FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                  JOIN pg_class p ON p.oid = i.inhparent
+                 WHERE p.relname = ?
+                ''', String.class, table)
+    }
+
+    private int count(String table) {
+        JdbcTestUtils.countRowsInTable(jdbcTemplate, table)
+    }
+
+    private insertExpense(LocalDate expenseDate) {
+        jdbcTemplate.update('''
+                INSERT INTO expenses (account_id, payment_type, amount, currency, expense_date, category_id)
+                VALUES ('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca', 'CASH', 10, 'EUR', ?, '3b257779-a5db-4e87-9365-72c6f8d4977d')
+                ''', expenseDate)
+    }
+}
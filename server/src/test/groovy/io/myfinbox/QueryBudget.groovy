@@ -0,0 +1,59 @@
+package io.myfinbox
+
+import io.micrometer.core.instrument.MeterRegistry
+
+import java.time.Duration
+
+import static org.awaitility.Awaitility.await
+
+/**
+ * Locks in the number of SQL statements issued by a request to an endpoint, as recorded by {@link QueryMetrics}.
+ * <pre>
+ * QueryBudget.of(meterRegistry, 'POST', '/v1/expenses').atMost(6) { postExpense(request) }
+ * </pre>
+ * The closure must send exactly one request to the endpoint. Statements issued by the event listeners run after the
+ * request and are not part of its budget.
+ */
+class QueryBudget {
+
+    final MeterRegistry meterRegistry
+    final String method
+    final String uri
+
+    private QueryBudget(MeterRegistry meterRegistry, String method, String uri) {
+        this.meterRegistry = meterRegistry
+        this.method = method
+        this.uri = uri
+    }
+
+    static QueryBudget of(MeterRegistry meterRegistry, String method, String uri) {
+        new QueryBudget(meterRegistry, method, uri)
+    }
+
+    def <T> T atMost(long statements, Closure<T> request) {
+        def before = snapshot()
+        def result = request()
+
+        // recorded once the filter chain returns, possibly after the response reached the client
+        def after = await().atMost(Duration.ofSeconds(5))
+                .until({ snapshot() }, { it.count > before.count })
+
+        assert after.count - before.count == 1: "exactly one ${method} ${uri} request expected"
+
+        def issued = (long) (after.total - before.total)
+        assert issued <= statements: "${method} ${uri} issued ${issued} SQL statements, the budget is ${statements}"
+
+        result
+    }
+
+    private Snapshot snapshot() {
+        def summary = meterRegistry.find(QueryMetrics.REQUEST_STATEMENTS_SUMMARY)
+                .tags('method', method, 'uri', uri)
+                .summary()
+
+        summary == null ? new Snapshot(0, 0) : new Snapshot(summary.count(), summary.totalAmount())
+    }
+
+    private record Snapshot(long count, double total) {
+    }
+}
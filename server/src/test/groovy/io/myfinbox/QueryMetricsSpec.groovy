@@ -0,0 +1,105 @@
+package io.myfinbox
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.beans.factory.ObjectProvider
+
+import javax.sql.DataSource
+import java.sql.Connection
+import java.sql.PreparedStatement
+import java.sql.ResultSet
+import java.sql.Statement
+import java.time.Duration
+
+import spock.lang.Specification
+import spock.lang.Tag
+
+@Tag("unit")
+class QueryMetricsSpec extends Specification {
+
+    SimpleMeterRegistry meterRegistry
+    QueryMetrics queryMetrics
+    Connection connection
+    QueryCountingDataSource dataSource
+
+    def setup() {
+        meterRegistry = new SimpleMeterRegistry()
+        queryMetrics = new QueryMetrics(meterRegistry, Duration.ofMillis(500))
+        connection = Mock()
+        def target = Mock(DataSource) {
+            getConnection() >> connection
+        }
+        dataSource = new QueryCountingDataSource(target, Mock(ObjectProvider) {
+            getObject() >> queryMetrics
+        })
+    }
+
+    def "should count executed statements"() {
+        given: 'a prepared and a plain statement'
+        connection.prepareStatement('SELECT 1') >> Mock(PreparedStatement) {
+            executeQuery() >> Mock(ResultSet)
+        }
+        connection.createStatement() >> Mock(Statement)
+
+        when: 'both statements are executed'
+        def counting = dataSource.getConnection()
+        counting.prepareStatement('SELECT 1').executeQuery()
+        counting.createStatement().execute('DELETE FROM expenses')
+
+        then: 'two single statements are counted'
+        assert meterRegistry.get(QueryMetrics.STATEMENTS_COUNTER).tag('type', 'single').counter().count() == 2
+    }
+
+    def "should count a batch as one statement and record its size"() {
+        given: 'a prepared statement'
+        def statement = Mock(PreparedStatement)
+        connection.prepareStatement('INSERT INTO expenses VALUES (?)') >> statement
+
+        when: 'three rows are batched'
+        def counting = dataSource.getConnection().prepareStatement('INSERT INTO expenses VALUES (?)')
+        3.times { counting.addBatch() }
+        counting.executeBatch()
+
+        then: 'the batch is executed by the target statement'
+        1 * statement.executeBatch() >> ([1, 1, 1] as int[])
+
+        and: 'one batch of three rows is recorded'
+        assert meterRegistry.get(QueryMetrics.STATEMENTS_COUNTER).tag('type', 'batch').counter().count() == 1
+        assert meterRegistry.get(QueryMetrics.BATCH_SIZE_SUMMARY).summary().totalAmount() == 3
+    }
+
+    def "should count slow statements"() {
+        when: 'a statement slower than the threshold is executed'
+        queryMetrics.statementExecuted('SELECT pg_sleep(1)', 0, Duration.ofSeconds(1).toNanos())
+
+        then: 'it is counted as slow'
+        assert meterRegistry.get(QueryMetrics.SLOW_STATEMENTS_COUNTER).counter().count() == 1
+    }
+
+    def "should record statements and entity loads per request"() {
+        given: 'a request being served'
+        queryMetrics.requestStarted()
+
+        when: 'the request executes two statements and loads one entity'
+        queryMetrics.statementExecuted('SELECT 1', 0, 0)
+        queryMetrics.statementExecuted('INSERT INTO expenses VALUES (?)', 2, 0)
+        queryMetrics.entityLoaded('io.myfinbox.expense.domain.Category')
+        queryMetrics.requestCompleted('POST', '/v1/expenses')
+
+        then: 'the statements of the request are recorded for its endpoint'
+        def statements = meterRegistry.get(QueryMetrics.REQUEST_STATEMENTS_SUMMARY)
+                .tags('method', 'POST', 'uri', '/v1/expenses')
+                .summary()
+        assert statements.count() == 1
+        assert statements.totalAmount() == 2
+
+        and: 'the entity loads of the request are recorded for its endpoint'
+        assert meterRegistry.get(QueryMetrics.REQUEST_ENTITY_LOADS_SUMMARY)
+                .tags('method', 'POST', 'uri', '/v1/expenses')
+                .summary()
+                .totalAmount() == 1
+
+        and: 'statements executed after the request are not counted for it'
+        queryMetrics.statementExecuted('SELECT 1', 0, 0)
+        assert statements.totalAmount() == 2
+    }
+}
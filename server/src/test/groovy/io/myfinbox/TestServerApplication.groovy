@@ -15,6 +15,7 @@ class TestServerApplication {
     PostgreSQLContainer<? extends PostgreSQLContainer> postgresSQLContainer() {
         return new PostgreSQLContainer<>(DockerImageName.parse("postgres:16"))
                 .withUrlParam("currentSchema", "server")
+                .withUrlParam("reWriteBatchedInserts", "true")
     }
 
     static void main(String[] args) {
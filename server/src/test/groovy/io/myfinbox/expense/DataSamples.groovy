@@ -8,6 +8,7 @@ import io.myfinbox.expense.domain.AccountIdentifier
 import io.myfinbox.expense.domain.Category
 import io.myfinbox.expense.domain.DefaultCategories
 import io.myfinbox.expense.domain.Expense
+import io.myfinbox.expense.domain.ExpenseView
 
 class DataSamples {
 
@@ -47,6 +48,20 @@ class DataSamples {
             description      : "Books buying",
     ]
 
+    static EXPENSE_VIEW = [
+            id               : expenseId,
+            account          : [id: accountId],
+            categoryId       : categoryId,
+            categoryName     : "Bills",
+            paymentType      : "CASH",
+            amount           : AMOUNT,
+            accountCurrency  : currency,
+            expenseDate      : expenseDate,
+            creationDate     : expenseDate,
+            description      : "Books buying",
+            creationTimestamp: timestamp,
+    ]
+
     static EXPENSE_COMMAND = [
             accountId   : accountId,
             categoryId  : categoryId,
@@ -74,6 +89,7 @@ class DataSamples {
             paymentType: "CASH",
             amount     : AMOUNT,
             expenseDate: expenseDate,
+            version    : 0,
     ]
 
     static EXPENSE_CATEGORY_RESOURCE = [
@@ -91,6 +107,10 @@ class DataSamples {
         MAPPER.readValue(JsonOutput.toJson(EXPENSE + map) as String, Expense.class)
     }
 
+    static newSampleExpenseView(map = [:]) {
+        MAPPER.readValue(JsonOutput.toJson(EXPENSE_VIEW + map) as String, ExpenseView.class)
+    }
+
     static newSampleCategory(map = [:]) {
         MAPPER.readValue(JsonOutput.toJson(CATEGORY + map) as String, Category.class)
     }
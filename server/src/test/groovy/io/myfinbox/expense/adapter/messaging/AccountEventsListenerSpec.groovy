@@ -12,6 +12,7 @@ import org.springframework.boot.test.context.TestConfiguration
 import org.springframework.context.ApplicationEventPublisher
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Import
+import org.springframework.jdbc.core.JdbcTemplate
 import org.springframework.modulith.test.ApplicationModuleTest
 import org.springframework.test.context.TestPropertySource
 import org.springframework.transaction.annotation.Transactional
@@ -39,6 +40,9 @@ class AccountEventsListenerSpec extends Specification {
     @Autowired
     Categories categories
 
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
     @Autowired
     Runnable eventProducer
 
@@ -56,6 +60,10 @@ class AccountEventsListenerSpec extends Specification {
         then: 'default expense categories are created'
         def comp = { a, b -> a.name <=> b.name ?: a.account.id() <=> b.account.id() } as Comparator<? super Category>
         assert intersect(actual, newSampleDefaultCategories(new AccountIdentifier(accountId)), comp).size() == DefaultCategories.values().size()
+
+        and: 'the account currency and zone are recorded for the expense views'
+        assert jdbcTemplate.queryForMap('SELECT currency, zone_id FROM expense_account WHERE id = ?', accountId) ==
+                [currency: 'MDL', zone_id: 'Europe/Chisinau']
     }
 
 
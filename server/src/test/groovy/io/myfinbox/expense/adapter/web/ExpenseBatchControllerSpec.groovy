@@ -0,0 +1,91 @@
+package io.myfinbox.expense.adapter.web
+
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import io.myfinbox.TestServerApplication
+import io.myfinbox.expense.ExpenseCreated
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.web.client.TestRestTemplate
+import org.springframework.http.HttpEntity
+import org.springframework.http.HttpHeaders
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.modulith.test.ApplicationModuleTest
+import org.springframework.modulith.test.PublishedEvents
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import spock.lang.Specification
+import spock.lang.Tag
+
+import static io.myfinbox.expense.DataSamples.*
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+import static org.springframework.http.HttpStatus.OK
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY
+import static org.springframework.http.MediaType.APPLICATION_JSON
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@ApplicationModuleTest
+@TestPropertySource(locations = "/application-test.properties")
+class ExpenseBatchControllerSpec extends Specification {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    PublishedEvents events
+
+    @Autowired
+    TestRestTemplate restTemplate
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'expense_view', 'expenses', 'expense_category')
+    }
+
+    @Sql('/expense/web/expensecategory-create.sql')
+    def "should create a batch of expenses with per item results"() {
+        given: 'a batch with two valid expenses and one with an unknown category'
+        def request = JsonOutput.toJson([expenses: [
+                EXPENSE_RESOURCE,
+                EXPENSE_RESOURCE + [categoryId: categoryId2, amount: 10],
+                EXPENSE_RESOURCE + [categoryId: UUID.randomUUID()]
+        ]])
+
+        when: 'the batch is submitted'
+        def response = postExpenseBatch(request)
+
+        then: 'response status is ok'
+        assert response.getStatusCode() == OK
+
+        and: 'each expense has its own result in order'
+        def results = new JsonSlurper().parseText(response.getBody()).results
+        assert results*.index == [0, 1, 2]
+        assert results*.status == [201, 201, 404]
+        assert results[2].error.message == 'Category not found for the provided account.'
+
+        and: 'only valid expenses are stored'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'expenses') == 2
+
+        and: 'expense created events raised for the stored expenses'
+        assert events.ofType(ExpenseCreated.class).size() == 2
+    }
+
+    def "should fail batch creation when batch is empty"() {
+        when: 'an empty batch is submitted'
+        def response = postExpenseBatch(JsonOutput.toJson([expenses: []]))
+
+        then: 'response status is unprocessable entity'
+        assert response.getStatusCode() == UNPROCESSABLE_ENTITY
+
+        and: 'no expense is stored'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'expenses') == 0
+    }
+
+    private postExpenseBatch(String request) {
+        var headers = new HttpHeaders()
+        headers.setContentType(APPLICATION_JSON)
+
+        restTemplate.postForEntity('/v1/expenses:batch', new HttpEntity<>(request, headers), String.class)
+    }
+}
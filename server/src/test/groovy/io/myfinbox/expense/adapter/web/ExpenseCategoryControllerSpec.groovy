@@ -42,7 +42,7 @@ class ExpenseCategoryControllerSpec extends Specification {
     TestRestTemplate restTemplate
 
     def cleanup() {
-        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'expenses', 'expense_category')
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'expense_view', 'expenses', 'expense_category')
     }
 
     def "Should create a new category expense"() {
@@ -138,6 +138,45 @@ class ExpenseCategoryControllerSpec extends Specification {
         JSONAssert.assertEquals(newValidExpenseCategoryResourceList(), response.getBody(), LENIENT)
     }
 
+    @Sql('/expense/web/expensecategory-create.sql')
+    def "should list a created expense category after the categories were cached"() {
+        given: 'expense categories listed once'
+        listExpenseCategories(UUID.fromString(DataSamples.accountId))
+
+        when: 'a new expense category is created'
+        postExpenseCategory(newValidExpenseCategoryResource(name: 'Travel'))
+
+        then: 'the listing includes the new category'
+        def categories = new JsonSlurper().parseText(listExpenseCategories(UUID.fromString(DataSamples.accountId)).getBody() as String)
+        assert categories.size() == 3
+        assert categories.collect { it.name }.contains('Travel')
+    }
+
+    @Sql('/expense/web/expensecategory-create.sql')
+    def "should answer not modified when expense categories did not change since the provided ETag"() {
+        given: 'expense categories listed once'
+        def eTag = listExpenseCategories(UUID.fromString(DataSamples.accountId)).getHeaders().getETag()
+
+        when: 'expense categories are listed again with the received ETag'
+        def response = listExpenseCategories(UUID.fromString(DataSamples.accountId), eTag)
+
+        then: 'response status is not modified'
+        assert response.getStatusCode() == NOT_MODIFIED
+
+        and: 'the response has no body'
+        assert response.getBody() == null
+
+        when: 'an expense category is renamed'
+        putExpenseCategory(newValidExpenseCategoryResource(name: 'NEW name'))
+
+        and: 'expense categories are listed again with the received ETag'
+        response = listExpenseCategories(UUID.fromString(DataSamples.accountId), eTag)
+
+        then: 'response status is OK with a new ETag'
+        assert response.getStatusCode() == OK
+        assert response.getHeaders().getETag() != eTag
+    }
+
     private postExpenseCategory(String request) {
         restTemplate.postForEntity('/v1/expenses/category', entityRequest(request), String.class)
     }
@@ -160,16 +199,21 @@ class ExpenseCategoryControllerSpec extends Specification {
         )
     }
 
-    def listExpenseCategories(UUID accountId) {
+    def listExpenseCategories(UUID accountId, String eTag = null) {
         def uri = UriComponentsBuilder.fromUriString("${restTemplate.getRootUri()}/v1/expenses/category")
                 .queryParam("accountId", accountId)
                 .build()
                 .toUri()
 
+        var headers = new HttpHeaders()
+        if (eTag != null) {
+            headers.setIfNoneMatch(eTag)
+        }
+
         restTemplate.exchange(
                 uri,
                 HttpMethod.GET,
-                null,
+                new HttpEntity<>(headers),
                 String.class
         )
     }
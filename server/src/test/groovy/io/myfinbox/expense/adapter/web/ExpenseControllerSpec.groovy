@@ -2,6 +2,8 @@ package io.myfinbox.expense.adapter.web
 
 import groovy.json.JsonOutput
 import groovy.json.JsonSlurper
+import io.micrometer.core.instrument.MeterRegistry
+import io.myfinbox.QueryBudget
 import io.myfinbox.TestServerApplication
 import io.myfinbox.expense.ExpenseCreated
 import io.myfinbox.expense.ExpenseDeleted
@@ -37,6 +39,9 @@ import static org.springframework.http.MediaType.APPLICATION_JSON
 @TestPropertySource(locations = "/application-test.properties")
 class ExpenseControllerSpec extends Specification {
 
+    // cached category lookup, expense insert and one event publication per expense created listener
+    static final CREATE_STATEMENTS_BUDGET = 6
+
     @Autowired
     JdbcTemplate jdbcTemplate
 
@@ -46,8 +51,11 @@ class ExpenseControllerSpec extends Specification {
     @Autowired
     TestRestTemplate restTemplate
 
+    @Autowired
+    MeterRegistry meterRegistry
+
     def cleanup() {
-        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'expenses', 'expense_category')
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'expense_view', 'expenses', 'expense_category')
     }
 
     @Sql('/expense/web/expensecategory-create.sql')
@@ -56,7 +64,9 @@ class ExpenseControllerSpec extends Specification {
         var request = newValidExpenseResource()
 
         when: 'expense is created'
-        var response = postExpense(request)
+        var response = QueryBudget.of(meterRegistry, 'POST', '/v1/expenses').atMost(CREATE_STATEMENTS_BUDGET) {
+            postExpense(request)
+        }
 
         then: 'response status is created'
         assert response.getStatusCode() == CREATED
@@ -112,6 +122,7 @@ class ExpenseControllerSpec extends Specification {
         assert events.ofType(ExpenseUpdated.class).contains(
                 newSampleExpenseUpdatedCreatedEvent(
                         categoryId: categoryId2,
+                        version: 1,
                         paymentType: "CARD",
                         amount: [
                                 amount  : 50,
@@ -162,10 +173,69 @@ class ExpenseControllerSpec extends Specification {
         JSONAssert.assertEquals(expectedDeleteFailure(), response.getBody(), LENIENT)
     }
 
+    @Sql(['/expense/web/expensecategory-create.sql', '/expense/web/expenses-list-create.sql'])
+    def "should list expenses of an account page by page"() {
+        when: 'first page of two expenses is requested'
+        var firstPage = listExpenses("accountId=${accountId}&limit=2")
+
+        then: 'response status is ok'
+        assert firstPage.getStatusCode() == OK
+
+        and: 'latest expenses are returned first, ordered by date and id'
+        def firstBody = new JsonSlurper().parseText(firstPage.getBody())
+        assert firstBody.expenses*.expenseId == ['6bd32beb-5f79-409a-8c50-ecbd3593dc12', '3b257779-a5db-4e87-9365-72c6f8d4977d']
+        assert firstBody.nextCursor != null
+
+        when: 'next page is requested with the returned cursor'
+        var secondPage = listExpenses("accountId=${accountId}&limit=2&cursor=${firstBody.nextCursor}")
+
+        then: 'remaining expense is returned without a next cursor'
+        def secondBody = new JsonSlurper().parseText(secondPage.getBody())
+        assert secondBody.expenses*.expenseId == ['8a366e74-b4e3-4e64-a2a6-dce273ce332a']
+        assert secondBody.nextCursor == null
+    }
+
+    @Sql(['/expense/web/expensecategory-create.sql', '/expense/web/expenses-list-create.sql'])
+    def "should list expenses of an account within a date range"() {
+        when: 'expenses of a single day are requested'
+        var response = listExpenses("accountId=${accountId}&from=2024-03-20&to=2024-03-22")
+
+        then: 'response status is ok'
+        assert response.getStatusCode() == OK
+
+        and: 'only the expense within range is returned'
+        JSONAssert.assertEquals(JsonOutput.toJson([
+                expenses: [[
+                                   expenseId   : '8a366e74-b4e3-4e64-a2a6-dce273ce332a',
+                                   accountId   : accountId,
+                                   categoryId  : categoryId2,
+                                   paymentType : 'Cash',
+                                   amount      : 30.0,
+                                   currencyCode: 'EUR',
+                                   expenseDate : '2024-03-20',
+                                   description : 'Groceries',
+                                   categoryName: 'Other',
+                                   creationDate: '2024-03-20'
+                           ]]
+        ]), response.getBody(), LENIENT)
+    }
+
+    def "should fail listing expenses when request has validation failures"() {
+        when: 'expenses are listed without account and with an invalid limit'
+        var response = listExpenses("limit=0")
+
+        then: 'response has status code unprocessable entity'
+        assert response.getStatusCode() == UNPROCESSABLE_ENTITY
+    }
+
     def postExpense(String req) {
         restTemplate.postForEntity('/v1/expenses', entityRequest(req), String.class)
     }
 
+    def listExpenses(String query) {
+        restTemplate.getForEntity("/v1/expenses?${query}", String.class)
+    }
+
     def putExpense(String req) {
         restTemplate.exchange(
                 "/v1/expenses/${expenseId}",
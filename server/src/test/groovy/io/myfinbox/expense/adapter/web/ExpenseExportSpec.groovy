@@ -0,0 +1,122 @@
+package io.myfinbox.expense.adapter.web
+
+import io.myfinbox.ServerApplication
+import io.myfinbox.TestServerApplication
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.web.client.TestRestTemplate
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.Duration
+
+import static io.myfinbox.expense.DataSamples.accountId
+import static io.myfinbox.expense.DataSamples.categoryId
+import static java.nio.charset.StandardCharsets.UTF_8
+import static org.awaitility.Awaitility.await
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@TestPropertySource(locations = "/application-test.properties")
+class ExpenseExportSpec extends Specification {
+
+    static final int EXPORTED_ROWS = 1_000_000
+    // enough to serve requests, far below the few hundred megabytes the exported rows take once loaded
+    static final String MAX_HEAP = '-Xmx128m'
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    TestRestTemplate restTemplate
+
+    @Autowired
+    JdbcConnectionDetails connectionDetails
+
+    Process server
+
+    def cleanup() {
+        server?.destroy()
+        server?.waitFor()
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'expenses', 'expense_category')
+    }
+
+    @Sql('/expense/web/expensecategory-create.sql')
+    def "should stream a million expenses from a server with a bounded heap"() {
+        given: 'a million expenses of an account'
+        jdbcTemplate.update("""
+                INSERT INTO expenses (id, account_id, creation_timestamp, payment_type, amount, currency, expense_date, description, category_id)
+                SELECT gen_random_uuid(), ?, now(), 'CASH', 10.5, 'EUR', DATE '2020-01-01' + (i % 1500), 'Books buying', ?
+                  FROM generate_series(1, ?) AS i
+                """, UUID.fromString(accountId), UUID.fromString(categoryId), EXPORTED_ROWS)
+
+        and: 'a server running in its own JVM, exiting instead of degrading once out of memory'
+        def port = freePort()
+        server = startServer(port)
+
+        when: 'the csv export is read line by line'
+        def lines = 0
+        new URL("http://localhost:${port}/api/v1/expenses/export?accountId=${accountId}&format=csv").openStream()
+                .withReader(UTF_8.name()) { reader -> reader.eachLine { lines++ } }
+
+        then: 'all expenses and the header are streamed'
+        assert lines == EXPORTED_ROWS + 1
+
+        and: 'the server is still running'
+        assert server.alive
+    }
+
+    def "should fail export when format is not supported"() {
+        when: 'exporting expenses as xml'
+        def response = restTemplate.getForEntity("/v1/expenses/export?accountId=${accountId}&format=xml", String)
+
+        then: 'response status is unprocessable entity'
+        assert response.getStatusCode() == UNPROCESSABLE_ENTITY
+
+        and: 'the failure is rendered as json'
+        assert response.getBody().contains("Format must be 'csv' or 'ndjson'.")
+    }
+
+    private Process startServer(int port) {
+        def java = new File(System.getProperty('java.home'), 'bin/java').path
+        def process = new ProcessBuilder([java, MAX_HEAP, '-XX:+ExitOnOutOfMemoryError',
+                '-cp', System.getProperty('java.class.path'),
+                ServerApplication.name,
+                "--server.port=${port}",
+                "--spring.datasource.url=${connectionDetails.jdbcUrl}",
+                "--spring.datasource.username=${connectionDetails.username}",
+                "--spring.datasource.password=${connectionDetails.password}",
+                "--spring.flyway.user=${connectionDetails.username}",
+                "--spring.flyway.password=${connectionDetails.password}"]*.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(new File('target/expense-export-server.log'))
+                .start()
+
+        await().atMost(Duration.ofSeconds(60))
+                .pollInterval(Duration.ofMillis(500))
+                .until { !process.alive || healthy(port) }
+        assert process.alive
+
+        process
+    }
+
+    private static boolean healthy(int port) {
+        try {
+            def connection = new URL("http://localhost:${port}/api/actuator/health").openConnection() as HttpURLConnection
+            return connection.responseCode == 200
+        } catch (IOException ignored) {
+            return false
+        }
+    }
+
+    private static int freePort() {
+        new ServerSocket(0).withCloseable { it.localPort }
+    }
+}
@@ -0,0 +1,54 @@
+package io.myfinbox.expense.application
+
+import io.myfinbox.expense.domain.Expenses
+import io.myfinbox.shared.PaymentType
+import org.javamoney.moneta.Money
+import org.springframework.data.domain.Limit
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.LocalDate
+
+import static io.myfinbox.expense.DataSamples.*
+import static io.myfinbox.expense.application.CategoryExpenseQuery.CategoryExpenseRecord
+import static io.myfinbox.expense.application.CategoryExpenseQuery.Position
+
+@Tag("unit")
+class CategoryExpenseQueryServiceSpec extends Specification {
+
+    Expenses expenses
+    CategoryExpenseQueryService service
+
+    def setup() {
+        expenses = Mock()
+        service = new CategoryExpenseQueryService(expenses)
+    }
+
+    def "should return the first page of the category expenses"() {
+        when: 'paging without a position'
+        def page = service.pageAfter(UUID.fromString(categoryId), null, 2)
+
+        then: 'the first page of the category is read'
+        1 * expenses.findCategoryPage(UUID.fromString(categoryId), Limit.of(2)) >> [newSampleExpense()]
+        0 * expenses.findCategoryPageAfter(*_)
+
+        and: 'the expenses are returned with their category name'
+        assert page == [new CategoryExpenseRecord(UUID.fromString(expenseId), UUID.fromString(accountId),
+                UUID.fromString(categoryId), Money.of(amount, currency), LocalDate.parse(expenseDate), PaymentType.CASH, 'Bills')]
+        assert page.first().position() == new Position(LocalDate.parse(expenseDate), UUID.fromString(expenseId))
+    }
+
+    def "should return the category expenses following a position"() {
+        given: 'the position of the last expense of the previous page'
+        def position = new Position(LocalDate.parse(expenseDate), UUID.fromString(expenseId))
+
+        when: 'paging after the position'
+        def page = service.pageAfter(UUID.fromString(categoryId), position, 2)
+
+        then: 'the page following the position is read'
+        1 * expenses.findCategoryPageAfter(UUID.fromString(categoryId), LocalDate.parse(expenseDate),
+                UUID.fromString(expenseId), Limit.of(2)) >> []
+        0 * expenses.findCategoryPage(*_)
+        assert page.isEmpty()
+    }
+}
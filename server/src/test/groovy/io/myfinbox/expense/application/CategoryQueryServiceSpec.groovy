@@ -48,6 +48,17 @@ class CategoryQueryServiceSpec extends Specification {
         def categoryList = service.search(UUID.randomUUID())
 
         then: 'the result should be a list with one category'
-        assert categoryList.containsAll(newSampleCategory())
+        assert categoryList == [CategoryQuery.CategoryRecord.of(newSampleCategory())]
+    }
+
+    def "should get the version tag of the account categories"() {
+        setup: 'mock the repository to return a version tag for any account'
+        1 * categories.versionTagByAccount(_ as UUID) >> 'c4ca4238a0b923820dcc509a6f75849b'
+
+        when: 'computing the version tag of a random account'
+        def versionTag = service.versionTag(UUID.randomUUID())
+
+        then: 'the repository version tag is returned'
+        assert versionTag == 'c4ca4238a0b923820dcc509a6f75849b'
     }
 }
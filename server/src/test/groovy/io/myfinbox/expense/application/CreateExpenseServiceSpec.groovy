@@ -1,7 +1,7 @@
 package io.myfinbox.expense.application
 
-import io.myfinbox.expense.domain.AccountIdentifier
 import io.myfinbox.expense.domain.Categories
+import io.myfinbox.expense.domain.Category.CategoryIdentifier
 import io.myfinbox.expense.domain.Expense
 import io.myfinbox.expense.domain.Expenses
 import io.myfinbox.shared.Failure
@@ -9,9 +9,9 @@ import spock.lang.Specification
 import spock.lang.Tag
 
 import static io.myfinbox.expense.DataSamples.*
+import static io.myfinbox.expense.application.CreateExpenseService.BATCH_VALIDATION_FAILURE_MESSAGE
 import static io.myfinbox.expense.application.CreateExpenseService.CATEGORY_NOT_FOUND_MESSAGE
 import static io.myfinbox.expense.application.CreateExpenseService.VALIDATION_FAILURE_MESSAGE
-import static io.myfinbox.expense.domain.Category.CategoryIdentifier
 
 @Tag("unit")
 class CreateExpenseServiceSpec extends Specification {
@@ -163,8 +163,8 @@ class CreateExpenseServiceSpec extends Specification {
     }
 
     def "should fail expense creation when category is not found"() {
-        setup: 'repository mock behavior'
-        1 * categories.findByIdAndAccount(_ as CategoryIdentifier, _ as AccountIdentifier) >> Optional.empty()
+        setup: 'the category of the account is missing, deleted meanwhile or never created'
+        1 * categories.lockByIdAndAccount(UUID.fromString(categoryId), UUID.fromString(accountId)) >> false
 
         when: 'attempting to create an expense with a non-existing category'
         def either = service.create(newSampleExpenseCommand())
@@ -177,8 +177,11 @@ class CreateExpenseServiceSpec extends Specification {
     }
 
     def "should create an expense"() {
-        setup: 'repository mock behavior and interaction'
-        1 * categories.findByIdAndAccount(_ as CategoryIdentifier, _ as AccountIdentifier) >> Optional.of(newSampleCategory())
+        setup: 'the category of the account is confirmed and locked within the transaction'
+        1 * categories.lockByIdAndAccount(UUID.fromString(categoryId), UUID.fromString(accountId)) >> true
+
+        and: 'the category resolved within the transaction'
+        1 * categories.getReferenceById(new CategoryIdentifier(UUID.fromString(categoryId))) >> newSampleCategory()
 
         when: 'creating a new expense'
         def either = service.create(newSampleExpenseCommand())
@@ -195,4 +198,81 @@ class CreateExpenseServiceSpec extends Specification {
         and: 'expense is saved in the repository'
         1 * expenses.save(_ as Expense)
     }
+
+    def "should fail batch creation when batch is empty"() {
+        when: 'attempting to create an empty batch of expenses'
+        def either = service.createAll([])
+
+        then: 'a failure result is present'
+        assert either.isLeft()
+
+        and: 'the failure message indicates validation failure for the batch request'
+        assert either.getLeft() == Failure.ofValidation(BATCH_VALIDATION_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('expenses')
+                        .message('Expenses must contain between 1 and 100 items.')
+                        .rejectedValue(0)
+                        .build()
+        ])
+
+        and: 'nothing is saved'
+        0 * expenses._
+    }
+
+    def "should fail batch creation when batch exceeds the maximum size"() {
+        when: 'attempting to create a batch of 101 expenses'
+        def either = service.createAll((1..101).collect { newSampleExpenseCommand() })
+
+        then: 'a failure result is present'
+        assert either.isLeft()
+
+        and: 'the rejected value is the batch size'
+        assert either.getLeft().fieldViolations()*.rejectedValue() == [101]
+
+        and: 'categories are not queried'
+        0 * categories._
+    }
+
+    def "should create a batch of expenses with partial failures"() {
+        given: 'a valid command, an invalid command and a command of another account category'
+        def commands = [
+                newSampleExpenseCommand(),
+                newSampleExpenseCommand(amount: null),
+                newSampleExpenseCommand(categoryId: categoryId2)
+        ]
+
+        when: 'creating the batch of expenses'
+        def either = service.createAll(commands)
+
+        then: 'categories of valid commands are resolved in a single query'
+        1 * categories.lockByIdIn([UUID.fromString(categoryId), UUID.fromString(categoryId2)] as Set) >> [
+                newSampleCategory(),
+                newSampleCategory(id: [id: categoryId2], account: [id: UUID.randomUUID()])
+        ]
+
+        and: 'a result is present for each command in order'
+        assert either.isRight()
+        assert either.get().size() == 3
+
+        and: 'the first expense is created'
+        def created = either.get()[0].get()
+        assert created == newSampleExpense([
+                id               : [id: created.getId().toString()],
+                creationTimestamp: created.getCreationTimestamp().toString(),
+        ])
+
+        and: 'the second expense fails validation'
+        assert either.get()[1].getLeft() == Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('amount')
+                        .message('Amount cannot be null.')
+                        .build()
+        ])
+
+        and: 'the third expense category is not found for the account'
+        assert either.get()[2].getLeft() == Failure.ofNotFound(CATEGORY_NOT_FOUND_MESSAGE)
+
+        and: 'only the created expense is saved'
+        1 * expenses.saveAll({ it.size() == 1 })
+    }
 }
@@ -2,6 +2,8 @@ package io.myfinbox.expense.application
 
 import io.myfinbox.expense.domain.*
 import io.myfinbox.shared.Failure
+import org.springframework.cache.Cache
+import org.springframework.cache.CacheManager
 import spock.lang.Specification
 import spock.lang.Tag
 
@@ -17,12 +19,20 @@ class DefaultCategoryServiceSpec extends Specification {
 
     Categories categories
     Expenses expenses
+    ExpenseViews expenseViews
     CategoryService service
 
+    Cache cache
+
     def setup() {
         categories = Mock()
         expenses = Mock()
-        service = new DefaultCategoryService(categories, expenses)
+        expenseViews = Mock()
+        cache = Mock()
+        def cacheManager = Mock(CacheManager) {
+            getCache(CategoryQueryService.CATEGORIES_CACHE) >> cache
+        }
+        service = new DefaultCategoryService(categories, expenses, expenseViews, cacheManager)
     }
 
     def "should fail to create default categories when account is null"() {
@@ -133,6 +143,9 @@ class DefaultCategoryServiceSpec extends Specification {
 
         and: 'the category should be persisted in the repository'
         1 * categories.save(_ as Category)
+
+        and: 'the cached account categories are evicted'
+        1 * cache.evict(UUID.fromString(accountId))
     }
 
     def "should fail category update when accountId is null"() {
@@ -224,6 +237,7 @@ class DefaultCategoryServiceSpec extends Specification {
 
         and: 'no database save operation should be performed'
         0 * categories.save(_ as Category)
+        0 * expenseViews.renameCategory(*_)
     }
 
     def "should fail category update when name is duplicate"() {
@@ -246,8 +260,11 @@ class DefaultCategoryServiceSpec extends Specification {
         1 * categories.findByIdAndAccount(_ as Category.CategoryIdentifier, _ as AccountIdentifier) >> Optional.of(newSampleCategory())
         1 * categories.existsByNameAndAccount(_ as String, _ as AccountIdentifier) >> FALSE
 
+        and: 'a category identifier'
+        def categoryId = UUID.randomUUID()
+
         when: 'attempting to update an expense category with a new name'
-        def either = service.update(UUID.randomUUID(), newSampleExpenseCategoryCommand(name: 'Learning'))
+        def either = service.update(categoryId, newSampleExpenseCategoryCommand(name: 'Learning'))
 
         then: 'the expense category should be updated successfully'
         assert either.isRight()
@@ -257,6 +274,9 @@ class DefaultCategoryServiceSpec extends Specification {
 
         and: 'the updated category should be saved in the repository'
         1 * categories.save(_ as Category)
+
+        and: 'the category of the viewed expenses is renamed'
+        1 * expenseViews.renameCategory(categoryId, 'Learning')
     }
 
     def "should fail to delete category when category not found, categoryId is null"() {
@@ -315,6 +335,9 @@ class DefaultCategoryServiceSpec extends Specification {
 
         and: 'the category should be deleted from the repository'
         1 * categories.delete(_ as Category)
+
+        and: 'the cached account categories are evicted'
+        1 * cache.evict(UUID.fromString(accountId))
     }
 
     static randStr(int len) {
@@ -0,0 +1,198 @@
+package io.myfinbox.expense.application
+
+import io.myfinbox.shared.Failure
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.core.PreparedStatementCreator
+import org.springframework.jdbc.core.RowCallbackHandler
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.TransactionTimedOutException
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.sql.ResultSet
+import java.sql.Timestamp
+import java.time.Duration
+import java.time.Instant
+import java.time.LocalDate
+
+import static io.myfinbox.expense.application.ExpenseExportQuery.ExportFormat.CSV
+import static io.myfinbox.expense.application.ExpenseExportQuery.ExportFormat.NDJSON
+
+@Tag("unit")
+class ExpenseExportServiceSpec extends Specification {
+
+    JdbcTemplate jdbcTemplate
+    PlatformTransactionManager transactionManager
+    ExpenseExportService service
+
+    def setup() {
+        jdbcTemplate = Mock()
+        transactionManager = Mock()
+        service = new ExpenseExportService(jdbcTemplate, transactionManager, Duration.ofMinutes(5), 1)
+    }
+
+    def "should fail export when validation fails"() {
+        when: 'exporting with invalid arguments'
+        def either = service.export(null, LocalDate.parse('2024-03-23'), LocalDate.parse('2024-03-01'), 'xml')
+
+        then: 'validation failure is returned'
+        assert either.isLeft()
+        assert either.getLeft() == Failure.ofValidation(ExpenseExportService.VALIDATION_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('accountId')
+                        .message('AccountId cannot be null.')
+                        .build(),
+                Failure.FieldViolation.builder()
+                        .field('from')
+                        .message('From date must be before or equal to the to date.')
+                        .rejectedValue(LocalDate.parse('2024-03-23'))
+                        .build(),
+                Failure.FieldViolation.builder()
+                        .field('format')
+                        .message("Format must be 'csv' or 'ndjson'.")
+                        .rejectedValue('xml')
+                        .build()
+        ])
+
+        and: 'nothing is queried'
+        0 * jdbcTemplate._
+    }
+
+    def "should stream expenses as csv by default"() {
+        given: 'one expense row with a description to be escaped'
+        mockRows(expenseRow('Books, "used"'))
+
+        when: 'exporting expenses'
+        def either = service.export(UUID.randomUUID(), null, null, null)
+        def output = new ByteArrayOutputStream()
+        either.get().writer().writeTo(output)
+
+        then: 'csv format is selected'
+        assert either.get().format() == CSV
+
+        and: 'header and escaped row are written'
+        assert output.toString('UTF-8') == '''expenseId,expenseDate,amount,currencyCode,paymentType,category,description,creationTimestamp
+3b257779-a5db-4e87-9365-72c6f8d4977d,2024-03-23,10.5,EUR,Cash,Bills,"Books, ""used""",2024-03-23T10:00:04Z
+'''
+    }
+
+    def "should neutralize csv cells starting with a formula character"() {
+        given: 'one expense row with a description read as a formula by spreadsheets'
+        mockRows(expenseRow(description))
+
+        when: 'exporting expenses as csv'
+        def output = new ByteArrayOutputStream()
+        service.export(UUID.randomUUID(), null, null, 'csv').get().writer().writeTo(output)
+
+        then: 'the description is quoted and prefixed to be read as text'
+        assert output.toString('UTF-8').readLines()[1].split(',', 7)[6] == expected + ',2024-03-23T10:00:04Z'
+
+        where:
+        description               | expected
+        '=HYPERLINK("http://x")'  | '"\'=HYPERLINK(""http://x"")"'
+        '+1'                      | '"\'+1"'
+        '-1'                      | '"\'-1"'
+        '@SUM(A1)'                | '"\'@SUM(A1)"'
+        '\tTab'                  | '"\'\tTab"'
+        'Books = 2'               | 'Books = 2'
+    }
+
+    def "should stream expenses as newline delimited json"() {
+        given: 'two expense rows'
+        mockRows(expenseRow('Books'), expenseRow(null))
+
+        when: 'exporting expenses as ndjson'
+        def either = service.export(UUID.randomUUID(), LocalDate.parse('2024-03-01'), LocalDate.parse('2024-03-31'), 'ndjson')
+        def output = new ByteArrayOutputStream()
+        either.get().writer().writeTo(output)
+
+        then: 'ndjson format is selected'
+        assert either.get().format() == NDJSON
+
+        and: 'one json object is written per line'
+        assert output.toString('UTF-8').readLines() == [
+                '{"expenseId":"3b257779-a5db-4e87-9365-72c6f8d4977d","expenseDate":"2024-03-23","amount":10.5,"currencyCode":"EUR","paymentType":"Cash","category":"Bills","description":"Books","creationTimestamp":"2024-03-23T10:00:04Z"}',
+                '{"expenseId":"3b257779-a5db-4e87-9365-72c6f8d4977d","expenseDate":"2024-03-23","amount":10.5,"currencyCode":"EUR","paymentType":"Cash","category":"Bills","creationTimestamp":"2024-03-23T10:00:04Z"}'
+        ]
+    }
+
+    def "should stream within a read-only transaction bounded by the export timeout"() {
+        given: 'one expense row'
+        mockRows(expenseRow('Books'))
+
+        when: 'exporting expenses'
+        service.export(UUID.randomUUID(), null, null, 'csv').get().writer().writeTo(new ByteArrayOutputStream())
+
+        then: 'the transaction is read-only and times out with the export'
+        1 * transactionManager.getTransaction({ TransactionDefinition definition ->
+            definition.readOnly && definition.timeout == 300
+        })
+    }
+
+    def "should abort an export streaming past the timeout"() {
+        given: 'an export without time left'
+        service = new ExpenseExportService(jdbcTemplate, transactionManager, Duration.ZERO, 1)
+        mockRows(expenseRow('Books'))
+
+        when: 'exporting expenses'
+        service.export(UUID.randomUUID(), null, null, 'csv').get().writer().writeTo(new ByteArrayOutputStream())
+
+        then: 'the export is aborted'
+        thrown(TransactionTimedOutException)
+    }
+
+    def "should reject an export while the running exports are at the limit"() {
+        given: 'one expense row'
+        mockRows(expenseRow('Books'))
+
+        and: 'an export prepared but not written yet'
+        def running = service.export(UUID.randomUUID(), null, null, 'csv')
+
+        when: 'preparing another export'
+        def rejected = service.export(UUID.randomUUID(), null, null, 'csv')
+
+        then: 'too many requests failure is returned'
+        assert rejected.getLeft() == Failure.ofTooManyRequests(ExpenseExportService.TOO_MANY_EXPORTS_MESSAGE)
+
+        when: 'the running export is written'
+        running.get().writer().writeTo(new ByteArrayOutputStream())
+
+        then: 'a new export can run'
+        assert service.export(UUID.randomUUID(), null, null, 'csv').isRight()
+    }
+
+    def "should release the export permit when the export fails"() {
+        given: 'an export without time left'
+        service = new ExpenseExportService(jdbcTemplate, transactionManager, Duration.ZERO, 1)
+        mockRows(expenseRow('Books'))
+
+        when: 'the export is aborted'
+        service.export(UUID.randomUUID(), null, null, 'csv').get().writer().writeTo(new ByteArrayOutputStream())
+
+        then: 'the export fails'
+        thrown(TransactionTimedOutException)
+
+        and: 'a new export can run'
+        assert service.export(UUID.randomUUID(), null, null, 'csv').isRight()
+    }
+
+    private mockRows(ResultSet... rows) {
+        1 * jdbcTemplate.query(_ as PreparedStatementCreator, _ as RowCallbackHandler) >> { PreparedStatementCreator creator, RowCallbackHandler handler ->
+            rows.each { handler.processRow(it) }
+        }
+    }
+
+    private ResultSet expenseRow(String description) {
+        Stub(ResultSet) {
+            getString(1) >> '3b257779-a5db-4e87-9365-72c6f8d4977d'
+            getObject(2, LocalDate) >> LocalDate.parse('2024-03-23')
+            getBigDecimal(3) >> new BigDecimal('10.5000')
+            getString(4) >> 'EUR'
+            getString(5) >> 'CASH'
+            getString(6) >> 'Bills'
+            getString(7) >> description
+            getTimestamp(8) >> Timestamp.from(Instant.parse('2024-03-23T10:00:04Z'))
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.myfinbox.expense.application
+
+import io.myfinbox.expense.domain.AccountIdentifier
+import io.myfinbox.expense.domain.ExpenseViews
+import io.myfinbox.shared.Failure
+import org.springframework.data.domain.Limit
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.LocalDate
+
+import static io.myfinbox.expense.DataSamples.newSampleExpenseView
+
+@Tag("unit")
+class ExpenseQueryServiceSpec extends Specification {
+
+    ExpenseViews expenseViews
+    ExpenseQueryService service
+
+    def setup() {
+        expenseViews = Mock()
+        service = new ExpenseQueryService(expenseViews)
+    }
+
+    def "should fail search when validation fails"() {
+        when: 'searching with invalid arguments'
+        def either = service.search()
+                .withinDates(LocalDate.parse('2024-03-23'), LocalDate.parse('2024-03-01'))
+                .after('invalid-cursor')
+                .limit(101)
+                .page()
+
+        then: 'validation failure is returned'
+        assert either.isLeft()
+        assert either.getLeft() == Failure.ofValidation(ExpenseQueryService.VALIDATION_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('accountId')
+                        .message('AccountId cannot be null.')
+                        .build(),
+                Failure.FieldViolation.builder()
+                        .field('from')
+                        .message('From date must be before or equal to the to date.')
+                        .rejectedValue(LocalDate.parse('2024-03-23'))
+                        .build(),
+                Failure.FieldViolation.builder()
+                        .field('cursor')
+                        .message('Cursor is invalid.')
+                        .rejectedValue('invalid-cursor')
+                        .build(),
+                Failure.FieldViolation.builder()
+                        .field('limit')
+                        .message('Limit must be between 1 and 100.')
+                        .rejectedValue(101)
+                        .build()
+        ])
+
+        and: 'repository is not queried'
+        0 * expenseViews._
+    }
+
+    def "should get the first page with the default limit over an open date range"() {
+        given: 'one expense found'
+        1 * expenseViews.findPage(_ as AccountIdentifier, ExpenseQueryService.MIN_EXPENSE_DATE, ExpenseQueryService.MAX_EXPENSE_DATE,
+                Limit.of(ExpenseQuery.DEFAULT_LIMIT + 1)) >> [newSampleExpenseView()]
+
+        when: 'searching expenses of an account'
+        def either = service.search()
+                .withAccountId(UUID.randomUUID())
+                .page()
+
+        then: 'the last page is returned'
+        assert either.isRight()
+        assert either.get().expenses() == [newSampleExpenseView()]
+        assert either.get().nextCursor() == null
+    }
+
+    def "should return next cursor when more expenses exist"() {
+        given: 'one more expense than the page size found'
+        def first = newSampleExpenseView(id: UUID.randomUUID(), expenseDate: '2024-03-24')
+        def second = newSampleExpenseView(id: UUID.randomUUID(), expenseDate: '2024-03-23')
+        1 * expenseViews.findPage(_ as AccountIdentifier, LocalDate.parse('2024-03-01'), LocalDate.parse('2024-03-31'), Limit.of(2)) >> [
+                first, second
+        ]
+
+        when: 'searching expenses with a page size of one'
+        def either = service.search()
+                .withAccountId(UUID.randomUUID())
+                .withinDates(LocalDate.parse('2024-03-01'), LocalDate.parse('2024-03-31'))
+                .limit(1)
+                .page()
+
+        then: 'the page holds the first expense'
+        assert either.get().expenses() == [first]
+
+        and: 'the cursor points to the last expense of the page'
+        assert ExpenseCursor.decode(either.get().nextCursor()).get() == new ExpenseCursor(first.expenseDate, first.id)
+    }
+
+    def "should seek after the cursor position"() {
+        given: 'a cursor of a previous page'
+        def cursor = new ExpenseCursor(LocalDate.parse('2024-03-23'), UUID.randomUUID())
+
+        when: 'searching the next page'
+        def either = service.search()
+                .withAccountId(UUID.randomUUID())
+                .after(cursor.encode())
+                .page()
+
+        then: 'expenses are searched after the cursor position'
+        1 * expenseViews.findPageAfter(_ as UUID, ExpenseQueryService.MIN_EXPENSE_DATE, ExpenseQueryService.MAX_EXPENSE_DATE,
+                cursor.expenseDate(), cursor.expenseId(), Limit.of(ExpenseQuery.DEFAULT_LIMIT + 1)) >> []
+        0 * expenseViews.findPage(*_)
+
+        and: 'an empty last page is returned'
+        assert either.get().expenses().isEmpty()
+        assert either.get().nextCursor() == null
+    }
+}
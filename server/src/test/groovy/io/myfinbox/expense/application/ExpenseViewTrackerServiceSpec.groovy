@@ -0,0 +1,72 @@
+package io.myfinbox.expense.application
+
+import io.myfinbox.expense.domain.ExpenseViews
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.ZoneId
+
+@Tag("unit")
+class ExpenseViewTrackerServiceSpec extends Specification {
+
+    ExpenseViews expenseViews
+    ExpenseViewTrackerService service
+
+    def setup() {
+        expenseViews = Mock()
+        service = new ExpenseViewTrackerService(expenseViews)
+    }
+
+    def "should refresh the view of a modified expense"() {
+        given: 'an existing expense'
+        def expenseId = UUID.randomUUID()
+
+        when: 'the expense modification is recorded'
+        def recorded = service.recordModified(expenseId)
+
+        then: 'the view is refreshed from the expense'
+        1 * expenseViews.refresh(expenseId) >> 1
+
+        and: 'the view is reported as written'
+        assert recorded
+    }
+
+    def "should skip the view of a modified expense deleted meanwhile"() {
+        when: 'the modification of a no longer existing expense is recorded'
+        def recorded = service.recordModified(UUID.randomUUID())
+
+        then: 'nothing is refreshed'
+        1 * expenseViews.refresh(_ as UUID) >> 0
+
+        and: 'the view is reported as skipped'
+        assert !recorded
+    }
+
+    def "should remove the view of a deleted expense"() {
+        given: 'a viewed expense'
+        def expenseId = UUID.randomUUID()
+
+        when: 'the expense deletion is recorded'
+        def recorded = service.recordDeleted(expenseId)
+
+        then: 'the view is removed'
+        1 * expenseViews.remove(expenseId) >> 1
+
+        and: 'the view is reported as removed'
+        assert recorded
+    }
+
+    def "should record the account of the expense views and refresh them"() {
+        given: 'a created account'
+        def accountId = UUID.randomUUID()
+
+        when: 'the account creation is recorded'
+        service.recordAccountCreated(accountId, Currency.getInstance('MDL'), ZoneId.of('Europe/Chisinau'))
+
+        then: 'the account currency and zone are saved'
+        1 * expenseViews.saveAccount(accountId, 'MDL', 'Europe/Chisinau') >> 1
+
+        and: 'the views of the account expenses are refreshed'
+        1 * expenseViews.refreshAccount(accountId) >> 0
+    }
+}
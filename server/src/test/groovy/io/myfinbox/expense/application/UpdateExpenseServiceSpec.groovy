@@ -186,7 +186,7 @@ class UpdateExpenseServiceSpec extends Specification {
     def "should fail expense updating when expense category is not found"() {
         setup: 'a non-existing category in the database'
         1 * expenses.findByIdAndAccount(_ as ExpenseIdentifier, _ as AccountIdentifier) >> Optional.of(newSampleExpense())
-        1 * categories.findByIdAndAccount(_ as Category.CategoryIdentifier, _ as AccountIdentifier) >> Optional.empty()
+        1 * categories.lockByIdAndAccount(_ as UUID, UUID.fromString(accountId)) >> false
 
         when: 'attempting to update an expense with a non-existing category'
         def either = service.update(UUID.randomUUID(), newSampleExpenseCommand(categoryId: UUID.randomUUID()))
@@ -201,11 +201,13 @@ class UpdateExpenseServiceSpec extends Specification {
     def "should update an expense"() {
         setup: 'an existing expense in the database'
         1 * expenses.findByIdAndAccount(_ as ExpenseIdentifier, _ as AccountIdentifier) >> Optional.of(newSampleExpense())
-        1 * categories.findByIdAndAccount(_ as Category.CategoryIdentifier, _ as AccountIdentifier) >> Optional.of(newSampleCategory())
+        1 * categories.lockByIdAndAccount(UUID.fromString(categoryId2), UUID.fromString(accountId)) >> true
+        1 * categories.getReferenceById(new Category.CategoryIdentifier(UUID.fromString(categoryId2))) >>
+                newSampleCategory(id: [id: categoryId2], name: 'Other')
 
         when: 'updating an expense'
         def either = service.update(UUID.randomUUID(), newSampleExpenseCommand(
-                categoryId: UUID.randomUUID(),
+                categoryId: categoryId2,
                 paymentType: "Card",
                 amount: 50.0,
                 currencyCode: "USD",
@@ -225,6 +227,7 @@ class UpdateExpenseServiceSpec extends Specification {
                 ],
                 expenseDate: "2024-03-24",
                 description: "Other expenses",
+                category: CATEGORY + [id: [id: categoryId2], name: 'Other'],
         )
 
         and: 'expense is updated in the repository'
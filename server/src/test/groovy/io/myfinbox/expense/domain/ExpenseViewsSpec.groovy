@@ -0,0 +1,44 @@
+package io.myfinbox.expense.domain
+
+import io.myfinbox.TestServerApplication
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.LocalDate
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@TestPropertySource(locations = "/application-test.properties")
+class ExpenseViewsSpec extends Specification {
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbcTemplate
+
+    @Autowired
+    TransactionTemplate transactionTemplate
+
+    def "should seek the next expense page on the account date index"() {
+        when: 'the page following a position is explained, without sequential scans of the tiny test table'
+        def plan = transactionTemplate.execute {
+            jdbcTemplate.jdbcTemplate.execute('SET LOCAL enable_seqscan = off')
+            jdbcTemplate.queryForList("EXPLAIN ${ExpenseViews.PAGE_AFTER_QUERY} LIMIT 21", [
+                    accountId  : UUID.fromString('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca'),
+                    from       : LocalDate.parse('2024-01-01'),
+                    to         : LocalDate.parse('2024-12-31'),
+                    expenseDate: LocalDate.parse('2024-03-15'),
+                    expenseId  : UUID.fromString('3b257779-a5db-4e87-9365-72c6f8d4977d')
+            ], String.class).join('\n')
+        }
+
+        then: 'the position bounds the index scan instead of filtering every newer row'
+        assert plan.contains('search_expense_view_account_id_expense_date_id_idx')
+        assert plan.find(/Index Cond: .*ROW\(expense_date, id\) < /)
+    }
+}
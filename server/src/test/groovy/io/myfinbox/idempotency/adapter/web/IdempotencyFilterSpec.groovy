@@ -0,0 +1,275 @@
+package io.myfinbox.idempotency.adapter.web
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import groovy.json.JsonSlurper
+import io.myfinbox.idempotency.application.IdempotencyUseCase
+import io.myfinbox.idempotency.application.IdempotencyUseCase.IdempotentRequest
+import io.myfinbox.idempotency.application.IdempotencyUseCase.StoredResponse
+import io.myfinbox.shared.ApiFailureHandler
+import io.myfinbox.shared.Failure
+import io.vavr.control.Either
+import jakarta.servlet.FilterChain
+import jakarta.servlet.ReadListener
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.Duration
+
+import static io.myfinbox.idempotency.adapter.web.IdempotencyFilter.IDEMPOTENCY_KEY_HEADER
+import static io.myfinbox.idempotency.adapter.web.IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER
+import static java.nio.charset.StandardCharsets.UTF_8
+
+@Tag("unit")
+class IdempotencyFilterSpec extends Specification {
+
+    static REQUEST_BODY = '{"amount":10}'
+    static RESPONSE_BODY = '{"expenseId":"3b257779-a5db-4e87-9365-72c6f8d4977d"}'
+
+    IdempotencyUseCase idempotencyUseCase
+    FilterChain filterChain
+    IdempotencyFilter filter
+
+    def setup() {
+        idempotencyUseCase = Mock()
+        filterChain = Mock()
+        filter = new IdempotencyFilter(idempotencyUseCase, new ApiFailureHandler(),
+                new ObjectMapper().registerModule(new JavaTimeModule()), 64, 1024, Duration.ofSeconds(60))
+    }
+
+    def "should pass through requests without idempotency key"() {
+        given: 'a request without idempotency key'
+        def request = newRequest(null)
+
+        when: 'request is filtered'
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain)
+
+        then: 'request reaches the controller'
+        1 * filterChain.doFilter(request, _)
+
+        and: 'no key is reserved'
+        0 * idempotencyUseCase._
+    }
+
+    def "should store the response of the first request"() {
+        given: 'a request with idempotency key'
+        def response = new MockHttpServletResponse()
+
+        when: 'request is filtered'
+        filter.doFilter(newRequest('key-1'), response, filterChain)
+
+        then: 'the key is reserved'
+        1 * idempotencyUseCase.reserve({ IdempotentRequest it -> it.key() == 'key-1' && it.requestPath() == '/api/v1/expenses' }) >> Either.right(Optional.empty())
+
+        and: 'the controller reads the request body and creates the expense'
+        1 * filterChain.doFilter(_, _) >> { request, wrappedResponse ->
+            assert request.getInputStream().readAllBytes() == REQUEST_BODY.getBytes(UTF_8)
+            wrappedResponse.setStatus(201)
+            wrappedResponse.setContentType('application/json')
+            wrappedResponse.setHeader('Location', 'http://localhost/api/v1/expenses/3b257779-a5db-4e87-9365-72c6f8d4977d')
+            wrappedResponse.getOutputStream().write(RESPONSE_BODY.getBytes(UTF_8))
+        }
+
+        and: 'the response is stored'
+        1 * idempotencyUseCase.complete({ IdempotentRequest it -> it.key() == 'key-1' }, { StoredResponse it ->
+            it.status() == 201 && it.location().endsWith('3b257779-a5db-4e87-9365-72c6f8d4977d') && new String(it.body(), UTF_8) == RESPONSE_BODY
+        })
+
+        and: 'the response is sent to the client'
+        assert response.getStatus() == 201
+        assert response.getContentAsString() == RESPONSE_BODY
+    }
+
+    def "should replay the stored response"() {
+        given: 'a retried request'
+        def response = new MockHttpServletResponse()
+        1 * idempotencyUseCase.reserve(_) >> Either.right(Optional.of(new StoredResponse(201, 'application/json',
+                'http://localhost/api/v1/expenses/3b257779-a5db-4e87-9365-72c6f8d4977d', RESPONSE_BODY.getBytes(UTF_8))))
+
+        when: 'request is filtered'
+        filter.doFilter(newRequest('key-1'), response, filterChain)
+
+        then: 'request does not reach the controller'
+        0 * filterChain._
+
+        and: 'the stored response is replayed'
+        assert response.getStatus() == 201
+        assert response.getHeader(IDEMPOTENT_REPLAYED_HEADER) == 'true'
+        assert response.getHeader('Location').endsWith('3b257779-a5db-4e87-9365-72c6f8d4977d')
+        assert response.getContentAsString() == RESPONSE_BODY
+    }
+
+    def "should reject a request while the key is reserved"() {
+        given: 'a key reserved by a concurrent request'
+        def response = new MockHttpServletResponse()
+        1 * idempotencyUseCase.reserve(_) >> Either.left(Failure.ofConflict('A request with the same Idempotency-Key is being processed.'))
+
+        when: 'request is filtered'
+        filter.doFilter(newRequest('key-1'), response, filterChain)
+
+        then: 'request does not reach the controller'
+        0 * filterChain._
+
+        and: 'conflict is returned'
+        assert response.getStatus() == 409
+        assert new JsonSlurper().parseText(response.getContentAsString()).message == 'A request with the same Idempotency-Key is being processed.'
+    }
+
+    def "should release the key when the request fails with a server error"() {
+        when: 'request is filtered'
+        filter.doFilter(newRequest('key-1'), new MockHttpServletResponse(), filterChain)
+
+        then: 'the key is reserved'
+        1 * idempotencyUseCase.reserve(_) >> Either.right(Optional.empty())
+
+        and: 'the controller fails'
+        1 * filterChain.doFilter(_, _) >> { request, wrappedResponse -> wrappedResponse.setStatus(500) }
+
+        and: 'the key is released so the request can be retried'
+        1 * idempotencyUseCase.release({ IdempotentRequest it -> it.key() == 'key-1' })
+        0 * idempotencyUseCase.complete(*_)
+    }
+
+    def "should store the status and location of an oversized response without its body"() {
+        given: 'a response larger than the stored size'
+        def response = new MockHttpServletResponse()
+        def body = 'x' * 2048
+
+        when: 'request is filtered'
+        filter.doFilter(newRequest('key-1'), response, filterChain)
+
+        then: 'the key is reserved'
+        1 * idempotencyUseCase.reserve(_) >> Either.right(Optional.empty())
+
+        and: 'the controller creates the expense'
+        1 * filterChain.doFilter(_, _) >> { request, wrappedResponse ->
+            wrappedResponse.setStatus(201)
+            wrappedResponse.setContentType('application/json')
+            wrappedResponse.setHeader('Location', 'http://localhost/api/v1/expenses/3b257779-a5db-4e87-9365-72c6f8d4977d')
+            wrappedResponse.getOutputStream().write(body.getBytes(UTF_8))
+        }
+
+        and: 'the key is completed so retries are not processed again'
+        1 * idempotencyUseCase.complete({ IdempotentRequest it -> it.key() == 'key-1' }, { StoredResponse it ->
+            it.status() == 201 && it.location().endsWith('3b257779-a5db-4e87-9365-72c6f8d4977d') && it.body() == null
+        })
+        0 * idempotencyUseCase.release(_)
+
+        and: 'the whole response is sent to the client'
+        assert response.getContentAsString() == body
+    }
+
+    def "should replay the status and location of a response stored without body"() {
+        given: 'a retried request whose response body was not stored'
+        def response = new MockHttpServletResponse()
+        1 * idempotencyUseCase.reserve(_) >> Either.right(Optional.of(new StoredResponse(201, null,
+                'http://localhost/api/v1/expenses/3b257779-a5db-4e87-9365-72c6f8d4977d', null)))
+
+        when: 'request is filtered'
+        filter.doFilter(newRequest('key-1'), response, filterChain)
+
+        then: 'request does not reach the controller'
+        0 * filterChain._
+
+        and: 'the status and location are replayed'
+        assert response.getStatus() == 201
+        assert response.getHeader('Location').endsWith('3b257779-a5db-4e87-9365-72c6f8d4977d')
+        assert response.getContentLength() == 0
+    }
+
+    def "should reject a request body larger than the buffered size"() {
+        given: 'a request body larger than the buffered size'
+        def request = newRequest('key-1')
+        request.setContent(('{"description":"' + 'x' * 64 + '"}').getBytes(UTF_8))
+        def response = new MockHttpServletResponse()
+
+        when: 'request is filtered'
+        filter.doFilter(request, response, filterChain)
+
+        then: 'request does not reach the controller and no key is reserved'
+        0 * filterChain._
+        0 * idempotencyUseCase._
+
+        and: 'payload too large is returned'
+        assert response.getStatus() == 413
+        assert new JsonSlurper().parseText(response.getContentAsString()).message ==
+                'Request body of an idempotent request cannot exceed 64 bytes.'
+    }
+
+    def "should reject a chunked request body larger than the buffered size"() {
+        given: 'a request body larger than the buffered size without content length'
+        def request = new MockHttpServletRequest('POST', '/api/v1/expenses') {
+            @Override
+            long getContentLengthLong() {
+                -1
+            }
+        }
+        request.setContent(('{"description":"' + 'x' * 64 + '"}').getBytes(UTF_8))
+        request.addHeader(IDEMPOTENCY_KEY_HEADER, 'key-1')
+        def response = new MockHttpServletResponse()
+
+        when: 'request is filtered'
+        filter.doFilter(request, response, filterChain)
+
+        then: 'request does not reach the controller and no key is reserved'
+        0 * filterChain._
+        0 * idempotencyUseCase._
+
+        and: 'payload too large is returned'
+        assert response.getStatus() == 413
+    }
+
+    def "should notify a read listener of the buffered request body"() {
+        given: 'a read listener consuming the body as it becomes available'
+        def read = new ByteArrayOutputStream()
+        def events = []
+
+        when: 'request is filtered'
+        filter.doFilter(newRequest('key-1'), new MockHttpServletResponse(), filterChain)
+
+        then: 'the key is reserved'
+        1 * idempotencyUseCase.reserve(_) >> Either.right(Optional.empty())
+
+        and: 'the controller reads the body asynchronously'
+        1 * filterChain.doFilter(_, _) >> { request, wrappedResponse ->
+            def inputStream = request.getInputStream()
+            inputStream.setReadListener(new ReadListener() {
+
+                @Override
+                void onDataAvailable() {
+                    events << 'dataAvailable'
+                    while (inputStream.isReady() && !inputStream.isFinished()) {
+                        read.write(inputStream.read())
+                    }
+                }
+
+                @Override
+                void onAllDataRead() {
+                    events << 'allDataRead'
+                }
+
+                @Override
+                void onError(Throwable throwable) {
+                    events << 'error'
+                }
+            })
+            wrappedResponse.setStatus(201)
+        }
+
+        and: 'the whole body is read at once'
+        assert events == ['dataAvailable', 'allDataRead']
+        assert read.toByteArray() == REQUEST_BODY.getBytes(UTF_8)
+    }
+
+    static newRequest(String idempotencyKey) {
+        def request = new MockHttpServletRequest('POST', '/api/v1/expenses')
+        request.setContent(REQUEST_BODY.getBytes(UTF_8))
+        request.setContentType('application/json')
+        if (idempotencyKey != null) {
+            request.addHeader(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+        }
+        request
+    }
+}
@@ -0,0 +1,113 @@
+package io.myfinbox.idempotency.adapter.web
+
+import groovy.json.JsonOutput
+import io.myfinbox.TestServerApplication
+import io.myfinbox.idempotency.application.IdempotencyUseCase
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.web.client.TestRestTemplate
+import org.springframework.http.HttpEntity
+import org.springframework.http.HttpHeaders
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.sql.Timestamp
+import java.time.Instant
+
+import static io.myfinbox.expense.DataSamples.EXPENSE_RESOURCE
+import static io.myfinbox.idempotency.adapter.web.IdempotencyFilter.IDEMPOTENCY_KEY_HEADER
+import static io.myfinbox.idempotency.adapter.web.IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+import static org.springframework.http.HttpStatus.CREATED
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY
+import static org.springframework.http.MediaType.APPLICATION_JSON
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@TestPropertySource(locations = "/application-test.properties")
+class IdempotentExpenseCreationSpec extends Specification {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    TestRestTemplate restTemplate
+
+    @Autowired
+    IdempotencyUseCase idempotencyUseCase
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'idempotency_keys', 'expense_view', 'expenses', 'expense_category')
+    }
+
+    @Sql('/expense/web/expensecategory-create.sql')
+    def "should create the expense once when the request is retried with the same idempotency key"() {
+        given: 'a request with an idempotency key'
+        def request = JsonOutput.toJson(EXPENSE_RESOURCE)
+        def idempotencyKey = UUID.randomUUID().toString()
+
+        when: 'the request is sent twice'
+        def first = postExpense(request, idempotencyKey)
+        def retry = postExpense(request, idempotencyKey)
+
+        then: 'both responses are created'
+        assert first.getStatusCode() == CREATED
+        assert retry.getStatusCode() == CREATED
+
+        and: 'the retry replays the first response'
+        assert retry.getHeaders().getFirst(IDEMPOTENT_REPLAYED_HEADER) == 'true'
+        assert retry.getHeaders().getLocation() == first.getHeaders().getLocation()
+        assert retry.getBody() == first.getBody()
+
+        and: 'a single expense is persisted'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'expenses') == 1
+    }
+
+    @Sql('/expense/web/expensecategory-create.sql')
+    def "should reject a reused idempotency key with a different request"() {
+        given: 'an expense created with an idempotency key'
+        def idempotencyKey = UUID.randomUUID().toString()
+        postExpense(JsonOutput.toJson(EXPENSE_RESOURCE), idempotencyKey)
+
+        when: 'another expense is sent with the same key'
+        def response = postExpense(JsonOutput.toJson(EXPENSE_RESOURCE + [amount: 99]), idempotencyKey)
+
+        then: 'response has status code unprocessable entity'
+        assert response.getStatusCode() == UNPROCESSABLE_ENTITY
+
+        and: 'only the first expense is persisted'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'expenses') == 1
+    }
+
+    def "should purge expired idempotency keys"() {
+        given: 'an expired and a live idempotency key'
+        insertKey('expired', Instant.now().minusSeconds(60))
+        insertKey('live', Instant.now().plusSeconds(60))
+
+        when: 'expired keys are purged'
+        def purged = idempotencyUseCase.purgeExpired()
+
+        then: 'only the expired key is deleted'
+        assert purged == 1
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'idempotency_keys') == 1
+    }
+
+    def postExpense(String request, String idempotencyKey) {
+        def headers = new HttpHeaders()
+        headers.setContentType(APPLICATION_JSON)
+        headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+
+        restTemplate.postForEntity('/v1/expenses', new HttpEntity<>(request, headers), String.class)
+    }
+
+    def insertKey(String key, Instant expiresAt) {
+        jdbcTemplate.update('''
+                INSERT INTO idempotency_keys (request_path, idempotency_key, fingerprint, creation_timestamp, expires_at)
+                VALUES ('/api/v1/expenses', ?, 'fingerprint', ?, ?)
+                ''', key, Timestamp.from(Instant.now()), Timestamp.from(expiresAt))
+    }
+}
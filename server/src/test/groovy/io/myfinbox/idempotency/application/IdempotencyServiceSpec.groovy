@@ -0,0 +1,69 @@
+package io.myfinbox.idempotency.application
+
+import io.myfinbox.idempotency.application.IdempotencyUseCase.IdempotentRequest
+import io.myfinbox.idempotency.application.IdempotencyUseCase.StoredResponse
+import io.myfinbox.shared.Failure
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.core.RowMapper
+import org.springframework.util.unit.DataSize
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.Duration
+
+import static io.myfinbox.idempotency.application.IdempotencyService.COMPLETE_QUERY
+import static io.myfinbox.idempotency.application.IdempotencyService.RESERVE_QUERY
+
+@Tag("unit")
+class IdempotencyServiceSpec extends Specification {
+
+    static REQUEST = new IdempotentRequest('/v1/expenses', 'key-1', 'fingerprint')
+    static RESPONSE = new StoredResponse(201, 'application/json', '/v1/expenses/1', '{}'.bytes)
+
+    JdbcTemplate jdbcTemplate
+    IdempotencyService service
+
+    def setup() {
+        jdbcTemplate = Mock()
+        service = new IdempotencyService(jdbcTemplate, Duration.ofHours(24), Duration.ofMinutes(5),
+                Duration.ofSeconds(60), DataSize.ofMegabytes(1))
+    }
+
+    def "should replay a completed request from the cache"() {
+        given: 'the request is completed'
+        1 * jdbcTemplate.update(COMPLETE_QUERY, *_) >> 1
+        service.complete(REQUEST, RESPONSE)
+
+        when: 'the request is retried'
+        def replayed = service.reserve(REQUEST)
+
+        then: 'the response is replayed without hitting the database'
+        assert replayed.get() == Optional.of(RESPONSE)
+        0 * jdbcTemplate._
+    }
+
+    def "should not cache the response of a request no longer reserved"() {
+        given: 'the reservation was taken over before the request completed'
+        1 * jdbcTemplate.update(COMPLETE_QUERY, *_) >> 0
+        service.complete(REQUEST, RESPONSE)
+
+        when: 'the request is retried'
+        def replayed = service.reserve(REQUEST)
+
+        then: 'the stored state is read from the database'
+        1 * jdbcTemplate.update(RESERVE_QUERY, *_) >> 0
+        1 * jdbcTemplate.query(_ as String, _ as RowMapper, *_) >> []
+
+        and: 'the request is reported in progress'
+        assert replayed.getLeft() == Failure.ofConflict(IdempotencyService.IN_PROGRESS_MESSAGE)
+    }
+
+    def "should reject a reservation timeout not exceeding the request timeout"() {
+        when: 'creating the service with a reservation timeout below the request timeout'
+        new IdempotencyService(jdbcTemplate, Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofSeconds(60),
+                DataSize.ofMegabytes(1))
+
+        then: 'the configuration is rejected'
+        thrown(IllegalArgumentException)
+    }
+}
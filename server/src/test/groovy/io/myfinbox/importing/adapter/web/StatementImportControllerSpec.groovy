@@ -0,0 +1,100 @@
+package io.myfinbox.importing.adapter.web
+
+import groovy.json.JsonSlurper
+import io.myfinbox.TestServerApplication
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.web.client.TestRestTemplate
+import org.springframework.http.HttpEntity
+import org.springframework.http.HttpHeaders
+import org.springframework.http.MediaType
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import org.springframework.web.util.UriComponentsBuilder
+import spock.lang.Specification
+import spock.lang.Tag
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+import static org.springframework.http.HttpStatus.OK
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@TestPropertySource(locations = "/application-test.properties")
+class StatementImportControllerSpec extends Specification {
+
+    static accountId = 'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca'
+    static categoryId = '3b257779-a5db-4e87-9365-72c6f8d4977d'
+    static incomeSourceId = '3b257779-a5db-4e87-9365-72c6f8d4977d'
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    TestRestTemplate restTemplate
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'expense_view', 'expenses', 'expense_category', 'incomes', 'income_source')
+    }
+
+    @Sql(['/expense/web/expensecategory-create.sql', '/income/web/incomesource-create.sql'])
+    def "should import a csv statement into expenses and incomes"() {
+        given: 'a statement with 250 debits, one credit and one invalid line'
+        def lines = (1..250).collect { "2024-03-23,-${it},Card,Expense ${it}" }
+        lines << '2024-03-24,5000,Cash,Salary'
+        lines << '2024-03-25,-10,Crypto,Unknown payment type'
+        def statement = "date,amount,paymentType,description\n${lines.join('\n')}\n"
+
+        when: 'statement is imported'
+        def response = importStatement(statement, 'csv')
+
+        then: 'response status is ok'
+        assert response.getStatusCode() == OK
+
+        and: 'the report counts imported and failed lines'
+        def report = new JsonSlurper().parseText(response.getBody())
+        assert report.processedLines == 252
+        assert report.importedExpenses == 250
+        assert report.importedIncomes == 1
+        assert report.failedLines == 1
+        assert report.committedBatches == 4
+        assert !report.interrupted
+        assert report.failures.size() == 1
+        assert report.failures[0].line == 253
+        assert report.failures[0].status == 422
+
+        and: 'expenses and incomes are persisted'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'expenses') == 250
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'incomes') == 1
+    }
+
+    def "should fail import when format is not supported"() {
+        when: 'statement is imported with an unknown format'
+        def response = importStatement('date,amount\n', 'qif')
+
+        then: 'response has status code unprocessable entity'
+        assert response.getStatusCode() == UNPROCESSABLE_ENTITY
+
+        and: 'response body points to the format'
+        def failure = new JsonSlurper().parseText(response.getBody())
+        assert failure.errors*.field == ['format']
+    }
+
+    def importStatement(String statement, String format) {
+        def uri = UriComponentsBuilder.fromUriString("${restTemplate.getRootUri()}/v1/imports/statements")
+                .queryParam('accountId', accountId)
+                .queryParam('categoryId', categoryId)
+                .queryParam('incomeSourceId', incomeSourceId)
+                .queryParam('currencyCode', 'MDL')
+                .queryParam('format', format)
+                .build()
+                .toUri()
+
+        def headers = new HttpHeaders()
+        headers.setContentType(MediaType.valueOf('text/csv'))
+
+        restTemplate.postForEntity(uri, new HttpEntity<>(statement, headers), String.class)
+    }
+}
@@ -0,0 +1,256 @@
+package io.myfinbox.importing.application
+
+import io.myfinbox.expense.application.CreateExpenseUseCase
+import io.myfinbox.expense.application.ExpenseCommand
+import io.myfinbox.importing.application.StatementImportUseCase.ImportCommand
+import io.myfinbox.importing.application.StatementImportUseCase.ImportProgress
+import io.myfinbox.income.application.CreateIncomeUseCase
+import io.myfinbox.income.application.IncomeCommand
+import io.myfinbox.shared.Failure
+import io.vavr.control.Either
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.LocalDate
+
+import static io.myfinbox.importing.application.StatementImportService.BATCH_SIZE
+import static io.myfinbox.importing.application.StatementImportService.VALIDATION_FAILURE_MESSAGE
+import static io.myfinbox.importing.application.StatementLine.PARSE_FAILURE_MESSAGE
+import static java.nio.charset.StandardCharsets.UTF_8
+
+@Tag("unit")
+class StatementImportServiceSpec extends Specification {
+
+    static accountId = UUID.fromString('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca')
+    static categoryId = UUID.fromString('3b257779-a5db-4e87-9365-72c6f8d4977d')
+    static incomeSourceId = UUID.fromString('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca')
+
+    CreateExpenseUseCase createExpenseUseCase
+    CreateIncomeUseCase createIncomeUseCase
+    StatementImportService service
+
+    def setup() {
+        createExpenseUseCase = Mock()
+        createIncomeUseCase = Mock()
+        service = new StatementImportService(createExpenseUseCase, createIncomeUseCase)
+    }
+
+    def "should fail import when validation fails"() {
+        when: 'importing without an account and with an unknown format'
+        def either = service.importStatement(ImportCommand.builder().format('qif').build(), statementOf(''), {})
+
+        then: 'validation failure is returned'
+        assert either.isLeft()
+        assert either.getLeft() == Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('accountId')
+                        .message('AccountId cannot be null.')
+                        .build(),
+                Failure.FieldViolation.builder()
+                        .field('format')
+                        .message("Format must be 'csv' or 'ofx'.")
+                        .rejectedValue('qif')
+                        .build()
+        ])
+
+        and: 'nothing is imported'
+        0 * createExpenseUseCase._
+        0 * createIncomeUseCase._
+    }
+
+    def "should fail import when csv header misses required columns"() {
+        when: 'importing a csv statement without an amount column'
+        def either = service.importStatement(command('csv'), statementOf('date,description\n2024-03-23,Coffee\n'), {})
+
+        then: 'validation failure is returned'
+        assert either.getLeft() == Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('statement')
+                        .message("Statement header must contain 'date' and 'amount' columns.")
+                        .rejectedValue('date,description')
+                        .build()
+        ])
+
+        and: 'nothing is imported'
+        0 * createExpenseUseCase._
+        0 * createIncomeUseCase._
+    }
+
+    def "should import csv debits as expenses and credits as incomes"() {
+        given: 'a statement with a debit, a credit, an unparsable line and a quoted multi line description'
+        def statement = '''Date,Amount,Currency,Description
+2024-03-23,-10.50,EUR,Coffee
+2024-03-24,2500,,Salary
+24/03/2024,abc,EUR,Broken
+
+2024-03-25,-3,EUR,"Bread, ""fresh""
+and milk"
+'''
+        def progress = []
+
+        when: 'statement is imported'
+        def either = service.importStatement(command('csv'), statementOf(statement), { progress << it })
+
+        then: 'debits are created as expenses in a single batch'
+        1 * createExpenseUseCase.createAll([
+                expenseCommand(amount: 10.50, expenseDate: LocalDate.parse('2024-03-23'), description: 'Coffee'),
+                expenseCommand(amount: 3, expenseDate: LocalDate.parse('2024-03-25'), description: 'Bread, "fresh"\nand milk'),
+        ]) >> Either.right([Either.right(null), Either.left(Failure.ofNotFound('Category not found.'))])
+
+        and: 'credits are created as incomes with the default currency'
+        1 * createIncomeUseCase.createAll([
+                IncomeCommand.builder()
+                        .accountId(accountId)
+                        .incomeSourceId(incomeSourceId)
+                        .paymentType('Card')
+                        .amount(2500 as BigDecimal)
+                        .currencyCode('MDL')
+                        .incomeDate(LocalDate.parse('2024-03-24'))
+                        .description('Salary')
+                        .build()
+        ]) >> Either.right([Either.right(null)])
+
+        and: 'the report counts imported and failed lines'
+        assert either.get().totals() == new ImportProgress(4, 1, 1, 2, 2)
+        assert !either.get().interrupted()
+
+        and: 'failures point to the statement lines'
+        assert either.get().failures()*.line() == [4, 6]
+        assert either.get().failures()[0].failure() == Failure.ofValidation(PARSE_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('date')
+                        .message('Date must be in ISO 8601 format (YYYY-MM-DD).')
+                        .rejectedValue('24/03/2024')
+                        .build(),
+                Failure.FieldViolation.builder()
+                        .field('amount')
+                        .message('Amount must be a number.')
+                        .rejectedValue('abc')
+                        .build()
+        ])
+        assert either.get().failures()[1].failure() == Failure.ofNotFound('Category not found.')
+
+        and: 'progress is reported after each batch'
+        assert progress == [new ImportProgress(4, 1, 0, 2, 1), new ImportProgress(4, 1, 1, 2, 2)]
+    }
+
+    def "should import ofx transactions"() {
+        given: 'an sgml ofx statement'
+        def statement = '''OFXHEADER:100
+DATA:OFXSGML
+
+<OFX>
+<BANKMSGSRSV1><STMTTRNRS><STMTRS>
+<CURDEF>EUR
+<BANKTRANLIST>
+<STMTTRN>
+<TRNTYPE>DEBIT
+<DTPOSTED>20240323120000.000[+2:EET]
+<TRNAMT>-42.10
+<NAME>Grocery &amp; Co
+</STMTTRN>
+<STMTTRN>
+<TRNTYPE>CREDIT
+<DTPOSTED>20240324
+<TRNAMT>100
+<MEMO>Refund
+</STMTTRN>
+</BANKTRANLIST>
+</STMTRS></STMTTRNRS></BANKMSGSRSV1>
+</OFX>
+'''
+
+        when: 'statement is imported'
+        def either = service.importStatement(command('ofx'), statementOf(statement), {})
+
+        then: 'the debit is created as expense in the statement currency'
+        1 * createExpenseUseCase.createAll([
+                expenseCommand(amount: 42.10, currencyCode: 'EUR', expenseDate: LocalDate.parse('2024-03-23'), description: 'Grocery & Co')
+        ]) >> Either.right([Either.right(null)])
+
+        and: 'the credit is created as income'
+        1 * createIncomeUseCase.createAll({ List<IncomeCommand> commands ->
+            commands*.description == ['Refund'] && commands*.currencyCode == ['EUR']
+        }) >> Either.right([Either.right(null)])
+
+        and: 'both transactions are imported'
+        assert either.get().totals() == new ImportProgress(2, 1, 1, 0, 2)
+    }
+
+    def "should commit expenses in bounded batches"() {
+        given: 'a statement with more debits than a batch'
+        def lines = (1..BATCH_SIZE * 2 + 1).collect { "2024-03-23,-${it}" }
+        def statement = "date,amount\n${lines.join('\n')}"
+
+        when: 'statement is imported'
+        def either = service.importStatement(command('csv'), statementOf(statement), {})
+
+        then: 'expenses are created in batches not larger than the batch size'
+        2 * createExpenseUseCase.createAll({ it.size() == BATCH_SIZE }) >> { List<List> args -> Either.right(args[0].collect { Either.right(null) }) }
+        1 * createExpenseUseCase.createAll({ it.size() == 1 }) >> { List<List> args -> Either.right(args[0].collect { Either.right(null) }) }
+        0 * createIncomeUseCase._
+
+        and: 'all lines are imported'
+        assert either.get().totals() == new ImportProgress(BATCH_SIZE * 2 + 1, BATCH_SIZE * 2 + 1, 0, 0, 3)
+    }
+
+    def "should fail every line of a rejected batch"() {
+        given: 'a statement with two debits'
+        def statement = 'date,amount\n2024-03-23,-1\n2024-03-24,-2\n'
+
+        when: 'statement is imported'
+        def either = service.importStatement(command('csv'), statementOf(statement), {})
+
+        then: 'the batch is rejected as a whole'
+        1 * createExpenseUseCase.createAll(_) >> Either.left(Failure.ofValidation('Validation failed for the batch expense create request.', []))
+
+        and: 'both lines are reported as failed, no batch is committed'
+        assert either.get().totals() == new ImportProgress(2, 0, 0, 2, 0)
+        assert either.get().failures()*.line() == [2, 3]
+    }
+
+    def "should report the batches committed before an interruption"() {
+        given: 'a statement with more debits than a batch'
+        def lines = (1..BATCH_SIZE * 2 + 1).collect { "2024-03-23,-${it}" }
+        def statement = "date,amount\n${lines.join('\n')}"
+        def progress = []
+
+        when: 'statement is imported'
+        def either = service.importStatement(command('csv'), statementOf(statement), { progress << it })
+
+        then: 'the first batch is committed and the second one fails unexpectedly'
+        2 * createExpenseUseCase.createAll(_) >>> [Either.right((1..BATCH_SIZE).collect { Either.right(null) })] >>
+                { throw new IllegalStateException('connection lost') }
+
+        and: 'the import is reported as interrupted after the committed batch'
+        assert either.get().interrupted()
+        assert either.get().totals() == new ImportProgress(BATCH_SIZE * 2, BATCH_SIZE, 0, 0, 1)
+        assert progress == [new ImportProgress(BATCH_SIZE, BATCH_SIZE, 0, 0, 1)]
+    }
+
+    static command(String format) {
+        ImportCommand.builder()
+                .accountId(accountId)
+                .categoryId(categoryId)
+                .incomeSourceId(incomeSourceId)
+                .currencyCode('MDL')
+                .format(format)
+                .build()
+    }
+
+    static expenseCommand(Map overrides) {
+        ExpenseCommand.builder()
+                .accountId(accountId)
+                .categoryId(categoryId)
+                .paymentType('Card')
+                .amount(overrides.amount as BigDecimal)
+                .currencyCode(overrides.currencyCode ?: 'EUR')
+                .expenseDate(overrides.expenseDate as LocalDate)
+                .description(overrides.description as String)
+                .build()
+    }
+
+    static statementOf(String content) {
+        new ByteArrayInputStream(content.getBytes(UTF_8))
+    }
+}
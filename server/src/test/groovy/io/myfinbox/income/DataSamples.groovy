@@ -69,12 +69,14 @@ class DataSamples {
     ]
 
     static INCOME_EVENT = [
-            incomeId      : incomeId,
-            accountId     : accountId,
-            incomeSourceId: incomeSourceId,
-            paymentType   : "CASH",
-            amount        : AMOUNT,
-            incomeDate    : incomeDate,
+            incomeId        : incomeId,
+            accountId       : accountId,
+            incomeSourceId  : incomeSourceId,
+            paymentType     : "CASH",
+            amount          : AMOUNT,
+            incomeDate      : incomeDate,
+            incomeSourceName: name,
+            version         : 0,
     ]
 
     static INCOME_SOURCE_RESOURCE = [
@@ -0,0 +1,91 @@
+package io.myfinbox.income.adapter.web
+
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import io.myfinbox.TestServerApplication
+import io.myfinbox.income.IncomeCreated
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.web.client.TestRestTemplate
+import org.springframework.http.HttpEntity
+import org.springframework.http.HttpHeaders
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.modulith.test.ApplicationModuleTest
+import org.springframework.modulith.test.PublishedEvents
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import spock.lang.Specification
+import spock.lang.Tag
+
+import static io.myfinbox.income.DataSamples.*
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+import static org.springframework.http.HttpStatus.OK
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY
+import static org.springframework.http.MediaType.APPLICATION_JSON
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@ApplicationModuleTest
+@TestPropertySource(locations = "/application-test.properties")
+class IncomeBatchControllerSpec extends Specification {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    PublishedEvents events
+
+    @Autowired
+    TestRestTemplate restTemplate
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'incomes', 'income_source')
+    }
+
+    @Sql('/income/web/incomesource-create.sql')
+    def "should create a batch of incomes with per item results"() {
+        given: 'a batch with two valid incomes and one with an unknown income source'
+        def request = JsonOutput.toJson([incomes: [
+                INCOME_RESOURCE,
+                INCOME_RESOURCE + [incomeSourceId: incomeSourceId2, amount: 10],
+                INCOME_RESOURCE + [incomeSourceId: UUID.randomUUID()]
+        ]])
+
+        when: 'the batch is submitted'
+        def response = postIncomeBatch(request)
+
+        then: 'response status is ok'
+        assert response.getStatusCode() == OK
+
+        and: 'each income has its own result in order'
+        def results = new JsonSlurper().parseText(response.getBody()).results
+        assert results*.index == [0, 1, 2]
+        assert results*.status == [201, 201, 404]
+        assert results[2].error.message == 'Income source not found for the provided account.'
+
+        and: 'only valid incomes are stored'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'incomes') == 2
+
+        and: 'income created events raised for the stored incomes'
+        assert events.ofType(IncomeCreated.class).size() == 2
+    }
+
+    def "should fail batch creation when batch is empty"() {
+        when: 'an empty batch is submitted'
+        def response = postIncomeBatch(JsonOutput.toJson([incomes: []]))
+
+        then: 'response status is unprocessable entity'
+        assert response.getStatusCode() == UNPROCESSABLE_ENTITY
+
+        and: 'no income is stored'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'incomes') == 0
+    }
+
+    private postIncomeBatch(String request) {
+        var headers = new HttpHeaders()
+        headers.setContentType(APPLICATION_JSON)
+
+        restTemplate.postForEntity('/v1/incomes:batch', new HttpEntity<>(request, headers), String.class)
+    }
+}
@@ -113,6 +113,8 @@ class IncomeControllerSpec extends Specification {
         assert events.ofType(IncomeUpdated.class).contains(
                 newValidIncomeUpdatedEvent(
                         incomeSourceId: incomeSourceId2,
+                        incomeSourceName: 'Other',
+                        version: 1,
                         paymentType: "CARD",
                         amount: [
                                 amount  : 50,
@@ -1,7 +1,7 @@
 package io.myfinbox.income.application
 
-import io.myfinbox.income.domain.AccountIdentifier
 import io.myfinbox.income.domain.Income
+import io.myfinbox.income.domain.IncomeSource.IncomeSourceIdentifier
 import io.myfinbox.income.domain.IncomeSources
 import io.myfinbox.income.domain.Incomes
 import io.myfinbox.shared.Failure
@@ -9,9 +9,9 @@ import spock.lang.Specification
 import spock.lang.Tag
 
 import static io.myfinbox.income.DataSamples.*
+import static io.myfinbox.income.application.CreateIncomeService.BATCH_VALIDATION_FAILURE_MESSAGE
 import static io.myfinbox.income.application.CreateIncomeService.INCOME_SOURCE_NOT_FOUND_MESSAGE
 import static io.myfinbox.income.application.CreateIncomeService.VALIDATION_FAILURE_MESSAGE
-import static io.myfinbox.income.domain.IncomeSource.IncomeSourceIdentifier
 
 @Tag("unit")
 class CreateIncomeServiceSpec extends Specification {
@@ -163,8 +163,8 @@ class CreateIncomeServiceSpec extends Specification {
     }
 
     def "should fail income creation when income source is not found"() {
-        setup: 'repository mock behavior'
-        1 * incomeSources.findByIdAndAccount(_ as IncomeSourceIdentifier, _ as AccountIdentifier) >> Optional.empty()
+        setup: 'the income source of the account is missing, deleted meanwhile or never created'
+        1 * incomeSources.lockByIdAndAccount(UUID.fromString(incomeSourceId), UUID.fromString(accountId)) >> false
 
         when: 'attempting to create an income with a non-existing income source'
         def either = service.create(newValidIncomeCommand())
@@ -177,8 +177,11 @@ class CreateIncomeServiceSpec extends Specification {
     }
 
     def "should create an income"() {
-        setup: 'repository mock behavior and interaction'
-        1 * incomeSources.findByIdAndAccount(_ as IncomeSourceIdentifier, _ as AccountIdentifier) >> Optional.of(newSampleIncomeSource())
+        setup: 'the income source of the account is confirmed and locked within the transaction'
+        1 * incomeSources.lockByIdAndAccount(UUID.fromString(incomeSourceId), UUID.fromString(accountId)) >> true
+
+        and: 'the income source resolved within the transaction'
+        1 * incomeSources.getReferenceById(new IncomeSourceIdentifier(UUID.fromString(incomeSourceId))) >> newSampleIncomeSource()
 
         when: 'creating a new income'
         def either = service.create(newValidIncomeCommand())
@@ -195,4 +198,67 @@ class CreateIncomeServiceSpec extends Specification {
         and: 'income is saved in the repository'
         1 * incomes.save(_ as Income)
     }
+
+    def "should fail batch creation when batch is empty"() {
+        when: 'attempting to create an empty batch of incomes'
+        def either = service.createAll([])
+
+        then: 'a failure result is present'
+        assert either.isLeft()
+
+        and: 'the failure message indicates validation failure for the batch request'
+        assert either.getLeft() == Failure.ofValidation(BATCH_VALIDATION_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('incomes')
+                        .message('Incomes must contain between 1 and 500 items.')
+                        .rejectedValue(0)
+                        .build()
+        ])
+
+        and: 'nothing is saved'
+        0 * incomes._
+    }
+
+    def "should create a batch of incomes with partial failures"() {
+        given: 'a valid command, an invalid command and a command of another account income source'
+        def commands = [
+                newValidIncomeCommand(),
+                newValidIncomeCommand(incomeDate: null),
+                newValidIncomeCommand(incomeSourceId: incomeSourceId2)
+        ]
+
+        when: 'creating the batch of incomes'
+        def either = service.createAll(commands)
+
+        then: 'income sources of valid commands are resolved in a single query'
+        1 * incomeSources.lockByIdIn([UUID.fromString(incomeSourceId), UUID.fromString(incomeSourceId2)] as Set) >> [
+                newSampleIncomeSource(),
+                newSampleIncomeSource(id: [id: incomeSourceId2], account: [id: UUID.randomUUID()])
+        ]
+
+        and: 'a result is present for each command in order'
+        assert either.isRight()
+        assert either.get().size() == 3
+
+        and: 'the first income is created'
+        def created = either.get()[0].get()
+        assert created == newSampleIncome([
+                id               : [id: created.getId().toString()],
+                creationTimestamp: created.getCreationTimestamp().toString(),
+        ])
+
+        and: 'the second income fails validation'
+        assert either.get()[1].getLeft() == Failure.ofValidation(VALIDATION_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('incomeDate')
+                        .message('IncomeDate cannot be null.')
+                        .build()
+        ])
+
+        and: 'the third income source is not found for the account'
+        assert either.get()[2].getLeft() == Failure.ofNotFound(INCOME_SOURCE_NOT_FOUND_MESSAGE)
+
+        and: 'only the created income is saved'
+        1 * incomes.saveAll({ it.size() == 1 })
+    }
 }
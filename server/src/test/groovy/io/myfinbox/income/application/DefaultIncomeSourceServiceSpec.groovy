@@ -2,6 +2,8 @@ package io.myfinbox.income.application
 
 import io.myfinbox.income.domain.*
 import io.myfinbox.shared.Failure
+import org.springframework.cache.Cache
+import org.springframework.cache.CacheManager
 import spock.lang.Specification
 import spock.lang.Tag
 
@@ -19,10 +21,16 @@ class DefaultIncomeSourceServiceSpec extends Specification {
     Incomes incomes
     IncomeSourceService service
 
+    Cache cache
+
     def setup() {
         incomeSources = Mock()
         incomes = Mock()
-        service = new DefaultIncomeSourceService(incomeSources, incomes)
+        cache = Mock()
+        def cacheManager = Mock(CacheManager) {
+            getCache(IncomeSourceQueryService.INCOME_SOURCES_CACHE) >> cache
+        }
+        service = new DefaultIncomeSourceService(incomeSources, incomes, cacheManager)
     }
 
     def "should fail create default income sources when account is null"() {
@@ -127,6 +135,9 @@ class DefaultIncomeSourceServiceSpec extends Specification {
 
         and: 'the income source should be persisted in the repository'
         1 * incomeSources.save(_ as IncomeSource)
+
+        and: 'the cached account income sources are evicted'
+        1 * cache.evict(UUID.fromString(accountId))
     }
 
     def "should fail income source update when accountId is null"() {
@@ -309,6 +320,9 @@ class DefaultIncomeSourceServiceSpec extends Specification {
 
         and: 'the income source should be deleted from the repository'
         1 * incomeSources.delete(_ as IncomeSource)
+
+        and: 'the cached account income sources are evicted'
+        1 * cache.evict(UUID.fromString(accountId))
     }
 
     static randStr(int len) {
@@ -48,6 +48,17 @@ class IncomeSourceQueryServiceSpec extends Specification {
         def incomeSourcesList = service.search(UUID.randomUUID())
 
         then: 'the result should be a list with one income source'
-        assert incomeSourcesList.containsAll(newSampleIncomeSource())
+        assert incomeSourcesList == [IncomeSourceQuery.IncomeSourceRecord.of(newSampleIncomeSource())]
+    }
+
+    def "should get the version tag of the account income sources"() {
+        setup: 'mock the repository to return a version tag for any account'
+        1 * incomeSources.versionTagByAccount(_ as UUID) >> 'c4ca4238a0b923820dcc509a6f75849b'
+
+        when: 'computing the version tag of a random account'
+        def versionTag = service.versionTag(UUID.randomUUID())
+
+        then: 'the repository version tag is returned'
+        assert versionTag == 'c4ca4238a0b923820dcc509a6f75849b'
     }
 }
@@ -188,7 +188,7 @@ class UpdateIncomeServiceSpec extends Specification {
     def "should fail income updating when income source is not found"() {
         setup: 'repository mock behavior'
         1 * incomes.findByIdAndAccount(_ as Income.IncomeIdentifier, _ as AccountIdentifier) >> Optional.of(newSampleIncome())
-        1 * incomeSources.findByIdAndAccount(_ as IncomeSource.IncomeSourceIdentifier, _ as AccountIdentifier) >> Optional.empty()
+        1 * incomeSources.lockByIdAndAccount(_ as UUID, UUID.fromString(accountId)) >> false
 
         when: 'attempting to update an income with a non-existing income source'
         def either = service.update(UUID.randomUUID(), newValidIncomeCommand(incomeSourceId: UUID.randomUUID()))
@@ -203,11 +203,13 @@ class UpdateIncomeServiceSpec extends Specification {
     def "should update an income"() {
         setup: 'repository mock behavior and interaction'
         1 * incomes.findByIdAndAccount(_ as Income.IncomeIdentifier, _ as AccountIdentifier) >> Optional.of(newSampleIncome())
-        1 * incomeSources.findByIdAndAccount(_ as IncomeSource.IncomeSourceIdentifier, _ as AccountIdentifier) >> Optional.of(newSampleIncomeSource())
+        1 * incomeSources.lockByIdAndAccount(UUID.fromString(incomeSourceId2), UUID.fromString(accountId)) >> true
+        1 * incomeSources.getReferenceById(new IncomeSource.IncomeSourceIdentifier(UUID.fromString(incomeSourceId2))) >>
+                newSampleIncomeSource(id: [id: incomeSourceId2], name: 'Other')
 
         when: 'updating a new income'
         def either = service.update(UUID.randomUUID(), newValidIncomeCommand(
-                incomeSourceId: UUID.randomUUID(),
+                incomeSourceId: incomeSourceId2,
                 paymentType: "Card",
                 amount: 50.0,
                 currencyCode: "USD",
@@ -225,8 +227,9 @@ class UpdateIncomeServiceSpec extends Specification {
                         amount  : 50.0,
                         currency: "USD"
                 ],
-                incomeDate : "2024-03-24",
-                description: "Other expenses",
+                incomeDate  : "2024-03-24",
+                description : "Other expenses",
+                incomeSource: INCOME_SOURCE + [id: [id: incomeSourceId2], name: 'Other'],
         ])
 
         and: 'income is updated in the repository'
@@ -0,0 +1,124 @@
+package io.myfinbox.load
+
+import groovy.util.logging.Slf4j
+import io.myfinbox.TestServerApplication
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.web.server.LocalServerPort
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import spock.lang.Specification
+
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+import static io.myfinbox.expense.DataSamples.accountId
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+
+/**
+ * Drives a blocking JDBC read endpoint with a growing number of concurrent clients and logs the achieved
+ * throughput and latencies, compare the reports of the platform and virtual threads specs.
+ * Run with {@code ./mvnw verify -Pload-test}.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@TestPropertySource(locations = "/application-test.properties", properties = [
+        "spring.datasource.hikari.connection-timeout=30000",
+        "logging.level.root=warn"
+])
+abstract class ConcurrencyLoadSpec extends Specification {
+
+    static final int REQUESTS_PER_CLIENT = 50
+
+    @LocalServerPort
+    int port
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build()
+
+    abstract String mode()
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'expense_view', 'expenses', 'expense_category')
+    }
+
+    @Sql(['/expense/web/expensecategory-create.sql', '/expense/web/expenses-list-create.sql'])
+    def "should serve #clients concurrent clients"() {
+        when: 'every client sends its requests back to back'
+        def report = run(clients)
+
+        then: 'all requests succeed'
+        assert report.failures == 0
+
+        cleanup: 'report the achieved concurrency'
+        log.warn('{} threads, {} clients: {} req/s, p50 {} ms, p99 {} ms', mode(), clients,
+                report.throughput, report.percentile(50), report.percentile(99))
+
+        where:
+        clients << [50, 200, 800]
+    }
+
+    private LoadReport run(int clients) {
+        def request = HttpRequest.newBuilder(URI.create("http://localhost:${port}/api/v1/expenses?accountId=${accountId}"))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build()
+
+        def started = System.nanoTime()
+        def latencies = Collections.synchronizedList(new ArrayList<Long>())
+        def failures = 0
+
+        try (def executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            def futures = (1..clients).collect {
+                executor.submit({
+                    def failed = 0
+                    REQUESTS_PER_CLIENT.times {
+                        def sent = System.nanoTime()
+                        def response = httpClient.send(request, HttpResponse.BodyHandlers.discarding())
+                        latencies << (System.nanoTime() - sent)
+                        if (response.statusCode() != 200) {
+                            failed++
+                        }
+                    }
+                    return failed
+                } as Callable<Integer>)
+            }
+            failures = futures.sum { it.get() } as int
+        }
+
+        new LoadReport(latencies.sort(), System.nanoTime() - started, failures)
+    }
+
+    static class LoadReport {
+
+        final List<Long> latencies
+        final long elapsedNanos
+        final int failures
+
+        LoadReport(List<Long> latencies, long elapsedNanos, int failures) {
+            this.latencies = latencies
+            this.elapsedNanos = elapsedNanos
+            this.failures = failures
+        }
+
+        long getThroughput() {
+            latencies.size() * 1_000_000_000L / elapsedNanos
+        }
+
+        long percentile(int percentile) {
+            def index = Math.max(0, Math.ceil(latencies.size() * percentile / 100d) as int - 1)
+            Duration.ofNanos(latencies[index]).toMillis()
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.myfinbox.load
+
+import spock.lang.Tag
+
+@Tag("load")
+class PlatformThreadsLoadSpec extends ConcurrencyLoadSpec {
+
+    @Override
+    String mode() {
+        'platform'
+    }
+}
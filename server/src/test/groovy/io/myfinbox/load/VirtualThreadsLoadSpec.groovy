@@ -0,0 +1,14 @@
+package io.myfinbox.load
+
+import org.springframework.test.context.ActiveProfiles
+import spock.lang.Tag
+
+@Tag("load")
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsLoadSpec extends ConcurrencyLoadSpec {
+
+    @Override
+    String mode() {
+        'virtual'
+    }
+}
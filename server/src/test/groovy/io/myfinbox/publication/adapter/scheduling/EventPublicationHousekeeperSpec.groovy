@@ -0,0 +1,51 @@
+package io.myfinbox.publication.adapter.scheduling
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.myfinbox.publication.application.EventPublicationHousekeepingUseCase
+import io.myfinbox.publication.application.EventPublicationHousekeepingUseCase.Backlog
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+@Tag("unit")
+class EventPublicationHousekeeperSpec extends Specification {
+
+    EventPublicationHousekeepingUseCase housekeepingUseCase
+    SimpleMeterRegistry meterRegistry
+    EventPublicationHousekeeper housekeeper
+
+    def setup() {
+        housekeepingUseCase = Mock()
+        meterRegistry = new SimpleMeterRegistry()
+        housekeeper = new EventPublicationHousekeeper(housekeepingUseCase, meterRegistry)
+    }
+
+    def "should sample the incomplete publications backlog into gauges"() {
+        given: 'three incomplete publications, the oldest published two minutes ago'
+        1 * housekeepingUseCase.backlog() >> new Backlog(3, Duration.ofMinutes(2))
+
+        when: 'the backlog is sampled'
+        housekeeper.sampleBacklog()
+
+        then: 'the gauges expose the backlog'
+        assert meterRegistry.get(EventPublicationHousekeeper.BACKLOG_GAUGE).gauge().value() == 3
+        assert meterRegistry.get(EventPublicationHousekeeper.LAG_GAUGE).timeGauge().value(TimeUnit.SECONDS) == 120
+    }
+
+    def "should resubmit stale and purge completed publications"() {
+        when: 'housekeeping runs'
+        housekeeper.housekeep()
+
+        then: 'stale publications are resubmitted'
+        1 * housekeepingUseCase.resubmitStale() >> 2
+
+        and: 'completed publications are purged'
+        1 * housekeepingUseCase.purgeCompleted() >> 1500
+
+        and: 'counters are increased'
+        assert meterRegistry.get(EventPublicationHousekeeper.RESUBMITTED_COUNTER).counter().count() == 2
+        assert meterRegistry.get(EventPublicationHousekeeper.PURGED_COUNTER).counter().count() == 1500
+    }
+}
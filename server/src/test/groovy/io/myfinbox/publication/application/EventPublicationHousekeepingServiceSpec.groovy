@@ -0,0 +1,108 @@
+package io.myfinbox.publication.application
+
+import io.myfinbox.TestServerApplication
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.jdbc.JdbcTestUtils
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.sql.Timestamp
+import java.time.Duration
+import java.time.Instant
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@TestPropertySource(locations = "/application-test.properties", properties = "event-publication.completed.retention=1d")
+class EventPublicationHousekeepingServiceSpec extends Specification {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    EventPublicationHousekeepingUseCase housekeepingUseCase
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'event_publication')
+    }
+
+    def "should purge only the publications completed before the retention"() {
+        given: 'publications completed two days ago, completed an hour ago and incomplete'
+        (1..3).each { insertPublication(Instant.now().minus(Duration.ofDays(3)), Instant.now().minus(Duration.ofDays(2))) }
+        insertPublication(Instant.now().minus(Duration.ofHours(2)), Instant.now().minus(Duration.ofHours(1)))
+        insertPublication(Instant.now().minus(Duration.ofDays(3)), null)
+
+        when: 'completed publications are purged'
+        def purged = housekeepingUseCase.purgeCompleted()
+
+        then: 'the publications completed past the retention are purged'
+        assert purged == 3
+
+        and: 'the recently completed and the incomplete publications are kept'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'event_publication') == 2
+    }
+
+    def "should compute the incomplete publications backlog"() {
+        given: 'two incomplete publications, the oldest published ten minutes ago, and a completed one'
+        insertPublication(Instant.now().minus(Duration.ofMinutes(10)), null)
+        insertPublication(Instant.now().minus(Duration.ofMinutes(1)), null)
+        insertPublication(Instant.now().minus(Duration.ofDays(1)), Instant.now())
+
+        when: 'the backlog is computed'
+        def backlog = housekeepingUseCase.backlog()
+
+        then: 'the incomplete publications are counted'
+        assert backlog.incomplete() == 2
+
+        and: 'the lag is the age of the oldest incomplete publication'
+        assert backlog.lag() >= Duration.ofMinutes(10)
+        assert backlog.lag() < Duration.ofMinutes(11)
+    }
+
+    def "should not resubmit when no incomplete publication is stale"() {
+        given: 'a recently published incomplete publication'
+        insertPublication(Instant.now().minus(Duration.ofMinutes(1)), null)
+
+        expect: 'nothing is resubmitted'
+        assert housekeepingUseCase.resubmitStale() == 0
+    }
+
+    def "should skip the purge while another instance holds its lock"() {
+        given: 'a publication completed two days ago'
+        insertPublication(Instant.now().minus(Duration.ofDays(3)), Instant.now().minus(Duration.ofDays(2)))
+
+        and: 'another instance purging'
+        def connection = jdbcTemplate.dataSource.connection
+        connection.createStatement().execute(
+                "SELECT pg_advisory_lock(hashtextextended('${EventPublicationHousekeepingService.PURGE_LOCK}', 0))")
+
+        when: 'completed publications are purged'
+        def purged = housekeepingUseCase.purgeCompleted()
+
+        then: 'nothing is purged'
+        assert purged == 0
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'event_publication') == 1
+
+        cleanup: 'the pooled connection keeps its session, release the lock'
+        connection.createStatement().execute(
+                "SELECT pg_advisory_unlock(hashtextextended('${EventPublicationHousekeepingService.PURGE_LOCK}', 0))")
+        connection.close()
+    }
+
+    private insertPublication(Instant publicationDate, Instant completionDate) {
+        jdbcTemplate.update('''
+                INSERT INTO event_publication (id, listener_id, event_type, serialized_event, publication_date, completion_date)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ''',
+                UUID.randomUUID(),
+                'io.myfinbox.spendingplan.adapter.messaging.ExpenseEventsListener.on(io.myfinbox.expense.ExpenseCreated)',
+                'io.myfinbox.expense.ExpenseCreated',
+                "{\"expenseId\":\"${UUID.randomUUID()}\"}".toString(),
+                Timestamp.from(publicationDate),
+                completionDate ? Timestamp.from(completionDate) : null)
+    }
+}
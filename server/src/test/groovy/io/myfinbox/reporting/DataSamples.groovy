@@ -0,0 +1,84 @@
+package io.myfinbox.reporting
+
+import com.fasterxml.jackson.databind.json.JsonMapper
+import groovy.json.JsonOutput
+import io.myfinbox.reporting.application.CashFlowTrackerUseCase.CashFlowRecord
+import io.myfinbox.reporting.domain.CashFlowEntry
+import io.myfinbox.reporting.domain.MonthlyCashFlow
+import io.myfinbox.reporting.domain.MonthlyCashFlowBreakdown
+
+class DataSamples {
+
+    static MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .build()
+
+    static transactionId = "3b257779-a5db-4e87-9365-72c6f8d4977d"
+    static accountId = "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca"
+    static categoryId = "a6993312-2e45-43e4-b965-9edc88da7a00"
+    static incomeId = "6f0b4c44-1c2d-4a5e-9d3a-7b8c9d0e1f2a"
+    static incomeSourceId = "8a366e74-b4e3-4e64-a2a6-dce273ce332a"
+    static categoryName = 'Clothing'
+    static incomeSourceName = 'Salary'
+    static amount = 100.00
+    static currency = 'EUR'
+    static entryDate = '2024-03-23'
+    static period = '2024-03-01'
+
+    static AMOUNT = [
+            amount  : amount,
+            currency: currency
+    ]
+
+    static CASH_FLOW_ENTRY = [
+            id        : [id: transactionId],
+            flowType  : 'EXPENSE',
+            accountId : [id: accountId],
+            sourceId  : categoryId,
+            sourceName: categoryName,
+            amount    : AMOUNT,
+            entryDate : entryDate,
+    ]
+
+    static CASH_FLOW_RECORD = [
+            transactionId: transactionId,
+            flowType     : 'EXPENSE',
+            accountId    : accountId,
+            sourceId     : categoryId,
+            sourceName   : categoryName,
+            amount       : AMOUNT,
+            date         : entryDate,
+            version      : 0,
+    ]
+
+    static MONTHLY_CASH_FLOW = [
+            id          : [accountId: accountId, period: period, currency: currency],
+            totalIncome : 1500.00,
+            incomeCount : 1,
+            totalExpense: 250.00,
+            expenseCount: 2,
+    ]
+
+    static MONTHLY_CASH_FLOW_BREAKDOWN = [
+            id         : [accountId: accountId, period: period, currency: currency, flowType: 'EXPENSE', sourceId: categoryId],
+            sourceName : categoryName,
+            totalAmount: 250.00,
+            entryCount : 2,
+    ]
+
+    static newSampleCashFlowEntry(map = [:]) {
+        MAPPER.readValue(JsonOutput.toJson(CASH_FLOW_ENTRY + map) as String, CashFlowEntry.class)
+    }
+
+    static newSampleCashFlowRecord(map = [:]) {
+        MAPPER.readValue(JsonOutput.toJson(CASH_FLOW_RECORD + map) as String, CashFlowRecord.class)
+    }
+
+    static newSampleMonthlyCashFlow(map = [:]) {
+        MAPPER.readValue(JsonOutput.toJson(MONTHLY_CASH_FLOW + map) as String, MonthlyCashFlow.class)
+    }
+
+    static newSampleMonthlyCashFlowBreakdown(map = [:]) {
+        MAPPER.readValue(JsonOutput.toJson(MONTHLY_CASH_FLOW_BREAKDOWN + map) as String, MonthlyCashFlowBreakdown.class)
+    }
+}
@@ -0,0 +1,177 @@
+package io.myfinbox.reporting.adapter.messaging
+
+import io.myfinbox.TestServerApplication
+import io.myfinbox.expense.ExpenseCreated
+import io.myfinbox.expense.ExpenseDeleted
+import io.myfinbox.expense.ExpenseUpdated
+import io.myfinbox.income.IncomeCreated
+import io.myfinbox.reporting.domain.MonthlyCashFlow
+import io.myfinbox.reporting.domain.MonthlyCashFlows
+import io.myfinbox.shared.PaymentType
+import org.javamoney.moneta.Money
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.context.TestConfiguration
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Import
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.modulith.test.ApplicationModuleTest
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.jdbc.JdbcTestUtils
+import org.springframework.transaction.annotation.Transactional
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.Duration
+import java.time.LocalDate
+
+import static io.myfinbox.reporting.DataSamples.*
+import static io.myfinbox.reporting.domain.MonthlyCashFlow.CashFlowIdentifier
+import static org.awaitility.Awaitility.await
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@ApplicationModuleTest
+@Import(Config)
+@TestPropertySource(locations = "/application-test.properties")
+class CashFlowEventsListenerSpec extends Specification {
+
+    @Autowired
+    Runnable eventProducer
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    MonthlyCashFlows monthlyCashFlows
+
+    static Object payload
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'cash_flow_entry', 'monthly_cash_flow_breakdown', 'monthly_cash_flow')
+    }
+
+    def "should roll up received income and expense events"() {
+        when: 'an income and an expense are created'
+        publish(IncomeCreated.builder()
+                .incomeId(UUID.fromString(incomeId))
+                .accountId(UUID.fromString(accountId))
+                .incomeSourceId(UUID.fromString(incomeSourceId))
+                .amount(Money.of(1500, currency))
+                .incomeDate(LocalDate.parse(entryDate))
+                .paymentType(PaymentType.CARD)
+                .incomeSourceName(incomeSourceName)
+                .build())
+        publish(expenseCreated(100.00))
+
+        then: 'the monthly cash flow holds both within 5 seconds'
+        awaitCashFlow { it.incomeCount == 1 && it.expenseCount == 1 }
+
+        and: 'the income source is named from the event'
+        assert jdbcTemplate.queryForObject("SELECT source_name FROM server.monthly_cash_flow_breakdown WHERE flow_type = 'INCOME'",
+                String) == incomeSourceName
+
+        when: 'the expense is updated'
+        publish(expenseUpdated(40, 1))
+
+        then: 'the expense total is replaced, not added'
+        awaitCashFlow { it.expense == Money.of(40, currency) && it.expenseCount == 1 && it.net == Money.of(1460, currency) }
+
+        when: 'the expense is deleted'
+        publish(expenseDeleted(40, 1))
+
+        then: 'the expense is withdrawn'
+        awaitCashFlow { it.expenseCount == 0 && it.net == Money.of(1500, currency) }
+    }
+
+    def "should ignore events of an expense received out of order"() {
+        when: 'the updated event arrives before the created one'
+        publish(expenseUpdated(40, 1))
+        publish(expenseCreated(100.00))
+
+        then: 'the updated amount is rolled up'
+        awaitCashFlow { it.expense == Money.of(40, currency) && it.expenseCount == 1 }
+
+        when: 'the expense is deleted and its created event is resubmitted'
+        publish(expenseDeleted(40, 1))
+        publish(expenseCreated(100.00))
+
+        then: 'no phantom entry is left once both events are handled'
+        await().atMost(Duration.ofSeconds(5))
+                .until { JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, 'event_publication',
+                        "completion_date IS NULL AND listener_id LIKE 'io.myfinbox.reporting.%'") == 0 }
+        awaitCashFlow { it.expenseCount == 0 && it.expense == Money.of(0, currency) }
+        assert JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, 'cash_flow_entry', 'deleted = FALSE') == 0
+    }
+
+    def expenseCreated(BigDecimal value) {
+        ExpenseCreated.builder()
+                .expenseId(UUID.fromString(transactionId))
+                .accountId(UUID.fromString(accountId))
+                .categoryId(UUID.fromString(categoryId))
+                .amount(Money.of(value, currency))
+                .expenseDate(LocalDate.parse(entryDate))
+                .paymentType(PaymentType.CASH)
+                .categoryName(categoryName)
+                .build()
+    }
+
+    def expenseUpdated(BigDecimal value, long version) {
+        ExpenseUpdated.builder()
+                .expenseId(UUID.fromString(transactionId))
+                .accountId(UUID.fromString(accountId))
+                .categoryId(UUID.fromString(categoryId))
+                .amount(Money.of(value, currency))
+                .expenseDate(LocalDate.parse(entryDate))
+                .paymentType(PaymentType.CASH)
+                .categoryName(categoryName)
+                .version(version)
+                .build()
+    }
+
+    def expenseDeleted(BigDecimal value, long version) {
+        ExpenseDeleted.builder()
+                .expenseId(UUID.fromString(transactionId))
+                .accountId(UUID.fromString(accountId))
+                .categoryId(UUID.fromString(categoryId))
+                .amount(Money.of(value, currency))
+                .expenseDate(LocalDate.parse(entryDate))
+                .paymentType(PaymentType.CASH)
+                .categoryName(categoryName)
+                .version(version)
+                .build()
+    }
+
+    def publish(Object event) {
+        payload = event
+        eventProducer.run()
+    }
+
+    def awaitCashFlow(Closure<Boolean> condition) {
+        def id = new CashFlowIdentifier(UUID.fromString(accountId), LocalDate.parse(period), currency)
+        await().atMost(Duration.ofSeconds(5))
+                .until {
+                    Optional<MonthlyCashFlow> cashFlow = monthlyCashFlows.findById(id)
+                    cashFlow.isPresent() && condition(cashFlow.get())
+                }
+        true
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        Runnable eventProducer(ApplicationEventPublisher eventPublisher) {
+            return new Runnable() {
+
+                @Override
+                @Transactional
+                void run() {
+                    eventPublisher.publishEvent(payload)
+                }
+            }
+        }
+    }
+}
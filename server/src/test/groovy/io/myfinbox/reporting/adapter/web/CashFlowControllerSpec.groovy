@@ -0,0 +1,102 @@
+package io.myfinbox.reporting.adapter.web
+
+import groovy.json.JsonOutput
+import io.myfinbox.TestServerApplication
+import org.skyscreamer.jsonassert.JSONAssert
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.web.client.TestRestTemplate
+import org.springframework.http.HttpMethod
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.modulith.test.ApplicationModuleTest
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import org.springframework.web.util.UriComponentsBuilder
+import spock.lang.Specification
+import spock.lang.Tag
+
+import static io.myfinbox.reporting.DataSamples.*
+import static org.skyscreamer.jsonassert.JSONCompareMode.LENIENT
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+import static org.springframework.http.HttpStatus.OK
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@ApplicationModuleTest
+@TestPropertySource(locations = "/application-test.properties")
+class CashFlowControllerSpec extends Specification {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    TestRestTemplate restTemplate
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'monthly_cash_flow_breakdown', 'monthly_cash_flow')
+    }
+
+    @Sql('/reporting/web/monthly-cash-flow-create.sql')
+    def "should get the monthly cash flow of an account"() {
+        when: 'getting the cash flow of March 2024'
+        def response = getMonthlyCashFlow(accountId, '2024-03')
+
+        then: 'the response status is "OK"'
+        assert response.getStatusCode() == OK
+
+        and: 'the response body contains the rollup with its breakdowns'
+        JSONAssert.assertEquals(expectedMonthlyCashFlow(), response.getBody(), LENIENT)
+    }
+
+    @Sql('/reporting/web/monthly-cash-flow-create.sql')
+    def "should get an empty list when nothing was recorded in the month"() {
+        when: 'getting the cash flow of April 2024'
+        def response = getMonthlyCashFlow(accountId, '2024-04')
+
+        then: 'the response status is "OK"'
+        assert response.getStatusCode() == OK
+
+        and: 'the response body is an empty list'
+        JSONAssert.assertEquals('[]', response.getBody(), LENIENT)
+    }
+
+    def "should fail when account is not provided"() {
+        when: 'getting the cash flow without account'
+        def response = getMonthlyCashFlow(null, '2024-03')
+
+        then: 'the response status is "UNPROCESSABLE_ENTITY"'
+        assert response.getStatusCode() == UNPROCESSABLE_ENTITY
+    }
+
+    def getMonthlyCashFlow(String accountId, String period) {
+        def uri = UriComponentsBuilder.fromUriString("${restTemplate.getRootUri()}/v1/reports/cash-flow")
+                .queryParamIfPresent('accountId', Optional.ofNullable(accountId))
+                .queryParam('period', period)
+                .build()
+                .toUri()
+
+        restTemplate.exchange(
+                uri,
+                HttpMethod.GET,
+                null,
+                String.class
+        )
+    }
+
+    def expectedMonthlyCashFlow() {
+        JsonOutput.toJson([[
+                accountId        : accountId,
+                period           : '2024-03',
+                currencyCode     : currency,
+                totalIncome      : 1500.00,
+                totalExpense     : 250.00,
+                netAmount        : 1250.00,
+                incomeCount      : 1,
+                expenseCount     : 2,
+                expenseCategories: [[sourceId: categoryId, name: categoryName, totalAmount: 250.00, count: 2]],
+                incomeSources    : [[sourceId: incomeSourceId, totalAmount: 1500.00, count: 1]]
+        ]])
+    }
+}
@@ -0,0 +1,167 @@
+package io.myfinbox.reporting.application
+
+import io.myfinbox.reporting.domain.CashFlowEntries
+import io.myfinbox.reporting.domain.CashFlowEntry
+import io.myfinbox.reporting.domain.MonthlyCashFlowBreakdowns
+import io.myfinbox.reporting.domain.MonthlyCashFlows
+import org.javamoney.moneta.Money
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.LocalDate
+
+import static io.myfinbox.reporting.DataSamples.*
+import static io.myfinbox.reporting.domain.CashFlowEntry.TransactionIdentifier
+
+@Tag("unit")
+class CashFlowTrackerServiceSpec extends Specification {
+
+    CashFlowEntries cashFlowEntries
+    MonthlyCashFlows monthlyCashFlows
+    MonthlyCashFlowBreakdowns monthlyCashFlowBreakdowns
+    CashFlowTrackerService service
+
+    def setup() {
+        cashFlowEntries = Mock()
+        monthlyCashFlows = Mock()
+        monthlyCashFlowBreakdowns = Mock()
+        service = new CashFlowTrackerService(cashFlowEntries, monthlyCashFlows, monthlyCashFlowBreakdowns)
+    }
+
+    def "should add a created expense to the monthly cash flow"() {
+        given: 'the expense is not tracked yet'
+        1 * cashFlowEntries.findById(new TransactionIdentifier(UUID.fromString(transactionId))) >> Optional.empty()
+
+        when: 'recording the created expense'
+        def entry = service.recordModified(newSampleCashFlowRecord())
+
+        then: 'the transaction is locked and its entry is saved'
+        1 * cashFlowEntries.lock(UUID.fromString(transactionId))
+        1 * cashFlowEntries.save(_ as CashFlowEntry)
+        assert entry == Optional.of(newSampleCashFlowEntry())
+
+        and: 'the expense totals are increased'
+        1 * monthlyCashFlows.apply(UUID.fromString(accountId), LocalDate.parse(period), currency, 0, 0, amount, 1)
+
+        and: 'the category breakdown is increased'
+        1 * monthlyCashFlowBreakdowns.apply(UUID.fromString(accountId), LocalDate.parse(period), currency, 'EXPENSE',
+                UUID.fromString(categoryId), categoryName, amount, 1)
+    }
+
+    def "should add a created income with its source name to the monthly cash flow"() {
+        given: 'the income is not tracked yet'
+        1 * cashFlowEntries.findById(_ as TransactionIdentifier) >> Optional.empty()
+
+        when: 'recording the created income'
+        service.recordModified(newSampleCashFlowRecord(transactionId: incomeId, flowType: 'INCOME',
+                sourceId: incomeSourceId, sourceName: incomeSourceName))
+
+        then: 'the income totals are increased'
+        1 * monthlyCashFlows.apply(UUID.fromString(accountId), LocalDate.parse(period), currency, amount, 1, 0, 0)
+
+        and: 'the income source breakdown is increased'
+        1 * monthlyCashFlowBreakdowns.apply(UUID.fromString(accountId), LocalDate.parse(period), currency, 'INCOME',
+                UUID.fromString(incomeSourceId), incomeSourceName, amount, 1)
+    }
+
+    def "should replace the previous contribution of an updated expense"() {
+        given: 'the expense is tracked'
+        def tracked = newSampleCashFlowEntry()
+        1 * cashFlowEntries.findById(_ as TransactionIdentifier) >> Optional.of(tracked)
+
+        when: 'recording the update of the expense, moved to the previous month'
+        def entry = service.recordModified(newSampleCashFlowRecord(amount: [amount: 30.0, currency: currency],
+                date: '2024-02-10', version: 1))
+
+        then: 'the tracked entry is updated'
+        assert entry == Optional.of(tracked)
+        assert tracked.amount == Money.of(30.0, currency)
+        assert tracked.version == 1
+
+        and: 'the previous values are withdrawn from the previous month'
+        1 * monthlyCashFlows.apply(UUID.fromString(accountId), LocalDate.parse(period), currency, 0, 0, -amount, -1)
+        1 * monthlyCashFlowBreakdowns.apply(UUID.fromString(accountId), LocalDate.parse(period), currency, 'EXPENSE',
+                UUID.fromString(categoryId), categoryName, -amount, -1)
+
+        and: 'the current values are added to the new month'
+        1 * monthlyCashFlows.apply(UUID.fromString(accountId), LocalDate.parse('2024-02-01'), currency, 0, 0, 30.0, 1)
+        1 * monthlyCashFlowBreakdowns.apply(UUID.fromString(accountId), LocalDate.parse('2024-02-01'), currency, 'EXPENSE',
+                UUID.fromString(categoryId), categoryName, 30.0, 1)
+    }
+
+    def "should skip an expense event older than the tracked version"() {
+        given: 'the update of the expense is tracked'
+        1 * cashFlowEntries.findById(_ as TransactionIdentifier) >> Optional.of(newSampleCashFlowEntry(version: 1))
+
+        when: 'recording the created event delivered late'
+        def entry = service.recordModified(newSampleCashFlowRecord())
+
+        then: 'nothing is recorded'
+        assert entry.isEmpty()
+        0 * cashFlowEntries.save(_)
+        0 * monthlyCashFlows._
+        0 * monthlyCashFlowBreakdowns._
+    }
+
+    def "should skip a modified expense that was deleted already"() {
+        given: 'the expense deletion is tracked'
+        1 * cashFlowEntries.findById(_ as TransactionIdentifier) >> Optional.of(newSampleCashFlowEntry(deleted: true))
+
+        when: 'recording an update delivered after the deletion'
+        def entry = service.recordModified(newSampleCashFlowRecord(version: 1))
+
+        then: 'nothing is recorded'
+        assert entry.isEmpty()
+        0 * monthlyCashFlows._
+        0 * monthlyCashFlowBreakdowns._
+    }
+
+    def "should withdraw a deleted expense from the monthly cash flow"() {
+        given: 'the expense is tracked'
+        def tracked = newSampleCashFlowEntry()
+        1 * cashFlowEntries.findById(_ as TransactionIdentifier) >> Optional.of(tracked)
+
+        when: 'recording the deleted expense'
+        def entry = service.recordDeleted(newSampleCashFlowRecord())
+
+        then: 'the entry is kept as deleted'
+        assert entry == Optional.of(tracked)
+        assert tracked.deleted
+        1 * cashFlowEntries.save(tracked)
+
+        and: 'the expense values are withdrawn'
+        1 * monthlyCashFlows.apply(UUID.fromString(accountId), LocalDate.parse(period), currency, 0, 0, -amount, -1)
+        1 * monthlyCashFlowBreakdowns.apply(UUID.fromString(accountId), LocalDate.parse(period), currency, 'EXPENSE',
+                UUID.fromString(categoryId), categoryName, -amount, -1)
+    }
+
+    def "should remember a deleted expense that is not tracked yet"() {
+        given: 'the expense is not tracked'
+        1 * cashFlowEntries.findById(_ as TransactionIdentifier) >> Optional.empty()
+
+        when: 'recording the deletion delivered before the creation'
+        def entry = service.recordDeleted(newSampleCashFlowRecord())
+
+        then: 'a deleted entry is saved, so the late created event is ignored'
+        assert entry.isEmpty()
+        1 * cashFlowEntries.save({ CashFlowEntry it -> it.deleted })
+
+        and: 'nothing is withdrawn'
+        0 * monthlyCashFlows._
+        0 * monthlyCashFlowBreakdowns._
+    }
+
+    def "should skip an expense deleted twice"() {
+        given: 'the expense deletion is tracked'
+        1 * cashFlowEntries.findById(_ as TransactionIdentifier) >> Optional.of(newSampleCashFlowEntry(deleted: true))
+
+        when: 'recording the redelivered deletion'
+        def entry = service.recordDeleted(newSampleCashFlowRecord())
+
+        then: 'nothing is withdrawn'
+        assert entry.isEmpty()
+        0 * cashFlowEntries.save(_)
+        0 * monthlyCashFlows._
+        0 * monthlyCashFlowBreakdowns._
+    }
+}
@@ -0,0 +1,96 @@
+package io.myfinbox.reporting.application
+
+import io.myfinbox.reporting.domain.MonthlyCashFlowBreakdowns
+import io.myfinbox.reporting.domain.MonthlyCashFlows
+import io.myfinbox.shared.Failure
+import org.javamoney.moneta.Money
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.LocalDate
+import java.time.YearMonth
+
+import static io.myfinbox.reporting.DataSamples.*
+
+@Tag("unit")
+class MonthlyCashFlowQueryServiceSpec extends Specification {
+
+    MonthlyCashFlows monthlyCashFlows
+    MonthlyCashFlowBreakdowns monthlyCashFlowBreakdowns
+    MonthlyCashFlowQueryService service
+
+    def setup() {
+        monthlyCashFlows = Mock()
+        monthlyCashFlowBreakdowns = Mock()
+        service = new MonthlyCashFlowQueryService(monthlyCashFlows, monthlyCashFlowBreakdowns)
+    }
+
+    def "should fail overview when validation fails"() {
+        when: 'querying without account and period'
+        def either = service.overview(null, null)
+
+        then: 'validation failure is returned'
+        assert either.isLeft()
+        assert either.getLeft() == Failure.ofValidation(MonthlyCashFlowQueryService.VALIDATION_FAILURE_MESSAGE, [
+                Failure.FieldViolation.builder()
+                        .field('accountId')
+                        .message('AccountId cannot be null.')
+                        .build(),
+                Failure.FieldViolation.builder()
+                        .field('period')
+                        .message('Period cannot be null.')
+                        .build()
+        ])
+
+        and: 'rollups are not queried'
+        0 * monthlyCashFlows._
+        0 * monthlyCashFlowBreakdowns._
+    }
+
+    def "should get an empty overview when nothing was recorded in the month"() {
+        given: 'no monthly cash flow'
+        1 * monthlyCashFlows.findByAccountIdAndPeriod(UUID.fromString(accountId), LocalDate.parse('2024-04-01')) >> []
+
+        when: 'querying the overview'
+        def either = service.overview(UUID.fromString(accountId), YearMonth.parse('2024-04'))
+
+        then: 'an empty overview is returned'
+        assert either.get().isEmpty()
+
+        and: 'breakdowns are not queried'
+        0 * monthlyCashFlowBreakdowns._
+    }
+
+    def "should get the overview grouped by currency with breakdowns"() {
+        given: 'monthly cash flows in two currencies'
+        1 * monthlyCashFlows.findByAccountIdAndPeriod(UUID.fromString(accountId), LocalDate.parse(period)) >> [
+                newSampleMonthlyCashFlow(),
+                newSampleMonthlyCashFlow(id: [accountId: accountId, period: period, currency: 'MDL'], totalIncome: 0, incomeCount: 0)
+        ]
+
+        and: 'their breakdowns'
+        1 * monthlyCashFlowBreakdowns.findByAccountIdAndPeriod(UUID.fromString(accountId), LocalDate.parse(period)) >> [
+                newSampleMonthlyCashFlowBreakdown(),
+                newSampleMonthlyCashFlowBreakdown(id: [accountId: accountId, period: period, currency: currency, flowType: 'INCOME', sourceId: incomeSourceId],
+                        sourceName: null, totalAmount: 1500.00, entryCount: 1),
+                newSampleMonthlyCashFlowBreakdown(id: [accountId: accountId, period: period, currency: 'MDL', flowType: 'EXPENSE', sourceId: categoryId])
+        ]
+
+        when: 'querying the overview'
+        def either = service.overview(UUID.fromString(accountId), YearMonth.parse('2024-03'))
+
+        then: 'one overview per currency is returned'
+        assert either.get().size() == 2
+
+        and: 'totals and breakdowns are split by currency and flow'
+        def eur = either.get().first()
+        assert eur.cashFlow().net == Money.of(1250, currency)
+        assert eur.expenseCategories().size() == 1
+        assert eur.incomeSources().collect { it.id.sourceId() } == [UUID.fromString(incomeSourceId)]
+
+        def mdl = either.get()[1]
+        assert mdl.cashFlow().net == Money.of(-250, 'MDL')
+        assert mdl.expenseCategories().size() == 1
+        assert mdl.incomeSources().isEmpty()
+    }
+}
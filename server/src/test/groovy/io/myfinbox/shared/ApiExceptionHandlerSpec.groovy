@@ -6,6 +6,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest
 import org.springframework.boot.test.context.TestConfiguration
 import org.springframework.context.annotation.Import
 import org.springframework.http.ResponseEntity
+import org.springframework.orm.ObjectOptimisticLockingFailureException
 import org.springframework.test.web.servlet.MockMvc
 import org.springframework.web.bind.annotation.*
 import spock.lang.Specification
@@ -19,6 +20,7 @@ import static org.springframework.http.HttpMethod.GET
 import static org.springframework.http.MediaType.*
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*
 
 @Tag("integration")
@@ -126,6 +128,22 @@ class ApiExceptionHandlerSpec extends Specification {
                 .andExpect(jsonPath('$.timestamp').value(matchesPattern(ISO_8601)))
     }
 
+    def "should get Conflict when a stale entity is updated"() {
+        var lenientResp = JsonOutput.toJson([
+                status   : 409,
+                errorCode: "CONFLICT",
+                message  : "The resource was modified concurrently, reload it and retry"
+        ])
+
+        expect:
+        mockMvc.perform(put("/test-url3/${UUID.randomUUID()}")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(header().string(CONTENT_TYPE, is(APPLICATION_JSON_VALUE)))
+                .andExpect(content().json(lenientResp))
+                .andExpect(jsonPath('$.timestamp').value(matchesPattern(ISO_8601)))
+    }
+
     def "should get Internal Server Error when unexpected exception thrown"() {
         var lenientResp = JsonOutput.toJson([
                 status   : 500,
@@ -167,6 +185,12 @@ class ApiExceptionHandlerSpec extends Specification {
             void post(@PathVariable(name = "id") UUID id) {
                 throw new UnsupportedOperationException('Not implemented')
             }
+
+            @PutMapping(path = '/test-url3/{id}', consumes = APPLICATION_JSON_VALUE)
+            void put(@PathVariable(name = "id") UUID id) {
+                // the version of the updated row changed since it was read
+                throw new ObjectOptimisticLockingFailureException(Request, id)
+            }
         }
 
         record Request(Integer value, String value2) {}
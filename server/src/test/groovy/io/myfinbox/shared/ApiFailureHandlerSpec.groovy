@@ -74,6 +74,22 @@ class ApiFailureHandlerSpec extends Specification {
         assert response.getBody().errorCode() == FORBIDDEN
     }
 
+    def "should get too many requests API response when too many requests failure"() {
+        given: 'a too many requests failure'
+        def tooManyRequests = Failure.ofTooManyRequests("Too many running exports")
+
+        when: 'handle too many requests failure'
+        def response = handler.handle(tooManyRequests)
+
+        then: 'response status code is too many requests'
+        assert response.getStatusCode() == TOO_MANY_REQUESTS
+
+        and: 'response body contains api response'
+        assert response.getBody().status() == 429
+        assert response.getBody().message() == "Too many running exports"
+        assert response.getBody().errorCode() == TOO_MANY_REQUESTS
+    }
+
     def "should get unprocessable entity API response when validation failure"() {
         given: 'a validation failure'
         def notFound = Failure.ofValidation("Schema Validation failure", [
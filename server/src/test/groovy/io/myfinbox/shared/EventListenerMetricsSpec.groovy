@@ -0,0 +1,102 @@
+package io.myfinbox.shared
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.aopalliance.intercept.MethodInvocation
+import spock.lang.Specification
+import spock.lang.Tag
+
+@Tag("unit")
+class EventListenerMetricsSpec extends Specification {
+
+    SimpleMeterRegistry meterRegistry
+    EventListenerMetrics metrics
+
+    def setup() {
+        meterRegistry = new SimpleMeterRegistry()
+        metrics = new EventListenerMetrics(meterRegistry, 'io.myfinbox')
+    }
+
+    def "should time a handled event per module and event type"() {
+        given: 'a published event'
+        def event = new SampleEvent()
+        metrics.published(event)
+
+        when: 'the event is handled'
+        metrics.invoke(handling(event, {}))
+
+        then: 'the handling is timed as a success of the listening module'
+        assert meterRegistry.get(EventListenerMetrics.DURATION_TIMER)
+                .tags('module', 'shared', 'event', 'SampleEvent', 'outcome', 'success')
+                .timer()
+                .count() == 1
+
+        and: 'the lag since publication is gauged'
+        assert meterRegistry.get(EventListenerMetrics.LAG_GAUGE)
+                .tags('module', 'shared', 'event', 'SampleEvent')
+                .gauge()
+                .value() >= 0
+    }
+
+    def "should count skipped events"() {
+        given: 'an event skipped by its listener'
+        def event = new SampleEvent()
+
+        when: 'the event is handled'
+        metrics.invoke(handling(event, { metrics.skipped(event) }))
+
+        then: 'the skipped event is counted'
+        assert meterRegistry.get(EventListenerMetrics.SKIPPED_COUNTER)
+                .tags('module', 'shared', 'event', 'SampleEvent')
+                .counter()
+                .count() == 1
+
+        and: 'the handling is timed as skipped'
+        assert meterRegistry.get(EventListenerMetrics.DURATION_TIMER)
+                .tags('outcome', 'skipped')
+                .timer()
+                .count() == 1
+    }
+
+    def "should count failed events and rethrow the failure"() {
+        given: 'an event failing its listener'
+        def event = new SampleEvent()
+
+        when: 'the event is handled'
+        metrics.invoke(handling(event, { throw new IllegalStateException('failed') }))
+
+        then: 'the failure is propagated'
+        thrown(IllegalStateException)
+
+        and: 'the failed event is counted with its exception'
+        assert meterRegistry.get(EventListenerMetrics.FAILED_COUNTER)
+                .tags('module', 'shared', 'event', 'SampleEvent', 'exception', 'IllegalStateException')
+                .counter()
+                .count() == 1
+
+        and: 'the handling is timed as failed'
+        assert meterRegistry.get(EventListenerMetrics.DURATION_TIMER)
+                .tags('outcome', 'failure')
+                .timer()
+                .count() == 1
+
+        and: 'no lag is gauged for an event not published by this instance'
+        assert meterRegistry.find(EventListenerMetrics.LAG_GAUGE).gauge() == null
+    }
+
+    private MethodInvocation handling(SampleEvent event, Closure listener) {
+        Mock(MethodInvocation) {
+            getArguments() >> ([event] as Object[])
+            getMethod() >> SampleListener.getDeclaredMethod('on', SampleEvent)
+            proceed() >> { listener() }
+        }
+    }
+
+    static class SampleEvent implements DomainEvent {
+    }
+
+    static class SampleListener {
+
+        void on(SampleEvent event) {
+        }
+    }
+}
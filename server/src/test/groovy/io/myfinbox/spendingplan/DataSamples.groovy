@@ -150,6 +150,15 @@ class DataSamples {
             categoryName: categoryName,
     ]
 
+    static JAR_EXPENSE_CATEGORY = [
+            id               : 1,
+            categoryId       : [id: jarCategoryId],
+            categoryName     : categoryName,
+            creationTimestamp: timestamp,
+            backfilled       : true,
+            jar              : JAR,
+    ]
+
     static EXPENSE_RECORD = [
             id          : 1L,
             expenseId   : [id: expenseId],
@@ -158,13 +167,13 @@ class DataSamples {
             amount      : AMOUNT,
             categoryName: categoryName,
             expenseDate : expenseDate,
+            jarExpenseCategory: JAR_EXPENSE_CATEGORY,
     ]
 
-    static JAR_EXPENSE_CATEGORY = [
-            id               : 1,
-            categoryId       : [id: jarCategoryId],
-            categoryName     : categoryName,
-            creationTimestamp: timestamp,
+    static JAR_SPENDING_SUMMARY = [
+            id          : [jarId: jarId, period: '2024-03-01', currency: currency],
+            totalAmount : 120.50,
+            expenseCount: 4,
     ]
 
     static JAR_EXPENSE_CATEGORY_PLAIN = [
@@ -247,6 +256,10 @@ class DataSamples {
         MAPPER.readValue(JsonOutput.toJson(JAR_EXPENSE_CATEGORY + map) as String, JarExpenseCategory.class)
     }
 
+    static newSampleJarSpendingSummary(map = [:]) {
+        MAPPER.readValue(JsonOutput.toJson(JAR_SPENDING_SUMMARY + map) as String, JarSpendingSummary.class)
+    }
+
     static newSampleExpenseCreatedEvent(map = [:]) {
         MAPPER.readValue(JsonOutput.toJson(EXPENSE_EVENT + map) as String, ExpenseCreated.class)
     }
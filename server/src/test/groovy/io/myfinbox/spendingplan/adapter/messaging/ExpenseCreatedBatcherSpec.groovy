@@ -0,0 +1,127 @@
+package io.myfinbox.spendingplan.adapter.messaging
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.myfinbox.spendingplan.application.ExpenseRecordTrackerUseCase
+import io.myfinbox.spendingplan.application.ExpenseRecordTrackerUseCase.ExpenseModificationRecord
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import static io.myfinbox.spendingplan.DataSamples.*
+import static org.awaitility.Awaitility.await
+
+@Tag("unit")
+class ExpenseCreatedBatcherSpec extends Specification {
+
+    ExpenseRecordTrackerUseCase expenseRecordTrackerUseCase
+    SimpleMeterRegistry meterRegistry
+
+    def setup() {
+        expenseRecordTrackerUseCase = Mock()
+        meterRegistry = new SimpleMeterRegistry()
+    }
+
+    def "should record created expense as a batch of one"() {
+        given: 'a batching batcher'
+        def batcher = new ExpenseCreatedBatcher(expenseRecordTrackerUseCase, meterRegistry, true, 100)
+
+        when: 'recording a created expense'
+        def records = batcher.record(newSampleExpenseModificationRecord())
+
+        then: 'the expense is recorded through the batch path'
+        1 * expenseRecordTrackerUseCase.recordCreated({ it.size() == 1 } as List) >> [newSampleExpenseRecord()]
+        0 * expenseRecordTrackerUseCase.recordCreated(_ as ExpenseModificationRecord)
+
+        and: 'the records of the expense are returned'
+        assert records == [newSampleExpenseRecord()]
+
+        and: 'metrics are recorded'
+        assert meterRegistry.get(ExpenseCreatedBatcher.RECORDED_COUNTER).tag('mode', 'batch').counter().count() == 1
+        assert meterRegistry.get(ExpenseCreatedBatcher.BATCH_SIZE_SUMMARY).summary().count() == 1
+    }
+
+    def "should group concurrently created expenses into one batch"() {
+        given: 'a batcher whose first flush blocks until released'
+        def batcher = new ExpenseCreatedBatcher(expenseRecordTrackerUseCase, meterRegistry, true, 100)
+        def flushStarted = new CountDownLatch(1)
+        def releaseFlush = new CountDownLatch(1)
+        def batchSizes = new CopyOnWriteArrayList<Integer>()
+        expenseRecordTrackerUseCase.recordCreated(_ as List) >> { List<List<ExpenseModificationRecord>> args ->
+            batchSizes << args[0].size()
+            if (batchSizes.size() == 1) {
+                flushStarted.countDown()
+                releaseFlush.await()
+            }
+            []
+        }
+
+        and: 'an expense being flushed'
+        def executor = Executors.newFixedThreadPool(5)
+        def recorded = [executor.submit { batcher.record(newSampleExpenseModificationRecord()) }]
+        assert flushStarted.await(5, TimeUnit.SECONDS)
+
+        when: 'four expenses are created during the flush'
+        4.times {
+            recorded << executor.submit { batcher.record(newSampleExpenseModificationRecord(expenseId: UUID.randomUUID().toString())) }
+        }
+        await().atMost(Duration.ofSeconds(5)).until { batcher.queued() == 4 }
+
+        and: 'the first flush completes'
+        releaseFlush.countDown()
+        recorded.each { it.get(5, TimeUnit.SECONDS) }
+        executor.shutdown()
+
+        then: 'expenses waiting during the first flush are recorded together'
+        assert batchSizes == [1, 4]
+    }
+
+    def "should record one by one when the batch fails"() {
+        given: 'a batching batcher'
+        def batcher = new ExpenseCreatedBatcher(expenseRecordTrackerUseCase, meterRegistry, true, 100)
+
+        when: 'recording a created expense'
+        def records = batcher.record(newSampleExpenseModificationRecord())
+
+        then: 'the batch fails'
+        1 * expenseRecordTrackerUseCase.recordCreated(_ as List) >> { throw new IllegalStateException('batch failed') }
+
+        and: 'the expense is recorded alone'
+        1 * expenseRecordTrackerUseCase.recordCreated(_ as ExpenseModificationRecord) >> [newSampleExpenseRecord()]
+        assert records == [newSampleExpenseRecord()]
+    }
+
+    def "should propagate failure when recording alone fails"() {
+        given: 'a batching batcher'
+        def batcher = new ExpenseCreatedBatcher(expenseRecordTrackerUseCase, meterRegistry, true, 100)
+        expenseRecordTrackerUseCase.recordCreated(_ as List) >> { throw new IllegalStateException('batch failed') }
+        expenseRecordTrackerUseCase.recordCreated(_ as ExpenseModificationRecord) >> { throw new IllegalStateException('failed') }
+
+        when: 'recording a created expense'
+        batcher.record(newSampleExpenseModificationRecord())
+
+        then: 'failure is propagated, event publication stays incomplete'
+        def e = thrown(IllegalStateException)
+        assert e.message == 'failed'
+    }
+
+    def "should record one by one when batching is disabled"() {
+        given: 'a non batching batcher'
+        def batcher = new ExpenseCreatedBatcher(expenseRecordTrackerUseCase, meterRegistry, false, 100)
+
+        when: 'recording a created expense'
+        def records = batcher.record(newSampleExpenseModificationRecord())
+
+        then: 'the expense is recorded through the per event path'
+        1 * expenseRecordTrackerUseCase.recordCreated(_ as ExpenseModificationRecord) >> [newSampleExpenseRecord()]
+        0 * expenseRecordTrackerUseCase.recordCreated(_ as List)
+        assert records == [newSampleExpenseRecord()]
+
+        and: 'metrics are recorded'
+        assert meterRegistry.get(ExpenseCreatedBatcher.RECORDED_COUNTER).tag('mode', 'single').counter().count() == 1
+    }
+}
@@ -49,7 +49,7 @@ class ExpenseEventsListenerSpec extends Specification {
     static DomainEvent payload
 
     def cleanup() {
-        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'jar_expense_record', 'spending_jar_expense_category', 'spending_jars', 'spending_plans')
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'jar_expense_record', 'spending_jar_expense_category', 'jar_spending_summary', 'spending_jars', 'spending_plans')
     }
 
     @Sql('/spendingplan/messaging/create-complete-plan-structure.sql')
@@ -0,0 +1,55 @@
+package io.myfinbox.spendingplan.adapter.scheduling
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.myfinbox.spendingplan.application.JarCategoryBackfillUseCase
+import io.myfinbox.spendingplan.application.JarCategoryBackfillUseCase.BackfillProgress
+import spock.lang.Specification
+import spock.lang.Tag
+
+@Tag("unit")
+class JarCategoryBackfillerSpec extends Specification {
+
+    JarCategoryBackfillUseCase backfillUseCase
+    SimpleMeterRegistry meterRegistry
+    JarCategoryBackfiller backfiller
+
+    def setup() {
+        backfillUseCase = Mock()
+        meterRegistry = new SimpleMeterRegistry()
+        backfiller = new JarCategoryBackfiller(backfillUseCase, meterRegistry)
+    }
+
+    def "should backfill chunks until no category is pending"() {
+        given: 'two categories pending backfill, the first one needing two chunks'
+        def jarId = UUID.randomUUID()
+        1 * backfillUseCase.pending() >> 2
+        4 * backfillUseCase.backfillNextChunk() >>> [
+                Optional.of(new BackfillProgress(jarId, UUID.randomUUID(), 1000, 1000, false)),
+                Optional.of(new BackfillProgress(jarId, UUID.randomUUID(), 200, 1200, true)),
+                Optional.of(new BackfillProgress(jarId, UUID.randomUUID(), 15, 15, true)),
+                Optional.empty()
+        ]
+
+        when: 'the backfill runs'
+        backfiller.backfill()
+
+        then: 'recorded expenses are counted'
+        assert meterRegistry.get(JarCategoryBackfiller.RECORDED_COUNTER).counter().count() == 1215
+
+        and: 'no category is left pending'
+        assert meterRegistry.get(JarCategoryBackfiller.PENDING_GAUGE).gauge().value() == 0
+    }
+
+    def "should only sample pending categories when none is pending"() {
+        given: 'no category pending backfill'
+        1 * backfillUseCase.pending() >> 0
+        1 * backfillUseCase.backfillNextChunk() >> Optional.empty()
+
+        when: 'the backfill runs'
+        backfiller.backfill()
+
+        then: 'nothing is recorded'
+        assert meterRegistry.get(JarCategoryBackfiller.RECORDED_COUNTER).counter().count() == 0
+        assert meterRegistry.get(JarCategoryBackfiller.PENDING_GAUGE).gauge().value() == 0
+    }
+}
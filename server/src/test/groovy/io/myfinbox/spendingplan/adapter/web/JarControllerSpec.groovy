@@ -3,6 +3,7 @@ package io.myfinbox.spendingplan.adapter.web
 import groovy.json.JsonOutput
 import groovy.json.JsonSlurper
 import io.myfinbox.TestServerApplication
+import io.myfinbox.spendingplan.application.JarCategoryBackfillUseCase
 import io.myfinbox.spendingplan.domain.CategoryIdentifier
 import io.myfinbox.spendingplan.domain.JarExpenseCategories
 import io.myfinbox.spendingplan.domain.JarIdentifier
@@ -46,8 +47,12 @@ class JarControllerSpec extends Specification {
     @Autowired
     JarExpenseCategories jarExpenseCategories
 
+    @Autowired
+    JarCategoryBackfillUseCase jarCategoryBackfillUseCase
+
     def cleanup() {
-        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'spending_jar_expense_category', 'spending_jars', 'spending_plans')
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'jar_expense_record', 'spending_jar_expense_category', 'jar_spending_summary',
+                'spending_jars', 'spending_plans', 'expenses', 'expense_category')
     }
 
     @Sql('/spendingplan/web/plan-create.sql')
@@ -122,6 +127,47 @@ class JarControllerSpec extends Specification {
         assert jarExpenseCategories.existsByJarIdAndCategoryId(new JarIdentifier(UUID.fromString(jarId)), new CategoryIdentifier(category3Id))
     }
 
+    @Sql(['/spendingplan/web/plan-create.sql', '/spendingplan/web/jars-create.sql', '/spendingplan/web/expenses-create.sql'])
+    def "should backfill and withdraw existing expenses of modified categories"() {
+        given: 'a jar without categories and two existing expenses of a category'
+        var addRequest = newSampleJarCategoriesResource(categories: [newSampleJarCategoryToAddAsMap(categoryId: jarCategoryId2)])
+
+        when: 'the category is added'
+        var addResponse = putJarCategories(addRequest)
+
+        then: 'response has status code ok'
+        assert addResponse.getStatusCode() == OK
+
+        and: 'the category is pending backfill'
+        assert !jdbcTemplate.queryForObject('SELECT backfilled FROM spending_jar_expense_category', Boolean)
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'jar_expense_record') == 0
+
+        when: 'the category is backfilled'
+        jarCategoryBackfillUseCase.backfillNextChunk()
+
+        then: 'existing expenses are recorded and summarized for the jar'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'jar_expense_record') == 2
+        def summary = jdbcTemplate.queryForMap('SELECT total_amount, expense_count FROM jar_spending_summary WHERE jar_id = ?::uuid', jarId)
+        assert summary.total_amount == 35.5000
+        assert summary.expense_count == 2
+
+        when: 'the category is added again and then removed'
+        putJarCategories(addRequest)
+        var removeResponse = putJarCategories(newSampleJarCategoriesResource(categories: [
+                newSampleJarCategoryToAddAsMap(categoryId: jarCategoryId2, toAdd: false)
+        ]))
+
+        then: 'response has status code ok'
+        assert removeResponse.getStatusCode() == OK
+
+        and: 'records are withdrawn from the jar summary'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'jar_expense_record') == 0
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'spending_jar_expense_category') == 0
+        def summaryAfterRemoval = jdbcTemplate.queryForMap('SELECT total_amount, expense_count FROM jar_spending_summary WHERE jar_id = ?::uuid', jarId)
+        assert summaryAfterRemoval.total_amount == 0.0000
+        assert summaryAfterRemoval.expense_count == 0
+    }
+
     def "should fail to modify when plan jar not found"() {
         given: 'user wants to modify categories for provided plan jar'
         var request = newSampleJarCategoriesResource(
@@ -185,6 +231,29 @@ class JarControllerSpec extends Specification {
         JSONAssert.assertEquals(newSampleListJarExpenseCategoriesAsString(), response.getBody(), LENIENT)
     }
 
+    @Sql(['/spendingplan/web/plan-create.sql', '/spendingplan/web/jars-create.sql', '/spendingplan/web/jar_spending_summary-create.sql'])
+    def "should get the spending progress of a jar for a month"() {
+        when: 'getting the jar progress for March 2024'
+        def response = getJarProgress(UUID.fromString(planId), UUID.fromString(jarId), '2024-03')
+
+        then: 'the response status is "OK"'
+        assert response.getStatusCode() == OK
+
+        and: 'the response body contains the progress computed from the spending summary'
+        JSONAssert.assertEquals(expectedJarProgress(), response.getBody(), LENIENT)
+    }
+
+    def "should get not found when getting the progress of a missing jar"() {
+        when: 'getting the jar progress'
+        def response = getJarProgress(UUID.fromString(planId), UUID.fromString(jarId), '2024-03')
+
+        then: 'the response status is "NOT_FOUND"'
+        assert response.getStatusCode() == NOT_FOUND
+
+        and: 'the response body contains the not found failure'
+        JSONAssert.assertEquals(expectedJarNotFoundFailure(), response.getBody(), LENIENT)
+    }
+
     def postJar(String req) {
         restTemplate.postForEntity("/v1/plans/${planId}/jars", entityRequest(req), String.class)
     }
@@ -237,6 +306,20 @@ class JarControllerSpec extends Specification {
         )
     }
 
+    def getJarProgress(UUID planId, UUID jarId, String period) {
+        def uri = UriComponentsBuilder.fromUriString("${restTemplate.getRootUri()}/v1/plans/${planId}/jars/${jarId}/progress")
+                .queryParam('period', period)
+                .build()
+                .toUri()
+
+        restTemplate.exchange(
+                uri,
+                HttpMethod.GET,
+                null,
+                String.class
+        )
+    }
+
     def entityRequest(String req) {
         var headers = new HttpHeaders()
         headers.setContentType(APPLICATION_JSON)
@@ -257,6 +340,18 @@ class JarControllerSpec extends Specification {
         )
     }
 
+    def expectedJarProgress() {
+        JsonOutput.toJson([
+                jarId          : jarId,
+                period         : '2024-03',
+                amountToReach  : 550.00,
+                spentAmount    : 120.50,
+                remainingAmount: 429.50,
+                expenseCount   : 4,
+                currencyCode   : currency
+        ])
+    }
+
     def expectedCreationSchemaValidationFailure() {
         def filePath = 'spendingplan/web/jar-creation-schema-failure-response.json'
         def failureAsMap = new JsonSlurper().parse(new ClassPathResource(filePath).getFile())
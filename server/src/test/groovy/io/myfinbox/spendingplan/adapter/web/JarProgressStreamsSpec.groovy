@@ -0,0 +1,106 @@
+package io.myfinbox.spendingplan.adapter.web
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.myfinbox.rest.JarProgressResource
+import io.myfinbox.spendingplan.application.JarProgressQuery
+import io.myfinbox.spendingplan.application.JarProgressQuery.JarProgress
+import io.myfinbox.spendingplan.application.JarSpendingChanged
+import io.myfinbox.spendingplan.domain.Jar
+import io.vavr.control.Either
+import org.javamoney.moneta.Money
+import org.springframework.core.convert.ConversionService
+import spock.lang.Specification
+import spock.lang.Tag
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.time.YearMonth
+import java.util.concurrent.atomic.AtomicInteger
+
+import static io.myfinbox.spendingplan.DataSamples.*
+
+@Tag("unit")
+class JarProgressStreamsSpec extends Specification {
+
+    JarProgressQuery jarProgressQuery
+    ConversionService conversionService
+    JarProgressStreams streams
+
+    def setup() {
+        jarProgressQuery = Mock()
+        conversionService = Mock()
+        streams = new JarProgressStreams(jarProgressQuery, conversionService, new SimpleMeterRegistry(), 2, Duration.ofMinutes(1))
+    }
+
+    def cleanup() {
+        streams.close()
+    }
+
+    def "should not query the jar progress when nobody is subscribed"() {
+        when: 'jar spending changed'
+        streams.on(new JarSpendingChanged(UUID.fromString(jarId), YearMonth.parse('2024-03')))
+
+        then: 'the jar progress is not queried'
+        0 * jarProgressQuery._
+    }
+
+    def "should query and convert the jar progress once for all the plan subscribers"() {
+        given: 'two subscribers of the plan'
+        streams.subscribe(UUID.fromString(planId))
+        streams.subscribe(UUID.fromString(planId))
+
+        and: 'the jar progress of the plan'
+        def queried = new AtomicInteger()
+        def converted = new AtomicInteger()
+        jarProgressQuery.progress(UUID.fromString(jarId), YearMonth.parse('2024-03')) >> {
+            queried.incrementAndGet()
+            Either.right(newSampleJarProgress())
+        }
+        conversionService.convert(_ as JarProgress, JarProgressResource.class) >> {
+            converted.incrementAndGet()
+            new JarProgressResource().jarId(UUID.fromString(jarId))
+        }
+
+        when: 'jar spending changed'
+        streams.on(new JarSpendingChanged(UUID.fromString(jarId), YearMonth.parse('2024-03')))
+
+        then: 'the progress is queried and converted once'
+        new PollingConditions(timeout: 5).eventually {
+            assert queried.get() == 1
+            assert converted.get() == 1
+        }
+    }
+
+    def "should not convert the jar progress when the plan has no subscribers"() {
+        given: 'a subscriber of another plan'
+        streams.subscribe(UUID.randomUUID())
+
+        and: 'the jar progress of the plan'
+        def queried = new AtomicInteger()
+        jarProgressQuery.progress(UUID.fromString(jarId), YearMonth.parse('2024-03')) >> {
+            queried.incrementAndGet()
+            Either.right(newSampleJarProgress())
+        }
+
+        when: 'jar spending changed'
+        streams.on(new JarSpendingChanged(UUID.fromString(jarId), YearMonth.parse('2024-03')))
+
+        then: 'the progress is queried'
+        new PollingConditions(timeout: 5).eventually {
+            assert queried.get() == 1
+        }
+
+        and: 'nothing is converted'
+        0 * conversionService._
+    }
+
+    def newSampleJarProgress() {
+        def jar = Jar.builder()
+                .percentage(new Jar.Percentage(55))
+                .name(jarName)
+                .plan(newSamplePlan())
+                .build()
+
+        new JarProgress(jar, YearMonth.parse('2024-03'), Money.of(120.50, currency), 4)
+    }
+}
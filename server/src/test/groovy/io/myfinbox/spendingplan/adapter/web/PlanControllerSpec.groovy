@@ -45,7 +45,7 @@ class PlanControllerSpec extends Specification {
     Jars jars
 
     def cleanup() {
-        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'spending_jars', 'spending_plans')
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'jar_spending_summary', 'spending_jars', 'spending_plans')
     }
 
     def "should successfully create a new spending plan"() {
@@ -187,6 +187,41 @@ class PlanControllerSpec extends Specification {
         JSONAssert.assertEquals(newSampleListPlanWithJarAsString(), response.getBody(), LENIENT)
     }
 
+    @Sql('/spendingplan/web/plan-create.sql')
+    def "should get a list with one spending plan without jars for provided account"() {
+        when: 'listing plans by accountId'
+        def response = listPlans(UUID.fromString(accountId))
+
+        then: 'the response status is "OK"'
+        assert response.getStatusCode() == OK
+
+        and: 'the response body contains the plan without jars'
+        JSONAssert.assertEquals(JsonOutput.toJson([PLAN_PLAIN]), response.getBody(), LENIENT)
+        assert !new JsonSlurper().parseText(response.getBody())[0].containsKey('jars')
+    }
+
+    @Sql(['/spendingplan/web/plan-create.sql', '/spendingplan/web/jars-create.sql'])
+    def "should answer not modified when the spending plan did not change since the provided ETag"() {
+        given: 'the plan fetched once'
+        def eTag = getOnePlan(UUID.fromString(planId)).getHeaders().getETag()
+
+        when: 'the plan is fetched again with the received ETag'
+        def response = getOnePlan(UUID.fromString(planId), eTag)
+
+        then: 'the response status is "NOT_MODIFIED"'
+        assert response.getStatusCode() == NOT_MODIFIED
+
+        when: 'the plan is updated'
+        putPlan(newSampleCreatePlanResource(name: 'My new plan'))
+
+        and: 'the plan is fetched again with the received ETag'
+        response = getOnePlan(UUID.fromString(planId), eTag)
+
+        then: 'the response status is "OK" with a new ETag'
+        assert response.getStatusCode() == OK
+        assert response.getHeaders().getETag() != eTag
+    }
+
     def postPlan(String req) {
         restTemplate.postForEntity('/v1/plans', entityRequest(req), String.class)
     }
@@ -204,15 +239,20 @@ class PlanControllerSpec extends Specification {
         )
     }
 
-    def getOnePlan(UUID planId) {
+    def getOnePlan(UUID planId, String eTag = null) {
         def uri = UriComponentsBuilder.fromUriString("${restTemplate.getRootUri()}/v1/plans/${planId}")
                 .build()
                 .toUri()
 
+        var headers = new HttpHeaders()
+        if (eTag != null) {
+            headers.setIfNoneMatch(eTag)
+        }
+
         restTemplate.exchange(
                 uri,
                 HttpMethod.GET,
-                null,
+                new HttpEntity<>(headers),
                 String.class
         )
     }
@@ -0,0 +1,46 @@
+package io.myfinbox.spendingplan.adapter.web.converters
+
+import io.myfinbox.spendingplan.application.PlanViewQuery.JarView
+import io.myfinbox.spendingplan.application.PlanViewQuery.PlanView
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.Instant
+
+import static io.myfinbox.spendingplan.DataSamples.*
+
+@Tag("unit")
+class PlanViewToResourceConverterSpec extends Specification {
+
+    PlanViewToResourceConverter converter = new PlanViewToResourceConverter()
+
+    def "should convert plan view to resource"() {
+        given: 'a plan view with one jar'
+        def planView = new PlanView(UUID.fromString(planId), UUID.fromString(accountId), Instant.parse(timestamp), name,
+                amount, currency, planDescription, [
+                new JarView(UUID.fromString(jarId), Instant.parse(timestamp), jarName, 550.00, currency, 55, jarDescription)
+        ])
+
+        when: 'converting the plan view'
+        def resource = converter.convert(planView)
+
+        then: 'plan resource is built as expected'
+        assert resource.getPlanId() == UUID.fromString(planId)
+        assert resource.getAccountId() == UUID.fromString(accountId)
+        assert resource.getName() == name
+        assert resource.getCreationTimestamp() == timestamp
+        assert resource.getAmount() == amount
+        assert resource.getCurrencyCode() == currency
+        assert resource.getDescription() == planDescription
+
+        and: 'jar resource is built as expected'
+        assert resource.getJars().size() == 1
+        assert resource.getJars()[0].getJarId() == UUID.fromString(jarId)
+        assert resource.getJars()[0].getCreationTimestamp() == timestamp
+        assert resource.getJars()[0].getName() == jarName
+        assert resource.getJars()[0].getAmountToReach() == 550.00
+        assert resource.getJars()[0].getCurrencyCode() == currency
+        assert resource.getJars()[0].getPercentage() == 55
+        assert resource.getJars()[0].getDescription() == jarDescription
+    }
+}
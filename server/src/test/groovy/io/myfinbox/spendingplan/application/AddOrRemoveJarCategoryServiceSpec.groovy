@@ -5,25 +5,33 @@ import io.myfinbox.spendingplan.domain.CategoryIdentifier
 import io.myfinbox.spendingplan.domain.JarExpenseCategories
 import io.myfinbox.spendingplan.domain.JarIdentifier
 import io.myfinbox.spendingplan.domain.Jars
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
 import spock.lang.Specification
 import spock.lang.Tag
 
+import java.time.LocalDate
+import java.time.YearMonth
+
 import static io.myfinbox.spendingplan.DataSamples.*
 import static io.myfinbox.spendingplan.application.AddOrRemoveJarCategoryService.*
 import static io.myfinbox.spendingplan.domain.Plan.PlanIdentifier
-import static java.lang.Boolean.FALSE
 
 @Tag("unit")
 class AddOrRemoveJarCategoryServiceSpec extends Specification {
 
     Jars jars
     JarExpenseCategories jarExpenseCategories
+    NamedParameterJdbcTemplate jdbcTemplate
+    ApplicationEventPublisher eventPublisher
     AddOrRemoveJarCategoryService service
 
     def setup() {
         jars = Mock()
         jarExpenseCategories = Mock()
-        service = new AddOrRemoveJarCategoryService(jars, jarExpenseCategories)
+        jdbcTemplate = Mock()
+        eventPublisher = Mock()
+        service = new AddOrRemoveJarCategoryService(jars, jarExpenseCategories, jdbcTemplate, eventPublisher)
     }
 
     def "should fail modify categories to jar when invalid categories"() {
@@ -105,9 +113,9 @@ class AddOrRemoveJarCategoryServiceSpec extends Specification {
         ])
 
         1 * jars.findByIdAndPlanId(_ as JarIdentifier, _ as PlanIdentifier) >> Optional.of(newSampleJar())
-        1 * jarExpenseCategories.existsByJarIdAndCategoryId(new JarIdentifier(UUID.fromString(jarId)), new CategoryIdentifier(UUID.fromString(jarCategoryId))) >> FALSE
+        1 * jarExpenseCategories.findByJarIdAndCategoryIdIn(new JarIdentifier(UUID.fromString(jarId)), [new CategoryIdentifier(UUID.fromString(jarCategoryId))]) >> []
 
-        when: 'attempting to add or remove categories for null jar id'
+        when: 'attempting to add or remove categories'
         def either = service.addOrRemove(UUID.randomUUID(), UUID.fromString(jarId), command)
 
         then: 'a success result is present'
@@ -120,10 +128,37 @@ class AddOrRemoveJarCategoryServiceSpec extends Specification {
         assert either.get().getFirst().getJar() == newSampleJar()
         assert either.get().getFirst().getCreationTimestamp() != null
 
-        and: 'jar to remove was invoked'
-        1 * jarExpenseCategories.deleteByJarIdAndCategoryId(new JarIdentifier(UUID.fromString(jarId)), new CategoryIdentifier(categoryId2))
+        and: 'the removed category is locked, its records withdrawn from one period and the category removed at once'
+        1 * jdbcTemplate.queryForList(LOCK_CATEGORIES_QUERY, [jarId: UUID.fromString(jarId), categoryIds: [categoryId2]], Long) >> [2L]
+        1 * jdbcTemplate.queryForList(WITHDRAW_RECORDS_QUERY, [jarId: UUID.fromString(jarId), categoryIds: [categoryId2]], LocalDate) >> [LocalDate.parse('2024-03-01')]
+        1 * jdbcTemplate.update(DELETE_CATEGORIES_QUERY, [jarId: UUID.fromString(jarId), categoryIds: [categoryId2]])
+
+        and: 'the added category was inserted at once, pending backfill'
+        1 * jdbcTemplate.update(ADD_CATEGORIES_QUERY, { it.jarId == UUID.fromString(jarId) && it.categories*.toList() == [[UUID.fromString(jarCategoryId), categoryName]] })
+
+        and: 'a spending change is published for the withdrawn period'
+        1 * eventPublisher.publishEvent(new JarSpendingChanged(UUID.fromString(jarId), YearMonth.of(2024, 3)))
+        0 * eventPublisher._
+    }
+
+    def "should skip adding categories already present in the plan jar"() {
+        given: 'a command with a category already added to the jar'
+        def command = newSampleJarCategoriesCommand(categories: [newSampleJarCategoryToAddAsMap()])
+
+        1 * jars.findByIdAndPlanId(_ as JarIdentifier, _ as PlanIdentifier) >> Optional.of(newSampleJar())
+        1 * jarExpenseCategories.findByJarIdAndCategoryIdIn(_ as JarIdentifier, _ as List) >> [newSampleJarExpenseCategory()]
+
+        when: 'attempting to add the category again'
+        def either = service.addOrRemove(UUID.randomUUID(), UUID.fromString(jarId), command)
+
+        then: 'a success result without added categories is present'
+        assert either.isRight()
+        assert either.get().isEmpty()
+
+        and: 'no statement was issued'
+        0 * jdbcTemplate._
 
-        and: 'jar to add was invoked'
-        1 * jarExpenseCategories.saveAll(_ as List)
+        and: 'no spending change was published'
+        0 * eventPublisher._
     }
 }
@@ -4,11 +4,14 @@ import io.myfinbox.shared.PaymentType
 import io.myfinbox.spendingplan.domain.CategoryIdentifier
 import io.myfinbox.spendingplan.domain.ExpenseRecords
 import io.myfinbox.spendingplan.domain.JarExpenseCategories
+import io.myfinbox.spendingplan.domain.JarSpendingSummaries
 import org.javamoney.moneta.Money
+import org.springframework.context.ApplicationEventPublisher
 import spock.lang.Specification
 import spock.lang.Tag
 
 import java.time.LocalDate
+import java.time.YearMonth
 
 import static io.myfinbox.spendingplan.DataSamples.*
 import static io.myfinbox.spendingplan.domain.ExpenseRecord.ExpenseIdentifier
@@ -18,12 +21,16 @@ class ExpenseRecordTrackerServiceSpec extends Specification {
 
     JarExpenseCategories jarExpenseCategories
     ExpenseRecords expenseRecords
+    JarSpendingSummaries jarSpendingSummaries
+    ApplicationEventPublisher eventPublisher
     ExpenseRecordTrackerService service
 
     def setup() {
         jarExpenseCategories = Mock()
         expenseRecords = Mock()
-        service = new ExpenseRecordTrackerService(jarExpenseCategories, expenseRecords)
+        jarSpendingSummaries = Mock()
+        eventPublisher = Mock()
+        service = new ExpenseRecordTrackerService(jarExpenseCategories, expenseRecords, jarSpendingSummaries, eventPublisher)
     }
 
     def "should retrieve empty records when no category is tracked for a newly created expense record"() {
@@ -66,6 +73,102 @@ class ExpenseRecordTrackerServiceSpec extends Specification {
 
         and: 'ensure repository interaction'
         1 * expenseRecords.saveAll(_ as List)
+
+        and: 'jar spending summary is increased once for both records'
+        1 * jarSpendingSummaries.apply(UUID.fromString(jarId), LocalDate.parse('2024-03-01'), currency, 2 * amount, 2)
+
+        and: 'jar spending change is published once for the jar period'
+        1 * eventPublisher.publishEvent(new JarSpendingChanged(UUID.fromString(jarId), YearMonth.parse('2024-03')))
+    }
+
+    def "should retrieve empty records when no category is tracked for a batch of created expenses"() {
+        given: 'no tracked categories'
+        1 * jarExpenseCategories.findByCategoryIdIn(_ as Set) >> []
+
+        when: 'attempting to record the batch of created expenses'
+        def records = service.recordCreated([
+                newSampleExpenseModificationRecord(),
+                newSampleExpenseModificationRecord(expenseId: UUID.randomUUID().toString(), categoryId: jarCategoryId2)
+        ])
+
+        then: 'no records should be persisted'
+        assert records.isEmpty()
+        0 * expenseRecords.saveAll(_)
+        0 * jarSpendingSummaries._
+    }
+
+    def "should create expense records for a batch of created expenses resolving categories once"() {
+        given: 'tracked categories for the batch'
+        1 * jarExpenseCategories.findByCategoryIdIn({ it.size() == 3 }) >> [
+                newSampleJarExpenseCategory(),
+                newSampleJarExpenseCategory(id: 2L),
+                newSampleJarExpenseCategory(id: 3L, categoryId: [id: jarCategoryId2])
+        ]
+
+        when: 'attempting to record the batch of created expenses, one of them untracked'
+        def records = service.recordCreated([
+                newSampleExpenseModificationRecord(),
+                newSampleExpenseModificationRecord(expenseId: '6bd32beb-5f79-409a-8c50-ecbd3593dc12', categoryId: jarCategoryId2),
+                newSampleExpenseModificationRecord(expenseId: UUID.randomUUID().toString(), categoryId: UUID.randomUUID().toString())
+        ])
+
+        then: 'expense records are created for tracked categories only'
+        assert records.size() == 3
+        assert records.collect { it.jarExpenseCategory.id } == [1L, 2L, 3L]
+        assert records[2].expenseId == new ExpenseIdentifier(UUID.fromString('6bd32beb-5f79-409a-8c50-ecbd3593dc12'))
+        assert records[2].categoryId == new CategoryIdentifier(UUID.fromString(jarCategoryId2))
+
+        and: 'records are persisted at once'
+        1 * expenseRecords.saveAll({ it.size() == 3 })
+    }
+
+    def "should skip expenses already recorded by the backfill of a category"() {
+        given: 'a tracked category and a category being backfilled'
+        1 * jarExpenseCategories.findByCategoryId(_ as CategoryIdentifier) >> [
+                newSampleJarExpenseCategory(),
+                newSampleJarExpenseCategory(id: 2L, backfilled: false)
+        ]
+
+        when: 'attempting to record expense'
+        def records = service.recordCreated(newSampleExpenseModificationRecord())
+
+        then: 'the backfilling category is locked before looking up recorded expenses'
+        1 * jarExpenseCategories.lockBackfilling([UUID.fromString(jarCategoryId)] as Set) >> 1
+
+        then: 'the expense was already recorded for the backfilling category'
+        1 * expenseRecords.findByExpenseIdIn([new ExpenseIdentifier(UUID.fromString(expenseId))] as Set) >> [
+                newSampleExpenseRecord(jarExpenseCategory: JAR_EXPENSE_CATEGORY + [id: 2L, backfilled: false])
+        ]
+
+        and: 'only the record of the tracked category is created'
+        assert records.size() == 1
+        assert records.getFirst().getJarExpenseCategory().getId() == 1L
+        1 * expenseRecords.saveAll({ it.size() == 1 })
+
+        and: 'jar spending summary is increased once'
+        1 * jarSpendingSummaries.apply(UUID.fromString(jarId), LocalDate.parse('2024-03-01'), currency, amount, 1)
+    }
+
+    def "should not lock categories when none is being backfilled"() {
+        given: 'a tracked category'
+        1 * jarExpenseCategories.findByCategoryId(_ as CategoryIdentifier) >> [newSampleJarExpenseCategory()]
+
+        when: 'attempting to record expense'
+        service.recordCreated(newSampleExpenseModificationRecord())
+
+        then: 'no backfill lock is taken nor recorded expenses looked up'
+        0 * jarExpenseCategories.lockBackfilling(_)
+        0 * expenseRecords.findByExpenseIdIn(_)
+    }
+
+    def "should return empty records when recording an empty batch"() {
+        when: 'attempting to record an empty batch'
+        def records = service.recordCreated([])
+
+        then: 'no interaction happens'
+        assert records.isEmpty()
+        0 * jarExpenseCategories._
+        0 * expenseRecords._
     }
 
     def "should return empty records when updating an expense with no existing records"() {
@@ -110,6 +213,12 @@ class ExpenseRecordTrackerServiceSpec extends Specification {
 
         and: 'ensure repository interaction'
         1 * expenseRecords.saveAll(_ as List)
+
+        and: 'previous values are withdrawn from the summary of the previous month'
+        1 * jarSpendingSummaries.apply(UUID.fromString(jarId), LocalDate.parse('2024-03-01'), currency, -2 * amount, -2)
+
+        and: 'updated values are added to the summary'
+        1 * jarSpendingSummaries.apply(UUID.fromString(jarId), LocalDate.parse('2024-03-01'), 'MDL', 20.0, 2)
     }
 
     def "should create two new expense records when category is changed, with each record linked to the new category"() {
@@ -220,7 +329,13 @@ class ExpenseRecordTrackerServiceSpec extends Specification {
         then: 'one expense record should be deleted'
         assert records.size() == 1
 
+        and: 'a running backfill of the expense category is waited for'
+        1 * jarExpenseCategories.lockBackfilling([UUID.fromString(jarCategoryId)])
+
         and: 'ensure the deleted record'
         1 * expenseRecords.deleteAll(_ as List)
+
+        and: 'the record is withdrawn from the jar spending summary'
+        1 * jarSpendingSummaries.apply(UUID.fromString(jarId), LocalDate.parse('2024-03-01'), currency, -amount, -1)
     }
 }
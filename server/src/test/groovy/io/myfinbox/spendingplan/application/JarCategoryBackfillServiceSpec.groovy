@@ -0,0 +1,93 @@
+package io.myfinbox.spendingplan.application
+
+import io.myfinbox.TestServerApplication
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.modulith.test.ApplicationModuleTest
+import org.springframework.modulith.test.PublishedEvents
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.YearMonth
+
+import static io.myfinbox.spendingplan.DataSamples.jarCategoryId2
+import static io.myfinbox.spendingplan.DataSamples.jarId
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@ApplicationModuleTest
+@TestPropertySource(locations = "/application-test.properties", properties = "spendingplan.jar-category-backfill.chunk-size=1")
+class JarCategoryBackfillServiceSpec extends Specification {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    PublishedEvents events
+
+    @Autowired
+    JarCategoryBackfillUseCase backfillUseCase
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'jar_expense_record', 'spending_jar_expense_category', 'jar_spending_summary',
+                'spending_jars', 'spending_plans', 'expenses', 'expense_category')
+    }
+
+    def "should return empty progress when no category is pending backfill"() {
+        expect: 'no progress'
+        assert backfillUseCase.backfillNextChunk().isEmpty()
+        assert backfillUseCase.pending() == 0
+    }
+
+    @Sql(['/spendingplan/web/plan-create.sql', '/spendingplan/web/jars-create.sql', '/spendingplan/web/expenses-create.sql',
+            '/spendingplan/web/jar_expense_category-backfill-create.sql'])
+    def "should backfill existing expenses chunk by chunk resuming after the last recorded one"() {
+        given: 'one category pending backfill with two existing expenses'
+        assert backfillUseCase.pending() == 1
+
+        when: 'backfilling chunks of one expense'
+        def progress = (1..3).collect { backfillUseCase.backfillNextChunk().get() }
+
+        then: 'every chunk records the next expense until none is left'
+        assert progress*.recorded == [1, 1, 0]
+        assert progress*.backfilled == [1, 2, 2]
+        assert progress*.completed == [false, false, true]
+        assert progress.every { it.jarId() == UUID.fromString(jarId) && it.categoryId() == UUID.fromString(jarCategoryId2) }
+
+        and: 'expenses are recorded once and summarized for the jar'
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'jar_expense_record') == 2
+        def summary = jdbcTemplate.queryForMap('SELECT total_amount, expense_count FROM jar_spending_summary WHERE jar_id = ?::uuid', jarId)
+        assert summary.total_amount == 35.5000
+        assert summary.expense_count == 2
+
+        and: 'no category is pending backfill anymore'
+        assert backfillUseCase.pending() == 0
+        assert backfillUseCase.backfillNextChunk().isEmpty()
+
+        and: 'jar spending changes are published for the backfilled period'
+        assert events.ofType(JarSpendingChanged.class).matching { it.period() == YearMonth.of(2024, 3) }.size() == 2
+    }
+
+    @Sql(['/spendingplan/web/plan-create.sql', '/spendingplan/web/jars-create.sql', '/spendingplan/web/expenses-create.sql',
+            '/spendingplan/web/jar_expense_category-backfill-create.sql'])
+    def "should skip expenses already recorded by the expense events"() {
+        given: 'the first expense already recorded for the category'
+        jdbcTemplate.update('''
+                INSERT INTO jar_expense_record (expense_id, category_id, payment_type, amount, currency, expense_date, category_name, jar_expense_category_id)
+                SELECT id, category_id, payment_type, amount, currency, expense_date, 'Clothing', 1 FROM expenses WHERE expense_date = '2024-03-23'
+                ''')
+
+        when: 'backfilling chunks of one expense'
+        def progress = (1..3).collect { backfillUseCase.backfillNextChunk().get() }
+
+        then: 'only the second expense is recorded'
+        assert progress*.recorded == [0, 1, 0]
+        assert progress.last().completed()
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'jar_expense_record') == 2
+    }
+}
@@ -0,0 +1,106 @@
+package io.myfinbox.spendingplan.application
+
+import io.myfinbox.shared.Failure
+import io.myfinbox.spendingplan.domain.JarIdentifier
+import io.myfinbox.spendingplan.domain.JarSpendingSummaries
+import io.myfinbox.spendingplan.domain.Jars
+import io.myfinbox.spendingplan.domain.Plan
+import org.javamoney.moneta.Money
+import spock.lang.Specification
+import spock.lang.Tag
+
+import java.time.LocalDate
+import java.time.YearMonth
+
+import static io.myfinbox.spendingplan.DataSamples.*
+import static io.myfinbox.spendingplan.domain.JarSpendingSummary.SummaryIdentifier
+
+@Tag("unit")
+class JarProgressQueryServiceSpec extends Specification {
+
+    Jars jars
+    JarSpendingSummaries jarSpendingSummaries
+    JarProgressQueryService service
+
+    def setup() {
+        jars = Mock()
+        jarSpendingSummaries = Mock()
+        service = new JarProgressQueryService(jars, jarSpendingSummaries)
+    }
+
+    def "should fail progress when jar not found"() {
+        given: 'no jar found for the plan'
+        1 * jars.findByIdAndPlanId(_ as JarIdentifier, _ as Plan.PlanIdentifier) >> Optional.empty()
+
+        when: 'retrieving the jar progress'
+        def either = service.progress(UUID.fromString(planId), UUID.fromString(jarId), YearMonth.parse('2024-03'))
+
+        then: 'not found failure is returned'
+        assert either.isLeft()
+        assert either.getLeft() == Failure.ofNotFound(JarProgressQueryService.JAR_NOT_FOUND_MESSAGE.formatted(jarId, planId))
+
+        and: 'no summary is queried'
+        0 * jarSpendingSummaries._
+    }
+
+    def "should get progress from the jar spending summary of the period"() {
+        given: 'a jar with a spending summary for the period'
+        1 * jars.findByIdAndPlanId(_ as JarIdentifier, _ as Plan.PlanIdentifier) >> Optional.of(newSampleJar())
+        1 * jarSpendingSummaries.findById(new SummaryIdentifier(UUID.fromString(jarId), LocalDate.parse('2024-03-01'), currency)) >>
+                Optional.of(newSampleJarSpendingSummary())
+
+        when: 'retrieving the jar progress'
+        def either = service.progress(UUID.fromString(planId), UUID.fromString(jarId), YearMonth.parse('2024-03'))
+
+        then: 'progress is computed from the summary'
+        assert either.isRight()
+        assert either.get().spent() == Money.of(120.50, currency)
+        assert either.get().remaining() == Money.of(429.50, currency)
+        assert either.get().expenseCount() == 4
+    }
+
+    def "should get zero progress when nothing was spent in the period"() {
+        given: 'a jar without a spending summary for the period'
+        1 * jars.findByIdAndPlanId(_ as JarIdentifier, _ as Plan.PlanIdentifier) >> Optional.of(newSampleJar())
+        1 * jarSpendingSummaries.findById(_ as SummaryIdentifier) >> Optional.empty()
+
+        when: 'retrieving the jar progress'
+        def either = service.progress(UUID.fromString(planId), UUID.fromString(jarId), YearMonth.parse('2024-04'))
+
+        then: 'nothing is spent and the whole amount remains'
+        assert either.get().period() == YearMonth.parse('2024-04')
+        assert either.get().spent() == Money.of(0, currency)
+        assert either.get().remaining() == Money.of(550, currency)
+        assert either.get().expenseCount() == 0
+    }
+
+    def "should fail progress by jar when jar not found"() {
+        given: 'no jar found'
+        1 * jars.findById(new JarIdentifier(UUID.fromString(jarId))) >> Optional.empty()
+
+        when: 'retrieving the jar progress without its plan'
+        def either = service.progress(UUID.fromString(jarId), YearMonth.parse('2024-03'))
+
+        then: 'not found failure is returned'
+        assert either.isLeft()
+        assert either.getLeft() == Failure.ofNotFound(JarProgressQueryService.JAR_ID_NOT_FOUND_MESSAGE.formatted(jarId))
+
+        and: 'no summary is queried'
+        0 * jarSpendingSummaries._
+    }
+
+    def "should get progress by jar from the jar spending summary of the period"() {
+        given: 'a jar with a spending summary for the period'
+        1 * jars.findById(new JarIdentifier(UUID.fromString(jarId))) >> Optional.of(newSampleJar())
+        1 * jarSpendingSummaries.findById(new SummaryIdentifier(UUID.fromString(jarId), LocalDate.parse('2024-03-01'), currency)) >>
+                Optional.of(newSampleJarSpendingSummary())
+
+        when: 'retrieving the jar progress without its plan'
+        def either = service.progress(UUID.fromString(jarId), YearMonth.parse('2024-03'))
+
+        then: 'progress is computed from the summary'
+        assert either.isRight()
+        assert either.get().spent() == Money.of(120.50, currency)
+        assert either.get().expenseCount() == 4
+    }
+}
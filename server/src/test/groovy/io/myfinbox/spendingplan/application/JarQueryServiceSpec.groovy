@@ -66,4 +66,25 @@ class JarQueryServiceSpec extends Specification {
         then: 'the service returns a list containing one jar'
         assert plans.size() == 1
     }
+
+    def "should get the version tag of the plan jars when planId is provided"() {
+        setup: 'stub the jars repository to return the version tag of the plan jars'
+        1 * jars.versionTagByPlanId(UUID.fromString(planId)) >> 'c4ca4238a0b923820dcc509a6f75849b'
+
+        when: 'version tag is computed with a planId'
+        def versionTag = service.search()
+                .withPlanId(UUID.fromString(planId))
+                .versionTag()
+
+        then: 'the plan jars version tag is returned'
+        assert versionTag == Optional.of('c4ca4238a0b923820dcc509a6f75849b')
+    }
+
+    def "should get no version tag when planId is not provided"() {
+        when: 'no planId is provided in the search query'
+        def versionTag = service.search().versionTag()
+
+        then: 'no version tag is computed'
+        assert versionTag.isEmpty()
+    }
 }
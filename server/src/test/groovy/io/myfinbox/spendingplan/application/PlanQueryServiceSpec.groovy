@@ -66,4 +66,71 @@ class PlanQueryServiceSpec extends Specification {
         then: 'the service returns a list containing one plan'
         assert plans.size() == 1
     }
+
+    def "should get no version tag when accountId and planId are not provided"() {
+        when: 'no accountId or planId is provided in the search query'
+        def versionTag = service.search().versionTag()
+
+        then: 'no version tag is computed'
+        assert versionTag.isEmpty()
+
+        and: 'the repository is not queried'
+        0 * plans.versionTagById(_)
+        0 * plans.versionTagByAccount(_)
+    }
+
+    def "should get the version tag of one plan when planId is provided"() {
+        setup: 'stub the plans repository to return the version tag of the plan'
+        1 * plans.versionTagById(UUID.fromString(planId)) >> Optional.of('c4ca4238a0b923820dcc509a6f75849b')
+
+        when: 'version tag is computed with a planId'
+        def versionTag = service.search()
+                .withAccountId(UUID.fromString(accountId))
+                .withPlanId(UUID.fromString(planId))
+                .versionTag()
+
+        then: 'the plan version tag is returned'
+        assert versionTag == Optional.of('c4ca4238a0b923820dcc509a6f75849b')
+
+        and: 'the account plans are not tagged'
+        0 * plans.versionTagByAccount(_)
+    }
+
+    def "should get the version tag of the account plans when accountId is provided"() {
+        setup: 'stub the plans repository to return the version tag of the account plans'
+        1 * plans.versionTagByAccount(UUID.fromString(accountId)) >> 'c4ca4238a0b923820dcc509a6f75849b'
+
+        when: 'version tag is computed with an accountId'
+        def versionTag = service.search()
+                .withAccountId(UUID.fromString(accountId))
+                .versionTag()
+
+        then: 'the account plans version tag is returned'
+        assert versionTag == Optional.of('c4ca4238a0b923820dcc509a6f75849b')
+    }
+
+    def "should check the plan exists when planId is provided"() {
+        setup: 'stub the plans repository to find the plan'
+        1 * plans.existsById(new Plan.PlanIdentifier(UUID.fromString(planId))) >> true
+
+        when: 'the existence is checked with a planId'
+        def exists = service.search()
+                .withPlanId(UUID.fromString(planId))
+                .exists()
+
+        then: 'the plan exists, without computing its version tag'
+        assert exists
+        0 * plans.versionTagById(_)
+    }
+
+    def "should not find a plan when planId is not provided"() {
+        when: 'the existence is checked without a planId'
+        def exists = service.search()
+                .withAccountId(UUID.fromString(accountId))
+                .exists()
+
+        then: 'no plan exists and the repository is not queried'
+        assert !exists
+        0 * plans._
+    }
 }
@@ -0,0 +1,89 @@
+package io.myfinbox.spendingplan.domain
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.myfinbox.TestServerApplication
+import io.myfinbox.spendingplan.application.ExpenseRecordTrackerUseCase
+import jakarta.persistence.EntityManagerFactory
+import org.hibernate.SessionFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.modulith.test.ApplicationModuleTest
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.context.jdbc.Sql
+import org.springframework.test.jdbc.JdbcTestUtils
+import spock.lang.Specification
+import spock.lang.Tag
+
+import static io.myfinbox.spendingplan.DataSamples.newSampleExpenseModificationRecord
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestServerApplication)
+@ApplicationModuleTest
+@TestPropertySource(locations = "/application-test.properties", properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ExpenseRecordsSpec extends Specification {
+
+    static final ALLOCATION_SIZE = 50
+
+    @Autowired
+    JdbcTemplate jdbcTemplate
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory
+
+    @Autowired
+    MeterRegistry meterRegistry
+
+    @Autowired
+    ExpenseRecordTrackerUseCase expenseRecordTrackerUseCase
+
+    def cleanup() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, 'jar_expense_record', 'spending_jar_expense_category', 'jar_spending_summary', 'spending_jars', 'spending_plans')
+    }
+
+    @Sql('/spendingplan/messaging/create-complete-plan-structure.sql')
+    def "should batch inserts of expense records with pooled sequence ids"() {
+        given: 'collected hibernate statistics, the executed batches and the sequence position'
+        def statistics = entityManagerFactory.unwrap(SessionFactory).statistics
+        statistics.clear()
+        def batchesBefore = batchSizes()
+        def sequenceBefore = sequenceValue()
+
+        when: 'recording 30 created expenses of a tracked category'
+        def records = expenseRecordTrackerUseCase.recordCreated((1..30).collect {
+            newSampleExpenseModificationRecord(expenseId: UUID.randomUUID().toString())
+        })
+
+        then: 'all expense records are inserted'
+        assert records.size() == 30
+        assert statistics.entityInsertCount == 30
+        assert JdbcTestUtils.countRowsInTable(jdbcTemplate, 'jar_expense_record') == 30
+
+        and: 'the inserts are sent as two JDBC batches, of 25 and 5 rows'
+        def batches = batchSizes()
+        assert batches.count - batchesBefore.count == 2
+        assert batches.total - batchesBefore.total == 30
+
+        and: 'the sequence moved by a single allocation block, all ids are allocated from it'
+        assert sequenceValue() - sequenceBefore == ALLOCATION_SIZE
+        def ids = records.collect { it.id }
+        assert ids.unique(false).size() == 30
+        assert ids.max() - ids.min() < ALLOCATION_SIZE
+    }
+
+    private Snapshot batchSizes() {
+        def summary = meterRegistry.find('sql.batch.size').summary()
+        summary == null ? new Snapshot(0, 0) : new Snapshot(summary.count(), summary.totalAmount())
+    }
+
+    // the next value handed out by the sequence, a fresh sequence hands out its last value first
+    private long sequenceValue() {
+        jdbcTemplate.queryForObject('''
+                SELECT CASE WHEN is_called THEN last_value + ? ELSE last_value END FROM jer_seq_id
+                ''', Long, ALLOCATION_SIZE)
+    }
+
+    private record Snapshot(long count, double total) {
+    }
+}
@@ -0,0 +1,61 @@
+INSERT INTO server.expenses(id,
+                            account_id,
+                            creation_timestamp,
+                            payment_type,
+                            amount,
+                            currency,
+                            expense_date,
+                            description,
+                            category_id)
+VALUES ('3b257779-a5db-4e87-9365-72c6f8d4977d',
+        'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca',
+        '2024-03-23T10:00:04.224870Z',
+        'CASH',
+        '10.0',
+        'EUR',
+        '2024-03-23',
+        'Books buying',
+        '3b257779-a5db-4e87-9365-72c6f8d4977d'),
+       ('6bd32beb-5f79-409a-8c50-ecbd3593dc12',
+        'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca',
+        '2024-03-23T10:00:04.224870Z',
+        'CARD',
+        '20.0',
+        'EUR',
+        '2024-03-23',
+        'Bills',
+        '3b257779-a5db-4e87-9365-72c6f8d4977d'),
+       ('8a366e74-b4e3-4e64-a2a6-dce273ce332a',
+        'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca',
+        '2024-03-20T10:00:04.224870Z',
+        'CASH',
+        '30.0',
+        'EUR',
+        '2024-03-20',
+        'Groceries',
+        'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca');
+
+INSERT INTO server.expense_view(id,
+                                account_id,
+                                category_id,
+                                category_name,
+                                payment_type,
+                                amount,
+                                currency,
+                                expense_date,
+                                creation_date,
+                                description,
+                                creation_timestamp)
+SELECT e.id,
+       e.account_id,
+       e.category_id,
+       c.name,
+       e.payment_type,
+       e.amount,
+       e.currency,
+       e.expense_date,
+       CAST(e.creation_timestamp AS DATE),
+       e.description,
+       e.creation_timestamp
+FROM server.expenses e
+         JOIN server.expense_category c ON c.id = e.category_id;
@@ -0,0 +1,19 @@
+INSERT INTO server.monthly_cash_flow(account_id,
+                                     period,
+                                     currency,
+                                     total_income,
+                                     income_count,
+                                     total_expense,
+                                     expense_count)
+VALUES ('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca', '2024-03-01', 'EUR', 1500.00, 1, 250.00, 2);
+
+INSERT INTO server.monthly_cash_flow_breakdown(account_id,
+                                               period,
+                                               currency,
+                                               flow_type,
+                                               source_id,
+                                               source_name,
+                                               total_amount,
+                                               entry_count)
+VALUES ('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca', '2024-03-01', 'EUR', 'EXPENSE', 'a6993312-2e45-43e4-b965-9edc88da7a00', 'Clothing', 250.00, 2),
+       ('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca', '2024-03-01', 'EUR', 'INCOME', '8a366e74-b4e3-4e64-a2a6-dce273ce332a', NULL, 1500.00, 1);
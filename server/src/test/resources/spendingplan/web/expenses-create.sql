@@ -0,0 +1,36 @@
+INSERT INTO server.expense_category (id,
+                                     account_id,
+                                     creation_timestamp,
+                                     name)
+VALUES ('ee0a4cdc-84f0-4f81-8aea-224dad4915e7',
+        'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca',
+        '2024-03-23T10:00:04.224870Z',
+        'Clothing');
+
+INSERT INTO server.expenses(id,
+                            account_id,
+                            creation_timestamp,
+                            payment_type,
+                            amount,
+                            currency,
+                            expense_date,
+                            description,
+                            category_id)
+VALUES ('3b257779-a5db-4e87-9365-72c6f8d4977d',
+        'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca',
+        '2024-03-23T10:00:04.224870Z',
+        'CASH',
+        '10.0',
+        'EUR',
+        '2024-03-23',
+        'Shoes',
+        'ee0a4cdc-84f0-4f81-8aea-224dad4915e7'),
+       ('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca',
+        'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca',
+        '2024-03-24T10:00:04.224870Z',
+        'CARD',
+        '25.5',
+        'EUR',
+        '2024-03-24',
+        'Jacket',
+        'ee0a4cdc-84f0-4f81-8aea-224dad4915e7');
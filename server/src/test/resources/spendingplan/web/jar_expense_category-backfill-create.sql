@@ -0,0 +1,12 @@
+INSERT INTO server.spending_jar_expense_category(id,
+                                                 jar_id,
+                                                 category_id,
+                                                 category_name,
+                                                 creation_timestamp,
+                                                 backfilled)
+VALUES (1,
+        'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca',
+        'ee0a4cdc-84f0-4f81-8aea-224dad4915e7',
+        'Clothing',
+        '2024-03-25T10:00:04.224870Z',
+        FALSE);
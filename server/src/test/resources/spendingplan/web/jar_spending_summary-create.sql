@@ -0,0 +1,10 @@
+INSERT INTO server.jar_spending_summary(jar_id,
+                                        period,
+                                        currency,
+                                        total_amount,
+                                        expense_count)
+VALUES ('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca',
+        '2024-03-01',
+        'EUR',
+        120.50,
+        4);